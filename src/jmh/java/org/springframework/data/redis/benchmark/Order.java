@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+/**
+ * Benchmark payload resembling a typical aggregate: scalar properties, an embedded object, a collection of embedded
+ * objects and a map.
+ */
+@RedisHash("orders")
+public class Order implements Serializable {
+
+	private String id;
+	private String customer;
+	private long createdAt;
+	private Status status;
+	private double total;
+	private Address shipping;
+	private List<LineItem> items = new ArrayList<>();
+	private Map<String, String> attributes = new LinkedHashMap<>();
+
+	/**
+	 * Create a new {@link Order} with {@code itemCount} line items.
+	 *
+	 * @param id the order identifier.
+	 * @param itemCount number of line items.
+	 * @return the new {@link Order}.
+	 */
+	public static Order create(String id, int itemCount) {
+
+		Order order = new Order();
+		order.setId(id);
+		order.setCustomer("customer-" + id);
+		order.setCreatedAt(1_700_000_000_000L);
+		order.setStatus(Status.PAID);
+		order.setShipping(new Address("221b Baker Street", "London", "NW1 6XE"));
+
+		for (int i = 0; i < itemCount; i++) {
+
+			LineItem item = new LineItem("sku-" + i, "Product description for item " + i, i % 5 + 1, 9.99 + i);
+			order.getItems().add(item);
+			order.setTotal(order.getTotal() + item.getQuantity() * item.getPrice());
+		}
+
+		order.getAttributes().put("channel", "web");
+		order.getAttributes().put("campaign", "spring-sale");
+		order.getAttributes().put("locale", "en_GB");
+
+		return order;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(String customer) {
+		this.customer = customer;
+	}
+
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(long createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public double getTotal() {
+		return total;
+	}
+
+	public void setTotal(double total) {
+		this.total = total;
+	}
+
+	public Address getShipping() {
+		return shipping;
+	}
+
+	public void setShipping(Address shipping) {
+		this.shipping = shipping;
+	}
+
+	public List<LineItem> getItems() {
+		return items;
+	}
+
+	public void setItems(List<LineItem> items) {
+		this.items = items;
+	}
+
+	public Map<String, String> getAttributes() {
+		return attributes;
+	}
+
+	public void setAttributes(Map<String, String> attributes) {
+		this.attributes = attributes;
+	}
+
+	public enum Status {
+		NEW, PAID, SHIPPED
+	}
+
+	public static class Address implements Serializable {
+
+		private String street;
+		private String city;
+		private String zip;
+
+		public Address() {}
+
+		public Address(String street, String city, String zip) {
+			this.street = street;
+			this.city = city;
+			this.zip = zip;
+		}
+
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(String street) {
+			this.street = street;
+		}
+
+		public String getCity() {
+			return city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+
+		public String getZip() {
+			return zip;
+		}
+
+		public void setZip(String zip) {
+			this.zip = zip;
+		}
+	}
+
+	public static class LineItem implements Serializable {
+
+		private String sku;
+		private String description;
+		private int quantity;
+		private double price;
+
+		public LineItem() {}
+
+		public LineItem(String sku, String description, int quantity, double price) {
+			this.sku = sku;
+			this.description = description;
+			this.quantity = quantity;
+			this.price = price;
+		}
+
+		public String getSku() {
+			return sku;
+		}
+
+		public void setSku(String sku) {
+			this.sku = sku;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public double getPrice() {
+			return price;
+		}
+
+		public void setPrice(double price) {
+			this.price = price;
+		}
+	}
+}
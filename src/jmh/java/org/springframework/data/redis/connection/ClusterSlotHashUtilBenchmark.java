@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ClusterSlotHashUtil} slot calculation on plain and hash-tagged keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClusterSlotHashUtilBenchmark {
+
+	private static final int KEY_COUNT = 16;
+
+	private final String stringKey = "orders:4711:items";
+	private final byte[] key = stringKey.getBytes(StandardCharsets.UTF_8);
+	private final byte[] hashTaggedKey = "orders:{4711}:items".getBytes(StandardCharsets.UTF_8);
+
+	private byte[][] sameSlotKeys;
+	private byte[][] distinctSlotKeys;
+
+	@Setup
+	public void setUp() {
+
+		sameSlotKeys = new byte[KEY_COUNT][];
+		distinctSlotKeys = new byte[KEY_COUNT][];
+
+		for (int i = 0; i < KEY_COUNT; i++) {
+			sameSlotKeys[i] = ("orders:{4711}:" + i).getBytes(StandardCharsets.UTF_8);
+			distinctSlotKeys[i] = ("orders:4711:" + i).getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	@Benchmark
+	public int calculateSlotForString() {
+		return ClusterSlotHashUtil.calculateSlot(stringKey);
+	}
+
+	@Benchmark
+	public int calculateSlot() {
+		return ClusterSlotHashUtil.calculateSlot(key);
+	}
+
+	@Benchmark
+	public int calculateSlotForHashTag() {
+		return ClusterSlotHashUtil.calculateSlot(hashTaggedKey);
+	}
+
+	@Benchmark
+	public boolean isSameSlotForAllKeys() {
+		return ClusterSlotHashUtil.isSameSlotForAllKeys(sameSlotKeys);
+	}
+
+	@Benchmark
+	public boolean isSameSlotForDistinctKeys() {
+		return ClusterSlotHashUtil.isSameSlotForAllKeys(distinctSlotKeys);
+	}
+}
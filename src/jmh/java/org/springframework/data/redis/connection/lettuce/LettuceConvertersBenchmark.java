@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.cluster.models.partitions.ClusterPartitionParser;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.types.RedisClientInfo;
+
+/**
+ * Benchmarks for {@link LettuceConverters} converting driver responses of typical sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LettuceConvertersBenchmark {
+
+	@Param({ "10", "1000" })
+	private int size;
+
+	private List<ScoredValue<byte[]>> scoredValues;
+	private List<byte[]> keyValues;
+	private String clientList;
+	private Partitions partitions;
+
+	@Setup
+	public void setUp() {
+
+		scoredValues = new ArrayList<>(size);
+		keyValues = new ArrayList<>(size * 2);
+		StringBuilder clients = new StringBuilder();
+
+		for (int i = 0; i < size; i++) {
+
+			byte[] member = ("member-" + i).getBytes(StandardCharsets.UTF_8);
+			scoredValues.add(ScoredValue.just(i * 1.5, member));
+			keyValues.add(("field-" + i).getBytes(StandardCharsets.UTF_8));
+			keyValues.add(member);
+			clients.append("id=").append(i).append(" addr=127.0.0.1:").append(50000 + i)
+					.append(" fd=8 name= age=10 idle=0 flags=N db=0 sub=0 psub=0 multi=-1 qbuf=0 qbuf-free=32768 obl=0 oll=0")
+					.append(" omem=0 events=r cmd=client\n");
+		}
+
+		clientList = clients.toString();
+		partitions = ClusterPartitionParser.parse("""
+				ef570f86c7b1a953846668debc177a3a16733420 127.0.0.1:6379@16379 myself,master - 0 0 1 connected 0-5460
+				0f2ee5df45d18c50aca07228cc18b1da96fd5e84 127.0.0.1:6380@16380 master - 0 1427283929810 2 connected 5461-10922
+				3b9b8192a874fa8f1f09dbc0ee20afab5738eee7 127.0.0.1:6381@16381 master - 0 1427283929810 3 connected 10923-16383
+				8cf1a8fd01d1b1e1c2a0b5b4b4ee7d4f2d58f8c1 127.0.0.1:6382@16382 slave ef570f86c7b1a953846668debc177a3a16733420 0 1427283929810 1 connected
+				""");
+	}
+
+	@Benchmark
+	public List<Tuple> scoredValuesToTupleList() {
+		return LettuceConverters.scoredValuesToTupleList().convert(scoredValues);
+	}
+
+	@Benchmark
+	public Map<byte[], byte[]> toMap() {
+		return LettuceConverters.toMap(keyValues);
+	}
+
+	@Benchmark
+	public List<RedisClientInfo> toListOfRedisClientInformation() {
+		return LettuceConverters.toListOfRedisClientInformation(clientList);
+	}
+
+	@Benchmark
+	public List<RedisClusterNode> partitionsToClusterNodes() {
+		return LettuceConverters.partitionsToClusterNodes(partitions);
+	}
+}
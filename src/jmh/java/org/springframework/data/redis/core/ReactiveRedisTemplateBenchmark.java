@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.benchmark.Order;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.test.server.RespServer;
+
+/**
+ * Benchmarks comparing {@link ReactiveRedisTemplate#executePipelined(ReactiveRedisSessionCallback) pipelined} batches
+ * with sequential and concurrent (auto-flushed) execution against an in-process {@link RespServer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveRedisTemplateBenchmark {
+
+	@Param({ "10", "100" })
+	private int batchSize;
+
+	@Param({ "0", "1" })
+	private int latencyMillis;
+
+	private RespServer server;
+	private LettuceConnectionFactory connectionFactory;
+	private ReactiveRedisTemplate<String, Object> template;
+	private Order order;
+	private List<String> keys;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		server = RespServer.builder().latency(Duration.ofMillis(latencyMillis)).start();
+
+		connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(server.getHost(), server.getPort()));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+				.<String, Object> newSerializationContext(RedisSerializer.string())
+				.value(GenericJacksonJsonRedisSerializer.builder().enableUnsafeDefaultTyping().build()).build();
+
+		template = new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+		order = Order.create("4711", 5);
+
+		keys = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			keys.add("order:" + i);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		connectionFactory.destroy();
+		server.close();
+	}
+
+	@Benchmark
+	public List<Boolean> sequential() {
+		return Flux.fromIterable(keys).concatMap(key -> template.opsForValue().set(key, order)).collectList().block();
+	}
+
+	@Benchmark
+	public List<Boolean> concurrent() {
+		return Flux.fromIterable(keys).flatMapSequential(key -> template.opsForValue().set(key, order)).collectList()
+				.block();
+	}
+
+	@Benchmark
+	public List<Boolean> pipelined() {
+
+		return template.executePipelined(operations -> {
+
+			List<Mono<Boolean>> commands = new ArrayList<>(keys.size());
+
+			for (String key : keys) {
+				commands.add(operations.opsForValue().set(key, order));
+			}
+
+			return Flux.mergeSequential(commands);
+		}).collectList().block();
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.test.server.RespServer;
+
+/**
+ * Measures the time until commands succeed again after the connection to an in-process {@link RespServer} was lost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+@Fork(1)
+public class ReconnectBenchmark {
+
+	@Param({ "LETTUCE", "JEDIS" })
+	private RedisTemplateBenchmark.Client client;
+
+	@Param({ "DISCONNECT", "RESTART" })
+	private Failure failure;
+
+	private RespServer server;
+	private RedisConnectionFactory connectionFactory;
+	private StringRedisTemplate template;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		server = RespServer.start();
+		connectionFactory = client.create(new RedisStandaloneConfiguration(server.getHost(), server.getPort()));
+		template = new StringRedisTemplate(connectionFactory);
+		template.opsForValue().set("key", "value");
+	}
+
+	@Setup(Level.Iteration)
+	public void injectFailure() throws IOException {
+
+		template.opsForValue().get("key");
+
+		if (failure == Failure.RESTART) {
+			server.restart();
+		} else {
+			server.disconnectClients();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		client.destroy(connectionFactory);
+		server.close();
+	}
+
+	@Benchmark
+	public int recover() {
+
+		for (int attempts = 1;; attempts++) {
+			try {
+				template.opsForValue().get("key");
+				return attempts;
+			} catch (DataAccessException ex) {
+				// connection not yet recovered
+			}
+		}
+	}
+
+	public enum Failure {
+		DISCONNECT, RESTART
+	}
+}
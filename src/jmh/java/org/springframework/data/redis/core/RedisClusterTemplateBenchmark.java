@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.test.server.RespCluster;
+import org.springframework.data.redis.test.server.RespServer;
+
+/**
+ * Benchmarks for multi-key operations fanning out across the nodes of an in-process {@link RespCluster}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisClusterTemplateBenchmark {
+
+	@Param({ "LETTUCE", "JEDIS" })
+	private Client client;
+
+	@Param({ "3", "6" })
+	private int nodes;
+
+	@Param({ "0", "1" })
+	private int latencyMillis;
+
+	private RespCluster cluster;
+	private RedisConnectionFactory connectionFactory;
+	private StringRedisTemplate template;
+	private List<String> keys;
+	private Map<String, String> entries;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		cluster = RespServer.builder().latency(Duration.ofMillis(latencyMillis)).startCluster(nodes);
+		connectionFactory = client.create(cluster.getClusterConfiguration());
+		template = new StringRedisTemplate(connectionFactory);
+
+		keys = new ArrayList<>();
+		entries = new HashMap<>();
+
+		for (int i = 0; i < 100; i++) {
+			keys.add("key:" + i);
+			entries.put("key:" + i, "value:" + i);
+		}
+
+		template.opsForValue().multiSet(entries);
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		client.destroy(connectionFactory);
+		cluster.close();
+	}
+
+	@Benchmark
+	public List<String> multiGet() {
+		return template.opsForValue().multiGet(keys);
+	}
+
+	@Benchmark
+	public void multiSet() {
+		template.opsForValue().multiSet(entries);
+	}
+
+	@Benchmark
+	public Long countExistingKeys() {
+		return template.countExistingKeys(keys);
+	}
+
+	public enum Client {
+
+		LETTUCE {
+			@Override
+			RedisConnectionFactory create(RedisClusterConfiguration configuration) {
+
+				LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+				connectionFactory.afterPropertiesSet();
+				connectionFactory.start();
+				return connectionFactory;
+			}
+
+			@Override
+			void destroy(RedisConnectionFactory connectionFactory) {
+				((LettuceConnectionFactory) connectionFactory).destroy();
+			}
+		},
+
+		JEDIS {
+			@Override
+			RedisConnectionFactory create(RedisClusterConfiguration configuration) {
+
+				JedisConnectionFactory connectionFactory = new JedisConnectionFactory(configuration);
+				connectionFactory.afterPropertiesSet();
+				connectionFactory.start();
+				return connectionFactory;
+			}
+
+			@Override
+			void destroy(RedisConnectionFactory connectionFactory) {
+				((JedisConnectionFactory) connectionFactory).destroy();
+			}
+		};
+
+		abstract RedisConnectionFactory create(RedisClusterConfiguration configuration);
+
+		abstract void destroy(RedisConnectionFactory connectionFactory);
+	}
+}
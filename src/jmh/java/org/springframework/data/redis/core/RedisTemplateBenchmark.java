@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.benchmark.Order;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.test.server.RespServer;
+
+/**
+ * Benchmarks for {@link RedisTemplate} hot paths (serialization, connection handling, result conversion) against an
+ * in-process {@link RespServer}. Without latency, results reflect client-side overhead; with simulated latency they
+ * show the effect of pipelining on round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisTemplateBenchmark {
+
+	private static final int BATCH_SIZE = 100;
+
+	@Param({ "LETTUCE", "JEDIS" })
+	private Client client;
+
+	@Param({ "0", "1" })
+	private int latencyMillis;
+
+	private RespServer server;
+	private RedisConnectionFactory connectionFactory;
+	private RedisTemplate<String, Object> template;
+	private Order order;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		server = RespServer.builder().latency(Duration.ofMillis(latencyMillis)).start();
+		connectionFactory = client.create(new RedisStandaloneConfiguration(server.getHost(), server.getPort()));
+
+		template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(RedisSerializer.string());
+		template.setValueSerializer(GenericJacksonJsonRedisSerializer.builder().enableUnsafeDefaultTyping().build());
+		template.afterPropertiesSet();
+
+		order = Order.create("4711", 5);
+		template.opsForValue().set("order", order);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		client.destroy(connectionFactory);
+		server.close();
+	}
+
+	@Benchmark
+	public String ping() {
+		return template.execute(connection -> connection.ping(), true);
+	}
+
+	@Benchmark
+	public void set() {
+		template.opsForValue().set("order", order);
+	}
+
+	@Benchmark
+	public Object get() {
+		return template.opsForValue().get("order");
+	}
+
+	@Benchmark
+	public void sequentialBatch() {
+
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			template.opsForValue().set("order:" + i, order);
+		}
+	}
+
+	@Benchmark
+	public List<Object> pipelinedBatch() {
+
+		return template.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+
+				RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+
+				for (int i = 0; i < BATCH_SIZE; i++) {
+					ops.opsForValue().set("order:" + i, order);
+				}
+
+				return null;
+			}
+		});
+	}
+
+	public enum Client {
+
+		LETTUCE {
+			@Override
+			RedisConnectionFactory create(RedisStandaloneConfiguration configuration) {
+
+				LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+				connectionFactory.afterPropertiesSet();
+				connectionFactory.start();
+				return connectionFactory;
+			}
+
+			@Override
+			void destroy(RedisConnectionFactory connectionFactory) {
+				((LettuceConnectionFactory) connectionFactory).destroy();
+			}
+		},
+
+		JEDIS {
+			@Override
+			RedisConnectionFactory create(RedisStandaloneConfiguration configuration) {
+
+				JedisConnectionFactory connectionFactory = new JedisConnectionFactory(configuration);
+				connectionFactory.afterPropertiesSet();
+				connectionFactory.start();
+				return connectionFactory;
+			}
+
+			@Override
+			void destroy(RedisConnectionFactory connectionFactory) {
+				((JedisConnectionFactory) connectionFactory).destroy();
+			}
+		};
+
+		abstract RedisConnectionFactory create(RedisStandaloneConfiguration configuration);
+
+		abstract void destroy(RedisConnectionFactory connectionFactory);
+	}
+}
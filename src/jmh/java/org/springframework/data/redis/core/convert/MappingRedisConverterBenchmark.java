@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.benchmark.Order;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+/**
+ * Benchmarks for {@link MappingRedisConverter} writing and reading an {@link Order} aggregate including the
+ * conversion of the resulting {@link Bucket} to its raw hash representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingRedisConverterBenchmark {
+
+	@Param({ "1", "50" })
+	private int items;
+
+	private MappingRedisConverter converter;
+	private Order order;
+	private Bucket bucket;
+
+	@Setup
+	public void setUp() {
+
+		converter = new MappingRedisConverter(new RedisMappingContext(), null, null);
+		converter.afterPropertiesSet();
+
+		order = Order.create("4711", items);
+
+		RedisData sink = new RedisData();
+		converter.write(order, sink);
+		bucket = Bucket.newBucketFromRawMap(sink.getBucket().rawMap());
+	}
+
+	@Benchmark
+	public RedisData write() {
+
+		RedisData sink = new RedisData();
+		converter.write(order, sink);
+		return sink;
+	}
+
+	@Benchmark
+	public Object writeRaw() {
+
+		RedisData sink = new RedisData();
+		converter.write(order, sink);
+		return sink.getBucket().rawMap();
+	}
+
+	@Benchmark
+	public Order read() {
+		return converter.read(Order.class, new RedisData(bucket));
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.hash;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.benchmark.Order;
+
+/**
+ * Benchmarks for {@link HashMapper} implementations mapping an {@link Order} aggregate to and from a hash.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapperBenchmark {
+
+	@Param({ "JACKSON_FLAT", "JACKSON_HIERARCHICAL", "JACKSON2_FLAT", "JACKSON2_HIERARCHICAL", "OBJECT" })
+	private HashMapperType mapper;
+
+	@Param({ "1", "50" })
+	private int items;
+
+	private HashMapper<Object, Object, Object> hashMapper;
+	private Order order;
+	private Map<Object, Object> hash;
+
+	@Setup
+	public void setUp() {
+
+		hashMapper = mapper.create();
+		order = Order.create("4711", items);
+		hash = hashMapper.toHash(order);
+	}
+
+	@Benchmark
+	public Map<Object, Object> toHash() {
+		return hashMapper.toHash(order);
+	}
+
+	@Benchmark
+	public Object fromHash() {
+		return hashMapper.fromHash(hash);
+	}
+
+	@SuppressWarnings({ "removal", "unchecked", "rawtypes" })
+	public enum HashMapperType {
+
+		JACKSON_FLAT {
+			@Override
+			HashMapper<Object, Object, Object> create() {
+				return (HashMapper) JacksonHashMapper.flattening();
+			}
+		},
+
+		JACKSON_HIERARCHICAL {
+			@Override
+			HashMapper<Object, Object, Object> create() {
+				return (HashMapper) JacksonHashMapper.hierarchical();
+			}
+		},
+
+		JACKSON2_FLAT {
+			@Override
+			HashMapper<Object, Object, Object> create() {
+				return (HashMapper) new Jackson2HashMapper(true);
+			}
+		},
+
+		JACKSON2_HIERARCHICAL {
+			@Override
+			HashMapper<Object, Object, Object> create() {
+				return (HashMapper) new Jackson2HashMapper(false);
+			}
+		},
+
+		OBJECT {
+			@Override
+			HashMapper<Object, Object, Object> create() {
+				return (HashMapper) new ObjectHashMapper();
+			}
+		};
+
+		abstract HashMapper<Object, Object, Object> create();
+	}
+}
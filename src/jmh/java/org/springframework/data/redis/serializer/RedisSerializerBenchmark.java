@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.benchmark.Order;
+
+/**
+ * Benchmarks for {@link RedisSerializer} implementations serializing and deserializing an {@link Order} aggregate.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+	@Param({ "JACKSON", "JACKSON2", "JDK" })
+	private SerializerType serializer;
+
+	@Param({ "1", "50" })
+	private int items;
+
+	private RedisSerializer<Object> redisSerializer;
+	private Order order;
+	private byte[] serialized;
+
+	@Setup
+	public void setUp() {
+
+		redisSerializer = serializer.create();
+		order = Order.create("4711", items);
+		serialized = redisSerializer.serialize(order);
+	}
+
+	@Benchmark
+	public byte[] serialize() {
+		return redisSerializer.serialize(order);
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return redisSerializer.deserialize(serialized);
+	}
+
+	@SuppressWarnings("removal")
+	public enum SerializerType {
+
+		JACKSON {
+			@Override
+			RedisSerializer<Object> create() {
+				return GenericJacksonJsonRedisSerializer.builder().enableUnsafeDefaultTyping().build();
+			}
+		},
+
+		JACKSON2 {
+			@Override
+			RedisSerializer<Object> create() {
+				return new GenericJackson2JsonRedisSerializer();
+			}
+		},
+
+		JDK {
+			@Override
+			RedisSerializer<Object> create() {
+				return RedisSerializer.java();
+			}
+		};
+
+		abstract RedisSerializer<Object> create();
+	}
+}
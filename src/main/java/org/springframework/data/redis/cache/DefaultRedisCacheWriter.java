@@ -16,6 +16,7 @@
 package org.springframework.data.redis.cache;
 
 import org.springframework.util.StringUtils;
+import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -44,6 +45,7 @@ import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.connection.SetCondition;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.observability.RedisObservations;
 import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -89,6 +91,8 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 	private final boolean asynchronousWrites;
 
+	private final ObservationRegistry observationRegistry;
+
 	/**
 	 * @param connectionFactory must not be {@literal null}.
 	 * @param batchStrategy must not be {@literal null}.
@@ -109,18 +113,27 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, Duration sleepTime, TtlFunction lockTtl,
 			CacheStatisticsCollector cacheStatisticsCollector, BatchStrategy batchStrategy, boolean asynchronousWrites) {
+		this(connectionFactory, sleepTime, lockTtl, cacheStatisticsCollector, batchStrategy, asynchronousWrites,
+				ObservationRegistry.NOOP);
+	}
+
+	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, Duration sleepTime, TtlFunction lockTtl,
+			CacheStatisticsCollector cacheStatisticsCollector, BatchStrategy batchStrategy, boolean asynchronousWrites,
+			ObservationRegistry observationRegistry) {
 
 		Assert.notNull(connectionFactory, "ConnectionFactory must not be null");
 		Assert.notNull(sleepTime, "SleepTime must not be null");
 		Assert.notNull(lockTtl, "Lock TTL Function must not be null");
 		Assert.notNull(cacheStatisticsCollector, "CacheStatisticsCollector must not be null");
 		Assert.notNull(batchStrategy, "BatchStrategy must not be null");
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
 
 		this.connectionFactory = connectionFactory;
 		this.sleepTime = sleepTime;
 		this.lockTtl = lockTtl;
 		this.statistics = cacheStatisticsCollector;
 		this.batchStrategy = batchStrategy;
+		this.observationRegistry = observationRegistry;
 
 		if (REACTIVE_REDIS_CONNECTION_FACTORY_PRESENT && this.connectionFactory instanceof ReactiveRedisConnectionFactory) {
 			this.asyncCacheWriter = new AsynchronousCacheWriterDelegate();
@@ -501,6 +514,15 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 				this.batchStrategy, this.asynchronousWrites);
 	}
 
+	@Override
+	public RedisCacheWriter withObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		return new ObservingRedisCacheWriter(new DefaultRedisCacheWriter(connectionFactory, sleepTime, lockTtl, statistics,
+				this.batchStrategy, this.asynchronousWrites, observationRegistry), observationRegistry);
+	}
+
 	/**
 	 * Explicitly set a write lock on a cache.
 	 *
@@ -543,7 +565,7 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 	private <T> T execute(@Nullable String name, Function<RedisConnection, T> callback) {
 
-		try (RedisConnection connection = this.connectionFactory.getConnection()) {
+		try (RedisConnection connection = getConnection()) {
 			if(StringUtils.hasText(name)) {
 				checkAndPotentiallyWaitUntilUnlocked(name, connection);
 			}
@@ -553,7 +575,7 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 	private void executeWithoutResult(String name, Consumer<RedisConnection> callback) {
 
-		try (RedisConnection connection = this.connectionFactory.getConnection()) {
+		try (RedisConnection connection = getConnection()) {
 			checkAndPotentiallyWaitUntilUnlocked(name, connection);
 			callback.accept(connection);
 		}
@@ -561,11 +583,19 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 	private <T> T executeLockFree(Function<RedisConnection, T> callback) {
 
-		try (RedisConnection connection = this.connectionFactory.getConnection()) {
+		try (RedisConnection connection = getConnection()) {
 			return callback.apply(connection);
 		}
 	}
 
+	private RedisConnection getConnection() {
+
+		RedisConnection connection = RedisObservations.acquire(this.connectionFactory::getConnection,
+				this.connectionFactory, this.observationRegistry);
+
+		return RedisObservations.observe(connection, this.connectionFactory, this.observationRegistry);
+	}
+
 	/**
 	 * Determines whether this {@link RedisCacheWriter} uses locks during caching operations.
 	 *
@@ -853,7 +883,10 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 			ReactiveRedisConnectionFactory cf = (ReactiveRedisConnectionFactory) connectionFactory;
 
-			return Mono.usingWhen(Mono.fromSupplier(cf::getReactiveConnection), //
+			Mono<ReactiveRedisConnection> connection = Mono.fromSupplier(
+					() -> RedisObservations.observe(cf.getReactiveConnection(), cf, observationRegistry));
+
+			return Mono.usingWhen(connection, //
 					callback::apply, //
 					ReactiveRedisConnection::closeLater) //
 					.toFuture();
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.observability.RedisObservation;
+import org.springframework.data.redis.observability.RedisObservationContext;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisCacheWriter} decorator recording a {@link RedisObservation#CACHE} observation for each cache operation.
+ *
+ * @since 4.2
+ */
+class ObservingRedisCacheWriter implements RedisCacheWriter {
+
+	private static final String HIT = "hit";
+	private static final String MISS = "miss";
+
+	private final RedisCacheWriter delegate;
+	private final ObservationRegistry observationRegistry;
+
+	ObservingRedisCacheWriter(RedisCacheWriter delegate, ObservationRegistry observationRegistry) {
+
+		Assert.notNull(delegate, "RedisCacheWriter must not be null");
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.delegate = delegate;
+		this.observationRegistry = observationRegistry;
+	}
+
+	@Override
+	public byte @Nullable [] get(String name, byte[] key) {
+		return observeRead(name, "get", () -> delegate.get(name, key));
+	}
+
+	@Override
+	public byte @Nullable [] get(String name, byte[] key, @Nullable Duration ttl) {
+		return observeRead(name, "get", () -> delegate.get(name, key, ttl));
+	}
+
+	@Override
+	public byte[] get(String name, byte[] key, Supplier<byte[]> valueLoader, @Nullable Duration ttl,
+			boolean timeToIdleEnabled) {
+		return observe(name, "get", () -> delegate.get(name, key, valueLoader, ttl, timeToIdleEnabled));
+	}
+
+	@Override
+	public boolean supportsAsyncRetrieve() {
+		return delegate.supportsAsyncRetrieve();
+	}
+
+	@Override
+	public CompletableFuture<byte[]> retrieve(String name, byte[] key, @Nullable Duration ttl) {
+		return observeAsync(name, "retrieve", () -> delegate.retrieve(name, key, ttl), true);
+	}
+
+	@Override
+	public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+		observe(name, "put", () -> {
+			delegate.put(name, key, value, ttl);
+			return null;
+		});
+	}
+
+	@Override
+	public CompletableFuture<Void> store(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+		return observeAsync(name, "store", () -> delegate.store(name, key, value, ttl), false);
+	}
+
+	@Override
+	public byte @Nullable [] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+		return observeRead(name, "putIfAbsent", () -> delegate.putIfAbsent(name, key, value, ttl));
+	}
+
+	@Override
+	public void evict(String name, byte[] key) {
+		observe(name, "evict", () -> {
+			delegate.evict(name, key);
+			return null;
+		});
+	}
+
+	@Override
+	public boolean evictIfPresent(String name, byte[] key) {
+		return observe(name, "evictIfPresent", () -> delegate.evictIfPresent(name, key));
+	}
+
+	@Override
+	public void clear(String name, byte[] pattern) {
+		observe(name, "clear", () -> {
+			delegate.clear(name, pattern);
+			return null;
+		});
+	}
+
+	@Override
+	public boolean invalidate(String name, byte[] pattern) {
+		return observe(name, "invalidate", () -> delegate.invalidate(name, pattern));
+	}
+
+	@Override
+	public void clearStatistics(String name) {
+		delegate.clearStatistics(name);
+	}
+
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return delegate.getCacheStatistics(cacheName);
+	}
+
+	@Override
+	public <T extends @Nullable Object> T execute(Function<RedisConnection, T> callback) {
+		return delegate.execute(callback);
+	}
+
+	@Override
+	public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+		return delegate.withStatisticsCollector(cacheStatisticsCollector).withObservationRegistry(observationRegistry);
+	}
+
+	@Override
+	public RedisCacheWriter withObservationRegistry(ObservationRegistry observationRegistry) {
+		return delegate.withObservationRegistry(observationRegistry);
+	}
+
+	private byte @Nullable [] observeRead(String name, String operation, Supplier<byte @Nullable []> read) {
+
+		RedisObservationContext context = createContext(name, operation);
+
+		return doObserve(context, () -> {
+
+			byte[] value = read.get();
+			context.setCacheResult(value != null ? HIT : MISS);
+			return value;
+		});
+	}
+
+	private <T> T observe(String name, String operation, Supplier<T> action) {
+		return doObserve(createContext(name, operation), action);
+	}
+
+	private <T> T doObserve(RedisObservationContext context, Supplier<T> action) {
+		return RedisObservation.createNotStarted(context, observationRegistry).observe(action);
+	}
+
+	private <T> CompletableFuture<T> observeAsync(String name, String operation, Supplier<CompletableFuture<T>> action,
+			boolean read) {
+
+		RedisObservationContext context = createContext(name, operation);
+		Observation observation = RedisObservation.createNotStarted(context, observationRegistry).start();
+
+		CompletableFuture<T> future;
+		try (Observation.Scope ignored = observation.openScope()) {
+			future = action.get();
+		} catch (RuntimeException ex) {
+
+			observation.error(ex);
+			observation.stop();
+			throw ex;
+		}
+
+		future.whenComplete((value, error) -> {
+
+			if (error != null) {
+				observation.error(error);
+			} else if (read) {
+				context.setCacheResult(value != null ? HIT : MISS);
+			}
+
+			observation.stop();
+		});
+
+		return future;
+	}
+
+	private static RedisObservationContext createContext(String name, String operation) {
+
+		RedisObservationContext context = new RedisObservationContext(RedisObservation.CACHE);
+		context.setCacheName(name);
+		context.setCacheOperation(operation);
+		return context;
+	}
+}
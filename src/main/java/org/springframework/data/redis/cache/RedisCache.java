@@ -25,8 +25,15 @@ import java.util.Map.Entry;
 import java.util.StringJoiner;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
@@ -46,6 +53,12 @@ import org.springframework.util.ReflectionUtils;
  * {@link AbstractValueAdaptingCache Cache} implementation using Redis as the underlying store for cache data.
  * <p>
  * Use {@link RedisCacheManager} to create {@link RedisCache} instances.
+ * <p>
+ * With {@link RedisCacheConfiguration#enableEarlyRefresh(double) early refresh} or a
+ * {@link RedisCacheConfiguration#entrySoftTtl(Duration) soft time to live} enabled, cache values are stored along with
+ * their write time, expiration and compute time. {@link #get(Object, Callable)} and {@link #retrieve(Object, Supplier)}
+ * then refresh entries ahead of their expiration and collapse concurrent loads for the same key within this cache
+ * instance.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -57,6 +70,8 @@ import org.springframework.util.ReflectionUtils;
 @SuppressWarnings("unused")
 public class RedisCache extends AbstractValueAdaptingCache {
 
+	private static final Log logger = LogFactory.getLog(RedisCache.class);
+
 	@SuppressWarnings("NullAway") static final byte[] BINARY_NULL_VALUE = RedisSerializer.java()
 			.serialize(NullValue.INSTANCE);
 
@@ -68,6 +83,8 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 	private final String name;
 
+	private final Map<ByteBuffer, CompletableFuture<@Nullable Object>> loads = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@link RedisCache} with the given {@link String name} and {@link RedisCacheConfiguration}, using the
 	 * {@link RedisCacheWriter} to execute Redis commands supporting the cache operations.
@@ -149,6 +166,10 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	@SuppressWarnings("unchecked")
 	public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
 
+		if (getCacheConfiguration().usesEntryMetadata()) {
+			return getWithRefresh(key, valueLoader);
+		}
+
 		byte[] binaryKey = createAndConvertCacheKey(key);
 		byte[] binaryValue = getCacheWriter().get(getName(), binaryKey,
 				() -> serializeCacheValue(toStoreValue(loadCacheValue(key, valueLoader))), getTimeToLive(key),
@@ -159,6 +180,172 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		return result != null ? (T) result.get() : null;
 	}
 
+	@SuppressWarnings({ "unchecked", "NullAway" })
+	private <T> @Nullable T getWithRefresh(Object key, Callable<T> valueLoader) {
+
+		byte[] binaryKey = createAndConvertCacheKey(key);
+		byte[] binaryValue = getCacheConfiguration().isTimeToIdleEnabled()
+				? getCacheWriter().get(getName(), binaryKey, getTimeToLive(key))
+				: getCacheWriter().get(getName(), binaryKey);
+
+		RedisCacheEntry entry = binaryValue != null ? decodeEntry(key, binaryValue) : null;
+
+		if (entry != null && !shouldRefresh(entry)) {
+			return (T) getEntryValue(entry);
+		}
+
+		CompletableFuture<@Nullable Object> load = new CompletableFuture<>();
+		CompletableFuture<@Nullable Object> inFlight = this.loads.putIfAbsent(ByteBuffer.wrap(binaryKey), load);
+
+		if (inFlight != null) {
+			return entry != null ? (T) getEntryValue(entry) : (T) awaitLoad(inFlight);
+		}
+
+		if (entry == null) {
+			return loadThroughCacheWriter(key, binaryKey, valueLoader, load);
+		}
+
+		Executor executor = getCacheConfiguration().getRefreshExecutor();
+
+		if (executor != null) {
+
+			try {
+				executor.execute(() -> {
+					try {
+						loadAndStore(key, binaryKey, valueLoader, load);
+					} catch (RuntimeException ex) {
+						logRefreshFailure(key, ex);
+					}
+				});
+			} catch (RuntimeException ex) {
+				this.loads.remove(ByteBuffer.wrap(binaryKey), load);
+				load.completeExceptionally(ex);
+				logRefreshFailure(key, ex);
+			}
+
+			return (T) getEntryValue(entry);
+		}
+
+		try {
+			return loadAndStore(key, binaryKey, valueLoader, load);
+		} catch (RuntimeException ex) {
+
+			if (!getCacheConfiguration().isServeStaleOnError()) {
+				throw ex;
+			}
+
+			logRefreshFailure(key, ex);
+			return (T) getEntryValue(entry);
+		}
+	}
+
+	/**
+	 * Load a missing entry through {@link RedisCacheWriter#get(String, byte[], Supplier, Duration, boolean)} so that a
+	 * locking {@link RedisCacheWriter} prevents concurrent loads of the same key across cache instances.
+	 */
+	@SuppressWarnings({ "unchecked", "NullAway" })
+	private <T> @Nullable T loadThroughCacheWriter(Object key, byte[] binaryKey, Callable<T> valueLoader,
+			CompletableFuture<@Nullable Object> load) {
+
+		try {
+
+			Duration timeToLive = getTimeToLive(key);
+			byte[] binaryValue = getCacheWriter().get(getName(), binaryKey, () -> {
+
+				long start = System.nanoTime();
+				Object value = toStoreValue(loadCacheValue(key, valueLoader));
+				long computeTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+				return encodeCacheValue(value, timeToLive, computeTime);
+			}, timeToLive, getCacheConfiguration().isTimeToIdleEnabled());
+
+			Object value = binaryValue != null ? getEntryValue(RedisCacheEntry.decode(binaryValue)) : null;
+
+			load.complete(value);
+			return (T) value;
+		} catch (RuntimeException ex) {
+			load.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			this.loads.remove(ByteBuffer.wrap(binaryKey), load);
+		}
+	}
+
+	private <T> T loadAndStore(Object key, byte[] binaryKey, Callable<T> valueLoader,
+			CompletableFuture<@Nullable Object> load) {
+
+		try {
+
+			long start = System.nanoTime();
+			T value = loadCacheValue(key, valueLoader);
+			long computeTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			Duration timeToLive = getTimeToLive(key, value);
+			getCacheWriter().put(getName(), binaryKey, encodeCacheValue(toStoreValue(value), timeToLive, computeTime),
+					timeToLive);
+
+			load.complete(value);
+			return value;
+		} catch (RuntimeException ex) {
+			load.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			this.loads.remove(ByteBuffer.wrap(binaryKey), load);
+		}
+	}
+
+	private @Nullable Object awaitLoad(CompletableFuture<@Nullable Object> load) {
+
+		try {
+			return load.join();
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw ex;
+		}
+	}
+
+	private boolean shouldRefresh(RedisCacheEntry entry) {
+
+		long now = System.currentTimeMillis();
+		Duration softTtl = getCacheConfiguration().getSoftTtl();
+
+		if (softTtl != null && entry.isStale(now, softTtl)) {
+			return true;
+		}
+
+		return getCacheConfiguration().isEarlyRefreshEnabled()
+				&& entry.shouldRefreshEarly(now, getCacheConfiguration().getEarlyRefreshBeta());
+	}
+
+	/**
+	 * Decode the given {@code binaryValue}. With time-to-idle, the read has just reset the expiration of the key so the
+	 * stored expiration timestamp is replaced with the one resulting from the read.
+	 */
+	private RedisCacheEntry decodeEntry(Object key, byte[] binaryValue) {
+
+		RedisCacheEntry entry = RedisCacheEntry.decode(binaryValue);
+
+		return getCacheConfiguration().isTimeToIdleEnabled()
+				? entry.withTimeToLive(System.currentTimeMillis(), getTimeToLive(key))
+				: entry;
+	}
+
+	private @Nullable Object getEntryValue(RedisCacheEntry entry) {
+		return fromStoreValue(deserializeCacheValue(entry.getValue()));
+	}
+
+	private void logRefreshFailure(Object key, Throwable ex) {
+
+		if (logger.isWarnEnabled()) {
+			logger.warn("Cannot refresh entry for key '%s' in cache '%s'; Serving current value".formatted(key, getName()),
+					ex);
+		}
+	}
+
 	/**
 	 * Loads the {@link Object} using the given {@link Callable valueLoader}.
 	 *
@@ -185,7 +372,7 @@ public class RedisCache extends AbstractValueAdaptingCache {
 				? getCacheWriter().get(getName(), binaryKey, getTimeToLive(key))
 				: getCacheWriter().get(getName(), binaryKey);
 
-		return binaryValue != null ? deserializeCacheValue(binaryValue) : null;
+		return binaryValue != null ? deserializeCacheValue(decodeCacheValue(binaryValue)) : null;
 	}
 
 	private Duration getTimeToLive(Object key) {
@@ -202,11 +389,11 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 		Object cacheValue = processAndCheckValue(value);
 
-		byte[] binaryKey = createAndConvertCacheKey(key);
-		byte[] binaryValue = serializeCacheValue(cacheValue);
-
 		Duration timeToLive = getTimeToLive(key, value);
 
+		byte[] binaryKey = createAndConvertCacheKey(key);
+		byte[] binaryValue = encodeCacheValue(cacheValue, timeToLive, 0);
+
 		getCacheWriter().put(getName(), binaryKey, binaryValue, timeToLive);
 	}
 
@@ -223,10 +410,12 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		Duration timeToLive = getTimeToLive(key, value);
 
 		byte[] binaryKey = createAndConvertCacheKey(key);
-		byte[] binaryValue = serializeCacheValue(cacheValue);
+		byte[] binaryValue = encodeCacheValue(cacheValue, timeToLive, 0);
 		byte[] result = getCacheWriter().putIfAbsent(getName(), binaryKey, binaryValue, timeToLive);
 
-		return result != null ? new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(result))) : null;
+		return result != null
+				? new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(decodeCacheValue(result))))
+				: null;
 	}
 
 	@Override
@@ -287,6 +476,10 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	@SuppressWarnings({ "unchecked", "NullAway" })
 	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
 
+		if (getCacheConfiguration().usesEntryMetadata()) {
+			return retrieveWithRefresh(key, valueLoader);
+		}
+
 		return retrieve(key).thenCompose(wrapper -> {
 
 			if (wrapper != null) {
@@ -307,6 +500,117 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		});
 	}
 
+	@SuppressWarnings({ "unchecked", "NullAway" })
+	private <T> CompletableFuture<T> retrieveWithRefresh(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		if (!getCacheWriter().supportsAsyncRetrieve()) {
+			throw new UnsupportedOperationException(CACHE_RETRIEVAL_UNSUPPORTED_OPERATION_EXCEPTION_MESSAGE);
+		}
+
+		byte[] binaryKey = createAndConvertCacheKey(key);
+
+		return retrieveBinary(key, binaryKey).thenCompose(binaryValue -> {
+
+			RedisCacheEntry entry = binaryValue != null ? decodeEntry(key, binaryValue) : null;
+
+			if (entry != null && !shouldRefresh(entry)) {
+				return CompletableFuture.completedFuture((T) getEntryValue(entry));
+			}
+
+			CompletableFuture<@Nullable Object> load = new CompletableFuture<>();
+			CompletableFuture<@Nullable Object> inFlight = this.loads.putIfAbsent(ByteBuffer.wrap(binaryKey), load);
+
+			if (inFlight != null) {
+				return entry != null ? CompletableFuture.completedFuture((T) getEntryValue(entry))
+						: inFlight.thenApply(value -> (T) value);
+			}
+
+			Executor executor = entry != null ? getCacheConfiguration().getRefreshExecutor() : null;
+
+			CompletableFuture<T> result;
+			try {
+				result = executor != null
+						? CompletableFuture.supplyAsync(() -> loadAndStoreAsync(key, binaryKey, valueLoader), executor)
+								.thenCompose(Function.identity())
+						: loadAndStoreAsync(key, binaryKey, valueLoader);
+			} catch (RuntimeException ex) {
+				result = CompletableFuture.failedFuture(ex);
+			}
+
+			result = result.whenComplete((value, error) -> {
+
+				this.loads.remove(ByteBuffer.wrap(binaryKey), load);
+
+				if (error != null) {
+					load.completeExceptionally(error);
+				} else {
+					load.complete(value);
+				}
+			});
+
+			if (entry == null) {
+				return result;
+			}
+
+			if (executor != null) {
+
+				result.whenComplete((value, error) -> {
+					if (error != null) {
+						logRefreshFailure(key, error);
+					}
+				});
+
+				return CompletableFuture.completedFuture((T) getEntryValue(entry));
+			}
+
+			if (getCacheConfiguration().isServeStaleOnError()) {
+				return result.exceptionally(ex -> {
+					logRefreshFailure(key, ex);
+					return (T) getEntryValue(entry);
+				});
+			}
+
+			return result;
+		});
+	}
+
+	private <T> CompletableFuture<T> loadAndStoreAsync(Object key, byte[] binaryKey,
+			Supplier<CompletableFuture<T>> valueLoader) {
+
+		long start = System.nanoTime();
+
+		return valueLoader.get().thenCompose(value -> {
+
+			long computeTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			Object cacheValue = processAndCheckValue(value);
+			Duration timeToLive = getTimeToLive(key, cacheValue);
+
+			return getCacheWriter()
+					.store(getName(), binaryKey, encodeCacheValue(cacheValue, timeToLive, computeTime), timeToLive)
+					.thenApply(v -> value);
+		});
+	}
+
+	/**
+	 * Serialize the given {@code cacheValue} and prepend entry metadata if required by the configuration.
+	 */
+	private byte[] encodeCacheValue(Object cacheValue, @Nullable Duration timeToLive, long computeTime) {
+
+		byte[] binaryValue = serializeCacheValue(cacheValue);
+
+		return getCacheConfiguration().usesEntryMetadata()
+				? RedisCacheEntry.encode(binaryValue, System.currentTimeMillis(), timeToLive, computeTime)
+				: binaryValue;
+	}
+
+	/**
+	 * Strip entry metadata from the given {@code binaryValue} if required by the configuration.
+	 */
+	private byte[] decodeCacheValue(byte[] binaryValue) {
+		return getCacheConfiguration().usesEntryMetadata() ? RedisCacheEntry.decode(binaryValue).getValue()
+				: binaryValue;
+	}
+
 	private @Nullable Object processAndCheckValue(@Nullable Object value) {
 
 		Object cacheValue = preProcessCacheValue(value);
@@ -431,15 +735,19 @@ public class RedisCache extends AbstractValueAdaptingCache {
 
 	private CompletableFuture<ValueWrapper> retrieveValue(Object key) {
 
-		CompletableFuture<byte[]> retrieve = getCacheConfiguration().isTimeToIdleEnabled()
-				? getCacheWriter().retrieve(getName(), createAndConvertCacheKey(key), getTimeToLive(key))
-				: getCacheWriter().retrieve(getName(), createAndConvertCacheKey(key));
-
-		return retrieve //
-				.thenApply(binaryValue -> binaryValue != null ? deserializeCacheValue(binaryValue) : null) //
+		return retrieveBinary(key, createAndConvertCacheKey(key)) //
+				.thenApply(
+						binaryValue -> binaryValue != null ? deserializeCacheValue(decodeCacheValue(binaryValue)) : null) //
 				.thenApply(this::toValueWrapper);
 	}
 
+	private CompletableFuture<byte[]> retrieveBinary(Object key, byte[] binaryKey) {
+
+		return getCacheConfiguration().isTimeToIdleEnabled()
+				? getCacheWriter().retrieve(getName(), binaryKey, getTimeToLive(key))
+				: getCacheWriter().retrieve(getName(), binaryKey);
+	}
+
 	private @Nullable Object nullSafeDeserializedStoreValue(byte @Nullable [] value) {
 		return value != null ? fromStoreValue(deserializeCacheValue(value)) : null;
 	}
@@ -17,6 +17,7 @@ package org.springframework.data.redis.cache;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
@@ -113,7 +114,8 @@ public class RedisCacheConfiguration {
 		return new RedisCacheConfiguration(TtlFunction.persistent(), DEFAULT_CACHE_NULL_VALUES,
 				DEFAULT_ENABLE_TIME_TO_IDLE_EXPIRATION, DEFAULT_USE_PREFIX, CacheKeyPrefix.simple(),
 				SerializationPair.fromSerializer(RedisSerializer.string()),
-				SerializationPair.fromSerializer(RedisSerializer.java(classLoader)), conversionService);
+				SerializationPair.fromSerializer(RedisSerializer.java(classLoader)), conversionService,
+				RefreshSettings.NONE);
 	}
 
 	private final boolean cacheNullValues;
@@ -129,10 +131,13 @@ public class RedisCacheConfiguration {
 
 	private final TtlFunction ttlFunction;
 
+	private final RefreshSettings refreshSettings;
+
 	@SuppressWarnings("unchecked")
 	private RedisCacheConfiguration(TtlFunction ttlFunction, Boolean cacheNullValues, Boolean enableTimeToIdle,
 			Boolean usePrefix, CacheKeyPrefix keyPrefix, SerializationPair<String> keySerializationPair,
-			SerializationPair<?> valueSerializationPair, ConversionService conversionService) {
+			SerializationPair<?> valueSerializationPair, ConversionService conversionService,
+			RefreshSettings refreshSettings) {
 
 		this.ttlFunction = ttlFunction;
 		this.cacheNullValues = cacheNullValues;
@@ -142,6 +147,7 @@ public class RedisCacheConfiguration {
 		this.keySerializationPair = keySerializationPair;
 		this.valueSerializationPair = (SerializationPair<Object>) valueSerializationPair;
 		this.conversionService = conversionService;
+		this.refreshSettings = refreshSettings;
 	}
 
 	/**
@@ -173,7 +179,7 @@ public class RedisCacheConfiguration {
 
 		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(),
 				DEFAULT_USE_PREFIX, cacheKeyPrefix, getKeySerializationPair(), getValueSerializationPair(),
-				getConversionService());
+				getConversionService(), this.refreshSettings);
 	}
 
 	/**
@@ -186,7 +192,8 @@ public class RedisCacheConfiguration {
 	 */
 	public RedisCacheConfiguration disableCachingNullValues() {
 		return new RedisCacheConfiguration(getTtlFunction(), DO_NOT_CACHE_NULL_VALUES, isTimeToIdleEnabled(), usePrefix(),
-				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService());
+				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService(),
+				this.refreshSettings);
 	}
 
 	/**
@@ -199,7 +206,7 @@ public class RedisCacheConfiguration {
 	public RedisCacheConfiguration disableKeyPrefix() {
 		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(),
 				DO_NOT_USE_PREFIX, getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(),
-				getConversionService());
+				getConversionService(), this.refreshSettings);
 	}
 
 	/**
@@ -223,7 +230,112 @@ public class RedisCacheConfiguration {
 	 */
 	public RedisCacheConfiguration enableTimeToIdle() {
 		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), USE_TIME_TO_IDLE_EXPIRATION,
-				usePrefix(), getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService());
+				usePrefix(), getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService(),
+				this.refreshSettings);
+	}
+
+	/**
+	 * Enables probabilistic early refresh for {@link RedisCache#get(Object, java.util.concurrent.Callable)} and
+	 * {@link RedisCache#retrieve(Object, java.util.function.Supplier)} using a {@code beta} of {@literal 1}.
+	 *
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @see #enableEarlyRefresh(double)
+	 * @since 4.2
+	 */
+	public RedisCacheConfiguration enableEarlyRefresh() {
+		return enableEarlyRefresh(1);
+	}
+
+	/**
+	 * Enables probabilistic early refresh for {@link RedisCache#get(Object, java.util.concurrent.Callable)} and
+	 * {@link RedisCache#retrieve(Object, java.util.function.Supplier)}.
+	 * <p>
+	 * Cache values are stored along with their expiration time and the time it took to compute them. Reads with a value
+	 * loader recompute an entry ahead of its expiration with a probability that grows as the entry approaches its
+	 * expiration and with the time the value took to compute. Concurrent loads of the same key within this JVM are
+	 * collapsed into a single load while readers continue to receive the current value. Expiring entries are therefore
+	 * refreshed by a single caller instead of all callers recomputing the value at the same time. Missing entries are
+	 * loaded through {@link RedisCacheWriter#get(String, byte[], java.util.function.Supplier, Duration, boolean)} so a
+	 * {@link RedisCacheWriter#lockingRedisCacheWriter locking cache writer} keeps guarding them across instances. With
+	 * {@link #enableTimeToIdle() time-to-idle}, the expiration considered for early refresh is the one reset by the read.
+	 * <p>
+	 * Entries written without early refresh do not carry metadata and are not refreshed early. Switching the mode for an
+	 * existing cache requires clearing the cache as the binary representation of cache values changes.
+	 *
+	 * @param beta scaling factor for the early refresh probability, must be greater than {@literal 0}. Values greater
+	 *          than {@literal 1} favor earlier refreshes, values less than {@literal 1} favor later refreshes.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @see <a href="https://cseweb.ucsd.edu/~avattani/papers/cache_stampede.pdf">Optimal Probabilistic Cache Stampede
+	 *      Prevention</a>
+	 * @since 4.2
+	 */
+	public RedisCacheConfiguration enableEarlyRefresh(double beta) {
+
+		Assert.isTrue(beta > 0, "Beta must be greater than zero");
+
+		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
+				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService(),
+				this.refreshSettings.withEarlyRefreshBeta(beta));
+	}
+
+	/**
+	 * Set the soft time to live after which cache entries are considered stale. Stale entries remain in Redis until
+	 * their {@link #entryTtl(Duration) time to live} expires and are refreshed upon the next read through
+	 * {@link RedisCache#get(Object, java.util.concurrent.Callable)} or
+	 * {@link RedisCache#retrieve(Object, java.util.function.Supplier)}. Concurrent refreshes of the same key within this
+	 * JVM are collapsed into a single refresh.
+	 * <p>
+	 * The soft time to live should be shorter than the time to live. Entries written without a soft time to live do not
+	 * carry metadata and are never considered stale. Switching the mode for an existing cache requires clearing the cache
+	 * as the binary representation of cache values changes.
+	 *
+	 * @param softTtl must not be {@literal null} and must be positive.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @see #staleWhileRevalidate(Executor)
+	 * @see #serveStaleOnError()
+	 * @since 4.2
+	 */
+	public RedisCacheConfiguration entrySoftTtl(Duration softTtl) {
+
+		Assert.notNull(softTtl, "Soft TTL duration must not be null");
+		Assert.isTrue(!softTtl.isZero() && !softTtl.isNegative(), "Soft TTL duration must be positive");
+
+		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
+				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService(),
+				this.refreshSettings.withSoftTtl(softTtl));
+	}
+
+	/**
+	 * Return stale entries immediately and refresh them in the background using the given {@link Executor}. Applies to
+	 * entries past their {@link #entrySoftTtl(Duration) soft time to live} and to entries selected for
+	 * {@link #enableEarlyRefresh(double) early refresh}. Only one refresh per key runs at a time, callers continue to
+	 * receive the current value until the refresh completes. Entries that are absent are loaded by the calling thread.
+	 *
+	 * @param executor the {@link Executor} running refreshes, must not be {@literal null}.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 4.2
+	 */
+	public RedisCacheConfiguration staleWhileRevalidate(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
+				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService(),
+				this.refreshSettings.withExecutor(executor));
+	}
+
+	/**
+	 * Serve the current value of an entry if refreshing it fails, either because the value loader fails or because
+	 * Redis fails to store the refreshed value, for example due to a command timeout. Failures to load absent entries
+	 * are propagated.
+	 *
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 4.2
+	 */
+	public RedisCacheConfiguration serveStaleOnError() {
+		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
+				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService(),
+				this.refreshSettings.withServeStaleOnError());
 	}
 
 	/**
@@ -252,7 +364,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(ttlFunction, "TtlFunction must not be null");
 
 		return new RedisCacheConfiguration(ttlFunction, getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
-				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService());
+				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), getConversionService(),
+				this.refreshSettings);
 	}
 
 	/**
@@ -266,7 +379,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(keySerializationPair, "KeySerializationPair must not be null");
 
 		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
-				getKeyPrefix(), keySerializationPair, getValueSerializationPair(), getConversionService());
+				getKeyPrefix(), keySerializationPair, getValueSerializationPair(), getConversionService(),
+				this.refreshSettings);
 	}
 
 	/**
@@ -280,7 +394,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(valueSerializationPair, "ValueSerializationPair must not be null");
 
 		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
-				getKeyPrefix(), getKeySerializationPair(), valueSerializationPair, getConversionService());
+				getKeyPrefix(), getKeySerializationPair(), valueSerializationPair, getConversionService(),
+				this.refreshSettings);
 	}
 
 	/**
@@ -294,7 +409,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(conversionService, "ConversionService must not be null");
 
 		return new RedisCacheConfiguration(getTtlFunction(), getAllowCacheNullValues(), isTimeToIdleEnabled(), usePrefix(),
-				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), conversionService);
+				getKeyPrefix(), getKeySerializationPair(), getValueSerializationPair(), conversionService,
+				this.refreshSettings);
 	}
 
 	/**
@@ -318,6 +434,56 @@ public class RedisCacheConfiguration {
 		return this.enableTimeToIdle;
 	}
 
+	/**
+	 * Determines whether probabilistic early refresh has been enabled.
+	 *
+	 * @return {@literal true} if early refresh was enabled through {@link #enableEarlyRefresh(double)}.
+	 * @since 4.2
+	 */
+	public boolean isEarlyRefreshEnabled() {
+		return this.refreshSettings.earlyRefreshBeta() > 0;
+	}
+
+	/**
+	 * @return the scaling factor for early refreshes, {@literal 0} if early refresh is disabled.
+	 * @since 4.2
+	 */
+	public double getEarlyRefreshBeta() {
+		return this.refreshSettings.earlyRefreshBeta();
+	}
+
+	/**
+	 * @return the soft time to live after which entries are considered stale, {@literal null} if not configured.
+	 * @since 4.2
+	 */
+	public @Nullable Duration getSoftTtl() {
+		return this.refreshSettings.softTtl();
+	}
+
+	/**
+	 * @return the {@link Executor} running refreshes of stale entries, {@literal null} if entries are refreshed by the
+	 *         calling thread.
+	 * @since 4.2
+	 */
+	public @Nullable Executor getRefreshExecutor() {
+		return this.refreshSettings.executor();
+	}
+
+	/**
+	 * @return {@literal true} if stale entries are served when refreshing them fails.
+	 * @since 4.2
+	 */
+	public boolean isServeStaleOnError() {
+		return this.refreshSettings.serveStaleOnError();
+	}
+
+	/**
+	 * @return {@literal true} if cache values are stored along with entry metadata required for refreshing entries.
+	 */
+	boolean usesEntryMetadata() {
+		return isEarlyRefreshEnabled() || getSoftTtl() != null;
+	}
+
 	/**
 	 * @return {@literal true} if cache keys need to be prefixed with the {@link #getKeyPrefixFor(String)} if present or
 	 *         the default which resolves to {@link Cache#getName()}.
@@ -431,4 +597,29 @@ public class RedisCacheConfiguration {
 		registry.addConverter(String.class, byte[].class, source -> source.getBytes(StandardCharsets.UTF_8));
 		registry.addConverter(SimpleKey.class, String.class, SimpleKey::toString);
 	}
+
+	/**
+	 * Settings controlling how {@link RedisCache} refreshes entries.
+	 */
+	private record RefreshSettings(double earlyRefreshBeta, @Nullable Duration softTtl, @Nullable Executor executor,
+			boolean serveStaleOnError) {
+
+		static final RefreshSettings NONE = new RefreshSettings(0, null, null, false);
+
+		RefreshSettings withEarlyRefreshBeta(double earlyRefreshBeta) {
+			return new RefreshSettings(earlyRefreshBeta, softTtl, executor, serveStaleOnError);
+		}
+
+		RefreshSettings withSoftTtl(Duration softTtl) {
+			return new RefreshSettings(earlyRefreshBeta, softTtl, executor, serveStaleOnError);
+		}
+
+		RefreshSettings withExecutor(Executor executor) {
+			return new RefreshSettings(earlyRefreshBeta, softTtl, executor, serveStaleOnError);
+		}
+
+		RefreshSettings withServeStaleOnError() {
+			return new RefreshSettings(earlyRefreshBeta, softTtl, executor, true);
+		}
+	}
 }
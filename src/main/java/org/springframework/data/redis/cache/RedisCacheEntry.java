@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Binary cache value carrying the write timestamp, the expiration timestamp and the time it took to compute the value.
+ * The metadata is prepended to the serialized cache value so that a single {@code GET} returns both.
+ * <p>
+ * Values that were written without metadata are read as entries without expiration and compute time.
+ *
+ * @since 4.2
+ */
+final class RedisCacheEntry {
+
+	private static final byte[] MAGIC = { (byte) 0xCA, (byte) 0xCE, 'R', 1 };
+
+	private static final int HEADER_LENGTH = MAGIC.length + 3 * Long.BYTES;
+
+	private final byte[] value;
+	private final long createdAt;
+	private final long expiresAt;
+	private final long computeTime;
+
+	private RedisCacheEntry(byte[] value, long createdAt, long expiresAt, long computeTime) {
+		this.value = value;
+		this.createdAt = createdAt;
+		this.expiresAt = expiresAt;
+		this.computeTime = computeTime;
+	}
+
+	/**
+	 * Encode the given serialized {@code value} along with its metadata.
+	 *
+	 * @param value the serialized cache value.
+	 * @param createdAt the write timestamp in milliseconds since the epoch.
+	 * @param ttl the time to live, {@literal null} or non-positive for persistent entries.
+	 * @param computeTime the time it took to compute the value in milliseconds.
+	 * @return the encoded entry.
+	 */
+	static byte[] encode(byte[] value, long createdAt, @Nullable Duration ttl, long computeTime) {
+
+		boolean expires = ttl != null && !ttl.isZero() && !ttl.isNegative();
+
+		return encode(value, createdAt, expires ? createdAt + ttl.toMillis() : 0, computeTime);
+	}
+
+	static byte[] encode(byte[] value, long createdAt, long expiresAt, long computeTime) {
+
+		return ByteBuffer.allocate(HEADER_LENGTH + value.length).put(MAGIC).putLong(createdAt).putLong(expiresAt)
+				.putLong(computeTime).put(value).array();
+	}
+
+	/**
+	 * Decode the given binary cache value. Values without metadata are returned as-is.
+	 *
+	 * @param binary the binary value as stored in Redis.
+	 * @return the decoded entry.
+	 */
+	static RedisCacheEntry decode(byte[] binary) {
+
+		if (binary.length < HEADER_LENGTH || !Arrays.equals(binary, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+			return new RedisCacheEntry(binary, 0, 0, 0);
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(binary, MAGIC.length, 3 * Long.BYTES);
+
+		return new RedisCacheEntry(Arrays.copyOfRange(binary, HEADER_LENGTH, binary.length), buffer.getLong(),
+				buffer.getLong(), buffer.getLong());
+	}
+
+	/**
+	 * Return a copy of this entry expiring after the given {@code ttl} from {@code now}. Used when a read has reset the
+	 * expiration of the key, for example with time-to-idle.
+	 *
+	 * @param now the current time in milliseconds since the epoch.
+	 * @param ttl the time to live, {@literal null} or non-positive for persistent entries.
+	 * @return the entry with the updated expiration timestamp.
+	 */
+	RedisCacheEntry withTimeToLive(long now, @Nullable Duration ttl) {
+
+		if (createdAt == 0) {
+			return this;
+		}
+
+		boolean expires = ttl != null && !ttl.isZero() && !ttl.isNegative();
+
+		return new RedisCacheEntry(value, createdAt, expires ? now + ttl.toMillis() : 0, computeTime);
+	}
+
+	/**
+	 * @return the serialized cache value.
+	 */
+	byte[] getValue() {
+		return value;
+	}
+
+	/**
+	 * @return the write timestamp in milliseconds since the epoch, {@literal 0} if unknown.
+	 */
+	long getCreatedAt() {
+		return createdAt;
+	}
+
+	/**
+	 * @return the expiration timestamp in milliseconds since the epoch, {@literal 0} if the entry does not expire.
+	 */
+	long getExpiresAt() {
+		return expiresAt;
+	}
+
+	/**
+	 * @return the time it took to compute the value in milliseconds.
+	 */
+	long getComputeTime() {
+		return computeTime;
+	}
+
+	/**
+	 * Determine whether the entry is older than the given {@code softTtl}.
+	 *
+	 * @param now the current time in milliseconds since the epoch.
+	 * @param softTtl the soft time to live.
+	 * @return {@literal true} if the entry is stale.
+	 */
+	boolean isStale(long now, Duration softTtl) {
+		return createdAt != 0 && now - createdAt >= softTtl.toMillis();
+	}
+
+	/**
+	 * Determine whether the entry should be recomputed ahead of its expiration. The decision is probabilistic and becomes
+	 * more likely the closer the entry gets to its expiration and the longer it took to compute the value (XFetch).
+	 *
+	 * @param now the current time in milliseconds since the epoch.
+	 * @param beta scaling factor, values greater than {@literal 1} favor earlier recomputation.
+	 * @return {@literal true} if the entry should be recomputed.
+	 * @see <a href="https://cseweb.ucsd.edu/~avattani/papers/cache_stampede.pdf">Optimal Probabilistic Cache Stampede
+	 *      Prevention</a>
+	 */
+	boolean shouldRefreshEarly(long now, double beta) {
+
+		if (expiresAt == 0) {
+			return false;
+		}
+
+		double random = ThreadLocalRandom.current().nextDouble();
+
+		return now - computeTime * beta * Math.log(random) >= expiresAt;
+	}
+}
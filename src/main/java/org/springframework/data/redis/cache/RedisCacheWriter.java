@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.cache;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -367,6 +369,19 @@ public interface RedisCacheWriter extends CacheStatisticsProvider {
 	 */
 	RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector);
 
+	/**
+	 * Obtain a {@link RedisCacheWriter} recording an observation for each cache operation, tagged with the cache name.
+	 * The default {@link RedisCacheWriter} additionally records observations for the commands it issues.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @return new instance of {@link RedisCacheWriter}.
+	 * @since 4.2
+	 * @see org.springframework.data.redis.observability.RedisObservation#CACHE
+	 */
+	default RedisCacheWriter withObservationRegistry(ObservationRegistry observationRegistry) {
+		return new ObservingRedisCacheWriter(this, observationRegistry);
+	}
+
 	/**
 	 * Interface that allows for configuring a {@link RedisCacheWriter}.
 	 *
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+/**
+ * Statistics of a client-side cache maintained by a {@link RedisConnectionFactory}. Statistics are captured locally
+ * and reflect the state of the cache at the time of the call.
+ *
+ * @since 4.2
+ * @see ClientSideCachingConfiguration
+ */
+public interface ClientSideCacheStatistics {
+
+	/**
+	 * @return the number of reads served from the local cache.
+	 */
+	long getHits();
+
+	/**
+	 * @return the number of reads that required a server round trip.
+	 */
+	long getMisses();
+
+	/**
+	 * @return the number of key invalidations received from the server.
+	 */
+	long getInvalidations();
+
+	/**
+	 * @return the number of entries currently held in the local cache.
+	 */
+	long getEntryCount();
+
+	/**
+	 * @return the estimated memory footprint of cached keys and values in bytes or {@literal -1} if the footprint cannot
+	 *         be determined.
+	 */
+	long getEstimatedSize();
+
+	/**
+	 * @return the ratio of {@link #getHits() hits} to all reads, {@literal 0} if no reads have been recorded.
+	 */
+	default double getHitRatio() {
+
+		long hits = getHits();
+		long total = hits + getMisses();
+
+		return total == 0 ? 0 : (double) hits / total;
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Immutable configuration for client-side caching based on server-assisted {@code CLIENT TRACKING}. Client-side caching
+ * keeps a bounded local copy of raw {@code GET} and {@code HGET} responses and drops entries as soon as the server
+ * sends an invalidation message for the corresponding key.
+ * <p>
+ * Tracking can run in {@link TrackingMode#DEFAULT default} mode where the server remembers the keys read by the
+ * connection or in {@link TrackingMode#BROADCAST broadcast} mode where the server notifies about all keys matching the
+ * configured {@link #getPrefixes() prefixes}. In default mode, prefixes act as a client-side filter to limit caching
+ * to a subset of keys.
+ * <p>
+ * Client-side caching requires RESP3 to receive invalidation push messages.
+ *
+ * @since 4.2
+ * @see <a href="https://redis.io/docs/latest/develop/reference/client-side-caching/">Client-side caching</a>
+ */
+public final class ClientSideCachingConfiguration {
+
+	private static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private final TrackingMode trackingMode;
+	private final List<String> prefixes;
+	private final byte[][] binaryPrefixes;
+	private final int maxEntries;
+
+	private ClientSideCachingConfiguration(TrackingMode trackingMode, List<String> prefixes, int maxEntries) {
+
+		this.trackingMode = trackingMode;
+		this.prefixes = prefixes;
+		this.binaryPrefixes = prefixes.stream().map(it -> it.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Create a new {@link ClientSideCachingConfiguration} using {@link TrackingMode#DEFAULT default} tracking mode
+	 * caching all keys with up to {@literal 10000} entries.
+	 *
+	 * @return a new {@link ClientSideCachingConfiguration}.
+	 */
+	public static ClientSideCachingConfiguration defaultTracking() {
+		return new ClientSideCachingConfiguration(TrackingMode.DEFAULT, List.of(), DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a new {@link ClientSideCachingConfiguration} using {@link TrackingMode#BROADCAST broadcast} tracking mode
+	 * for keys starting with any of the given {@code prefixes}. Broadcasting without prefixes tracks all keys.
+	 *
+	 * @param prefixes key prefixes to track, must not be {@literal null}.
+	 * @return a new {@link ClientSideCachingConfiguration}.
+	 */
+	public static ClientSideCachingConfiguration broadcast(String... prefixes) {
+
+		Assert.notNull(prefixes, "Prefixes must not be null");
+		Assert.noNullElements(prefixes, "Prefixes must not contain null elements");
+
+		return new ClientSideCachingConfiguration(TrackingMode.BROADCAST, List.of(prefixes), DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a new {@link ClientSideCachingConfiguration} limiting caching to keys starting with any of the given
+	 * {@code prefixes}.
+	 *
+	 * @param prefixes key prefixes, must not be {@literal null}.
+	 * @return a new {@link ClientSideCachingConfiguration}.
+	 */
+	public ClientSideCachingConfiguration prefixes(String... prefixes) {
+
+		Assert.notNull(prefixes, "Prefixes must not be null");
+		Assert.noNullElements(prefixes, "Prefixes must not contain null elements");
+
+		return new ClientSideCachingConfiguration(trackingMode, List.of(prefixes), maxEntries);
+	}
+
+	/**
+	 * Create a new {@link ClientSideCachingConfiguration} with the given maximum number of locally cached entries. The
+	 * least recently used entries are evicted once the limit is exceeded.
+	 *
+	 * @param maxEntries the maximum number of entries, must be greater than zero.
+	 * @return a new {@link ClientSideCachingConfiguration}.
+	 */
+	public ClientSideCachingConfiguration maxEntries(int maxEntries) {
+
+		Assert.isTrue(maxEntries > 0, "Max entries must be greater than zero");
+
+		return new ClientSideCachingConfiguration(trackingMode, prefixes, maxEntries);
+	}
+
+	/**
+	 * @return the {@link TrackingMode}.
+	 */
+	public TrackingMode getTrackingMode() {
+		return trackingMode;
+	}
+
+	/**
+	 * @return the key prefixes. An empty list applies caching to all keys.
+	 */
+	public List<String> getPrefixes() {
+		return prefixes;
+	}
+
+	/**
+	 * @return the maximum number of locally cached entries.
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Check whether the given {@code key} qualifies for client-side caching according to the configured
+	 * {@link #getPrefixes() prefixes}.
+	 *
+	 * @param key the binary key.
+	 * @return {@literal true} if the key may be cached locally.
+	 */
+	public boolean isCacheable(byte[] key) {
+
+		if (binaryPrefixes.length == 0) {
+			return true;
+		}
+
+		for (byte[] prefix : binaryPrefixes) {
+			if (ByteUtils.startsWith(key, prefix)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof ClientSideCachingConfiguration that)) {
+			return false;
+		}
+
+		return maxEntries == that.maxEntries && trackingMode == that.trackingMode
+				&& ObjectUtils.nullSafeEquals(prefixes, that.prefixes);
+	}
+
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHash(trackingMode, prefixes, maxEntries);
+	}
+
+	@Override
+	public String toString() {
+		return "ClientSideCachingConfiguration[trackingMode=%s, prefixes=%s, maxEntries=%d]".formatted(trackingMode,
+				Arrays.toString(prefixes.toArray()), maxEntries);
+	}
+
+	/**
+	 * Server-side tracking mode.
+	 */
+	public enum TrackingMode {
+
+		/**
+		 * The server remembers keys read by the connection and sends invalidations only for those keys.
+		 */
+		DEFAULT,
+
+		/**
+		 * The server sends invalidations for all keys matching the configured prefixes regardless of whether they have
+		 * been read.
+		 */
+		BROADCAST
+	}
+}
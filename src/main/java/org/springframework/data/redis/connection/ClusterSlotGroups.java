@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
+import org.springframework.util.Assert;
+
+/**
+ * Keys of a multi-key command grouped by their cluster slot. Each group retains the order of its keys so that the
+ * results of one command per slot can be mapped back to the position of each key in the original request.
+ * <p>
+ * Groups are dispatched using {@link ClusterCommandExecutor#executeMultiKeyCommand} with {@link #getFirstKeys()} as
+ * routing keys. A callback then resolves its group through {@link #getKeys(byte[])} and the per-group results are
+ * reassembled in request order through {@link #merge(Iterable)}.
+ *
+ * @since 4.2
+ */
+public final class ClusterSlotGroups {
+
+	private final List<byte[]> keys;
+	private final Map<Integer, List<Integer>> positions;
+
+	private ClusterSlotGroups(List<byte[]> keys, Map<Integer, List<Integer>> positions) {
+
+		this.keys = keys;
+		this.positions = positions;
+	}
+
+	/**
+	 * Group the given {@code keys} by their slot.
+	 *
+	 * @param keys must not be {@literal null} or contain {@literal null} elements.
+	 * @return the {@link ClusterSlotGroups} for {@code keys}.
+	 */
+	public static ClusterSlotGroups of(byte[]... keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+
+		return of(Arrays.asList(keys));
+	}
+
+	/**
+	 * Group the given {@code keys} by their slot.
+	 *
+	 * @param keys must not be {@literal null} or contain {@literal null} elements.
+	 * @return the {@link ClusterSlotGroups} for {@code keys}.
+	 */
+	public static ClusterSlotGroups of(List<byte[]> keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+		Assert.noNullElements(keys, "Keys must not contain null elements");
+
+		Map<Integer, List<Integer>> positions = new LinkedHashMap<>();
+
+		for (int i = 0; i < keys.size(); i++) {
+			positions.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(keys.get(i)), it -> new ArrayList<>()).add(i);
+		}
+
+		return new ClusterSlotGroups(List.copyOf(keys), positions);
+	}
+
+	/**
+	 * @return the number of slot groups.
+	 */
+	public int size() {
+		return positions.size();
+	}
+
+	/**
+	 * Return the first key of each slot group in order of appearance to route one command per slot.
+	 *
+	 * @return the routing key of each slot group.
+	 */
+	public List<byte[]> getFirstKeys() {
+
+		List<byte[]> firstKeys = new ArrayList<>(positions.size());
+
+		for (List<Integer> group : positions.values()) {
+			firstKeys.add(keys.get(group.get(0)));
+		}
+
+		return firstKeys;
+	}
+
+	/**
+	 * Return the keys sharing the slot of the given {@code key} in request order.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the keys of the slot group.
+	 * @throws IllegalArgumentException if the slot of {@code key} is not part of this group.
+	 */
+	public List<byte[]> getKeys(byte[] key) {
+
+		List<Integer> group = getPositions(key);
+		List<byte[]> result = new ArrayList<>(group.size());
+
+		for (int position : group) {
+			result.add(keys.get(position));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Reassemble per-slot results into a single list in request order. Each {@link NodeResult} must be keyed by a
+	 * routing key and hold one value per key of its slot group.
+	 *
+	 * @param results must not be {@literal null}.
+	 * @return the values in request order.
+	 */
+	public <T> List<@Nullable T> merge(Iterable<NodeResult<List<T>>> results) {
+
+		Assert.notNull(results, "Results must not be null");
+
+		Object[] values = new Object[keys.size()];
+
+		for (NodeResult<List<T>> result : results) {
+
+			List<Integer> group = getPositions(result.getKey());
+			List<T> groupValues = result.getValue() != null ? result.getValue() : Collections.emptyList();
+
+			Assert.isTrue(groupValues.size() == group.size(),
+					() -> "Expected %d values for slot group but got %d".formatted(group.size(), groupValues.size()));
+
+			for (int i = 0; i < group.size(); i++) {
+				values[group.get(i)] = groupValues.get(i);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		List<@Nullable T> merged = (List<@Nullable T>) Arrays.asList(values);
+		return merged;
+	}
+
+	private List<Integer> getPositions(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		List<Integer> group = positions.get(ClusterSlotHashUtil.calculateSlot(key));
+
+		Assert.notNull(group, "Key does not belong to any slot group");
+
+		return group;
+	}
+
+}
@@ -1375,6 +1375,28 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 				Converters.identityConverter());
 	}
 
+	@Override
+	public String functionLoad(byte[] libraryCode, boolean replace) {
+		return convertAndReturn(delegate.functionLoad(libraryCode, replace), Converters.identityConverter());
+	}
+
+	@Override
+	public void functionFlush() {
+		delegate.functionFlush();
+	}
+
+	@Override
+	public <T> T fCall(String function, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		return convertAndReturn(delegate.fCall(function, returnType, numKeys, keysAndArgs),
+				Converters.identityConverter());
+	}
+
+	@Override
+	public <T> T fCallReadOnly(String function, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		return convertAndReturn(delegate.fCallReadOnly(function, returnType, numKeys, keysAndArgs),
+				Converters.identityConverter());
+	}
+
 	//
 	// String methods
 	//
@@ -2041,6 +2041,34 @@ public interface DefaultedRedisConnection extends RedisCommands, RedisCommandsPr
 		return scriptingCommands().evalSha(scriptSha, returnType, numKeys, keysAndArgs);
 	}
 
+	/** @deprecated in favor of {@link RedisConnection#scriptingCommands()}. */
+	@Override
+	@Deprecated
+	default String functionLoad(byte[] libraryCode, boolean replace) {
+		return scriptingCommands().functionLoad(libraryCode, replace);
+	}
+
+	/** @deprecated in favor of {@link RedisConnection#scriptingCommands()}. */
+	@Override
+	@Deprecated
+	default void functionFlush() {
+		scriptingCommands().functionFlush();
+	}
+
+	/** @deprecated in favor of {@link RedisConnection#scriptingCommands()}. */
+	@Override
+	@Deprecated
+	default <T> T fCall(String function, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		return scriptingCommands().fCall(function, returnType, numKeys, keysAndArgs);
+	}
+
+	/** @deprecated in favor of {@link RedisConnection#scriptingCommands()}. */
+	@Override
+	@Deprecated
+	default <T> T fCallReadOnly(String function, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		return scriptingCommands().fCallReadOnly(function, returnType, numKeys, keysAndArgs);
+	}
+
 	/** @deprecated in favor of {@link RedisConnection#zSetCommands()}}. */
 	@Override
 	@Deprecated
@@ -2147,6 +2175,13 @@ public interface DefaultedRedisConnection extends RedisCommands, RedisCommandsPr
 		return jsonCommands().jsonMGet(path, keys);
 	}
 
+	/** @deprecated in favor of {@link RedisConnection#jsonCommands()}. */
+	@Override
+	@Deprecated
+	default List<Boolean> jsonMSet(@NonNull JsonPath path, @NonNull Map<byte @NonNull [], @NonNull JsonValue> values) {
+		return jsonCommands().jsonMSet(path, values);
+	}
+
 	/** @deprecated in favor of {@link RedisConnection#jsonCommands()}. */
 	@Override
 	@Deprecated
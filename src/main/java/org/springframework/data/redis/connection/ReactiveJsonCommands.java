@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonSetCondition;
+import org.springframework.data.redis.connection.json.JsonType;
+import org.springframework.data.redis.connection.json.JsonValue;
+
+/**
+ * Redis JSON commands executed using reactive infrastructure.
+ * <p>
+ * Commands that return one result per matching JSONPath emit one element per match. Reactive Streams do not permit
+ * {@literal null} elements, therefore matches with an incompatible JSON type (reported as {@literal null} by
+ * {@link RedisJsonCommands}) are not emitted.
+ *
+ * @since 4.2
+ * @see RedisJsonCommands
+ */
+public interface ReactiveJsonCommands {
+
+	/**
+	 * Append the {@link JsonValue JSON values} into the array at {@link JsonPath} after the last element in it.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @return the new length of each matched array.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.arrappend/">Redis Documentation: JSON.ARRAPPEND</a>
+	 */
+	Flux<Long> jsonArrAppend(ByteBuffer key, JsonPath path, JsonValue... values);
+
+	/**
+	 * Search for the first occurrence of a {@link JsonValue JSON value} in an array.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return the index of the first occurrence for each matched array, {@code -1} if not found.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.arrindex/">Redis Documentation: JSON.ARRINDEX</a>
+	 */
+	Flux<Long> jsonArrIndex(ByteBuffer key, JsonPath path, JsonValue value);
+
+	/**
+	 * Insert the {@link JsonValue JSON values} into the array at {@link JsonPath} before {@code index}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @param index to insert before.
+	 * @param values must not be {@literal null}.
+	 * @return the new length of each matched array.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.arrinsert/">Redis Documentation: JSON.ARRINSERT</a>
+	 */
+	Flux<Long> jsonArrInsert(ByteBuffer key, JsonPath path, int index, JsonValue... values);
+
+	/**
+	 * Get the length of the array at the given path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return the length of each matched array.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.arrlen/">Redis Documentation: JSON.ARRLEN</a>
+	 */
+	Flux<Long> jsonArrLen(ByteBuffer key, JsonPath path);
+
+	/**
+	 * Trim an array so that it contains only the specified inclusive range of elements.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @param start index to start trimming from ({@code inclusive}).
+	 * @param stop index to stop trimming at ({@code inclusive}).
+	 * @return the length of each matched array after the trim.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.arrtrim/">Redis Documentation: JSON.ARRTRIM</a>
+	 */
+	Flux<Long> jsonArrTrim(ByteBuffer key, JsonPath path, int start, int stop);
+
+	/**
+	 * Clear container values (arrays/objects) and set numeric values to {@code 0} at the given key and path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return the number of paths cleared.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.clear/">Redis Documentation: JSON.CLEAR</a>
+	 */
+	Mono<Long> jsonClear(ByteBuffer key, JsonPath path);
+
+	/**
+	 * Delete the {@link JsonValue JSON value} at the given key and path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return the number of paths deleted.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.del/">Redis Documentation: JSON.DEL</a>
+	 */
+	Mono<Long> jsonDel(ByteBuffer key, JsonPath path);
+
+	/**
+	 * Get the {@link JsonValue JSON value} at the root path of the given key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the JSON-serialized value. Completes empty if the key does not exist.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.get/">Redis Documentation: JSON.GET</a>
+	 * @see JsonPath#root()
+	 */
+	default Mono<ByteBuffer> jsonGet(ByteBuffer key) {
+		return jsonGet(key, JsonPath.root());
+	}
+
+	/**
+	 * Get the JSON values at the given key and paths.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param paths must not be {@literal null}.
+	 * @return the JSON-serialized value. When a single path is given, emits the value at that path. When multiple paths
+	 *         are given, emits a JSON object with each path as a key. Completes empty if the key does not exist.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.get/">Redis Documentation: JSON.GET</a>
+	 */
+	Mono<ByteBuffer> jsonGet(ByteBuffer key, JsonPath... paths);
+
+	/**
+	 * Merge the {@link JsonValue JSON value} at the given key and path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return {@literal true} if the key was merged, {@literal false} otherwise.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.merge/">Redis Documentation: JSON.MERGE</a>
+	 */
+	Mono<Boolean> jsonMerge(ByteBuffer key, JsonPath path, JsonValue value);
+
+	/**
+	 * Set the {@link JsonValue JSON value} at the root path of the given key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return {@literal true} if the key was set, {@literal false} otherwise.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.set/">Redis Documentation: JSON.SET</a>
+	 */
+	default Mono<Boolean> jsonSet(ByteBuffer key, JsonValue value) {
+		return jsonSet(key, JsonPath.root(), value, JsonSetCondition.upsert());
+	}
+
+	/**
+	 * Set the {@link JsonValue JSON value} at the given key and path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param condition must not be {@literal null}.
+	 * @return {@literal true} if the key was set, {@literal false} otherwise.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.set/">Redis Documentation: JSON.SET</a>
+	 */
+	Mono<Boolean> jsonSet(ByteBuffer key, JsonPath path, JsonValue value, JsonSetCondition condition);
+
+	/**
+	 * Append a string value to the JSON string at the given path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @param value the plain string value, must not be {@literal null}.
+	 * @return the new length of each matched string.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.strappend/">Redis Documentation: JSON.STRAPPEND</a>
+	 */
+	Flux<Long> jsonStrAppend(ByteBuffer key, JsonPath path, String value);
+
+	/**
+	 * Get the length of the JSON string value at the given path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return the length of each matched string.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.strlen/">Redis Documentation: JSON.STRLEN</a>
+	 */
+	Flux<Long> jsonStrLen(ByteBuffer key, JsonPath path);
+
+	/**
+	 * Toggle boolean values at the given key and path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return the new value of each matched boolean.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.toggle/">Redis Documentation: JSON.TOGGLE</a>
+	 */
+	Flux<Boolean> jsonToggle(ByteBuffer key, JsonPath path);
+
+	/**
+	 * Get the {@link JsonType JSON type} at the given key and path.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return the type of each matched value.
+	 * @see <a href="https://redis.io/docs/latest/commands/json.type/">Redis Documentation: JSON.TYPE</a>
+	 */
+	Flux<JsonType> jsonType(ByteBuffer key, JsonPath path);
+
+}
@@ -15,13 +15,16 @@
  */
 package org.springframework.data.redis.connection;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Range.Bound;
 import org.springframework.data.redis.core.ScanOptions;
@@ -63,6 +66,39 @@ public interface ReactiveRedisConnection extends Closeable {
 	 */
 	Mono<Void> closeLater();
 
+	/**
+	 * Configure the maximum number of commands of a command stream (such as {@code Publisher<SetCommand>}) that are sent
+	 * to Redis without awaiting the reply of previous commands. Responses are emitted in the order of the command
+	 * stream regardless of the configured concurrency. Defaults to {@literal 1}, sending each command after the previous
+	 * reply has been received. Commands using blocking operations are always sent one at a time.
+	 * <p>
+	 * Drivers that do not support concurrent command streams ignore this setting.
+	 *
+	 * @param commandConcurrency the number of in-flight commands, must be greater than zero.
+	 * @since 4.2
+	 */
+	default void setCommandConcurrency(int commandConcurrency) {}
+
+	/**
+	 * Subscribe to the Redis calls issued by the {@link Publisher} obtained from {@code commands} using pipelining.
+	 * Commands that are dispatched while subscribing to the publisher are buffered and written to Redis with a single
+	 * flush. Commands dispatched later on, for example because they depend on the result of a previous command, are sent
+	 * immediately. Compose commands eagerly (e.g. {@link Flux#mergeSequential(Publisher[])} or
+	 * {@link Mono#zip(Mono, Mono)}) to benefit from pipelining.
+	 * <p>
+	 * The default implementation subscribes to the publisher without pipelining.
+	 *
+	 * @param commands supplier of the publisher issuing Redis calls through this connection, must not be {@literal null}.
+	 * @return the elements emitted by the publisher.
+	 * @since 4.2
+	 */
+	default <T> Flux<T> pipeline(Supplier<? extends Publisher<T>> commands) {
+
+		Assert.notNull(commands, "Commands must not be null");
+
+		return Flux.defer(commands);
+	}
+
 	/**
 	 * Get {@link ReactiveKeyCommands}.
 	 *
@@ -156,6 +192,14 @@ public interface ReactiveRedisConnection extends Closeable {
 	 */
 	ReactiveStreamCommands streamCommands();
 
+	/**
+	 * Get {@link ReactiveJsonCommands}.
+	 *
+	 * @return never {@literal null}.
+	 * @since 4.2
+	 */
+	ReactiveJsonCommands jsonCommands();
+
 	/**
 	 * Test connection.
 	 *
@@ -103,4 +103,44 @@ public interface ReactiveScriptingCommands {
 	 * @see <a href="https://redis.io/commands/evalsha">Redis Documentation: EVALSHA</a>
 	 */
 	<T> Flux<T> evalSha(String scriptSha, ReturnType returnType, int numKeys, ByteBuffer... keysAndArgs);
+
+	/**
+	 * Load the given function library into the server-side function registry.
+	 *
+	 * @param libraryCode the library code including the {@code #!<engine> name=<library>} shebang, must not be
+	 *          {@literal null}.
+	 * @param replace whether to replace an existing library with the same name.
+	 * @return a {@link Mono} emitting the library name.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/function-load">Redis Documentation: FUNCTION LOAD</a>
+	 */
+	Mono<String> functionLoad(ByteBuffer libraryCode, boolean replace);
+
+	/**
+	 * Invoke the given library {@code function}.
+	 *
+	 * @param function must not be {@literal null}.
+	 * @param returnType must not be {@literal null}. Using {@link ReturnType#MULTI} emits a {@link List} as-is instead of
+	 *          emitting the individual elements from the array response.
+	 * @param numKeys
+	 * @param keysAndArgs must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/fcall">Redis Documentation: FCALL</a>
+	 */
+	<T> Flux<T> fCall(String function, ReturnType returnType, int numKeys, ByteBuffer... keysAndArgs);
+
+	/**
+	 * Invoke the given read-only library {@code function}.
+	 *
+	 * @param function must not be {@literal null}.
+	 * @param returnType must not be {@literal null}. Using {@link ReturnType#MULTI} emits a {@link List} as-is instead of
+	 *          emitting the individual elements from the array response.
+	 * @param numKeys
+	 * @param keysAndArgs must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/fcall_ro">Redis Documentation: FCALL_RO</a>
+	 */
+	<T> Flux<T> fCallReadOnly(String function, ReturnType returnType, int numKeys, ByteBuffer... keysAndArgs);
 }
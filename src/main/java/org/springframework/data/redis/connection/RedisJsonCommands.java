@@ -16,6 +16,7 @@
 package org.springframework.data.redis.connection;
 
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullUnmarked;
@@ -233,6 +234,33 @@ public interface RedisJsonCommands {
 	 */
 	List<byte[]> jsonMGet(@NonNull JsonPath path, byte @NonNull [] @NonNull... keys);
 
+	/**
+	 * Set the {@link JsonValue JSON values} at the root path of the given keys.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return list with the outcome for each key in iteration order of {@code values}.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/docs/latest/commands/json.mset/">Redis Documentation: JSON.MSET</a>
+	 * @see JsonPath#root()
+	 */
+	default List<Boolean> jsonMSet(@NonNull Map<byte @NonNull [], @NonNull JsonValue> values) {
+		return jsonMSet(JsonPath.root(), values);
+	}
+
+	/**
+	 * Set the {@link JsonValue JSON values} at the given path of the given keys. {@code JSON.MSET} is atomic for keys
+	 * served by the same slot. In a cluster, keys spanning multiple slots are grouped by slot and each group is written
+	 * by its own {@code JSON.MSET}. Keys of a group rejected by Redis are reported with {@literal false} because other
+	 * groups may have been written already; connection failures propagate as they do for keys served by a single slot.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @return list with the outcome for each key in iteration order of {@code values}.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/docs/latest/commands/json.mset/">Redis Documentation: JSON.MSET</a>
+	 */
+	List<Boolean> jsonMSet(@NonNull JsonPath path, @NonNull Map<byte @NonNull [], @NonNull JsonValue> values);
+
 	/**
 	 * Set the {@link JsonValue JSON value} at the root path of the given key.
 	 *
@@ -105,4 +105,53 @@ public interface RedisScriptingCommands {
 	 */
 	<T> T evalSha(byte @NonNull [] scriptSha, @NonNull ReturnType returnType, int numKeys,
 			byte @NonNull [] @NonNull... keysAndArgs);
+
+	/**
+	 * Load the given function library into the server-side function registry. Libraries are persisted and replicated
+	 * by the server. Invoke library functions by calling {@link #fCall(String, ReturnType, int, byte[]...)}.
+	 *
+	 * @param libraryCode the library code including the {@code #!<engine> name=<library>} shebang, must not be
+	 *          {@literal null}.
+	 * @param replace whether to replace an existing library with the same name.
+	 * @return the library name. {@literal null} when used in pipeline / transaction.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/function-load">Redis Documentation: FUNCTION LOAD</a>
+	 */
+	String functionLoad(byte @NonNull [] libraryCode, boolean replace);
+
+	/**
+	 * Delete all libraries from the server-side function registry.
+	 *
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/function-flush">Redis Documentation: FUNCTION FLUSH</a>
+	 */
+	void functionFlush();
+
+	/**
+	 * Invoke the given library {@code function}.
+	 *
+	 * @param function must not be {@literal null}.
+	 * @param returnType must not be {@literal null}.
+	 * @param numKeys
+	 * @param keysAndArgs must not be {@literal null}.
+	 * @return function result. {@literal null} when used in pipeline / transaction.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/fcall">Redis Documentation: FCALL</a>
+	 */
+	<T> T fCall(@NonNull String function, @NonNull ReturnType returnType, int numKeys,
+			byte @NonNull [] @NonNull... keysAndArgs);
+
+	/**
+	 * Invoke the given read-only library {@code function}. Read-only invocations can be routed to replicas.
+	 *
+	 * @param function must not be {@literal null}.
+	 * @param returnType must not be {@literal null}.
+	 * @param numKeys
+	 * @param keysAndArgs must not be {@literal null}.
+	 * @return function result. {@literal null} when used in pipeline / transaction.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/fcall_ro">Redis Documentation: FCALL_RO</a>
+	 */
+	<T> T fCallReadOnly(@NonNull String function, @NonNull ReturnType returnType, int numKeys,
+			byte @NonNull [] @NonNull... keysAndArgs);
 }
@@ -48,12 +48,14 @@ class DefaultJedisClientConfiguration implements JedisClientConfiguration {
 	private final Duration connectTimeout;
 	private final Duration readTimeout;
 	private final RedisProtocol protocol;
+	private final Optional<JedisReadFrom> readFrom;
 
 	DefaultJedisClientConfiguration(@Nullable JedisClientConfigBuilderCustomizer clientConfigCustomizer,
 			@Nullable JedisClientBuilderCustomizer clientCustomizer, boolean useSsl,
 			@Nullable SSLSocketFactory sslSocketFactory, @Nullable SSLParameters sslParameters,
 			@Nullable HostnameVerifier hostnameVerifier, boolean usePooling, @Nullable GenericObjectPoolConfig<?> poolConfig,
-			@Nullable String clientName, Duration connectTimeout, Duration readTimeout, RedisProtocol protocol) {
+			@Nullable String clientName, Duration connectTimeout, Duration readTimeout, RedisProtocol protocol,
+			@Nullable JedisReadFrom readFrom) {
 
 		this.clientConfigCustomizer = Optional.ofNullable(clientConfigCustomizer);
 		this.clientCustomizer = Optional.ofNullable(clientCustomizer);
@@ -67,6 +69,7 @@ class DefaultJedisClientConfiguration implements JedisClientConfiguration {
 		this.connectTimeout = connectTimeout;
 		this.readTimeout = readTimeout;
 		this.protocol = protocol;
+		this.readFrom = Optional.ofNullable(readFrom);
 	}
 
 	@Override
@@ -129,4 +132,9 @@ class DefaultJedisClientConfiguration implements JedisClientConfiguration {
 		return protocol;
 	}
 
+	@Override
+	public Optional<JedisReadFrom> getReadFrom() {
+		return readFrom;
+	}
+
 }
@@ -47,6 +47,7 @@ import org.springframework.util.Assert;
  * <li>Optional client name</li>
  * <li>Connect {@link Duration timeout}</li>
  * <li>Read {@link Duration timeout}</li>
+ * <li>Optional {@link JedisReadFrom} read routing policy</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -136,6 +137,15 @@ public interface JedisClientConfiguration {
 	 */
 	RedisProtocol getProtocol();
 
+	/**
+	 * @return the optional {@link JedisReadFrom} policy to route read-only commands. Applies only to Sentinel and Cluster
+	 *         setups using {@link redis.clients.jedis.UnifiedJedis}.
+	 * @since 4.2
+	 */
+	default Optional<JedisReadFrom> getReadFrom() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Creates a new {@link JedisClientConfigurationBuilder} to build {@link JedisClientConfiguration} to be used with the
 	 * jedis client.
@@ -261,6 +271,17 @@ public interface JedisClientConfiguration {
 		 */
 		JedisClientConfigurationBuilder protocol(RedisProtocol protocol);
 
+		/**
+		 * Configure the {@link JedisReadFrom} policy to route read-only commands such as {@code GET}, {@code HGETALL} or
+		 * {@code ZRANGE} to replica nodes. Applies only to Sentinel and Cluster setups.
+		 *
+		 * @param readFrom must not be {@literal null}.
+		 * @return {@literal this} builder.
+		 * @throws IllegalArgumentException if readFrom is {@literal null}.
+		 * @since 4.2
+		 */
+		JedisClientConfigurationBuilder readFrom(JedisReadFrom readFrom);
+
 		/**
 		 * Build the {@link JedisClientConfiguration} with the configuration applied from this builder.
 		 *
@@ -356,6 +377,7 @@ public interface JedisClientConfiguration {
 		private Duration connectTimeout = Duration.ofMillis(Protocol.DEFAULT_TIMEOUT);
 		private Duration readTimeout = Duration.ofMillis(Protocol.DEFAULT_TIMEOUT);
 		private RedisProtocol protocol = RedisProtocol.RESP2;
+		private @Nullable JedisReadFrom readFrom;
 
 		@Override
 		public JedisClientConfigurationBuilder customizeClientConfig(JedisClientConfigBuilderCustomizer customizer) {
@@ -465,11 +487,21 @@ public interface JedisClientConfiguration {
 			return this;
 		}
 
+		@Override
+		public JedisClientConfigurationBuilder readFrom(JedisReadFrom readFrom) {
+
+			Assert.notNull(readFrom, "JedisReadFrom must not be null");
+
+			this.readFrom = readFrom;
+			return this;
+		}
+
 		@Override
 		public JedisClientConfiguration build() {
 
 			return new DefaultJedisClientConfiguration(clientConfigCustomizer, clientCustomizer, useSsl, sslSocketFactory,
-					sslParameters, hostnameVerifier, usePooling, poolConfig, clientName, connectTimeout, readTimeout, protocol);
+					sslParameters, hostnameVerifier, usePooling, poolConfig, clientName, connectTimeout, readTimeout, protocol,
+					readFrom);
 		}
 	}
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.csc.Cache;
+import redis.clients.jedis.csc.CacheConfig;
+import redis.clients.jedis.csc.CacheFactory;
+import redis.clients.jedis.csc.Cacheable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.data.redis.connection.ClientSideCacheStatistics;
+import org.springframework.data.redis.connection.ClientSideCachingConfiguration;
+
+/**
+ * Adapter exposing the driver-managed Jedis client-side {@link Cache} through {@link ClientSideCacheStatistics}. Jedis
+ * tracks keys in default mode only, therefore configured prefixes restrict caching on the client side. Only
+ * {@code GET} and {@code HGET} responses are cached.
+ *
+ * @since 4.2
+ */
+class JedisClientSideCache implements ClientSideCacheStatistics {
+
+	private final Cache cache;
+
+	private JedisClientSideCache(Cache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a new {@link JedisClientSideCache} for the given {@link ClientSideCachingConfiguration}.
+	 *
+	 * @param configuration the caching configuration.
+	 * @return a new {@link JedisClientSideCache}.
+	 */
+	static JedisClientSideCache create(ClientSideCachingConfiguration configuration) {
+
+		CacheConfig cacheConfig = CacheConfig.builder().maxSize(configuration.getMaxEntries())
+				.cacheable(new PrefixCacheable(configuration)).build();
+
+		return new JedisClientSideCache(CacheFactory.getCache(cacheConfig));
+	}
+
+	/**
+	 * @return the native Jedis {@link Cache}.
+	 */
+	Cache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Discard all cached entries.
+	 */
+	void flush() {
+		cache.flush();
+	}
+
+	@Override
+	public long getHits() {
+		return cache.getStats().getHitCount();
+	}
+
+	@Override
+	public long getMisses() {
+		return cache.getStats().getMissCount();
+	}
+
+	@Override
+	public long getInvalidations() {
+		return cache.getStats().getInvalidationCount();
+	}
+
+	@Override
+	public long getEntryCount() {
+		return cache.getSize();
+	}
+
+	@Override
+	public long getEstimatedSize() {
+		return -1;
+	}
+
+	/**
+	 * {@link Cacheable} accepting {@code GET} and {@code HGET} for keys matching the configured prefixes.
+	 */
+	record PrefixCacheable(ClientSideCachingConfiguration configuration) implements Cacheable {
+
+		@Override
+		public boolean isCacheable(ProtocolCommand command, List<Object> keys) {
+
+			if (command != Protocol.Command.GET && command != Protocol.Command.HGET) {
+				return false;
+			}
+
+			for (Object key : keys) {
+
+				byte[] binaryKey = key instanceof byte[] bytes ? bytes : key.toString().getBytes(StandardCharsets.UTF_8);
+
+				if (!configuration.isCacheable(binaryKey)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+}
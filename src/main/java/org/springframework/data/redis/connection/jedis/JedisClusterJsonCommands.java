@@ -15,17 +15,29 @@
  */
 package org.springframework.data.redis.connection.jedis;
 
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
+import org.springframework.data.redis.connection.ClusterSlotGroups;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.RedisJsonCommands;
+import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisMultiKeyClusterCommandCallback;
 import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonValue;
 import org.springframework.util.Assert;
 
 /**
- * {@link RedisJsonCommands} implementation for Jedis Cluster.
+ * {@link RedisJsonCommands} implementation for Jedis Cluster. Multi-key commands spanning multiple slots are split into
+ * one command per slot. Slot groups are dispatched in parallel to their serving nodes.
  *
  * @author Yordan Tsintsov
  * @author Mark Paluch
@@ -33,6 +45,8 @@ import org.springframework.util.Assert;
  */
 class JedisClusterJsonCommands extends JedisJsonCommands {
 
+	private static final Log log = LogFactory.getLog(JedisClusterJsonCommands.class);
+
 	private final JedisClusterConnection connection;
 
 	JedisClusterJsonCommands(JedisClusterConnection connection) {
@@ -41,23 +55,81 @@ class JedisClusterJsonCommands extends JedisJsonCommands {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public List<byte[]> jsonMGet(JsonPath path, byte[]... keys) {
 
-		Assert.notNull(keys, "Keys must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(keys, "Keys must not be empty");
 		Assert.noNullElements(keys, "Keys must not contain null elements");
 
 		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
 			return super.jsonMGet(path, keys);
 		}
 
-		List<List<byte[]>> results = connection.getClusterCommandExecutor().executeMultiKeyCommand((client, key) -> {
-			return super.jsonMGet(path, key);
-		}, Arrays.asList(keys)).resultsAsListSortBy(keys).stream().toList();
+		ClusterSlotGroups slots = ClusterSlotGroups.of(keys);
+		byte[] rawPath = JedisConverters.toBytes(path.asString());
+
+		return slots.merge(connection.getClusterCommandExecutor()
+				.executeMultiKeyCommand((JedisMultiKeyClusterCommandCallback<List<byte[]>>) (client, key) -> {
+
+					List<byte[]> group = slots.getKeys(key);
+					byte[][] args = new byte[group.size() + 1][];
+
+					for (int i = 0; i < group.size(); i++) {
+						args[i] = group.get(i);
+					}
+					args[group.size()] = rawPath;
+
+					return (List<byte[]>) client.sendCommand(JedisClientUtils.getCommand("JSON.MGET"), args);
+				}, slots.getFirstKeys()).getResults());
+	}
+
+	/**
+	 * Keys served by the same slot are written by a single {@code JSON.MSET} and fail the same way as on a standalone
+	 * connection. Otherwise, keys are written by one {@code JSON.MSET} per slot: keys of a slot whose command is rejected
+	 * by Redis are logged and reported with {@literal false} as other slots may have been written already. Any other
+	 * failure propagates.
+	 */
+	@Override
+	public List<Boolean> jsonMSet(JsonPath path, Map<byte[], JsonValue> values) {
 
-		List<byte[]> result = new ArrayList<>();
-		for (List<byte[]> list : results) {
-			result.addAll(list);
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(values, "Values must not be empty");
+
+		List<byte[]> keys = new ArrayList<>(values.keySet());
+
+		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys.toArray(byte[][]::new))) {
+			return super.jsonMSet(path, values);
 		}
-		return result;
+
+		ClusterSlotGroups slots = ClusterSlotGroups.of(keys);
+
+		return slots.merge(connection.getClusterCommandExecutor()
+				.executeMultiKeyCommand((JedisMultiKeyClusterCommandCallback<List<Boolean>>) (client, key) -> {
+
+					List<byte[]> group = slots.getKeys(key);
+					Map<byte[], JsonValue> groupValues = new LinkedHashMap<>(group.size());
+
+					for (byte[] groupKey : group) {
+						groupValues.put(groupKey, values.get(groupKey));
+					}
+
+					boolean written;
+					try {
+						written = isOk(
+								client.sendCommand(JedisClientUtils.getCommand("JSON.MSET"), toJsonMSetArgs(path, groupValues)));
+					} catch (JedisRedirectionException ex) {
+						throw ex;
+					} catch (JedisDataException ex) {
+
+						if (log.isWarnEnabled()) {
+							log.warn("JSON.MSET failed for %d key(s) in slot %d".formatted(group.size(),
+									ClusterSlotHashUtil.calculateSlot(key)), ex);
+						}
+						written = false;
+					}
+
+					return Collections.nCopies(group.size(), written);
+				}, slots.getFirstKeys()).getResults());
 	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.data.redis.connection.RedisClusterNode;
+
+/**
+ * {@link JedisReadRouter} for Redis Cluster. Determines the nodes serving the slot of a key from the
+ * {@link ClusterTopologyProvider cluster topology} and runs the command on a replica connection obtained through
+ * {@link ClusterNodeResourceProvider}. Pooled replica connections are switched to {@code READONLY} mode once on first
+ * use. Connections are tracked weakly so that connections discarded by the pool are not retained, and are forgotten
+ * once they fail. Commands without a key are always routed to the master.
+ *
+ * @since 4.2
+ */
+class JedisClusterReadRouter extends JedisReadRouter {
+
+	private static final Log log = LogFactory.getLog(JedisClusterReadRouter.class);
+
+	private final UnifiedJedis cluster;
+	private final ClusterTopologyProvider topologyProvider;
+	private final ClusterNodeResourceProvider resourceProvider;
+
+	// identity-based as Connection does not override equals, weak to not outlive the pool
+	private final Set<Connection> readOnlyConnections = Collections
+			.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+	JedisClusterReadRouter(JedisReadFrom readFrom, UnifiedJedis cluster, ClusterTopologyProvider topologyProvider,
+			ClusterNodeResourceProvider resourceProvider) {
+
+		super(readFrom);
+
+		this.cluster = cluster;
+		this.topologyProvider = topologyProvider;
+		this.resourceProvider = resourceProvider;
+	}
+
+	@Override
+	@Nullable
+	Object execute(byte @Nullable [] key, Function<UnifiedJedis, @Nullable Object> command) {
+
+		if (key == null) {
+			return command.apply(cluster);
+		}
+
+		int slot = ClusterSlotHashUtil.calculateSlot(key);
+		String masterId = "slot-" + slot;
+		List<RedisClusterNode> replicas = new ArrayList<>(2);
+
+		for (RedisClusterNode node : topologyProvider.getTopology().getSlotServingNodes(slot)) {
+
+			if (node.isMaster() && node.getId() != null) {
+				masterId = node.getId();
+			} else if (node.isReplica() && node.isConnected() && !node.isMarkedAsFail()) {
+				replicas.add(node);
+			}
+		}
+
+		RedisClusterNode replica = select(masterId, replicas, JedisClusterReadRouter::getNodeId);
+
+		if (replica == null) {
+			return measure(masterId, () -> command.apply(cluster));
+		}
+
+		try {
+			return measure(getNodeId(replica), () -> executeOnReplica(replica, command));
+		} catch (JedisConnectionException ex) {
+
+			if (log.isDebugEnabled()) {
+				log.debug("Read from replica %s failed; retrying on master".formatted(replica.asString()), ex);
+			}
+
+			return measure(masterId, () -> command.apply(cluster));
+		}
+	}
+
+	private @Nullable Object executeOnReplica(RedisClusterNode replica,
+			Function<UnifiedJedis, @Nullable Object> command) {
+
+		Jedis jedis = resourceProvider.getResourceForSpecificNode(replica);
+		Connection connection = jedis.getConnection();
+
+		try {
+
+			if (!readOnlyConnections.contains(connection)) {
+				jedis.readonly();
+				readOnlyConnections.add(connection);
+			}
+
+			return command.apply(new UnifiedJedis(connection));
+		} catch (JedisConnectionException ex) {
+
+			readOnlyConnections.remove(connection);
+			throw ex;
+		} finally {
+
+			if (connection.isBroken()) {
+				readOnlyConnections.remove(connection);
+			}
+
+			resourceProvider.returnResourceForSpecificNode(replica, jedis);
+		}
+	}
+
+	private static String getNodeId(RedisClusterNode node) {
+		return node.getId() != null ? node.getId() : node.asString();
+	}
+}
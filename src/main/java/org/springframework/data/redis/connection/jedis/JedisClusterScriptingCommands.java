@@ -86,11 +86,39 @@ class JedisClusterScriptingCommands extends JedisScriptingCommands {
 		}
 	}
 
+	@Override
+	public String functionLoad(byte @NonNull [] libraryCode, boolean replace) {
+
+		Assert.notNull(libraryCode, "Library code must not be null");
+
+		try {
+			ClusterCommandExecutor.MultiNodeResult<String> multiNodeResult = connection.getClusterCommandExecutor()
+					.executeCommandOnAllNodes((JedisClusterConnection.JedisClusterCommandCallback<String>) client -> replace
+							? client.functionLoadReplace(libraryCode)
+							: client.functionLoad(libraryCode));
+
+			return multiNodeResult.getFirstNonNullNotEmptyOrDefault("");
+		} catch (Exception ex) {
+			throw connection.convertJedisAccessException(ex);
+		}
+	}
+
+	@Override
+	public void functionFlush() {
+
+		try {
+			connection.getClusterCommandExecutor()
+					.executeCommandOnAllNodes((JedisClusterConnection.JedisClusterCommandCallback<String>) Jedis::functionFlush);
+		} catch (Exception ex) {
+			throw connection.convertJedisAccessException(ex);
+		}
+	}
+
 	@Override
 	public List<Boolean> scriptExists(@NonNull String @NonNull... scriptShas) {
 		throw new InvalidDataAccessApiUsageException("ScriptExists is not supported in cluster environment");
 	}
 
-	// eval() and evalSha() are inherited from JedisScriptingCommands
+	// eval(), evalSha(), fCall() and fCallReadOnly() are inherited from JedisScriptingCommands
 	// UnifiedJedis handles cluster routing automatically for these commands
 }
@@ -92,6 +92,8 @@ public class JedisConnection extends AbstractRedisConnection {
 
 	private volatile @Nullable JedisSubscription subscription;
 
+	private @Nullable JedisReadRouter readRouter;
+
 	private final JedisGeoCommands geoCommands = new JedisGeoCommands(this);
 	private final JedisHashCommands hashCommands = new JedisHashCommands(this);
 	private final JedisHyperLogLogCommands hllCommands = new JedisHyperLogLogCommands(this);
@@ -526,6 +528,65 @@ public class JedisConnection extends AbstractRedisConnection {
 		return this.invoker;
 	}
 
+	/**
+	 * Obtain a {@link JedisInvoker} to call read-only Jedis methods operating on {@code key}. Commands are routed
+	 * according to the configured {@link JedisReadFrom} policy unless the connection is pipelining, queueing or watching
+	 * keys.
+	 *
+	 * @param key the key the command operates on, can be {@literal null}.
+	 * @return the {@link JedisInvoker}.
+	 * @since 4.2
+	 */
+	@NonNull
+	JedisInvoker invokeRead(byte @Nullable [] key) {
+
+		JedisReadRouter router = this.readRouter;
+
+		if (router == null) {
+			return invoke();
+		}
+
+		return new JedisInvoker((directFunction, pipelineFunction, converter, nullDefault) -> {
+
+			if (isQueueing() || isPipelined() || isWatchOnly()) {
+				return doInvoke(false, directFunction, pipelineFunction, converter, nullDefault);
+			}
+
+			try {
+				Object result = router.execute(key, directFunction);
+				return result != null ? converter.convert(result) : nullDefault.get();
+			} catch (Exception ex) {
+				throw convertJedisAccessException(ex);
+			}
+		});
+	}
+
+	/**
+	 * Returns the {@link UnifiedJedis} instance to run a sequence of read-only commands that must be served by the same
+	 * node such as a {@code SCAN} iteration.
+	 *
+	 * @return the {@link UnifiedJedis} instance.
+	 * @since 4.2
+	 */
+	@NonNull
+	UnifiedJedis getReadJedis() {
+
+		JedisReadRouter router = this.readRouter;
+		UnifiedJedis client = router != null ? router.selectClient() : null;
+
+		return client != null ? client : getJedis();
+	}
+
+	/**
+	 * Configure the {@link JedisReadRouter} to route read-only commands.
+	 *
+	 * @param readRouter the router, can be {@literal null} to run all commands on the master.
+	 * @since 4.2
+	 */
+	void setReadRouter(@Nullable JedisReadRouter readRouter) {
+		this.readRouter = readRouter;
+	}
+
 	/**
 	 * Obtain a {@link JedisInvoker} to call Jedis methods returning a status response on the current {@link Jedis}
 	 * instance. Status responses are not included in transactional and pipeline results.
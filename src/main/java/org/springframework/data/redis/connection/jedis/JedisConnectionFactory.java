@@ -22,10 +22,12 @@ import redis.clients.jedis.builders.StandaloneClientBuilder;
 import redis.clients.jedis.util.Pool;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -110,6 +112,8 @@ public class JedisConnectionFactory
 	private static final boolean REDIS_CLIENT_PRESENT = ClassUtils.isPresent("redis.clients.jedis.RedisClient",
 			JedisConnectionFactory.class.getClassLoader());
 
+	private static final Duration REPLICA_REFRESH_PERIOD = Duration.ofSeconds(30);
+
 	private boolean useUnifiedJedis;
 
 	private int phase = 0; // in between min and max values
@@ -137,6 +141,12 @@ public class JedisConnectionFactory
 
 	private @Nullable UnifiedJedis redisClient;
 
+	private @Nullable ClientSideCachingConfiguration clientSideCaching;
+
+	private @Nullable JedisClientSideCache clientSideCache;
+
+	private @Nullable JedisReadRouter readRouter;
+
 	private @Nullable RedisConfiguration configuration;
 
 	private RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration("localhost",
@@ -702,6 +712,33 @@ public class JedisConnectionFactory
 		this.convertPipelineAndTxResults = convertPipelineAndTxResults;
 	}
 
+	/**
+	 * Configures client-side caching for {@code GET} and {@code HGET} reads. Caching is managed by the Jedis driver and
+	 * requires {@link #isUseUnifiedJedis() RedisClient usage} and {@link RedisProtocol#RESP3 RESP3}. Jedis tracks keys in
+	 * default tracking mode only; configured prefixes restrict caching to matching keys on the client side.
+	 *
+	 * @param clientSideCaching the client-side caching configuration, must not be {@literal null}.
+	 * @since 4.2
+	 * @see #getClientSideCacheStatistics()
+	 */
+	public void setClientSideCaching(ClientSideCachingConfiguration clientSideCaching) {
+
+		Assert.notNull(clientSideCaching, "ClientSideCachingConfiguration must not be null");
+
+		this.clientSideCaching = clientSideCaching;
+	}
+
+	/**
+	 * Returns the {@link ClientSideCacheStatistics} if {@link #setClientSideCaching(ClientSideCachingConfiguration)
+	 * client-side caching} is enabled and this connection factory is started.
+	 *
+	 * @return the {@link ClientSideCacheStatistics} or {@literal null} if client-side caching is not active.
+	 * @since 4.2
+	 */
+	public @Nullable ClientSideCacheStatistics getClientSideCacheStatistics() {
+		return this.clientSideCache;
+	}
+
 	/**
 	 * @return true when {@link RedisSentinelConfiguration} is present.
 	 * @since 1.4
@@ -774,6 +811,10 @@ public class JedisConnectionFactory
 
 		if (isCreatedOrStopped(current)) {
 
+			if (this.clientSideCaching != null) {
+				this.clientSideCache = createClientSideCache(this.clientSideCaching);
+			}
+
 			if (isUseUnifiedJedis()) {
 				this.redisClient = createRedisClient();
 			} else {
@@ -801,10 +842,69 @@ public class JedisConnectionFactory
 						EXCEPTION_TRANSLATION, executor);
 			}
 
+			this.readRouter = createReadRouter();
+
 			this.state.set(State.STARTED);
 		}
 	}
 
+	private JedisClientSideCache createClientSideCache(ClientSideCachingConfiguration configuration) {
+
+		Assert.state(isUseUnifiedJedis(), "Client-side caching requires RedisClient usage (setUseUnifiedJedis(true))");
+		Assert.state(RedisProtocol.RESP3.equals(getRedisProtocol()), "Client-side caching requires RESP3");
+
+		return JedisClientSideCache.create(configuration);
+	}
+
+	@SuppressWarnings("NullAway")
+	private @Nullable JedisReadRouter createReadRouter() {
+
+		JedisReadFrom readFrom = getClientConfiguration().getReadFrom().orElse(JedisReadFrom.MASTER);
+
+		if (readFrom == JedisReadFrom.MASTER) {
+			return null;
+		}
+
+		Assert.state(isUseUnifiedJedis(), "Read from replicas requires RedisClient usage (setUseUnifiedJedis(true))");
+
+		if (isRedisClusterAware()) {
+			return new JedisClusterReadRouter(readFrom, getRequiredRedisClient(), this.topologyProvider,
+					new JedisClusterConnection.JedisClusterNodeResourceProvider(getRequiredRedisClient(), this.topologyProvider));
+		}
+
+		if (isRedisSentinelAware()) {
+			return new JedisSentinelReadRouter(readFrom, getRequiredRedisClient(), this::discoverReplicas,
+					node -> createRedisClient(new RedisStandaloneConfiguration(node.getRequiredHost(), node.getRequiredPort())),
+					REPLICA_REFRESH_PERIOD);
+		}
+
+		throw new IllegalStateException("Read from replicas requires a Sentinel or Cluster configuration");
+	}
+
+	@SuppressWarnings("NullAway")
+	private Collection<RedisNode> discoverReplicas() {
+
+		String masterName = getSentinelConfiguration().getRequiredMaster().getName();
+
+		try (Jedis sentinel = getActiveSentinel()) {
+
+			List<RedisNode> replicas = new ArrayList<>();
+
+			for (RedisServer server : JedisConverters.toListOfRedisServer(sentinel.sentinelReplicas(masterName))) {
+
+				String flags = server.getFlags();
+
+				if (flags != null && (flags.contains("s_down") || flags.contains("o_down") || flags.contains("disconnected"))) {
+					continue;
+				}
+
+				replicas.add(server);
+			}
+
+			return replicas;
+		}
+	}
+
 	@SuppressWarnings("NullAway")
 	private UnifiedJedis createRedisClient() {
 		if (isRedisClusterAware()) {
@@ -837,6 +937,16 @@ public class JedisConnectionFactory
 			redisClient = null;
 			topologyProvider = null;
 
+			if (readRouter != null) {
+				readRouter.close();
+				readRouter = null;
+			}
+
+			if (clientSideCache != null) {
+				clientSideCache.flush();
+				clientSideCache = null;
+			}
+
 			this.state.set(State.STOPPED);
 		}
 	}
@@ -957,6 +1067,10 @@ public class JedisConnectionFactory
 				.clientConfig(this.clientConfig).maxAttempts(redirects)
 				.poolConfig(JedisClientUtils.getPoolConfig(getPoolConfig()));
 
+		if (this.clientSideCache != null) {
+			builder.cache(this.clientSideCache.getCache());
+		}
+
 		getClientConfiguration().getClientCustomizer().ifPresent(customizer -> customizer.customize(builder));
 		return builder.build();
 	}
@@ -1043,6 +1157,7 @@ public class JedisConnectionFactory
 	private JedisConnection doGetUnifiedJedisConnection() {
 		JedisConnection connection = new JedisConnection(getRequiredRedisClient());
 		connection.setConvertPipelineAndTxResults(convertPipelineAndTxResults);
+		connection.setReadRouter(this.readRouter);
 		return connection;
 	}
 
@@ -1119,6 +1234,10 @@ public class JedisConnectionFactory
 				.clientConfig(this.clientConfig)
 				.poolConfig(JedisClientUtils.getPoolConfig(getPoolConfig()));
 
+		if (this.clientSideCache != null) {
+			builder.cache(this.clientSideCache.getCache());
+		}
+
 		getClientConfiguration().getClientCustomizer().ifPresent(customizer -> customizer.customize(builder));
 		return builder.build();
 	}
@@ -1142,6 +1261,10 @@ public class JedisConnectionFactory
 				.sentinelClientConfig(sentinelConfig)
 				.poolConfig(JedisClientUtils.getPoolConfig(getPoolConfig()));
 
+		if (this.clientSideCache != null) {
+			builder.cache(this.clientSideCache.getCache());
+		}
+
 		getClientConfiguration().getClientCustomizer().ifPresent(customizer -> customizer.customize(builder));
 		return builder.build();
 	}
@@ -1166,6 +1289,8 @@ public class JedisConnectionFactory
 					this.topologyProvider);
 		}
 
+		clusterConnection.setReadRouter(this.readRouter);
+
 		return postProcessConnection(clusterConnection);
 	}
 
@@ -107,7 +107,7 @@ class JedisHashCommands implements RedisHashCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(field, "Fields must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hexists, PipelineBinaryCommands::hexists, key, field);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hexists, PipelineBinaryCommands::hexists, key, field);
 	}
 
 	@Override
@@ -116,7 +116,7 @@ class JedisHashCommands implements RedisHashCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(field, "Field must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hget, PipelineBinaryCommands::hget, key, field);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hget, PipelineBinaryCommands::hget, key, field);
 	}
 
 	@Override
@@ -124,7 +124,7 @@ class JedisHashCommands implements RedisHashCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hgetAll, PipelineBinaryCommands::hgetAll, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hgetAll, PipelineBinaryCommands::hgetAll, key);
 	}
 
 	@Override
@@ -198,7 +198,7 @@ class JedisHashCommands implements RedisHashCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hkeys, PipelineBinaryCommands::hkeys, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hkeys, PipelineBinaryCommands::hkeys, key);
 	}
 
 	@Override
@@ -206,7 +206,7 @@ class JedisHashCommands implements RedisHashCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hlen, PipelineBinaryCommands::hlen, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hlen, PipelineBinaryCommands::hlen, key);
 	}
 
 	@Override
@@ -215,7 +215,7 @@ class JedisHashCommands implements RedisHashCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(fields, "Fields must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hmget, PipelineBinaryCommands::hmget, key, fields);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hmget, PipelineBinaryCommands::hmget, key, fields);
 	}
 
 	@Override
@@ -232,7 +232,7 @@ class JedisHashCommands implements RedisHashCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hvals, PipelineBinaryCommands::hvals, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hvals, PipelineBinaryCommands::hvals, key);
 	}
 
 	@Override
@@ -382,7 +382,7 @@ class JedisHashCommands implements RedisHashCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(field, "Field must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::hstrlen, PipelineBinaryCommands::hstrlen, key, field);
+		return connection.invokeRead(key).just(JedisBinaryCommands::hstrlen, PipelineBinaryCommands::hstrlen, key, field);
 	}
 
 }
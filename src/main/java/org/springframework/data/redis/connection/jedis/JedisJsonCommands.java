@@ -20,7 +20,9 @@ import redis.clients.jedis.json.Path2;
 import redis.clients.jedis.json.commands.RedisJsonPipelineCommands;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.NonNull;
@@ -166,6 +168,17 @@ class JedisJsonCommands implements RedisJsonCommands {
 				.get(jsonArrList -> jsonArrList.stream().map(arr -> arr != null ? arr.toString().getBytes(StandardCharsets.UTF_8) : null).toList());
 	}
 
+	@Override
+	public List<Boolean> jsonMSet(@NonNull JsonPath path, @NonNull Map<byte @NonNull [], @NonNull JsonValue> values) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(values, "Values must not be empty");
+
+		Object result = connection.execute("JSON.MSET", toJsonMSetArgs(path, values));
+
+		return result == null ? null : Collections.nCopies(values.size(), isOk(result));
+	}
+
 	@Override
 	public Boolean jsonSet(byte @NonNull [] key, @NonNull JsonPath path, @NonNull JsonValue value, @NonNull JsonSetCondition condition) {
 
@@ -226,4 +239,26 @@ class JedisJsonCommands implements RedisJsonCommands {
 		return Path2.of(path.asString());
 	}
 
+	static byte[][] toJsonMSetArgs(JsonPath path, Map<byte[], JsonValue> values) {
+
+		byte[] rawPath = JedisConverters.toBytes(path.asString());
+		byte[][] args = new byte[values.size() * 3][];
+
+		int i = 0;
+		for (Map.Entry<byte[], JsonValue> entry : values.entrySet()) {
+
+			Assert.notNull(entry.getKey(), "Key must not be null");
+			Assert.notNull(entry.getValue(), "Value must not be null");
+
+			args[i++] = entry.getKey();
+			args[i++] = rawPath;
+			args[i++] = entry.getValue().asBytes();
+		}
+
+		return args;
+	}
+
+	static boolean isOk(Object result) {
+		return "OK".equals(result instanceof byte[] bytes ? JedisConverters.toString(bytes) : result.toString());
+	}
 }
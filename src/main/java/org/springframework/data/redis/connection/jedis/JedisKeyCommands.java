@@ -16,6 +16,7 @@
 package org.springframework.data.redis.connection.jedis;
 
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.args.ExpiryOption;
 import redis.clients.jedis.commands.JedisBinaryCommands;
 import redis.clients.jedis.commands.KeyBinaryCommands;
@@ -149,7 +150,7 @@ class JedisKeyCommands implements RedisKeyCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().from(KeyBinaryCommands::type, KeyPipelineBinaryCommands::type, key)
+		return connection.invokeRead(key).from(KeyBinaryCommands::type, KeyPipelineBinaryCommands::type, key)
 				.get(JedisConverters.stringToDataType());
 	}
 
@@ -184,6 +185,9 @@ class JedisKeyCommands implements RedisKeyCommands {
 
 		return new ScanCursor<byte[]>(cursorId, options) {
 
+			// cursors are bound to the node that issued them
+			private @Nullable UnifiedJedis client;
+
 			@Override
 			protected ScanIteration<byte[]> doScan(CursorId cursorId, ScanOptions options) {
 
@@ -192,6 +196,12 @@ class JedisKeyCommands implements RedisKeyCommands {
 							"'SCAN' cannot be called in pipeline / transaction mode or while watching keys");
 				}
 
+				UnifiedJedis client = this.client;
+
+				if (client == null) {
+					client = this.client = connection.getReadJedis();
+				}
+
 				ScanParams params = JedisConverters.toScanParams(options);
 
 				ScanResult<byte[]> result;
@@ -206,9 +216,9 @@ class JedisKeyCommands implements RedisKeyCommands {
 				}
 
 				if (type != null) {
-					result = connection.getJedis().scan(JedisConverters.toBytes(cursorId), params, type);
+					result = client.scan(JedisConverters.toBytes(cursorId), params, type);
 				} else {
-					result = connection.getJedis().scan(JedisConverters.toBytes(cursorId), params);
+					result = client.scan(JedisConverters.toBytes(cursorId), params);
 				}
 
 				return new ScanIteration<>(CursorId.of(result.getCursor()), result.getResult());
@@ -336,7 +346,7 @@ class JedisKeyCommands implements RedisKeyCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(KeyBinaryCommands::ttl, KeyPipelineBinaryCommands::ttl, key);
+		return connection.invokeRead(key).just(KeyBinaryCommands::ttl, KeyPipelineBinaryCommands::ttl, key);
 	}
 
 	@Override
@@ -344,7 +354,7 @@ class JedisKeyCommands implements RedisKeyCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().from(KeyBinaryCommands::ttl, KeyPipelineBinaryCommands::ttl, key)
+		return connection.invokeRead(key).from(KeyBinaryCommands::ttl, KeyPipelineBinaryCommands::ttl, key)
 				.get(Converters.secondsToTimeUnit(timeUnit));
 	}
 
@@ -353,7 +363,7 @@ class JedisKeyCommands implements RedisKeyCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(KeyBinaryCommands::pttl, KeyPipelineBinaryCommands::pttl, key);
+		return connection.invokeRead(key).just(KeyBinaryCommands::pttl, KeyPipelineBinaryCommands::pttl, key);
 	}
 
 	@Override
@@ -361,7 +371,7 @@ class JedisKeyCommands implements RedisKeyCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().from(KeyBinaryCommands::pttl, KeyPipelineBinaryCommands::pttl, key)
+		return connection.invokeRead(key).from(KeyBinaryCommands::pttl, KeyPipelineBinaryCommands::pttl, key)
 				.get(Converters.millisecondsToTimeUnit(timeUnit));
 	}
 
@@ -116,7 +116,7 @@ class JedisListCommands implements RedisListCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(ListBinaryCommands::llen, ListPipelineBinaryCommands::llen, key);
+		return connection.invokeRead(key).just(ListBinaryCommands::llen, ListPipelineBinaryCommands::llen, key);
 	}
 
 	@Override
@@ -124,7 +124,7 @@ class JedisListCommands implements RedisListCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(ListBinaryCommands::lrange, ListPipelineBinaryCommands::lrange, key, start, end);
+		return connection.invokeRead(key).just(ListBinaryCommands::lrange, ListPipelineBinaryCommands::lrange, key, start, end);
 	}
 
 	@Override
@@ -140,7 +140,7 @@ class JedisListCommands implements RedisListCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(ListBinaryCommands::lindex, ListPipelineBinaryCommands::lindex, key, index);
+		return connection.invokeRead(key).just(ListBinaryCommands::lindex, ListPipelineBinaryCommands::lindex, key, index);
 	}
 
 	@Override
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+/**
+ * Policy to route read-only commands such as {@code GET}, {@code HGETALL}, {@code ZRANGE} or {@code SCAN} issued
+ * through {@link JedisConnectionFactory} in Sentinel and Cluster setups. Commands issued within a pipeline, a
+ * transaction or while watching keys are always routed to the master.
+ * <p>
+ * Replicas are updated asynchronously and may return stale data. Reads that fail with a connection error on a replica
+ * are retried on the master and the replica is excluded from routing for a short period.
+ *
+ * @since 4.2
+ * @see JedisClientConfiguration#getReadFrom()
+ */
+public enum JedisReadFrom {
+
+	/**
+	 * Read from the master only. This is the default behavior.
+	 */
+	MASTER,
+
+	/**
+	 * Read from replicas in round-robin order and fall back to the master if no replica is available.
+	 */
+	REPLICA_PREFERRED,
+
+	/**
+	 * Read from the node with the lowest observed command latency, considering both the master and its replicas.
+	 * Latency is measured as moving average of routed read commands.
+	 */
+	NEAREST
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class for routing read-only commands according to a {@link JedisReadFrom} policy. Keeps track of the observed
+ * latency per node and temporarily excludes nodes that failed with a connection error.
+ *
+ * @since 4.2
+ */
+abstract class JedisReadRouter {
+
+	private static final long SUSPENSION_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+	// route every n-th read round-robin to refresh latency samples of nodes not selected by NEAREST
+	private static final int PROBE_INTERVAL = 64;
+
+	private final JedisReadFrom readFrom;
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	private final Map<String, NodeStatistics> statistics = new ConcurrentHashMap<>();
+
+	JedisReadRouter(JedisReadFrom readFrom) {
+		this.readFrom = readFrom;
+	}
+
+	/**
+	 * Execute a read-only {@code command} on the node selected for the given {@code key}.
+	 *
+	 * @param key the key the command operates on, can be {@literal null} if the command does not operate on a key.
+	 * @param command the command to run.
+	 * @return the command result.
+	 */
+	abstract @Nullable Object execute(byte @Nullable [] key, Function<UnifiedJedis, @Nullable Object> command);
+
+	/**
+	 * Select a client for a sequence of read-only commands that must run on the same node, such as a {@code SCAN}
+	 * iteration.
+	 *
+	 * @return the client or {@literal null} to use the default client.
+	 */
+	@Nullable
+	UnifiedJedis selectClient() {
+		return null;
+	}
+
+	/**
+	 * Release resources held by this router.
+	 */
+	void close() {}
+
+	JedisReadFrom getReadFrom() {
+		return readFrom;
+	}
+
+	/**
+	 * Select a replica according to the {@link JedisReadFrom} policy.
+	 *
+	 * @param masterId identifier of the master node.
+	 * @param replicas candidate replicas.
+	 * @param idFunction function to obtain the identifier of a replica.
+	 * @return the selected replica or {@literal null} if the command should run on the master.
+	 */
+	<N> @Nullable N select(String masterId, List<N> replicas, Function<N, String> idFunction) {
+
+		if (readFrom == JedisReadFrom.MASTER || replicas.isEmpty()) {
+			return null;
+		}
+
+		long now = System.nanoTime();
+		int sequence = counter.getAndIncrement();
+
+		if (readFrom == JedisReadFrom.REPLICA_PREFERRED || sequence % PROBE_INTERVAL == 0) {
+
+			for (int i = 0; i < replicas.size(); i++) {
+
+				N replica = replicas.get(Math.floorMod(sequence + i, replicas.size()));
+
+				if (getStatistics(idFunction.apply(replica)).isAvailable(now)) {
+					return replica;
+				}
+			}
+
+			return null;
+		}
+
+		N nearest = null;
+		long lowestLatency = getStatistics(masterId).getLatency();
+
+		for (N replica : replicas) {
+
+			NodeStatistics candidate = getStatistics(idFunction.apply(replica));
+
+			if (candidate.isAvailable(now) && candidate.getLatency() < lowestLatency) {
+				nearest = replica;
+				lowestLatency = candidate.getLatency();
+			}
+		}
+
+		return nearest;
+	}
+
+	/**
+	 * Run {@code action} on the node identified by {@code nodeId} recording its latency. Connection failures suspend the
+	 * node from routing.
+	 *
+	 * @param nodeId the node identifier.
+	 * @param action the action to run.
+	 * @return the action result.
+	 */
+	<T> T measure(String nodeId, Supplier<T> action) {
+
+		NodeStatistics nodeStatistics = getStatistics(nodeId);
+		long start = System.nanoTime();
+
+		try {
+			T result = action.get();
+			nodeStatistics.record(System.nanoTime() - start);
+			return result;
+		} catch (JedisConnectionException ex) {
+			nodeStatistics.suspend(System.nanoTime());
+			throw ex;
+		}
+	}
+
+	NodeStatistics getStatistics(String nodeId) {
+		return statistics.computeIfAbsent(nodeId, it -> new NodeStatistics());
+	}
+
+	/**
+	 * Latency and availability of a single node.
+	 */
+	static class NodeStatistics {
+
+		private volatile long latency;
+		private volatile boolean suspended;
+		private volatile long suspendedUntil;
+
+		/**
+		 * @return exponentially weighted moving average of the observed latency in nanoseconds, {@literal 0} if no
+		 *         sample has been recorded yet.
+		 */
+		long getLatency() {
+			return latency;
+		}
+
+		void record(long nanos) {
+
+			long current = this.latency;
+			this.latency = current == 0 ? nanos : current - (current >> 3) + (nanos >> 3);
+		}
+
+		void suspend(long now) {
+			this.suspendedUntil = now + SUSPENSION_NANOS;
+			this.suspended = true;
+		}
+
+		boolean isAvailable(long now) {
+			return !suspended || now - suspendedUntil >= 0;
+		}
+	}
+}
@@ -16,9 +16,12 @@
 package org.springframework.data.redis.connection.jedis;
 
 import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.commands.FunctionBinaryCommands;
+import redis.clients.jedis.commands.FunctionPipelineBinaryCommands;
 import redis.clients.jedis.commands.JedisBinaryCommands;
 import redis.clients.jedis.commands.ScriptingKeyPipelineBinaryCommands;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.jspecify.annotations.NonNull;
@@ -116,4 +119,64 @@ class JedisScriptingCommands implements RedisScriptingCommands {
 				.getOrElse(converter, () -> converter.convert(null));
 	}
 
+	@Override
+	public String functionLoad(byte @NonNull [] libraryCode, boolean replace) {
+
+		Assert.notNull(libraryCode, "Library code must not be null");
+
+		if (replace) {
+			return connection.invoke().just(FunctionBinaryCommands::functionLoadReplace,
+					FunctionPipelineBinaryCommands::functionLoadReplace, libraryCode);
+		}
+
+		return connection.invoke().just(FunctionBinaryCommands::functionLoad, FunctionPipelineBinaryCommands::functionLoad,
+				libraryCode);
+	}
+
+	@Override
+	public void functionFlush() {
+		connection.invoke().just(FunctionBinaryCommands::functionFlush, FunctionPipelineBinaryCommands::functionFlush);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T fCall(@NonNull String function, @NonNull ReturnType returnType, int numKeys,
+			byte @NonNull [] @NonNull... keysAndArgs) {
+
+		Assert.notNull(function, "Function must not be null");
+
+		byte[] name = JedisConverters.toBytes(function);
+		List<byte[]> keys = extractScriptKeys(numKeys, keysAndArgs);
+		List<byte[]> args = extractScriptArgs(numKeys, keysAndArgs);
+
+		JedisScriptReturnConverter converter = new JedisScriptReturnConverter(returnType);
+		return (T) connection.invoke()
+				.from(FunctionBinaryCommands::fcall, FunctionPipelineBinaryCommands::fcall, name, keys, args)
+				.getOrElse(converter, () -> converter.convert(null));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T fCallReadOnly(@NonNull String function, @NonNull ReturnType returnType, int numKeys,
+			byte @NonNull [] @NonNull... keysAndArgs) {
+
+		Assert.notNull(function, "Function must not be null");
+
+		byte[] name = JedisConverters.toBytes(function);
+		List<byte[]> keys = extractScriptKeys(numKeys, keysAndArgs);
+		List<byte[]> args = extractScriptArgs(numKeys, keysAndArgs);
+
+		JedisScriptReturnConverter converter = new JedisScriptReturnConverter(returnType);
+		return (T) connection.invoke()
+				.from(FunctionBinaryCommands::fcallReadonly, FunctionPipelineBinaryCommands::fcallReadonly, name, keys, args)
+				.getOrElse(converter, () -> converter.convert(null));
+	}
+
+	private static List<byte[]> extractScriptKeys(int numKeys, byte[]... keysAndArgs) {
+		return numKeys > 0 ? Arrays.asList(keysAndArgs).subList(0, numKeys) : List.of();
+	}
+
+	private static List<byte[]> extractScriptArgs(int numKeys, byte[]... keysAndArgs) {
+		return keysAndArgs.length > numKeys ? Arrays.asList(keysAndArgs).subList(numKeys, keysAndArgs.length) : List.of();
+	}
 }
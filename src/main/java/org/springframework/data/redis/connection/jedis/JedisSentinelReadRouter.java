@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.connection.RedisNode;
+
+/**
+ * {@link JedisReadRouter} for Redis Sentinel setups. Replicas are discovered through Sentinel and refreshed
+ * periodically; each replica is accessed through its own pooled client.
+ *
+ * @since 4.2
+ */
+class JedisSentinelReadRouter extends JedisReadRouter {
+
+	private static final Log log = LogFactory.getLog(JedisSentinelReadRouter.class);
+
+	private static final String MASTER_ID = "master";
+
+	private final UnifiedJedis master;
+	private final Supplier<Collection<RedisNode>> replicaDiscovery;
+	private final Function<RedisNode, UnifiedJedis> clientFactory;
+	private final long refreshPeriodNanos;
+
+	private final Lock lock = new ReentrantLock();
+
+	private volatile Map<String, UnifiedJedis> replicas = Map.of();
+	private volatile List<String> replicaIds = List.of();
+	private volatile boolean refreshed;
+	private volatile long nextRefresh;
+
+	/**
+	 * Creates a new {@link JedisSentinelReadRouter}.
+	 *
+	 * @param readFrom the read routing policy.
+	 * @param master the client connected to the current master.
+	 * @param replicaDiscovery supplier of the currently healthy replicas.
+	 * @param clientFactory factory to create a client for a replica.
+	 * @param refreshPeriod period after which replicas are re-discovered.
+	 */
+	JedisSentinelReadRouter(JedisReadFrom readFrom, UnifiedJedis master,
+			Supplier<Collection<RedisNode>> replicaDiscovery, Function<RedisNode, UnifiedJedis> clientFactory,
+			Duration refreshPeriod) {
+
+		super(readFrom);
+
+		this.master = master;
+		this.replicaDiscovery = replicaDiscovery;
+		this.clientFactory = clientFactory;
+		this.refreshPeriodNanos = refreshPeriod.toNanos();
+	}
+
+	@Override
+	@Nullable
+	Object execute(byte @Nullable [] key, Function<UnifiedJedis, @Nullable Object> command) {
+
+		refreshIfNecessary();
+
+		String replicaId = select(MASTER_ID, replicaIds, Function.identity());
+		UnifiedJedis replica = replicaId != null ? replicas.get(replicaId) : null;
+
+		if (replicaId == null || replica == null) {
+			return measure(MASTER_ID, () -> command.apply(master));
+		}
+
+		try {
+			return measure(replicaId, () -> command.apply(replica));
+		} catch (JedisConnectionException ex) {
+
+			if (log.isDebugEnabled()) {
+				log.debug("Read from replica %s failed; retrying on master".formatted(replicaId), ex);
+			}
+
+			return measure(MASTER_ID, () -> command.apply(master));
+		}
+	}
+
+	@Override
+	UnifiedJedis selectClient() {
+
+		refreshIfNecessary();
+
+		String replicaId = select(MASTER_ID, replicaIds, Function.identity());
+		UnifiedJedis replica = replicaId != null ? replicas.get(replicaId) : null;
+
+		return replica != null ? replica : master;
+	}
+
+	private void refreshIfNecessary() {
+
+		long now = System.nanoTime();
+
+		if ((refreshed && now - nextRefresh < 0) || !lock.tryLock()) {
+			return;
+		}
+
+		try {
+
+			if (refreshed && now - nextRefresh < 0) {
+				return;
+			}
+
+			nextRefresh = now + refreshPeriodNanos;
+			refreshed = true;
+
+			refresh(replicaDiscovery.get());
+		} catch (RuntimeException ex) {
+			log.warn("Cannot discover replicas; continuing with previously known replicas", ex);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void refresh(Collection<RedisNode> discovered) {
+
+		Map<String, UnifiedJedis> current = this.replicas;
+		Map<String, UnifiedJedis> updated = new LinkedHashMap<>(discovered.size());
+
+		for (RedisNode node : discovered) {
+
+			String id = node.asString();
+			UnifiedJedis client = current.get(id);
+
+			updated.put(id, client != null ? client : clientFactory.apply(node));
+		}
+
+		this.replicas = updated;
+		this.replicaIds = List.copyOf(updated.keySet());
+
+		for (Map.Entry<String, UnifiedJedis> entry : current.entrySet()) {
+			if (!updated.containsKey(entry.getKey())) {
+				dispose(entry.getValue());
+			}
+		}
+	}
+
+	@Override
+	void close() {
+
+		lock.lock();
+		try {
+
+			List<UnifiedJedis> clients = new ArrayList<>(replicas.values());
+
+			this.replicas = Map.of();
+			this.replicaIds = List.of();
+
+			clients.forEach(JedisSentinelReadRouter::dispose);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static void dispose(UnifiedJedis client) {
+
+		try {
+			client.close();
+		} catch (Exception ex) {
+			log.warn("Cannot properly close replica client", ex);
+		}
+	}
+}
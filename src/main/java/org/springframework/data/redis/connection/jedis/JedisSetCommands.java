@@ -76,7 +76,7 @@ class JedisSetCommands implements RedisSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::scard, PipelineBinaryCommands::scard, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::scard, PipelineBinaryCommands::scard, key);
 	}
 
 	@Override
@@ -132,7 +132,7 @@ class JedisSetCommands implements RedisSetCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(value, "Value must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::sismember, PipelineBinaryCommands::sismember, key, value);
+		return connection.invokeRead(key).just(JedisBinaryCommands::sismember, PipelineBinaryCommands::sismember, key, value);
 	}
 
 	@Override
@@ -142,7 +142,7 @@ class JedisSetCommands implements RedisSetCommands {
 		Assert.notNull(values, "Values must not be null");
 		Assert.noNullElements(values, "Values must not contain null elements");
 
-		return connection.invoke().just(JedisBinaryCommands::smismember, PipelineBinaryCommands::smismember, key, values);
+		return connection.invokeRead(key).just(JedisBinaryCommands::smismember, PipelineBinaryCommands::smismember, key, values);
 	}
 
 	@Override
@@ -150,7 +150,7 @@ class JedisSetCommands implements RedisSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::smembers, PipelineBinaryCommands::smembers, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::smembers, PipelineBinaryCommands::smembers, key);
 	}
 
 	@Override
@@ -185,7 +185,7 @@ class JedisSetCommands implements RedisSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::srandmember, PipelineBinaryCommands::srandmember, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::srandmember, PipelineBinaryCommands::srandmember, key);
 	}
 
 	@Override
@@ -197,7 +197,7 @@ class JedisSetCommands implements RedisSetCommands {
 			throw new IllegalArgumentException("Count must be less than Integer.MAX_VALUE for sRandMember in Jedis");
 		}
 
-		return connection.invoke().just(JedisBinaryCommands::srandmember, PipelineBinaryCommands::srandmember, key, (int) count);
+		return connection.invokeRead(key).just(JedisBinaryCommands::srandmember, PipelineBinaryCommands::srandmember, key, (int) count);
 	}
 
 	@Override
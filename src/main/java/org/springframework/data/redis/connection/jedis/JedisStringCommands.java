@@ -67,7 +67,7 @@ class JedisStringCommands implements RedisStringCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::get, PipelineBinaryCommands::get, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::get, PipelineBinaryCommands::get, key);
 	}
 
 	@Override
@@ -250,7 +250,7 @@ class JedisStringCommands implements RedisStringCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::getrange, PipelineBinaryCommands::getrange, key, start, end);
+		return connection.invokeRead(key).just(JedisBinaryCommands::getrange, PipelineBinaryCommands::getrange, key, start, end);
 	}
 
 	@Override
@@ -267,7 +267,7 @@ class JedisStringCommands implements RedisStringCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::getbit, PipelineBinaryCommands::getbit, key, offset);
+		return connection.invokeRead(key).just(JedisBinaryCommands::getbit, PipelineBinaryCommands::getbit, key, offset);
 	}
 
 	@Override
@@ -283,7 +283,7 @@ class JedisStringCommands implements RedisStringCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::bitcount, PipelineBinaryCommands::bitcount, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::bitcount, PipelineBinaryCommands::bitcount, key);
 	}
 
 	@Override
@@ -291,7 +291,7 @@ class JedisStringCommands implements RedisStringCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::bitcount, PipelineBinaryCommands::bitcount, key, start, end);
+		return connection.invokeRead(key).just(JedisBinaryCommands::bitcount, PipelineBinaryCommands::bitcount, key, start, end);
 	}
 
 	@Override
@@ -342,7 +342,7 @@ class JedisStringCommands implements RedisStringCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::strlen, PipelineBinaryCommands::strlen, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::strlen, PipelineBinaryCommands::strlen, key);
 	}
 
 }
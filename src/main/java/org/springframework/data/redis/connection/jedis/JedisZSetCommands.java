@@ -164,7 +164,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(value, "Value must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::zrank, PipelineBinaryCommands::zrank, key, value);
+		return connection.invokeRead(key).just(JedisBinaryCommands::zrank, PipelineBinaryCommands::zrank, key, value);
 	}
 
 	@Override
@@ -172,7 +172,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::zrevrank, PipelineBinaryCommands::zrevrank, key, value);
+		return connection.invokeRead(key).just(JedisBinaryCommands::zrevrank, PipelineBinaryCommands::zrevrank, key, value);
 	}
 
 	@Override
@@ -180,7 +180,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().fromMany(JedisBinaryCommands::zrange, PipelineBinaryCommands::zrange, key, start, end).toSet();
+		return connection.invokeRead(key).fromMany(JedisBinaryCommands::zrange, PipelineBinaryCommands::zrange, key, start, end).toSet();
 	}
 
 	@Override
@@ -188,7 +188,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke()
+		return connection.invokeRead(key)
 				.fromMany(JedisBinaryCommands::zrangeWithScores, PipelineBinaryCommands::zrangeWithScores, key, start, end)
 				.toSet(JedisConverters::toTuple);
 	}
@@ -223,7 +223,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().fromMany(JedisBinaryCommands::zrevrange, PipelineBinaryCommands::zrevrange, key, start, end).toSet();
+		return connection.invokeRead(key).fromMany(JedisBinaryCommands::zrevrange, PipelineBinaryCommands::zrevrange, key, start, end).toSet();
 	}
 
 	@Override
@@ -231,7 +231,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke()
+		return connection.invokeRead(key)
 				.fromMany(JedisBinaryCommands::zrevrangeWithScores, PipelineBinaryCommands::zrevrangeWithScores, key, start, end)
 				.toSet(JedisConverters::toTuple);
 	}
@@ -289,7 +289,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::zcount, PipelineBinaryCommands::zcount, key, min, max);
+		return connection.invokeRead(key).just(JedisBinaryCommands::zcount, PipelineBinaryCommands::zcount, key, min, max);
 	}
 
 	@Override
@@ -303,7 +303,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 		byte[] max = JedisConverters.boundaryToBytesForZRange(range.getUpperBound(),
 				JedisConverters.POSITIVE_INFINITY_BYTES);
 
-		return connection.invoke().just(JedisBinaryCommands::zcount, PipelineBinaryCommands::zcount, key, min, max);
+		return connection.invokeRead(key).just(JedisBinaryCommands::zcount, PipelineBinaryCommands::zcount, key, min, max);
 	}
 
 	@Override
@@ -379,7 +379,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::zcard, PipelineBinaryCommands::zcard, key);
+		return connection.invokeRead(key).just(JedisBinaryCommands::zcard, PipelineBinaryCommands::zcard, key);
 	}
 
 	@Override
@@ -388,7 +388,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(value, "Value must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::zscore, PipelineBinaryCommands::zscore, key, value);
+		return connection.invokeRead(key).just(JedisBinaryCommands::zscore, PipelineBinaryCommands::zscore, key, value);
 	}
 
 	@Override
@@ -397,7 +397,7 @@ class JedisZSetCommands implements RedisZSetCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(values, "Value must not be null");
 
-		return connection.invoke().just(JedisBinaryCommands::zmscore, PipelineBinaryCommands::zmscore, key, values);
+		return connection.invokeRead(key).just(JedisBinaryCommands::zmscore, PipelineBinaryCommands::zmscore, key, values);
 	}
 
 	@Override
@@ -39,12 +39,19 @@ class DefaultLettucePoolingClientConfiguration implements LettucePoolingClientCo
 
 	private final LettuceClientConfiguration clientConfiguration;
 	private final GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig;
+	private final boolean lightweightPool;
 
 	DefaultLettucePoolingClientConfiguration(LettuceClientConfiguration clientConfiguration,
 			GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig) {
+		this(clientConfiguration, poolConfig, false);
+	}
+
+	DefaultLettucePoolingClientConfiguration(LettuceClientConfiguration clientConfiguration,
+			GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig, boolean lightweightPool) {
 
 		this.clientConfiguration = clientConfiguration;
 		this.poolConfig = poolConfig;
+		this.lightweightPool = lightweightPool;
 	}
 
 	@Override
@@ -112,4 +119,9 @@ class DefaultLettucePoolingClientConfiguration implements LettucePoolingClientCo
 	public GenericObjectPoolConfig<StatefulConnection<?, ?>> getPoolConfig() {
 		return poolConfig;
 	}
+
+	@Override
+	public boolean isUseLightweightPool() {
+		return lightweightPool;
+	}
 }
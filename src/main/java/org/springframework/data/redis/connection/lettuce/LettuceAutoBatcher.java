@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Coalesces commands issued through the shared native connection into batched writes. The attached connection runs
+ * with {@link StatefulConnection#setAutoFlushCommands(boolean) auto-flush} disabled. The first command of a batch
+ * schedules a flush after the configured window, reaching the maximum batch size flushes immediately.
+ * <p>
+ * Commands written to the attached connection without notifying the batcher remain buffered until the next flush.
+ * {@link #sync(StatefulRedisConnection)} and {@link #async(StatefulRedisConnection)} therefore provide command views
+ * that take part in batching.
+ *
+ * @since 4.2
+ * @see LettuceAutoBatchingConfiguration
+ */
+class LettuceAutoBatcher implements LettuceAutoBatchingStatistics {
+
+	private static final Log log = LogFactory.getLog(LettuceAutoBatcher.class);
+
+	private static final Map<Method, Method> ASYNC_METHODS = new ConcurrentHashMap<>();
+
+	private final long windowNanos;
+
+	private final int maxBatchSize;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final LongAdder commands = new LongAdder();
+	private final LongAdder flushes = new LongAdder();
+	private final LongAdder sizeTriggeredFlushes = new LongAdder();
+
+	private volatile @Nullable StatefulConnection<?, ?> connection;
+
+	LettuceAutoBatcher(LettuceAutoBatchingConfiguration configuration, ScheduledExecutorService scheduler) {
+
+		this.windowNanos = configuration.getWindow().toNanos();
+		this.maxBatchSize = configuration.getMaxBatchSize();
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Attach to the given shared {@link StatefulConnection}. Switching to a different connection flushes and detaches the
+	 * previous one.
+	 *
+	 * @param connection the shared connection.
+	 */
+	void attach(StatefulConnection<?, ?> connection) {
+
+		if (this.connection == connection) {
+			return;
+		}
+
+		lock.lock();
+		try {
+
+			if (this.connection == connection) {
+				return;
+			}
+
+			detach();
+
+			connection.setAutoFlushCommands(false);
+			this.connection = connection;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Flush pending commands and restore auto-flushing on the attached connection.
+	 */
+	void close() {
+
+		lock.lock();
+		try {
+			detach();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void detach() {
+
+		StatefulConnection<?, ?> current = this.connection;
+		this.connection = null;
+
+		if (current == null) {
+			return;
+		}
+
+		try {
+
+			flush(current, false);
+			current.setAutoFlushCommands(true);
+
+			// commands issued without notification might still be buffered
+			current.flushCommands();
+		} catch (RuntimeException ex) {
+			log.debug("Cannot flush detached connection", ex);
+		}
+	}
+
+	/**
+	 * @param connection the connection to check.
+	 * @return {@literal true} if {@code connection} is the attached connection.
+	 */
+	boolean isAttached(@Nullable StatefulConnection<?, ?> connection) {
+		return connection != null && this.connection == connection;
+	}
+
+	/**
+	 * Callback after a command has been written to the buffer of the attached connection.
+	 *
+	 * @param connection the connection the command was written to.
+	 */
+	void onCommand(StatefulConnection<?, ?> connection) {
+
+		int count = pending.incrementAndGet();
+
+		if (count >= maxBatchSize) {
+			flush(connection, true);
+		} else if (count == 1) {
+			scheduleFlush(connection);
+		}
+	}
+
+	private void scheduleFlush(StatefulConnection<?, ?> connection) {
+
+		try {
+			scheduler.schedule(() -> flush(connection, false), windowNanos, TimeUnit.NANOSECONDS);
+		} catch (RuntimeException ex) {
+
+			log.debug("Cannot schedule batch flush; flushing immediately", ex);
+			flush(connection, false);
+		}
+	}
+
+	private void flush(StatefulConnection<?, ?> connection, boolean sizeTriggered) {
+
+		int count = pending.getAndSet(0);
+
+		if (count == 0) {
+			return;
+		}
+
+		connection.flushCommands();
+
+		commands.add(count);
+		flushes.increment();
+
+		if (sizeTriggered) {
+			sizeTriggeredFlushes.increment();
+		}
+	}
+
+	/**
+	 * Create a synchronous command view of the given connection. Commands are dispatched asynchronously, take part in the
+	 * current batch and are awaited using the connection timeout.
+	 *
+	 * @param connection the attached connection.
+	 * @return the synchronous command view.
+	 */
+	@SuppressWarnings("unchecked")
+	<K, V> RedisCommands<K, V> sync(StatefulRedisConnection<K, V> connection) {
+		return (RedisCommands<K, V>) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { RedisCommands.class }, new BatchingInvocationHandler(connection, true));
+	}
+
+	/**
+	 * Create an asynchronous command view of the given connection. Commands take part in the current batch instead of
+	 * waiting for an unrelated flush.
+	 *
+	 * @param connection the attached connection.
+	 * @return the asynchronous command view.
+	 */
+	@SuppressWarnings("unchecked")
+	<K, V> RedisAsyncCommands<K, V> async(StatefulRedisConnection<K, V> connection) {
+		return (RedisAsyncCommands<K, V>) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { RedisAsyncCommands.class }, new BatchingInvocationHandler(connection, false));
+	}
+
+	private static Method getAsyncMethod(Method method) {
+
+		if (method.getDeclaringClass().isAssignableFrom(RedisAsyncCommands.class)) {
+			return method;
+		}
+
+		return ASYNC_METHODS.computeIfAbsent(method, it -> {
+			try {
+				return RedisAsyncCommands.class.getMethod(it.getName(), it.getParameterTypes());
+			} catch (NoSuchMethodException ex) {
+				throw new UnsupportedOperationException("No asynchronous counterpart for %s".formatted(it), ex);
+			}
+		});
+	}
+
+	@Override
+	public long getCommands() {
+		return commands.sum();
+	}
+
+	@Override
+	public long getFlushes() {
+		return flushes.sum();
+	}
+
+	@Override
+	public long getSizeTriggeredFlushes() {
+		return sizeTriggeredFlushes.sum();
+	}
+
+	/**
+	 * {@link InvocationHandler} dispatching command methods to the asynchronous API of the attached connection.
+	 */
+	private class BatchingInvocationHandler implements InvocationHandler {
+
+		private final StatefulRedisConnection<?, ?> connection;
+
+		private final boolean await;
+
+		BatchingInvocationHandler(StatefulRedisConnection<?, ?> connection, boolean await) {
+			this.connection = connection;
+			this.await = await;
+		}
+
+		@Override
+		public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			if (method.getDeclaringClass() == Object.class) {
+				return switch (method.getName()) {
+					case "equals" -> args != null && proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					default -> "Auto-batched view of " + connection;
+				};
+			}
+
+			Object result;
+			try {
+				result = getAsyncMethod(method).invoke(connection.async(), args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getTargetException();
+			}
+
+			if (!(result instanceof RedisFuture<?> future)) {
+				return result;
+			}
+
+			if (isAttached(connection)) {
+				onCommand(connection);
+			}
+
+			return await ? LettuceFutures.awaitOrCancel(future, connection.getTimeout().toNanos(), TimeUnit.NANOSECONDS)
+					: future;
+		}
+	}
+}
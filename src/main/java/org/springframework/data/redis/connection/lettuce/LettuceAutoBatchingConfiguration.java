@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Immutable configuration for automatic command batching on the shared native connection. Commands issued concurrently
+ * through the shared connection are buffered and written with a single flush once either the configured
+ * {@link #getWindow() window} has elapsed since the first buffered command or the buffer reaches
+ * {@link #getMaxBatchSize() max batch size} commands.
+ * <p>
+ * Batching trades latency of individual commands (up to the window duration) for fewer system calls and higher
+ * throughput under concurrent load.
+ *
+ * @since 4.2
+ * @see LettuceConnectionFactory#setAutoBatching(LettuceAutoBatchingConfiguration)
+ */
+public final class LettuceAutoBatchingConfiguration {
+
+	private static final Duration DEFAULT_WINDOW = Duration.ofNanos(50_000);
+
+	private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+	private final Duration window;
+	private final int maxBatchSize;
+
+	private LettuceAutoBatchingConfiguration(Duration window, int maxBatchSize) {
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Create a new {@link LettuceAutoBatchingConfiguration} flushing after {@literal 50} microseconds or
+	 * {@literal 64} commands, whichever comes first.
+	 *
+	 * @return a new {@link LettuceAutoBatchingConfiguration}.
+	 */
+	public static LettuceAutoBatchingConfiguration defaults() {
+		return new LettuceAutoBatchingConfiguration(DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+	}
+
+	/**
+	 * Create a new {@link LettuceAutoBatchingConfiguration} with the given batching window.
+	 *
+	 * @param window the maximum time a command is buffered before flushing, must be positive.
+	 * @return a new {@link LettuceAutoBatchingConfiguration}.
+	 */
+	public LettuceAutoBatchingConfiguration window(Duration window) {
+
+		Assert.notNull(window, "Window must not be null");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "Window must be positive");
+
+		return new LettuceAutoBatchingConfiguration(window, maxBatchSize);
+	}
+
+	/**
+	 * Create a new {@link LettuceAutoBatchingConfiguration} with the given maximum number of commands per batch.
+	 *
+	 * @param maxBatchSize the number of buffered commands that triggers a flush, must be greater than zero.
+	 * @return a new {@link LettuceAutoBatchingConfiguration}.
+	 */
+	public LettuceAutoBatchingConfiguration maxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+
+		return new LettuceAutoBatchingConfiguration(window, maxBatchSize);
+	}
+
+	/**
+	 * @return the maximum time a command is buffered before flushing.
+	 */
+	public Duration getWindow() {
+		return window;
+	}
+
+	/**
+	 * @return the number of buffered commands that triggers a flush.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof LettuceAutoBatchingConfiguration that)) {
+			return false;
+		}
+
+		return maxBatchSize == that.maxBatchSize && ObjectUtils.nullSafeEquals(window, that.window);
+	}
+
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHash(window, maxBatchSize);
+	}
+
+	@Override
+	public String toString() {
+		return "LettuceAutoBatchingConfiguration[window=%s, maxBatchSize=%d]".formatted(window, maxBatchSize);
+	}
+}
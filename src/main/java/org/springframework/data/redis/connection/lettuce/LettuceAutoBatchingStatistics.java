@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+/**
+ * Statistics of automatic command batching on the shared native connection. Statistics are captured locally and
+ * reflect the state at the time of the call.
+ *
+ * @since 4.2
+ * @see LettuceAutoBatchingConfiguration
+ * @see LettuceConnectionFactory#getAutoBatchingStatistics()
+ */
+public interface LettuceAutoBatchingStatistics {
+
+	/**
+	 * @return the number of commands written through batching.
+	 */
+	long getCommands();
+
+	/**
+	 * @return the number of flushes.
+	 */
+	long getFlushes();
+
+	/**
+	 * @return the number of flushes triggered by reaching the maximum batch size.
+	 */
+	long getSizeTriggeredFlushes();
+
+	/**
+	 * @return the average number of commands per flush, {@literal 0} if no flush has been recorded.
+	 */
+	default double getAverageBatchSize() {
+
+		long flushes = getFlushes();
+
+		return flushes == 0 ? 0 : (double) getCommands() / flushes;
+	}
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.connection.ClientSideCacheStatistics;
+import org.springframework.data.redis.connection.ClientSideCachingConfiguration;
+import org.springframework.data.redis.connection.ClientSideCachingConfiguration.TrackingMode;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+
+/**
+ * Client-side cache for raw {@code GET} and {@code HGET} responses read through the shared native connection. The
+ * cache enables {@code CLIENT TRACKING} on the tracked connection and evicts entries upon receiving {@code invalidate}
+ * push messages.
+ * <p>
+ * A read that misses the cache reserves its slot before the command is sent. The response is only stored if the
+ * reservation was not invalidated in the meantime so that an invalidation racing with the response cannot leave a
+ * stale value behind. Disconnects clear the cache and suspend caching until tracking has been re-established.
+ *
+ * @since 4.2
+ */
+class LettuceClientSideCache implements ClientSideCacheStatistics, PushListener, RedisConnectionStateListener {
+
+	private static final Log log = LogFactory.getLog(LettuceClientSideCache.class);
+
+	private static final Object VALUE_SLOT = new Object();
+
+	private static final Object NULL_VALUE = new Object();
+
+	private final ClientSideCachingConfiguration configuration;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final LinkedHashMap<ByteArrayWrapper, Map<Object, Object>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	private int entryCount;
+	private long estimatedSize;
+
+	private volatile @Nullable StatefulRedisConnection<byte[], byte[]> connection;
+	private volatile boolean tracking;
+
+	LettuceClientSideCache(ClientSideCachingConfiguration configuration) {
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Enable tracking on the given {@link StatefulRedisConnection}. Switching to a different connection clears the cache.
+	 *
+	 * @param connection the shared connection.
+	 */
+	void track(StatefulRedisConnection<byte[], byte[]> connection) {
+
+		if (this.connection == connection) {
+			return;
+		}
+
+		lock.lock();
+		try {
+
+			if (this.connection == connection) {
+				return;
+			}
+
+			untrack();
+
+			connection.addListener(this);
+			connection.sync().clientTracking(getTrackingArgs());
+
+			this.connection = connection;
+			this.tracking = true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Detach from the tracked connection and clear the cache.
+	 */
+	void close() {
+
+		lock.lock();
+		try {
+			untrack();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void untrack() {
+
+		StatefulRedisConnection<byte[], byte[]> current = this.connection;
+
+		this.tracking = false;
+		this.connection = null;
+
+		if (current != null) {
+			current.removeListener(this);
+		}
+
+		invalidateAll();
+	}
+
+	/**
+	 * Read a value from the cache or load it using {@code loader} if the value is not cached.
+	 *
+	 * @param key the Redis key.
+	 * @param field the hash field, {@literal null} to read a string value.
+	 * @param loader loader issuing the actual command through the tracked connection.
+	 * @return the value, can be {@literal null}.
+	 */
+	byte @Nullable [] get(byte[] key, byte @Nullable [] field, Supplier<byte @Nullable []> loader) {
+
+		if (!tracking || !configuration.isCacheable(key)) {
+			return loader.get();
+		}
+
+		ByteArrayWrapper cacheKey = new ByteArrayWrapper(key);
+		Object slot = field != null ? new ByteArrayWrapper(field) : VALUE_SLOT;
+		Object reservation = new Object();
+
+		lock.lock();
+		try {
+
+			Map<Object, Object> slots = entries.get(cacheKey);
+			Object cached = slots != null ? slots.get(slot) : null;
+
+			if (cached == NULL_VALUE) {
+				hits.increment();
+				return null;
+			}
+
+			if (cached instanceof byte[] value) {
+				hits.increment();
+				return value.clone();
+			}
+
+			entries.computeIfAbsent(cacheKey, it -> new HashMap<>(4)).put(slot, reservation);
+		} finally {
+			lock.unlock();
+		}
+
+		misses.increment();
+
+		byte[] value;
+		try {
+			value = loader.get();
+		} catch (RuntimeException ex) {
+			release(cacheKey, slot, reservation);
+			throw ex;
+		}
+
+		store(cacheKey, slot, reservation, value);
+
+		return value;
+	}
+
+	private void store(ByteArrayWrapper cacheKey, Object slot, Object reservation, byte @Nullable [] value) {
+
+		lock.lock();
+		try {
+
+			Map<Object, Object> slots = entries.get(cacheKey);
+
+			if (slots == null || slots.get(slot) != reservation) {
+				return;
+			}
+
+			slots.put(slot, value != null ? value.clone() : NULL_VALUE);
+			entryCount++;
+			estimatedSize += sizeOf(cacheKey, slot, value);
+
+			evictIfNecessary();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void release(ByteArrayWrapper cacheKey, Object slot, Object reservation) {
+
+		lock.lock();
+		try {
+
+			Map<Object, Object> slots = entries.get(cacheKey);
+
+			if (slots != null && slots.get(slot) == reservation) {
+
+				slots.remove(slot);
+
+				if (slots.isEmpty()) {
+					entries.remove(cacheKey);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void evictIfNecessary() {
+
+		Iterator<Map.Entry<ByteArrayWrapper, Map<Object, Object>>> iterator = entries.entrySet().iterator();
+
+		while (entryCount > configuration.getMaxEntries() && iterator.hasNext()) {
+
+			Map.Entry<ByteArrayWrapper, Map<Object, Object>> eldest = iterator.next();
+			iterator.remove();
+			discard(eldest.getKey(), eldest.getValue());
+		}
+	}
+
+	/**
+	 * Invalidate all cached values for the given {@code key}.
+	 *
+	 * @param key the Redis key.
+	 */
+	void invalidate(byte[] key) {
+
+		invalidations.increment();
+
+		lock.lock();
+		try {
+
+			ByteArrayWrapper cacheKey = new ByteArrayWrapper(key);
+			Map<Object, Object> slots = entries.remove(cacheKey);
+
+			if (slots != null) {
+				discard(cacheKey, slots);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Invalidate all cached values.
+	 */
+	void invalidateAll() {
+
+		lock.lock();
+		try {
+			entries.clear();
+			entryCount = 0;
+			estimatedSize = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void discard(ByteArrayWrapper cacheKey, Map<Object, Object> slots) {
+
+		for (Map.Entry<Object, Object> entry : slots.entrySet()) {
+
+			Object value = entry.getValue();
+
+			if (value == NULL_VALUE || value instanceof byte[]) {
+				entryCount--;
+				estimatedSize -= sizeOf(cacheKey, entry.getKey(), value instanceof byte[] bytes ? bytes : null);
+			}
+		}
+	}
+
+	private static long sizeOf(ByteArrayWrapper cacheKey, Object slot, byte @Nullable [] value) {
+
+		long size = cacheKey.getArray().length;
+
+		if (slot instanceof ByteArrayWrapper field) {
+			size += field.getArray().length;
+		}
+
+		return value != null ? size + value.length : size;
+	}
+
+	@Override
+	public void onPushMessage(PushMessage message) {
+
+		if (!"invalidate".equals(message.getType())) {
+			return;
+		}
+
+		List<Object> content = message.getContent();
+		Object keys = content.size() > 1 ? content.get(1) : null;
+
+		if (!(keys instanceof List<?> keyList)) {
+
+			// null keys indicate a FLUSHALL/FLUSHDB
+			invalidations.increment();
+			invalidateAll();
+			return;
+		}
+
+		for (Object key : keyList) {
+			if (key instanceof ByteBuffer buffer) {
+				invalidate(new ByteArrayWrapper(buffer).getArray());
+			} else if (key instanceof byte[] bytes) {
+				invalidate(bytes);
+			}
+		}
+	}
+
+	@Override
+	public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+
+		if (connection == this.connection) {
+			this.tracking = false;
+			invalidateAll();
+		}
+	}
+
+	@Override
+	public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+
+		StatefulRedisConnection<byte[], byte[]> current = this.connection;
+
+		if (current == null || connection != current) {
+			return;
+		}
+
+		// tracking state is bound to the server-side client and must be re-enabled after a reconnect
+		current.async().clientTracking(getTrackingArgs()).whenComplete((ok, error) -> {
+
+			if (error != null) {
+				log.warn("Cannot re-enable client tracking; client-side caching remains suspended", error);
+				return;
+			}
+
+			if (this.connection == current) {
+				invalidateAll();
+				this.tracking = true;
+			}
+		});
+	}
+
+	private TrackingArgs getTrackingArgs() {
+
+		TrackingArgs args = TrackingArgs.Builder.enabled();
+
+		if (configuration.getTrackingMode() == TrackingMode.BROADCAST) {
+
+			args.bcast();
+
+			if (!configuration.getPrefixes().isEmpty()) {
+				args.prefixes(configuration.getPrefixes().toArray(new String[0]));
+			}
+		}
+
+		return args;
+	}
+
+	boolean isTracking() {
+		return tracking;
+	}
+
+	@Override
+	public long getHits() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	@Override
+	public long getInvalidations() {
+		return invalidations.sum();
+	}
+
+	@Override
+	public long getEntryCount() {
+
+		lock.lock();
+		try {
+			return entryCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public long getEstimatedSize() {
+
+		lock.lock();
+		try {
+			return estimatedSize;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -89,6 +89,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	private final LettuceClusterStringCommands stringCommands = new LettuceClusterStringCommands(this);
 	private final LettuceClusterSetCommands setCommands = new LettuceClusterSetCommands(this);
 	private final LettuceClusterZSetCommands zSetCommands = new LettuceClusterZSetCommands(this);
+	private final LettuceClusterScriptingCommands scriptingCommands = new LettuceClusterScriptingCommands(this);
 	private final LettuceClusterServerCommands serverCommands = new LettuceClusterServerCommands(this);
 
 	/**
@@ -260,6 +261,11 @@ public class LettuceClusterConnection extends LettuceConnection
 		return setCommands;
 	}
 
+	@Override
+	public RedisScriptingCommands scriptingCommands() {
+		return scriptingCommands;
+	}
+
 	@Override
 	public RedisClusterServerCommands serverCommands() {
 		return serverCommands;
@@ -15,17 +15,117 @@
  */
 package org.springframework.data.redis.connection.lettuce;
 
+import io.lettuce.core.RedisCommandExecutionException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.NullUnmarked;
 
+import org.springframework.data.redis.connection.ClusterSlotGroups;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonValue;
+import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection.LettuceMultiKeyClusterCommandCallback;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+
 /**
+ * Cluster-aware {@link LettuceJsonCommands}. Multi-key commands spanning multiple slots are split into one command per
+ * slot. Slot groups are dispatched in parallel to their serving nodes.
+ *
  * @author Yordan Tsintsov
  * @since 4.2
  */
 @NullUnmarked
 class LettuceClusterJsonCommands extends LettuceJsonCommands {
 
+	private static final Log log = LogFactory.getLog(LettuceClusterJsonCommands.class);
+
+	private final LettuceClusterConnection connection;
+
 	LettuceClusterJsonCommands(LettuceClusterConnection connection) {
 		super(connection);
+		this.connection = connection;
+	}
+
+	@Override
+	public List<byte[]> jsonMGet(JsonPath path, byte[]... keys) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(keys, "Keys must not be empty");
+		Assert.noNullElements(keys, "Keys must not be null");
+
+		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys)) {
+			return super.jsonMGet(path, keys);
+		}
+
+		ClusterSlotGroups slots = ClusterSlotGroups.of(keys);
+		io.lettuce.core.json.JsonPath jsonPath = toPath(path);
+
+		return slots.merge(connection.getClusterCommandExecutor()
+				.executeMultiKeyCommand((LettuceMultiKeyClusterCommandCallback<List<byte[]>>) (client, key) -> {
+
+					byte[][] group = slots.getKeys(key).toArray(byte[][]::new);
+
+					return client.jsonMGet(jsonPath, group).stream().map(it -> {
+
+						ByteBuffer buffer = it == null ? null : it.asByteBuffer();
+						return buffer == null ? null : ByteUtils.getBytes(buffer);
+					}).toList();
+				}, slots.getFirstKeys()).getResults());
+	}
+
+	/**
+	 * Keys served by the same slot are written by a single {@code JSON.MSET} and fail the same way as on a standalone
+	 * connection. Otherwise, keys are written by one {@code JSON.MSET} per slot: keys of a slot whose command is rejected
+	 * by Redis are logged and reported with {@literal false} as other slots may have been written already. Any other
+	 * failure propagates.
+	 */
+	@Override
+	public List<Boolean> jsonMSet(JsonPath path, Map<byte[], JsonValue> values) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(values, "Values must not be empty");
+
+		List<byte[]> keys = new ArrayList<>(values.keySet());
+
+		if (ClusterSlotHashUtil.isSameSlotForAllKeys(keys.toArray(byte[][]::new))) {
+			return super.jsonMSet(path, values);
+		}
+
+		ClusterSlotGroups slots = ClusterSlotGroups.of(keys);
+
+		return slots.merge(connection.getClusterCommandExecutor()
+				.executeMultiKeyCommand((LettuceMultiKeyClusterCommandCallback<List<Boolean>>) (client, key) -> {
+
+					List<byte[]> group = slots.getKeys(key);
+					Map<byte[], JsonValue> groupValues = new LinkedHashMap<>(group.size());
+
+					for (byte[] groupKey : group) {
+						groupValues.put(groupKey, values.get(groupKey));
+					}
+
+					boolean written;
+					try {
+						written = LettuceConverters.stringToBoolean(client.jsonMSet(toJsonMsetArgs(path, groupValues)));
+					} catch (RedisCommandExecutionException ex) {
+
+						if (log.isWarnEnabled()) {
+							log.warn("JSON.MSET failed for %d key(s) in slot %d".formatted(group.size(),
+									ClusterSlotHashUtil.calculateSlot(key)), ex);
+						}
+						written = false;
+					}
+
+					return Collections.nCopies(group.size(), written);
+				}, slots.getFirstKeys()).getResults());
 	}
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.FlushMode;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.NullUnmarked;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiNodeResult;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection.LettuceClusterCommandCallback;
+import org.springframework.util.Assert;
+
+/**
+ * Cluster {@link RedisScriptingCommands} implementation for Lettuce. Scripts and function libraries are registered on
+ * all master nodes so that subsequent {@code EVALSHA} and {@code FCALL} invocations can be routed to any slot owner.
+ *
+ * @since 4.2
+ */
+@NullUnmarked
+class LettuceClusterScriptingCommands extends LettuceScriptingCommands {
+
+	private final LettuceClusterConnection connection;
+
+	LettuceClusterScriptingCommands(@NonNull LettuceClusterConnection connection) {
+
+		super(connection);
+		this.connection = connection;
+	}
+
+	@Override
+	public void scriptFlush() {
+		executeCommandOnAllNodes(client -> client.scriptFlush());
+	}
+
+	@Override
+	public String scriptLoad(byte @NonNull [] script) {
+
+		Assert.notNull(script, "Script must not be null");
+
+		return executeCommandOnAllNodes(client -> client.scriptLoad(script)).getFirstNonNullNotEmptyOrDefault("");
+	}
+
+	@Override
+	public String functionLoad(byte @NonNull [] libraryCode, boolean replace) {
+
+		Assert.notNull(libraryCode, "Library code must not be null");
+
+		String code = LettuceConverters.toString(libraryCode);
+
+		return executeCommandOnAllNodes(client -> client.functionLoad(code, replace))
+				.getFirstNonNullNotEmptyOrDefault("");
+	}
+
+	@Override
+	public void functionFlush() {
+		executeCommandOnAllNodes(client -> client.functionFlush(FlushMode.SYNC));
+	}
+
+	private <T> MultiNodeResult<T> executeCommandOnAllNodes(LettuceClusterCommandCallback<T> command) {
+		return connection.getClusterCommandExecutor().executeCommandOnAllNodes(command);
+	}
+}
@@ -170,6 +170,10 @@ public class LettuceConnection extends AbstractRedisConnection {
 	private @Nullable StatefulConnection<byte[], byte[]> asyncDedicatedConnection;
 	private final @Nullable StatefulConnection<byte[], byte[]> asyncSharedConnection;
 
+	private @Nullable LettuceClientSideCache clientSideCache;
+
+	private @Nullable LettuceAutoBatcher autoBatcher;
+
 	/**
 	 * Creates a new {@link LettuceConnection}.
 	 *
@@ -454,7 +458,10 @@ public class LettuceConnection extends AbstractRedisConnection {
 
 			try {
 
-				Object result = await(future.get());
+				RedisFuture<Object> command = future.get();
+				onCommand(connection);
+
+				Object result = await(command);
 
 				return result != null ? converter.convert(result) : nullDefault.get();
 			} catch (Exception ex) {
@@ -463,6 +470,31 @@ public class LettuceConnection extends AbstractRedisConnection {
 		});
 	}
 
+	private void onCommand(RedisClusterAsyncCommands<byte[], byte[]> connection) {
+
+		LettuceAutoBatcher autoBatcher = this.autoBatcher;
+		StatefulRedisConnection<byte[], byte[]> shared = getBatchedSharedConnection(autoBatcher);
+
+		if (autoBatcher != null && shared != null && shared.async() == connection) {
+			autoBatcher.onCommand(shared);
+		}
+	}
+
+	/**
+	 * @param autoBatcher the configured batcher, can be {@literal null}.
+	 * @return the shared connection if {@code autoBatcher} is attached to it.
+	 */
+	private @Nullable StatefulRedisConnection<byte[], byte[]> getBatchedSharedConnection(
+			@Nullable LettuceAutoBatcher autoBatcher) {
+
+		if (autoBatcher != null && asyncSharedConnection instanceof StatefulRedisConnection<byte[], byte[]> shared
+				&& autoBatcher.isAttached(shared)) {
+			return shared;
+		}
+
+		return null;
+	}
+
 	<T, R> LettuceResult<T, R> newLettuceResult(Future<T> resultHolder, Converter<T, R> converter) {
 
 		return LettuceResultBuilder.<T, R> forResponse(resultHolder).mappedWith(converter)
@@ -546,12 +578,29 @@ public class LettuceConnection extends AbstractRedisConnection {
 		return this.isClosed && !isSubscribed();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If {@link LettuceConnectionFactory#setAutoBatching(LettuceAutoBatchingConfiguration) auto-batching} is enabled,
+	 * the shared connection is returned as a view whose commands take part in batching. Commands issued through
+	 * {@link RedisClusterAsyncCommands#getStatefulConnection()} of the view do not and remain buffered until the next
+	 * flush.
+	 */
 	@Override
 	public RedisClusterAsyncCommands<byte[], byte[]> getNativeConnection() {
 
 		LettuceSubscription subscription = this.subscription;
 
-		return isAlive(subscription) ? subscription.getNativeConnection().async() : getAsyncConnection();
+		if (isAlive(subscription)) {
+			return subscription.getNativeConnection().async();
+		}
+
+		RedisClusterAsyncCommands<byte[], byte[]> connection = getAsyncConnection();
+		LettuceAutoBatcher autoBatcher = this.autoBatcher;
+		StatefulRedisConnection<byte[], byte[]> shared = getBatchedSharedConnection(autoBatcher);
+
+		return autoBatcher != null && shared != null && shared.async() == connection ? autoBatcher.async(shared)
+				: connection;
 	}
 
 	@Contract("null -> false")
@@ -888,6 +937,48 @@ public class LettuceConnection extends AbstractRedisConnection {
 		this.pipeliningFlushPolicy = pipeliningFlushPolicy;
 	}
 
+	/**
+	 * Configures the client-side cache for reads issued through the shared connection.
+	 *
+	 * @param clientSideCache the client-side cache tracking the shared connection, can be {@literal null}.
+	 * @since 4.2
+	 */
+	void setClientSideCache(@Nullable LettuceClientSideCache clientSideCache) {
+		this.clientSideCache = clientSideCache;
+	}
+
+	/**
+	 * Configures automatic batching for commands issued through the shared connection.
+	 *
+	 * @param autoBatcher the batcher attached to the shared connection, can be {@literal null}.
+	 * @since 4.2
+	 */
+	void setAutoBatcher(@Nullable LettuceAutoBatcher autoBatcher) {
+		this.autoBatcher = autoBatcher;
+	}
+
+	/**
+	 * Read a value through the {@link LettuceClientSideCache client-side cache} if caching is configured and the read
+	 * uses the shared connection. Pipelined and transactional reads bypass the cache.
+	 *
+	 * @param key the Redis key.
+	 * @param field the hash field, {@literal null} for string values.
+	 * @param loader loader issuing the actual command.
+	 * @return the value, can be {@literal null}.
+	 * @since 4.2
+	 */
+	byte @Nullable [] readThroughClientSideCache(byte[] key, byte @Nullable [] field,
+			Supplier<byte @Nullable []> loader) {
+
+		LettuceClientSideCache clientSideCache = this.clientSideCache;
+
+		if (clientSideCache == null || asyncSharedConnection == null || isQueueing() || isPipelined()) {
+			return loader.get();
+		}
+
+		return clientSideCache.get(key, field, loader);
+	}
+
 	/**
 	 * {@link #close()} the current connection and open a new pub/sub connection to the Redis server.
 	 *
@@ -925,7 +1016,12 @@ public class LettuceConnection extends AbstractRedisConnection {
 
 		if (asyncSharedConnection != null) {
 			if (asyncSharedConnection instanceof StatefulRedisConnection<byte[], byte[]> statefulConnection) {
-				return statefulConnection.sync();
+
+				// synchronous calls on a batched shared connection would otherwise wait for the next flush
+				LettuceAutoBatcher autoBatcher = this.autoBatcher;
+				return autoBatcher != null && getBatchedSharedConnection(autoBatcher) != null
+						? autoBatcher.sync(statefulConnection)
+						: statefulConnection.sync();
 			}
 			if (asyncSharedConnection instanceof StatefulRedisClusterConnection<byte[], byte[]> statefulClusterConnection) {
 				return statefulClusterConnection.sync();
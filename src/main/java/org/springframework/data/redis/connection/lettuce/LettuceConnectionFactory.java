@@ -20,10 +20,12 @@ import static org.springframework.data.redis.connection.lettuce.LettuceConnectio
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.DriverInfo;
+import io.lettuce.core.LettuceFutures;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisCredentialsProvider;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.SslVerifyMode;
 import io.lettuce.core.api.StatefulConnection;
@@ -32,6 +34,7 @@ import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
 import io.lettuce.core.resource.ClientResources;
 
 import java.nio.ByteBuffer;
@@ -145,6 +148,7 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 
 	private @Nullable LettuceConnectionProvider connectionProvider;
 	private @Nullable LettuceConnectionProvider reactiveConnectionProvider;
+	private LettuceLightweightPoolingConnectionProvider.@Nullable Statistics poolStatistics;
 
 	private final Log log = LogFactory.getLog(getClass());
 
@@ -159,6 +163,16 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 	private @Nullable SharedConnection<byte[]> connection;
 	private @Nullable SharedConnection<ByteBuffer> reactiveConnection;
 
+	private @Nullable ClientSideCachingConfiguration clientSideCaching;
+
+	private @Nullable LettuceClientSideCache clientSideCache;
+
+	private @Nullable LettuceAutoBatchingConfiguration autoBatching;
+
+	private @Nullable LettuceAutoBatcher autoBatcher;
+
+	private int reactiveCommandConcurrency = 1;
+
 	/**
 	 * Lifecycle state of this factory.
 	 */
@@ -430,6 +444,108 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 		this.pipeliningFlushPolicy = pipeliningFlushPolicy;
 	}
 
+	/**
+	 * Configures client-side caching for {@code GET} and {@code HGET} reads issued through the
+	 * {@link #getShareNativeConnection() shared native connection}. The shared connection enables {@code CLIENT TRACKING}
+	 * and keeps a bounded local copy of raw responses that is invalidated through RESP3 push messages. Reads using
+	 * dedicated connections (transactions, pipelining) bypass the cache.
+	 * <p>
+	 * Client-side caching is supported for Standalone and Sentinel setups without {@link ReadFrom} configuration and
+	 * requires {@link ProtocolVersion#RESP3 RESP3} as invalidation messages are not delivered to RESP2 connections.
+	 *
+	 * @param clientSideCaching the client-side caching configuration, must not be {@literal null}.
+	 * @since 4.2
+	 * @see #getClientSideCacheStatistics()
+	 */
+	public void setClientSideCaching(ClientSideCachingConfiguration clientSideCaching) {
+
+		Assert.notNull(clientSideCaching, "ClientSideCachingConfiguration must not be null");
+
+		this.clientSideCaching = clientSideCaching;
+	}
+
+	/**
+	 * Returns the {@link ClientSideCacheStatistics} if {@link #setClientSideCaching(ClientSideCachingConfiguration)
+	 * client-side caching} is enabled and this connection factory is started.
+	 *
+	 * @return the {@link ClientSideCacheStatistics} or {@literal null} if client-side caching is not active.
+	 * @since 4.2
+	 */
+	public @Nullable ClientSideCacheStatistics getClientSideCacheStatistics() {
+		return this.clientSideCache;
+	}
+
+	/**
+	 * Configures automatic batching of commands issued through the {@link #getShareNativeConnection() shared native
+	 * connection}. Commands from concurrent callers are buffered and written with a single flush once the configured
+	 * window has elapsed or the configured number of commands has been buffered. Commands using dedicated connections
+	 * (transactions, pipelining, blocking commands) are not affected.
+	 * <p>
+	 * Auto-batching is supported for Standalone, Sentinel and Static Master/Replica setups and cannot be combined with
+	 * {@link #setClientSideCaching(ClientSideCachingConfiguration) client-side caching}.
+	 * <p>
+	 * Synchronous commands and the {@link LettuceConnection#getNativeConnection() native connection} use views of the
+	 * shared connection that take part in batching. Commands issued directly on the underlying
+	 * {@link StatefulConnection} are not tracked and remain buffered until the next flush.
+	 *
+	 * @param autoBatching the auto-batching configuration, must not be {@literal null}.
+	 * @since 4.2
+	 * @see #getAutoBatchingStatistics()
+	 */
+	public void setAutoBatching(LettuceAutoBatchingConfiguration autoBatching) {
+
+		Assert.notNull(autoBatching, "LettuceAutoBatchingConfiguration must not be null");
+
+		this.autoBatching = autoBatching;
+	}
+
+	/**
+	 * Returns the {@link LettuceAutoBatchingStatistics} if {@link #setAutoBatching(LettuceAutoBatchingConfiguration)
+	 * auto-batching} is enabled and this connection factory is started.
+	 *
+	 * @return the {@link LettuceAutoBatchingStatistics} or {@literal null} if auto-batching is not active.
+	 * @since 4.2
+	 */
+	public @Nullable LettuceAutoBatchingStatistics getAutoBatchingStatistics() {
+		return this.autoBatcher;
+	}
+
+	/**
+	 * Configures the default number of in-flight commands for reactive command streams. Commands of a stream are sent
+	 * without awaiting previous replies up to the given concurrency while responses retain the order of the stream.
+	 *
+	 * @param reactiveCommandConcurrency the number of in-flight commands, must be greater than zero. Defaults to
+	 *          {@literal 1}.
+	 * @since 4.2
+	 * @see ReactiveRedisConnection#setCommandConcurrency(int)
+	 */
+	public void setReactiveCommandConcurrency(int reactiveCommandConcurrency) {
+
+		Assert.isTrue(reactiveCommandConcurrency > 0, "Reactive command concurrency must be greater than zero");
+
+		this.reactiveCommandConcurrency = reactiveCommandConcurrency;
+	}
+
+	/**
+	 * @return the default number of in-flight commands for reactive command streams.
+	 * @since 4.2
+	 */
+	public int getReactiveCommandConcurrency() {
+		return this.reactiveCommandConcurrency;
+	}
+
+	/**
+	 * Returns the {@link LettucePoolStatistics} if the {@link LettucePoolingClientConfiguration#isUseLightweightPool()
+	 * lightweight pool} is configured and this connection factory is started. Statistics aggregate the pools for
+	 * imperative and reactive connections.
+	 *
+	 * @return the {@link LettucePoolStatistics} or {@literal null} if the lightweight pool is not active.
+	 * @since 4.2
+	 */
+	public @Nullable LettucePoolStatistics getPoolStatistics() {
+		return this.poolStatistics;
+	}
+
 	/**
 	 * Returns the connection timeout (in milliseconds).
 	 *
@@ -940,6 +1056,14 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 				this.clusterCommandExecutor = createClusterCommandExecutor((RedisClusterClient) client, connectionProvider);
 			}
 
+			if (this.clientSideCaching != null) {
+				this.clientSideCache = createClientSideCache(client, this.clientSideCaching);
+			}
+
+			if (this.autoBatching != null) {
+				this.autoBatcher = createAutoBatcher(client, this.autoBatching);
+			}
+
 			this.state.set(State.STARTED);
 
 			if (getEagerInitialization() && getShareNativeConnection()) {
@@ -952,6 +1076,31 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 		return State.CREATED.equals(state) || State.STOPPED.equals(state);
 	}
 
+	private LettuceClientSideCache createClientSideCache(AbstractRedisClient client,
+			ClientSideCachingConfiguration configuration) {
+
+		Assert.state(!isClusterAware() && !isStaticMasterReplicaAware(),
+				"Client-side caching is not supported with Redis Cluster and Static Master/Replica");
+		Assert.state(getClientConfiguration().getReadFrom().isEmpty(),
+				"Client-side caching is not supported with a ReadFrom configuration");
+		Assert.state(ProtocolVersion.RESP3.equals(getClientConfiguration().getClientOptions()
+				.map(ClientOptions::getProtocolVersion).orElse(ProtocolVersion.RESP3)), "Client-side caching requires RESP3");
+
+		LettuceClientSideCache clientSideCache = new LettuceClientSideCache(configuration);
+		client.addListener(clientSideCache);
+
+		return clientSideCache;
+	}
+
+	private LettuceAutoBatcher createAutoBatcher(AbstractRedisClient client,
+			LettuceAutoBatchingConfiguration configuration) {
+
+		Assert.state(!isClusterAware(), "Auto-batching is not supported with Redis Cluster");
+		Assert.state(this.clientSideCaching == null, "Auto-batching cannot be combined with client-side caching");
+
+		return new LettuceAutoBatcher(configuration, client.getResources().eventExecutorGroup());
+	}
+
 	private ClusterCommandExecutor createClusterCommandExecutor(RedisClusterClient client,
 			LettuceConnectionProvider connectionProvider) {
 
@@ -965,6 +1114,16 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 
 		if (state.compareAndSet(State.STARTED, State.STOPPING)) {
 
+			if (clientSideCache != null) {
+				clientSideCache.close();
+				clientSideCache = null;
+			}
+
+			if (autoBatcher != null) {
+				autoBatcher.close();
+				autoBatcher = null;
+			}
+
 			resetConnection();
 
 			dispose(clusterCommandExecutor);
@@ -975,6 +1134,7 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 
 			dispose(reactiveConnectionProvider);
 			reactiveConnectionProvider = null;
+			poolStatistics = null;
 
 			dispose(client);
 			client = null;
@@ -1053,11 +1213,26 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 			return getClusterConnection();
 		}
 
-		LettuceConnection connection = doCreateLettuceConnection(getSharedConnection(), this.connectionProvider,
-				getTimeout(), getDatabase());
+		StatefulRedisConnection<byte[], byte[]> sharedConnection = getSharedConnection();
+		LettuceConnection connection = doCreateLettuceConnection(sharedConnection, this.connectionProvider, getTimeout(),
+				getDatabase());
 
 		connection.setConvertPipelineAndTxResults(this.convertPipelineAndTxResults);
 
+		LettuceClientSideCache clientSideCache = this.clientSideCache;
+
+		if (clientSideCache != null && sharedConnection != null) {
+			clientSideCache.track(sharedConnection);
+			connection.setClientSideCache(clientSideCache);
+		}
+
+		LettuceAutoBatcher autoBatcher = this.autoBatcher;
+
+		if (autoBatcher != null && sharedConnection != null) {
+			autoBatcher.attach(sharedConnection);
+			connection.setAutoBatcher(autoBatcher);
+		}
+
 		return connection;
 	}
 
@@ -1149,9 +1324,13 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 			return getReactiveClusterConnection();
 		}
 
-		return getShareNativeConnection()
+		LettuceReactiveRedisConnection connection = getShareNativeConnection()
 				? new LettuceReactiveRedisConnection(getSharedReactiveConnection(), reactiveConnectionProvider)
 				: new LettuceReactiveRedisConnection(reactiveConnectionProvider);
+
+		connection.setCommandConcurrency(this.reactiveCommandConcurrency);
+
+		return connection;
 	}
 
 	@Override
@@ -1166,9 +1345,13 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 
 		RedisClusterClient client = (RedisClusterClient) this.client;
 
-		return getShareNativeConnection()
+		LettuceReactiveRedisClusterConnection connection = getShareNativeConnection()
 				? new LettuceReactiveRedisClusterConnection(getSharedReactiveConnection(), reactiveConnectionProvider, client)
 				: new LettuceReactiveRedisClusterConnection(reactiveConnectionProvider, client);
+
+		connection.setCommandConcurrency(this.reactiveCommandConcurrency);
+
+		return connection;
 	}
 
 	/**
@@ -1288,6 +1471,17 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 		LettuceConnectionProvider connectionProvider = doCreateConnectionProvider(client, codec);
 
 		if (this.clientConfiguration instanceof LettucePoolingClientConfiguration poolingClientConfiguration) {
+
+			if (poolingClientConfiguration.isUseLightweightPool()) {
+
+				if (this.poolStatistics == null) {
+					this.poolStatistics = new LettuceLightweightPoolingConnectionProvider.Statistics();
+				}
+
+				return new LettuceLightweightPoolingConnectionProvider(connectionProvider, poolingClientConfiguration,
+						this.poolStatistics);
+			}
+
 			return new LettucePoolingConnectionProvider(connectionProvider, poolingClientConfiguration);
 		}
 
@@ -1631,7 +1825,11 @@ public class LettuceConnectionFactory implements RedisConnectionFactory, Reactiv
 					try {
 
 						if (connection instanceof StatefulRedisConnection<?, ?> statefulConnection) {
-							statefulConnection.sync().ping();
+
+							// the connection might not flush automatically if auto-batching is enabled
+							RedisFuture<String> ping = statefulConnection.async().ping();
+							statefulConnection.flushCommands();
+							LettuceFutures.awaitOrCancel(ping, getTimeout(), TimeUnit.MILLISECONDS);
 						}
 
 						if (connection instanceof StatefulRedisClusterConnection<?, ?> statefulClusterConnection) {
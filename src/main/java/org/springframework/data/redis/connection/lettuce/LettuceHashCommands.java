@@ -103,7 +103,8 @@ class LettuceHashCommands implements RedisHashCommands {
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(field, "Field must not be null");
 
-		return connection.invoke().just(RedisHashAsyncCommands::hget, key, field);
+		return connection.readThroughClientSideCache(key, field,
+				() -> connection.invoke().just(RedisHashAsyncCommands::hget, key, field));
 	}
 
 	@Override
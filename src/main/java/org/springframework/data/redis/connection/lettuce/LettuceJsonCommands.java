@@ -19,10 +19,14 @@ import io.lettuce.core.api.async.RedisJsonAsyncCommands;
 import io.lettuce.core.json.JsonArray;
 import io.lettuce.core.json.JsonObject;
 import io.lettuce.core.json.JsonPath;
+import io.lettuce.core.json.arguments.JsonMsetArgs;
 import io.lettuce.core.json.arguments.JsonRangeArgs;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.NonNull;
@@ -135,7 +139,7 @@ class LettuceJsonCommands implements RedisJsonCommands {
 		Assert.notEmpty(paths, "Paths must not be empty");
 		Assert.noNullElements(paths, "Paths must not be null");
 
-		JsonPath[] jsonPaths = Stream.of(paths).map(this::toPath).toArray(JsonPath[]::new);
+		JsonPath[] jsonPaths = Stream.of(paths).map(LettuceJsonCommands::toPath).toArray(JsonPath[]::new);
 
 		return connection.invoke().from(RedisJsonAsyncCommands::jsonGet, key, jsonPaths).get(it -> {
 
@@ -173,6 +177,19 @@ class LettuceJsonCommands implements RedisJsonCommands {
 				}).toList());
 	}
 
+	@Override
+	public List<Boolean> jsonMSet(org.springframework.data.redis.connection.json.@NonNull JsonPath path,
+			@NonNull Map<byte @NonNull [], @NonNull JsonValue> values) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(values, "Values must not be empty");
+
+		int count = values.size();
+
+		return connection.invoke().from(RedisJsonAsyncCommands::jsonMSet, toJsonMsetArgs(path, values))
+				.get(it -> Collections.nCopies(count, LettuceConverters.stringToBoolean(it)));
+	}
+
 	@Override
 	public Boolean jsonSet(byte @NonNull [] key, org.springframework.data.redis.connection.json.@NonNull JsonPath path, @NonNull JsonValue value, @NonNull JsonSetCondition condition) {
 
@@ -225,11 +242,28 @@ class LettuceJsonCommands implements RedisJsonCommands {
 				.get(types -> types.stream().map(LettuceConverters::fromJsonType).toList());
 	}
 
-	private JsonPath toPath(org.springframework.data.redis.connection.json.JsonPath path) {
+	static List<JsonMsetArgs<byte[], byte[]>> toJsonMsetArgs(
+			org.springframework.data.redis.connection.json.JsonPath path, Map<byte[], JsonValue> values) {
+
+		JsonPath jsonPath = toPath(path);
+		List<JsonMsetArgs<byte[], byte[]>> args = new ArrayList<>(values.size());
+
+		for (Map.Entry<byte[], JsonValue> entry : values.entrySet()) {
+
+			Assert.notNull(entry.getKey(), "Key must not be null");
+			Assert.notNull(entry.getValue(), "Value must not be null");
+
+			args.add(new JsonMsetArgs<>(entry.getKey(), jsonPath, toJsonValue(entry.getValue())));
+		}
+
+		return args;
+	}
+
+	static JsonPath toPath(org.springframework.data.redis.connection.json.JsonPath path) {
 		return JsonPath.of(path.asString());
 	}
 
-	private static io.lettuce.core.json.JsonValue toJsonValue(@NonNull JsonValue jsonValue) {
+	static io.lettuce.core.json.JsonValue toJsonValue(@NonNull JsonValue jsonValue) {
 
 		byte[] bytes = jsonValue.asBytes();
 		return new io.lettuce.core.json.JsonValue() {
@@ -0,0 +1,693 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.PoolException;
+import org.springframework.util.Assert;
+
+/**
+ * Lightweight {@link LettuceConnectionProvider} with connection pooling support that does not use commons-pool2 for
+ * connection management. This connection provider holds one pool per connection type serving both, synchronous and
+ * asynchronous allocation.
+ * <p>
+ * Idle connections are kept in a lock-free stack so that recently used connections are handed out first. Each thread
+ * remembers the connection it released last and attempts to reclaim it before consulting the shared stack. Callers
+ * waiting for a connection receive released connections directly. Asynchronous allocation never blocks.
+ * <p>
+ * Pooled connections are tracked once upon creation instead of on each borrow and return. Instances of this class
+ * require {@link #destroy() disposal} to close the pooled connections.
+ *
+ * @since 4.2
+ * @see LettucePoolingClientConfiguration#isUseLightweightPool()
+ */
+class LettuceLightweightPoolingConnectionProvider
+		implements LettuceConnectionProvider, RedisClientProvider, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(LettuceLightweightPoolingConnectionProvider.class);
+
+	private final AtomicBoolean disposed = new AtomicBoolean();
+
+	private final LettuceConnectionProvider connectionProvider;
+
+	private final Statistics statistics;
+
+	private final int maxTotal;
+	private final int maxIdle;
+	private final int minIdle;
+	private final long maxWaitNanos;
+	private final boolean blockWhenExhausted;
+
+	private final Map<Class<?>, ConnectionPool> pools = new ConcurrentHashMap<>(8);
+	private final Map<StatefulConnection<?, ?>, PooledConnection> connections = new ConcurrentHashMap<>(32);
+
+	LettuceLightweightPoolingConnectionProvider(LettuceConnectionProvider connectionProvider,
+			LettucePoolingClientConfiguration clientConfiguration, Statistics statistics) {
+
+		Assert.notNull(connectionProvider, "ConnectionProvider must not be null");
+		Assert.notNull(clientConfiguration, "ClientConfiguration must not be null");
+		Assert.notNull(statistics, "Statistics must not be null");
+
+		GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = clientConfiguration.getPoolConfig();
+
+		this.connectionProvider = connectionProvider;
+		this.statistics = statistics;
+		this.maxTotal = poolConfig.getMaxTotal() < 0 ? Integer.MAX_VALUE : poolConfig.getMaxTotal();
+		this.maxIdle = poolConfig.getMaxIdle() < 0 ? Integer.MAX_VALUE : poolConfig.getMaxIdle();
+		this.minIdle = Math.min(poolConfig.getMinIdle(), this.maxIdle);
+		this.maxWaitNanos = poolConfig.getMaxWaitDuration().isNegative() ? -1
+				: poolConfig.getMaxWaitDuration().toNanos();
+		this.blockWhenExhausted = poolConfig.getBlockWhenExhausted();
+	}
+
+	@Override
+	public <T extends StatefulConnection<?, ?>> T getConnection(Class<T> connectionType) {
+		return connectionType.cast(getPool(connectionType).acquire().connection);
+	}
+
+	@Override
+	public <T extends StatefulConnection<?, ?>> CompletionStage<T> getConnectionAsync(Class<T> connectionType) {
+		return getPool(connectionType).acquireAsync().thenApply(it -> connectionType.cast(it.connection));
+	}
+
+	private ConnectionPool getPool(Class<? extends StatefulConnection<?, ?>> connectionType) {
+
+		if (disposed.get()) {
+			throw new PoolException("Connection pool has been closed");
+		}
+
+		return pools.computeIfAbsent(connectionType, it -> {
+
+			ConnectionPool pool = new ConnectionPool(connectionType);
+			pool.prepare();
+			statistics.register(pool);
+
+			return pool;
+		});
+	}
+
+	@Override
+	public AbstractRedisClient getRedisClient() {
+
+		if (connectionProvider instanceof RedisClientProvider) {
+			return ((RedisClientProvider) connectionProvider).getRedisClient();
+		}
+
+		throw new IllegalStateException("Underlying connection provider %s does not implement RedisClientProvider"
+				.formatted(connectionProvider.getClass().getName()));
+	}
+
+	@Override
+	public void release(StatefulConnection<?, ?> connection) {
+		getPooledConnection(connection).release();
+	}
+
+	@Override
+	public CompletableFuture<Void> releaseAsync(StatefulConnection<?, ?> connection) {
+
+		try {
+			getPooledConnection(connection).release();
+			return CompletableFuture.completedFuture(null);
+		} catch (PoolException ex) {
+			return LettuceFutureUtils.failed(ex);
+		}
+	}
+
+	private PooledConnection getPooledConnection(StatefulConnection<?, ?> connection) {
+
+		PooledConnection pooled = connections.get(connection);
+
+		if (pooled == null || !pooled.isInUse()) {
+			throw new PoolException("Returned connection " + connection
+					+ " was either previously returned or does not belong to this connection provider");
+		}
+
+		return pooled;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+
+		if (!disposed.compareAndSet(false, true)) {
+			return;
+		}
+
+		if (connections.values().stream().anyMatch(PooledConnection::isInUse)) {
+			log.warn("LettuceLightweightPoolingConnectionProvider contains unreleased connections");
+		}
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+		pools.values().forEach(pool -> {
+			pool.close();
+			statistics.unregister(pool);
+		});
+
+		connections.values().forEach(pooled -> {
+			if (pooled.remove()) {
+				futures.add(connectionProvider.releaseAsync(pooled.connection));
+			}
+		});
+
+		CompletableFuture.allOf(futures.stream().map(it -> it.exceptionally(LettuceFutureUtils.ignoreErrors()))
+				.toArray(CompletableFuture[]::new)).join();
+
+		connections.clear();
+		pools.clear();
+	}
+
+	/**
+	 * Pool of connections of a single connection type.
+	 */
+	class ConnectionPool {
+
+		private final Class<? extends StatefulConnection<?, ?>> connectionType;
+
+		private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+
+		private final Queue<CompletableFuture<PooledConnection>> waiters = new ConcurrentLinkedQueue<>();
+
+		private final ThreadLocal<@Nullable WeakReference<PooledConnection>> lastReleased = new ThreadLocal<>();
+
+		private final AtomicInteger total = new AtomicInteger();
+
+		private final AtomicInteger idleCount = new AtomicInteger();
+
+		ConnectionPool(Class<? extends StatefulConnection<?, ?>> connectionType) {
+			this.connectionType = connectionType;
+		}
+
+		void prepare() {
+
+			try {
+				for (int i = 0; i < minIdle && reserve(); i++) {
+					makeIdle(register(connectionProvider.getConnection(connectionType)));
+				}
+			} catch (RuntimeException ex) {
+				close();
+				throw new PoolException("Could not prepare the pool", ex);
+			}
+		}
+
+		PooledConnection acquire() {
+
+			long start = System.nanoTime();
+			PooledConnection pooled = pollIdle(true);
+
+			if (pooled == null && reserve()) {
+
+				StatefulConnection<?, ?> connection;
+
+				try {
+					connection = connectionProvider.getConnection(connectionType);
+				} catch (RuntimeException ex) {
+					total.decrementAndGet();
+					throw new PoolException("Could not get a resource from the pool", ex);
+				}
+
+				pooled = register(connection);
+			}
+
+			if (pooled == null) {
+				pooled = await(start);
+			}
+
+			statistics.recordAcquisition(System.nanoTime() - start);
+			return pooled;
+		}
+
+		private PooledConnection await(long start) {
+
+			CompletableFuture<PooledConnection> waiter = enqueue();
+
+			try {
+				return maxWaitNanos < 0 ? waiter.get()
+						: waiter.get(maxWaitNanos - (System.nanoTime() - start), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException ex) {
+
+				if (waiter.completeExceptionally(ex)) {
+					waiters.remove(waiter);
+					statistics.recordTimeout();
+					throw new PoolException("Could not get a resource from the pool", ex);
+				}
+
+				// completed concurrently
+				return waiter.join();
+			} catch (InterruptedException ex) {
+
+				Thread.currentThread().interrupt();
+
+				if (!waiter.completeExceptionally(ex)) {
+					waiter.join().release();
+				}
+
+				waiters.remove(waiter);
+				throw new PoolException("Interrupted while waiting for a resource from the pool", ex);
+			} catch (ExecutionException ex) {
+				throw new PoolException("Could not get a resource from the pool", ex.getCause());
+			}
+		}
+
+		CompletableFuture<PooledConnection> acquireAsync() {
+
+			long start = System.nanoTime();
+			PooledConnection pooled = pollIdle(false);
+
+			if (pooled != null) {
+				statistics.recordAcquisition(System.nanoTime() - start);
+				return CompletableFuture.completedFuture(pooled);
+			}
+
+			CompletableFuture<PooledConnection> result;
+
+			try {
+				result = reserve() ? createAsync() : enqueueWithTimeout();
+			} catch (PoolException ex) {
+				return LettuceFutureUtils.failed(ex);
+			}
+
+			return result.whenComplete((connection, error) -> {
+
+				if (error == null) {
+					statistics.recordAcquisition(System.nanoTime() - start);
+					return;
+				}
+
+				waiters.remove(result);
+
+				if (error instanceof TimeoutException) {
+					statistics.recordTimeout();
+				}
+			});
+		}
+
+		private CompletableFuture<PooledConnection> createAsync() {
+
+			CompletableFuture<PooledConnection> result = new CompletableFuture<>();
+
+			connectionProvider.getConnectionAsync(connectionType).whenComplete((connection, error) -> {
+
+				if (error != null) {
+					total.decrementAndGet();
+					result.completeExceptionally(error);
+					return;
+				}
+
+				try {
+					result.complete(register(connection));
+				} catch (RuntimeException ex) {
+					result.completeExceptionally(ex);
+				}
+			});
+
+			return result;
+		}
+
+		private CompletableFuture<PooledConnection> enqueueWithTimeout() {
+
+			CompletableFuture<PooledConnection> waiter = enqueue();
+
+			return maxWaitNanos < 0 ? waiter : waiter.orTimeout(maxWaitNanos, TimeUnit.NANOSECONDS);
+		}
+
+		private CompletableFuture<PooledConnection> enqueue() {
+
+			if (!blockWhenExhausted) {
+				throw new PoolException("Could not get a resource from the pool; pool exhausted");
+			}
+
+			CompletableFuture<PooledConnection> waiter = new CompletableFuture<>();
+			waiters.offer(waiter);
+
+			// a connection might have been released or discarded while enqueueing
+			dispatch();
+			replenish();
+
+			return waiter;
+		}
+
+		/**
+		 * Claim an idle connection. Try the connection last released by the current thread first.
+		 */
+		private @Nullable PooledConnection pollIdle(boolean threadAffinity) {
+
+			if (threadAffinity) {
+
+				WeakReference<PooledConnection> reference = lastReleased.get();
+				PooledConnection candidate = reference != null ? reference.get() : null;
+
+				if (candidate != null && candidate.tryAcquire()) {
+
+					if (candidate.connection.isOpen()) {
+						return candidate;
+					}
+
+					discard(candidate);
+				}
+			}
+
+			PooledConnection candidate;
+
+			while ((candidate = idle.pollFirst()) != null) {
+
+				candidate.queued.set(false);
+
+				if (candidate.tryAcquire()) {
+
+					if (candidate.connection.isOpen()) {
+						return candidate;
+					}
+
+					discard(candidate);
+				}
+			}
+
+			return null;
+		}
+
+		void release(PooledConnection pooled) {
+
+			if (pooled.connection instanceof StatefulRedisConnection<?, ?> redisConnection && redisConnection.isMulti()) {
+				redisConnection.async().discard();
+			}
+
+			if (disposed.get() || !pooled.connection.isOpen()) {
+				discard(pooled);
+				replenish();
+				return;
+			}
+
+			if (handOff(pooled)) {
+				return;
+			}
+
+			if (idleCount.get() >= maxIdle) {
+				discard(pooled);
+				return;
+			}
+
+			lastReleased.set(pooled.reference);
+			makeIdle(pooled);
+
+			// a waiter might have been enqueued concurrently
+			dispatch();
+		}
+
+		private boolean handOff(PooledConnection pooled) {
+
+			CompletableFuture<PooledConnection> waiter;
+
+			while ((waiter = waiters.poll()) != null) {
+				if (waiter.complete(pooled)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private void dispatch() {
+
+			while (!waiters.isEmpty()) {
+
+				PooledConnection pooled = pollIdle(false);
+
+				if (pooled == null) {
+					return;
+				}
+
+				if (!handOff(pooled)) {
+					makeIdle(pooled);
+				}
+			}
+		}
+
+		/**
+		 * Create connections for waiting callers if connections were discarded in the meantime.
+		 */
+		private void replenish() {
+
+			while (!waiters.isEmpty() && !disposed.get() && reserve()) {
+
+				connectionProvider.getConnectionAsync(connectionType).whenComplete((connection, error) -> {
+
+					if (error == null) {
+						register(connection).release();
+						return;
+					}
+
+					total.decrementAndGet();
+
+					CompletableFuture<PooledConnection> waiter = waiters.poll();
+
+					if (waiter != null) {
+						waiter.completeExceptionally(error);
+					}
+				});
+			}
+		}
+
+		private void makeIdle(PooledConnection pooled) {
+
+			idleCount.incrementAndGet();
+			pooled.state.set(PooledConnection.IDLE);
+
+			if (pooled.queued.compareAndSet(false, true)) {
+				idle.offerFirst(pooled);
+			}
+		}
+
+		private boolean reserve() {
+
+			int current;
+
+			do {
+				current = total.get();
+
+				if (current >= maxTotal) {
+					return false;
+				}
+			} while (!total.compareAndSet(current, current + 1));
+
+			return true;
+		}
+
+		private PooledConnection register(StatefulConnection<?, ?> connection) {
+
+			PooledConnection pooled = new PooledConnection(this, connection);
+			connections.put(connection, pooled);
+
+			if (disposed.get()) {
+				discard(pooled);
+				throw new PoolException("Connection pool has been closed");
+			}
+
+			return pooled;
+		}
+
+		private void discard(PooledConnection pooled) {
+
+			if (pooled.remove()) {
+
+				total.decrementAndGet();
+				connections.remove(pooled.connection);
+				connectionProvider.releaseAsync(pooled.connection).exceptionally(LettuceFutureUtils.ignoreErrors());
+			}
+		}
+
+		void close() {
+
+			CompletableFuture<PooledConnection> waiter;
+			PoolException closed = new PoolException("Connection pool has been closed");
+
+			while ((waiter = waiters.poll()) != null) {
+				waiter.completeExceptionally(closed);
+			}
+
+			idle.clear();
+		}
+
+		int getActiveConnections() {
+			return Math.max(0, total.get() - idleCount.get());
+		}
+
+		int getIdleConnections() {
+			return idleCount.get();
+		}
+
+		int getPendingAcquisitions() {
+			return waiters.size();
+		}
+	}
+
+	/**
+	 * A pooled connection along with its allocation state.
+	 */
+	static class PooledConnection {
+
+		static final int IDLE = 0;
+		static final int IN_USE = 1;
+		static final int REMOVED = 2;
+
+		final ConnectionPool pool;
+
+		final StatefulConnection<?, ?> connection;
+
+		final WeakReference<PooledConnection> reference = new WeakReference<>(this);
+
+		final AtomicInteger state = new AtomicInteger(IN_USE);
+
+		// whether the connection is currently referenced from the idle stack
+		final AtomicBoolean queued = new AtomicBoolean();
+
+		PooledConnection(ConnectionPool pool, StatefulConnection<?, ?> connection) {
+			this.pool = pool;
+			this.connection = connection;
+		}
+
+		boolean tryAcquire() {
+
+			if (state.compareAndSet(IDLE, IN_USE)) {
+				pool.idleCount.decrementAndGet();
+				return true;
+			}
+
+			return false;
+		}
+
+		boolean isInUse() {
+			return state.get() == IN_USE;
+		}
+
+		boolean remove() {
+
+			int previous = state.getAndSet(REMOVED);
+
+			if (previous == IDLE) {
+				pool.idleCount.decrementAndGet();
+			}
+
+			return previous != REMOVED;
+		}
+
+		void release() {
+			pool.release(this);
+		}
+	}
+
+	/**
+	 * {@link LettucePoolStatistics} aggregating all registered pools.
+	 */
+	static class Statistics implements LettucePoolStatistics {
+
+		private final List<ConnectionPool> pools = new CopyOnWriteArrayList<>();
+
+		private final LongAdder acquisitions = new LongAdder();
+		private final LongAdder acquisitionNanos = new LongAdder();
+		private final LongAdder timeouts = new LongAdder();
+		private final AtomicLong maxAcquisitionNanos = new AtomicLong();
+
+		void register(ConnectionPool pool) {
+			pools.add(pool);
+		}
+
+		void unregister(ConnectionPool pool) {
+			pools.remove(pool);
+		}
+
+		void recordAcquisition(long nanos) {
+
+			acquisitions.increment();
+			acquisitionNanos.add(nanos);
+
+			if (nanos > maxAcquisitionNanos.get()) {
+				maxAcquisitionNanos.accumulateAndGet(nanos, Math::max);
+			}
+		}
+
+		void recordTimeout() {
+			timeouts.increment();
+		}
+
+		@Override
+		public int getActiveConnections() {
+			return pools.stream().mapToInt(ConnectionPool::getActiveConnections).sum();
+		}
+
+		@Override
+		public int getIdleConnections() {
+			return pools.stream().mapToInt(ConnectionPool::getIdleConnections).sum();
+		}
+
+		@Override
+		public int getPendingAcquisitions() {
+			return pools.stream().mapToInt(ConnectionPool::getPendingAcquisitions).sum();
+		}
+
+		@Override
+		public long getAcquisitions() {
+			return acquisitions.sum();
+		}
+
+		@Override
+		public long getAcquisitionTimeouts() {
+			return timeouts.sum();
+		}
+
+		@Override
+		public Duration getMeanAcquisitionTime() {
+
+			long count = acquisitions.sum();
+
+			return count == 0 ? Duration.ZERO : Duration.ofNanos(acquisitionNanos.sum() / count);
+		}
+
+		@Override
+		public Duration getMaxAcquisitionTime() {
+			return Duration.ofNanos(maxAcquisitionNanos.get());
+		}
+	}
+}
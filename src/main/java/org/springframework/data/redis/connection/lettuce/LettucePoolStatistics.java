@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the {@link LettucePoolingClientConfiguration#isUseLightweightPool() lightweight connection pool}.
+ * Statistics are captured locally, aggregate all pools of a connection factory and reflect the state of the pools at
+ * the time of the call.
+ *
+ * @since 4.2
+ * @see LettuceConnectionFactory#getPoolStatistics()
+ */
+public interface LettucePoolStatistics {
+
+	/**
+	 * @return the number of connections currently borrowed from the pool.
+	 */
+	int getActiveConnections();
+
+	/**
+	 * @return the number of idle connections.
+	 */
+	int getIdleConnections();
+
+	/**
+	 * @return the number of callers waiting for a connection.
+	 */
+	int getPendingAcquisitions();
+
+	/**
+	 * @return the total number of successful connection acquisitions.
+	 */
+	long getAcquisitions();
+
+	/**
+	 * @return the number of acquisitions that failed because no connection became available within {@code maxWait}.
+	 */
+	long getAcquisitionTimeouts();
+
+	/**
+	 * @return the mean time to acquire a connection, {@link Duration#ZERO} if no acquisitions have been recorded.
+	 */
+	Duration getMeanAcquisitionTime();
+
+	/**
+	 * @return the longest time observed to acquire a connection.
+	 */
+	Duration getMaxAcquisitionTime();
+}
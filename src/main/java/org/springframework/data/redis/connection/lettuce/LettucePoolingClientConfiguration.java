@@ -42,6 +42,21 @@ public interface LettucePoolingClientConfiguration extends LettuceClientConfigur
 	 */
 	GenericObjectPoolConfig<StatefulConnection<?, ?>> getPoolConfig();
 
+	/**
+	 * Whether to pool connections using the built-in lightweight pool instead of commons-pool2. The lightweight pool
+	 * hands out idle connections without locking, prefers the connection last released by the calling thread and
+	 * acquires connections asynchronously without blocking. It considers {@code maxTotal}, {@code maxIdle},
+	 * {@code minIdle}, {@code maxWait} and {@code blockWhenExhausted} of the {@link #getPoolConfig() pool config}.
+	 * Eviction and abandoned connection tracking are not supported.
+	 *
+	 * @return {@literal true} to use the lightweight pool.
+	 * @since 4.2
+	 * @see LettucePoolStatistics
+	 */
+	default boolean isUseLightweightPool() {
+		return false;
+	}
+
 	/**
 	 * Creates a new {@link LettucePoolingClientConfigurationBuilder} to build {@link LettucePoolingClientConfiguration}
 	 * to be used with the Lettuce client.
@@ -94,6 +109,8 @@ public interface LettucePoolingClientConfiguration extends LettuceClientConfigur
 
 		GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
 
+		boolean lightweightPool;
+
 		LettucePoolingClientConfigurationBuilder() {
 			super();
 		}
@@ -173,9 +190,22 @@ public interface LettucePoolingClientConfiguration extends LettuceClientConfigur
 			return this;
 		}
 
+		/**
+		 * Use the built-in lightweight pool instead of commons-pool2.
+		 *
+		 * @return {@literal this} builder.
+		 * @since 4.2
+		 * @see LettucePoolingClientConfiguration#isUseLightweightPool()
+		 */
+		public LettucePoolingClientConfigurationBuilder lightweightPool() {
+
+			this.lightweightPool = true;
+			return this;
+		}
+
 		@Override
 		public LettucePoolingClientConfiguration build() {
-			return new DefaultLettucePoolingClientConfiguration(super.build(), poolConfig);
+			return new DefaultLettucePoolingClientConfiguration(super.build(), poolConfig, lightweightPool);
 		}
 	}
 
@@ -50,7 +50,7 @@ class LettuceReactiveClusterHyperLogLogCommands extends LettuceReactiveHyperLogL
 	@Override
 	public Flux<BooleanResponse<PfMergeCommand>> pfMerge(Publisher<PfMergeCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null for PFMERGE");
 			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty for PFMERGE");
@@ -70,7 +70,7 @@ class LettuceReactiveClusterHyperLogLogCommands extends LettuceReactiveHyperLogL
 	@Override
 	public Flux<NumericResponse<PfCountCommand, Long>> pfCount(Publisher<PfCountCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notEmpty(command.getKeys(), "Keys must be null or empty for PFCOUNT");
 
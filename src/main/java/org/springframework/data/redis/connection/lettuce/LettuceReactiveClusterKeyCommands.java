@@ -76,7 +76,7 @@ class LettuceReactiveClusterKeyCommands extends LettuceReactiveKeyCommands imple
 	@Override
 	public Flux<BooleanResponse<RenameCommand>> rename(Publisher<RenameCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Old key must not be null");
 			Assert.notNull(command.getNewKey(), "New key must not be null");
@@ -98,7 +98,7 @@ class LettuceReactiveClusterKeyCommands extends LettuceReactiveKeyCommands imple
 	@Override
 	public Flux<BooleanResponse<RenameCommand>> renameNX(Publisher<RenameCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getNewKey(), "NewName must not be null");
@@ -50,7 +50,7 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 	@Override
 	public Flux<CommandResponse<SUnionCommand, Flux<ByteBuffer>>> sUnion(Publisher<SUnionCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKeys(), "Keys must not be null");
 
@@ -68,7 +68,7 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 	@Override
 	public Flux<NumericResponse<SUnionStoreCommand, Long>> sUnionStore(Publisher<SUnionStoreCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKeys(), "Source keys must not be null");
 			Assert.notNull(command.getKey(), "Destination key must not be null");
@@ -97,7 +97,7 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 	@Override
 	public Flux<CommandResponse<SInterCommand, Flux<ByteBuffer>>> sInter(Publisher<SInterCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKeys(), "Keys must not be null");
 
@@ -129,7 +129,7 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 	@Override
 	public Flux<NumericResponse<SInterStoreCommand, Long>> sInterStore(Publisher<SInterStoreCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKeys(), "Source keys must not be null");
 			Assert.notNull(command.getKey(), "Destination key must not be null");
@@ -158,7 +158,7 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 	@Override
 	public Flux<CommandResponse<SDiffCommand, Flux<ByteBuffer>>> sDiff(Publisher<SDiffCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKeys(), "Keys must not be null");
 
@@ -191,7 +191,7 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 	@Override
 	public Flux<NumericResponse<SDiffStoreCommand, Long>> sDiffStore(Publisher<SDiffStoreCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKeys(), "Source keys must not be null");
 			Assert.notNull(command.getKey(), "Destination key must not be null");
@@ -220,7 +220,7 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 	@Override
 	public Flux<BooleanResponse<SMoveCommand>> sMove(Publisher<SMoveCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Source key must not be null");
 			Assert.notNull(command.getDestination(), "Destination key must not be null");
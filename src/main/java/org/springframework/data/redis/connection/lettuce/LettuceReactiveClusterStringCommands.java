@@ -48,7 +48,7 @@ class LettuceReactiveClusterStringCommands extends LettuceReactiveStringCommands
 	@Override
 	public Flux<ReactiveRedisConnection.NumericResponse<BitOpCommand, Long>> bitOp(Publisher<BitOpCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			List<ByteBuffer> keys = new ArrayList<>(command.getKeys());
 			keys.add(command.getDestinationKey());
@@ -65,7 +65,7 @@ class LettuceReactiveClusterStringCommands extends LettuceReactiveStringCommands
 	@Override
 	public Flux<ReactiveRedisConnection.BooleanResponse<MSetCommand>> mSetNX(Publisher<MSetCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			if (ClusterSlotHashUtil.isSameSlotForAllKeys(command.getKeyValuePairs().keySet())) {
 				return super.mSetNX(Mono.just(command));
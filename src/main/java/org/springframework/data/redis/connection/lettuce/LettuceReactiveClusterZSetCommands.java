@@ -45,7 +45,7 @@ class LettuceReactiveClusterZSetCommands extends LettuceReactiveZSetCommands imp
 	public Flux<NumericResponse<ZAggregateStoreCommand, Long>> zUnionStore(
 			Publisher<? extends ZAggregateStoreCommand> commands) {
 
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty");
 
@@ -61,7 +61,7 @@ class LettuceReactiveClusterZSetCommands extends LettuceReactiveZSetCommands imp
 	@Override
 	public Flux<NumericResponse<ZAggregateStoreCommand, Long>> zInterStore(
 			Publisher<? extends ZAggregateStoreCommand> commands) {
-		return getConnection().execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return getConnection().execute(cmd -> getConnection().mapCommands(commands, command -> {
 
 			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty");
 
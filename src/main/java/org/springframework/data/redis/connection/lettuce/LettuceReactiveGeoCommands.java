@@ -66,7 +66,7 @@ class LettuceReactiveGeoCommands implements ReactiveGeoCommands {
 	@Override
 	public Flux<NumericResponse<GeoAddCommand, Long>> geoAdd(Publisher<GeoAddCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getGeoLocations(), "Locations must not be null");
@@ -89,7 +89,7 @@ class LettuceReactiveGeoCommands implements ReactiveGeoCommands {
 	@Override
 	public Flux<CommandResponse<GeoDistCommand, Distance>> geoDist(Publisher<GeoDistCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFrom(), "From member must not be null");
@@ -111,7 +111,7 @@ class LettuceReactiveGeoCommands implements ReactiveGeoCommands {
 	@Override
 	public Flux<MultiValueResponse<GeoHashCommand, String>> geoHash(Publisher<GeoHashCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getMembers(), "Members must not be null");
@@ -125,7 +125,7 @@ class LettuceReactiveGeoCommands implements ReactiveGeoCommands {
 	@Override
 	public Flux<MultiValueResponse<GeoPosCommand, Point>> geoPos(Publisher<GeoPosCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getMembers(), "Members must not be null");
@@ -142,7 +142,7 @@ class LettuceReactiveGeoCommands implements ReactiveGeoCommands {
 	public Flux<CommandResponse<GeoRadiusCommand, Flux<GeoResult<GeoLocation<ByteBuffer>>>>> geoRadius(
 			Publisher<GeoRadiusCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getPoint(), "Point must not be null");
@@ -165,7 +165,7 @@ class LettuceReactiveGeoCommands implements ReactiveGeoCommands {
 	public Flux<CommandResponse<GeoRadiusByMemberCommand, Flux<GeoResult<GeoLocation<ByteBuffer>>>>> geoRadiusByMember(
 			Publisher<GeoRadiusByMemberCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getMember(), "Member must not be null");
@@ -66,7 +66,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<BooleanResponse<HSetCommand>> hSet(Publisher<HSetCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFieldValueMap(), "FieldValueMap must not be null");
@@ -93,7 +93,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<MultiValueResponse<HGetCommand, ByteBuffer>> hMGet(Publisher<HGetCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -116,7 +116,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<BooleanResponse<HExistsCommand>> hExists(Publisher<HExistsCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getName(), "Name must not be null");
@@ -128,7 +128,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<NumericResponse<HDelCommand, Long>> hDel(Publisher<HDelCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -141,7 +141,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> hLen(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Command.getKey() must not be null");
 
@@ -185,7 +185,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<CommandResponse<KeyCommand, Flux<ByteBuffer>>> hKeys(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -198,7 +198,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<CommandResponse<KeyCommand, Flux<ByteBuffer>>> hVals(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -212,7 +212,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	public Flux<CommandResponse<KeyCommand, Flux<Map.Entry<ByteBuffer, ByteBuffer>>>> hGetAll(
 			Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -226,7 +226,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	public Flux<CommandResponse<KeyCommand, Flux<Map.Entry<ByteBuffer, ByteBuffer>>>> hScan(
 			Publisher<KeyScanCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getOptions(), "ScanOptions must not be null");
@@ -259,7 +259,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<NumericResponse<HStrLenCommand, Long>> hStrLen(Publisher<HStrLenCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getField(), "Field must not be null");
@@ -272,7 +272,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	public Flux<NumericResponse<HashExpireCommand, Long>> applyHashFieldExpiration(
 			Publisher<HashExpireCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -320,7 +320,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<NumericResponse<HashFieldsCommand, Long>> hPersist(Publisher<HashFieldsCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -333,7 +333,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<NumericResponse<HashFieldsCommand, Long>> hTtl(Publisher<HashFieldsCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -346,7 +346,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<NumericResponse<HashFieldsCommand, Long>> hpTtl(Publisher<HashFieldsCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -359,7 +359,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<MultiValueResponse<HGetDelCommand, ByteBuffer>> hGetDel(Publisher<HGetDelCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -373,7 +373,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 	@Override
 	public Flux<MultiValueResponse<HGetExCommand, ByteBuffer>> hGetEx(Publisher<HGetExCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFields(), "Fields must not be null");
@@ -388,7 +388,7 @@ class LettuceReactiveHashCommands implements ReactiveHashCommands {
 
 	@Override
 	public Flux<BooleanResponse<HSetExCommand>> hSetEx(Publisher<HSetExCommand> commands) {
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getFieldValueMap(), "FieldValueMap must not be null");
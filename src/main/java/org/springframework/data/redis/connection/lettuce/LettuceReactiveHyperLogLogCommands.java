@@ -49,7 +49,7 @@ class LettuceReactiveHyperLogLogCommands implements ReactiveHyperLogLogCommands
 	@Override
 	public Flux<NumericResponse<PfAddCommand, Long>> pfAdd(Publisher<PfAddCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "key must not be null");
 
@@ -62,7 +62,7 @@ class LettuceReactiveHyperLogLogCommands implements ReactiveHyperLogLogCommands
 	@Override
 	public Flux<NumericResponse<PfCountCommand, Long>> pfCount(Publisher<PfCountCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notEmpty(command.getKeys(), "Keys must not be empty for PFCOUNT.");
 
@@ -74,7 +74,7 @@ class LettuceReactiveHyperLogLogCommands implements ReactiveHyperLogLogCommands
 	@Override
 	public Flux<BooleanResponse<PfMergeCommand>> pfMerge(Publisher<PfMergeCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Destination key must not be null for PFMERGE.");
 			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be empty for PFMERGE.");
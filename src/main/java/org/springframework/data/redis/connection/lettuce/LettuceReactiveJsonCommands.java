@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.springframework.data.redis.connection.lettuce.LettuceJsonCommands.*;
+
+import io.lettuce.core.json.arguments.JsonRangeArgs;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
+
+import org.springframework.data.redis.connection.ReactiveJsonCommands;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonSetCondition;
+import org.springframework.data.redis.connection.json.JsonType;
+import org.springframework.data.redis.connection.json.JsonValue;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveJsonCommands} implementation for Lettuce.
+ *
+ * @since 4.2
+ */
+class LettuceReactiveJsonCommands implements ReactiveJsonCommands {
+
+	private final LettuceReactiveRedisConnection connection;
+
+	/**
+	 * Create new {@link LettuceReactiveJsonCommands}.
+	 *
+	 * @param connection must not be {@literal null}.
+	 */
+	LettuceReactiveJsonCommands(LettuceReactiveRedisConnection connection) {
+
+		Assert.notNull(connection, "Connection must not be null");
+
+		this.connection = connection;
+	}
+
+	@Override
+	public Flux<Long> jsonArrAppend(ByteBuffer key, JsonPath path, JsonValue... values) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(values, "Values must not be empty");
+		Assert.noNullElements(values, "Values must not be null");
+
+		return connection.execute(cmd -> cmd.jsonArrappend(key, toPath(path), toJsonValues(values)));
+	}
+
+	@Override
+	public Flux<Long> jsonArrIndex(ByteBuffer key, JsonPath path, JsonValue value) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(value, "Value must not be null");
+
+		return connection.execute(cmd -> cmd.jsonArrindex(key, toPath(path), toJsonValue(value)));
+	}
+
+	@Override
+	public Flux<Long> jsonArrInsert(ByteBuffer key, JsonPath path, int index, JsonValue... values) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notEmpty(values, "Values must not be empty");
+		Assert.noNullElements(values, "Values must not be null");
+
+		return connection.execute(cmd -> cmd.jsonArrinsert(key, toPath(path), index, toJsonValues(values)));
+	}
+
+	@Override
+	public Flux<Long> jsonArrLen(ByteBuffer key, JsonPath path) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		return connection.execute(cmd -> cmd.jsonArrlen(key, toPath(path)));
+	}
+
+	@Override
+	public Flux<Long> jsonArrTrim(ByteBuffer key, JsonPath path, int start, int stop) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		JsonRangeArgs args = JsonRangeArgs.Builder.start(start).stop(stop);
+
+		return connection.execute(cmd -> cmd.jsonArrtrim(key, toPath(path), args));
+	}
+
+	@Override
+	public Mono<Long> jsonClear(ByteBuffer key, JsonPath path) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		return connection.execute(cmd -> cmd.jsonClear(key, toPath(path))).next();
+	}
+
+	@Override
+	public Mono<Long> jsonDel(ByteBuffer key, JsonPath path) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		return connection.execute(cmd -> cmd.jsonDel(key, toPath(path))).next();
+	}
+
+	@Override
+	public Mono<ByteBuffer> jsonGet(ByteBuffer key, JsonPath... paths) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notEmpty(paths, "Paths must not be empty");
+		Assert.noNullElements(paths, "Paths must not be null");
+
+		io.lettuce.core.json.JsonPath[] jsonPaths = Stream.of(paths).map(LettuceJsonCommands::toPath)
+				.toArray(io.lettuce.core.json.JsonPath[]::new);
+
+		return connection.execute(cmd -> cmd.jsonGet(key, jsonPaths)).next()
+				.mapNotNull(io.lettuce.core.json.JsonValue::asByteBuffer);
+	}
+
+	@Override
+	public Mono<Boolean> jsonMerge(ByteBuffer key, JsonPath path, JsonValue value) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(value, "Value must not be null");
+
+		return connection.execute(cmd -> cmd.jsonMerge(key, toPath(path), toJsonValue(value))).next()
+				.map(LettuceConverters::stringToBoolean).defaultIfEmpty(false);
+	}
+
+	@Override
+	public Mono<Boolean> jsonSet(ByteBuffer key, JsonPath path, JsonValue value, JsonSetCondition condition) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(value, "Value must not be null");
+		Assert.notNull(condition, "Condition must not be null");
+
+		return connection
+				.execute(cmd -> cmd.jsonSet(key, toPath(path), toJsonValue(value), LettuceConverters.toJsonSetArgs(condition)))
+				.next().map(LettuceConverters::stringToBoolean).defaultIfEmpty(false);
+	}
+
+	@Override
+	public Flux<Long> jsonStrAppend(ByteBuffer key, JsonPath path, String value) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(value, "Value must not be null");
+
+		return connection.execute(cmd -> cmd.jsonStrappend(key, toPath(path), toJsonValue(JsonValue.of(value))));
+	}
+
+	@Override
+	public Flux<Long> jsonStrLen(ByteBuffer key, JsonPath path) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		return connection.execute(cmd -> cmd.jsonStrlen(key, toPath(path)));
+	}
+
+	@Override
+	public Flux<Boolean> jsonToggle(ByteBuffer key, JsonPath path) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		return connection.execute(cmd -> cmd.jsonToggle(key, toPath(path))).map(value -> LettuceConverters.toBoolean(value));
+	}
+
+	@Override
+	public Flux<JsonType> jsonType(ByteBuffer key, JsonPath path) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		return connection.execute(cmd -> cmd.jsonType(key, toPath(path))).map(LettuceConverters::fromJsonType);
+	}
+
+	private static io.lettuce.core.json.JsonValue[] toJsonValues(JsonValue... values) {
+		return Stream.of(values).map(LettuceJsonCommands::toJsonValue).toArray(io.lettuce.core.json.JsonValue[]::new);
+	}
+}
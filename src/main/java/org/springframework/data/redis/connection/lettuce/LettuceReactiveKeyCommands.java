@@ -70,7 +70,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<CopyCommand>> copy(Publisher<CopyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap((command) -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -98,7 +98,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<KeyCommand>> exists(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap((command) -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -110,7 +110,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<CommandResponse<KeyCommand, DataType>> type(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -158,7 +158,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<RenameCommand>> rename(Publisher<RenameCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getNewKey(), "New name must not be null");
@@ -171,7 +171,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<RenameCommand>> renameNX(Publisher<RenameCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getNewKey(), "New name must not be null");
@@ -183,7 +183,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> del(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap((command) -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -194,7 +194,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<DelexCommand>> delex(Publisher<DelexCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getCondition(), "Condition must not be null");
@@ -221,7 +221,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> unlink(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap((command) -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -243,7 +243,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<ExpireCommand>> applyExpiration(Publisher<ExpireCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -287,7 +287,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<ExpireAtCommand>> expireAt(Publisher<ExpireAtCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getExpireAt(), "Expire at must not be null");
@@ -300,7 +300,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<ExpireAtCommand>> pExpireAt(Publisher<ExpireAtCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getExpireAt(), "Expire at must not be null");
@@ -313,7 +313,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<KeyCommand>> persist(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -324,7 +324,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> ttl(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -335,7 +335,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> pTtl(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -346,7 +346,7 @@ class LettuceReactiveKeyCommands implements ReactiveKeyCommands {
 	@Override
 	public Flux<BooleanResponse<MoveCommand>> move(Publisher<MoveCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getDatabase(), "Database must not be null");
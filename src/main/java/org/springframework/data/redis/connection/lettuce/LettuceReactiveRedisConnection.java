@@ -24,12 +24,15 @@ import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.NullUnmarked;
 import org.jspecify.annotations.Nullable;
@@ -59,6 +62,10 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 
 	private @Nullable Mono<StatefulConnection<ByteBuffer, ByteBuffer>> sharedConnection;
 
+	private volatile int commandConcurrency = 1;
+
+	private final AtomicInteger activePipelines = new AtomicInteger();
+
 	/**
 	 * Creates new {@link LettuceReactiveRedisConnection}.
 	 *
@@ -167,6 +174,11 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 		return new LettuceReactiveStreamCommands(this);
 	}
 
+	@Override
+	public ReactiveJsonCommands jsonCommands() {
+		return new LettuceReactiveJsonCommands(this);
+	}
+
 	@Override
 	public Mono<String> ping() {
 		return execute(BaseRedisReactiveCommands::ping).next();
@@ -189,13 +201,75 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 		return getDedicatedCommands().flatMapMany(callback::doWithCommands).onErrorMap(translateException());
 	}
 
+	@Override
+	public void setCommandConcurrency(int commandConcurrency) {
+
+		Assert.isTrue(commandConcurrency > 0, "Command concurrency must be greater than zero");
+
+		this.commandConcurrency = commandConcurrency;
+	}
+
+	/**
+	 * Map each element of the {@code commands} stream to a Redis call. Up to {@link #setCommandConcurrency(int) command
+	 * concurrency} calls are in flight at the same time, results are emitted in the order of {@code commands}.
+	 *
+	 * @param commands the command stream.
+	 * @param mapper function issuing the Redis call for a single command.
+	 * @return the ordered results.
+	 * @since 4.2
+	 */
+	<T, R> Flux<R> mapCommands(Publisher<T> commands, Function<? super T, ? extends Publisher<? extends R>> mapper) {
+
+		int concurrency = this.commandConcurrency;
+
+		return concurrency > 1 ? Flux.from(commands).flatMapSequential(mapper, concurrency)
+				: Flux.from(commands).concatMap(mapper);
+	}
+
+	/**
+	 * Pipelining routes commands of this connection to the dedicated connection as toggling
+	 * {@link StatefulConnection#setAutoFlushCommands(boolean) auto-flush} on the shared connection would affect other
+	 * callers. Commands are routed to the shared connection again once the pipeline completes, fails or is cancelled.
+	 */
+	@Override
+	public <T> Flux<T> pipeline(Supplier<? extends Publisher<T>> commands) {
+
+		Assert.notNull(commands, "Commands must not be null");
+
+		return Flux.defer(() -> {
+
+			activePipelines.incrementAndGet();
+
+			return getDedicatedConnection().flatMapMany(connection -> Flux.<T> create(sink -> {
+
+				Disposable subscription;
+				connection.setAutoFlushCommands(false);
+				try {
+					subscription = Flux.from(commands.get()).subscribe(sink::next, sink::error, sink::complete);
+				} catch (RuntimeException ex) {
+					sink.error(ex);
+					return;
+				} finally {
+					connection.setAutoFlushCommands(true);
+					connection.flushCommands();
+				}
+
+				sink.onDispose(subscription);
+			})).doFinally(signal -> activePipelines.decrementAndGet());
+		});
+	}
+
+	private boolean isPipelining() {
+		return activePipelines.get() > 0;
+	}
+
 	public Mono<Void> closeLater() {
 		return Flux.mergeDelayError(2, dedicatedConnection.close(), pubSubConnection.close()).then();
 	}
 
 	protected Mono<? extends StatefulConnection<ByteBuffer, ByteBuffer>> getConnection() {
 
-		if (sharedConnection != null) {
+		if (sharedConnection != null && !isPipelining()) {
 			return sharedConnection;
 		}
 
@@ -212,7 +286,7 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 
 	protected Mono<? extends RedisClusterReactiveCommands<ByteBuffer, ByteBuffer>> getCommands() {
 
-		if (sharedConnection != null) {
+		if (sharedConnection != null && !isPipelining()) {
 			return sharedConnection.map(LettuceReactiveRedisConnection::getRedisClusterReactiveCommands);
 		}
 
@@ -112,6 +112,46 @@ class LettuceReactiveScriptingCommands implements ReactiveScriptingCommands {
 				returnType);
 	}
 
+	@Override
+	public Mono<String> functionLoad(ByteBuffer libraryCode, boolean replace) {
+
+		Assert.notNull(libraryCode, "Library code must not be null");
+
+		String code = Charset.defaultCharset().decode(libraryCode).toString();
+
+		return connection.execute(cmd -> cmd.functionLoad(code, replace)).next();
+	}
+
+	@Override
+	public <T> Flux<T> fCall(String function, ReturnType returnType, int numKeys, ByteBuffer... keysAndArgs) {
+
+		Assert.notNull(function, "Function must not be null");
+		Assert.notNull(returnType, "ReturnType must not be null");
+		Assert.notNull(keysAndArgs, "Keys and args must not be null");
+
+		ByteBuffer[] keys = extractScriptKeys(numKeys, keysAndArgs);
+		ByteBuffer[] args = extractScriptArgs(numKeys, keysAndArgs);
+
+		return convertIfNecessary(
+				connection.execute(cmd -> cmd.fcall(function, LettuceConverters.toScriptOutputType(returnType), keys, args)),
+				returnType);
+	}
+
+	@Override
+	public <T> Flux<T> fCallReadOnly(String function, ReturnType returnType, int numKeys, ByteBuffer... keysAndArgs) {
+
+		Assert.notNull(function, "Function must not be null");
+		Assert.notNull(returnType, "ReturnType must not be null");
+		Assert.notNull(keysAndArgs, "Keys and args must not be null");
+
+		ByteBuffer[] keys = extractScriptKeys(numKeys, keysAndArgs);
+		ByteBuffer[] args = extractScriptArgs(numKeys, keysAndArgs);
+
+		return convertIfNecessary(connection
+				.execute(cmd -> cmd.fcallReadOnly(function, LettuceConverters.toScriptOutputType(returnType), keys, args)),
+				returnType);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> Flux<T> convertIfNecessary(Flux<T> eval, ReturnType returnType) {
 
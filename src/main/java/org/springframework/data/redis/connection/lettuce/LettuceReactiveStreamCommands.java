@@ -81,7 +81,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@Override
 	public Flux<NumericResponse<AcknowledgeCommand, Long>> xAck(Publisher<AcknowledgeCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getGroup(), "Group must not be null");
@@ -97,7 +97,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@SuppressWarnings("NullAway")
 	public Flux<CommandResponse<AddStreamRecord, RecordId>> xAdd(Publisher<AddStreamRecord> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getBody(), "Body must not be null");
@@ -142,7 +142,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@Override
 	public Flux<CommandResponse<DeleteCommand, Long>> xDel(Publisher<DeleteCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRecordIds(), "recordIds must not be null");
@@ -155,7 +155,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@Override
 	public Flux<CommandResponse<DeleteExCommand, List<StreamEntryDeletionResult>>> xDelEx(Publisher<DeleteExCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRecordIds(), "recordIds must not be null");
@@ -173,7 +173,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	public Flux<CommandResponse<AcknowledgeDeleteCommand, List<StreamEntryDeletionResult>>> xAckDel(
 			Publisher<AcknowledgeDeleteCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getGroup(), "Group must not be null");
@@ -193,7 +193,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public Flux<CommandResponse<GroupCommand, String>> xGroup(Publisher<GroupCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getGroupName(), "GroupName must not be null");
@@ -231,7 +231,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> xLen(Publisher<KeyCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -243,7 +243,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	public Flux<CommandResponse<PendingRecordsCommand, PendingMessagesSummary>> xPendingSummary(
 			Publisher<PendingRecordsCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			return cmd.xpending(command.getKey(), ByteUtils.getByteBuffer(command.getGroupName())).map(it -> {
@@ -256,7 +256,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@SuppressWarnings("NullAway")
 	public Flux<CommandResponse<PendingRecordsCommand, PendingMessages>> xPending(
 			Publisher<PendingRecordsCommand> commands) {
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -396,7 +396,7 @@ class LettuceReactiveStreamCommands implements ReactiveStreamCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> xTrim(Publisher<TrimCommand> commands) {
 
-		return connection.execute(cmd -> Flux.from(commands).concatMap(command -> {
+		return connection.execute(cmd -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getOptions(), "Options must not be null");
@@ -88,7 +88,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<SetCommand>> set(Publisher<SetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap((command) -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -106,7 +106,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<ByteBufferResponse<SetCommand>> setGet(Publisher<SetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap((command) -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -135,7 +135,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<ByteBufferResponse<SetCommand>> getSet(Publisher<SetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap((command) -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -154,7 +154,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<ByteBufferResponse<KeyCommand>> get(Publisher<KeyCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap((command) -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -166,7 +166,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<ByteBufferResponse<KeyCommand>> getDel(Publisher<KeyCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap((command) -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -178,7 +178,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<ByteBufferResponse<GetExCommand>> getEx(Publisher<GetExCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap((command) -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, (command) -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -192,7 +192,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<SetCommand>> setNX(Publisher<SetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -205,7 +205,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<SetCommand>> setEX(Publisher<SetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -221,7 +221,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<SetCommand>> pSetEX(Publisher<SetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -237,7 +237,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<MSetCommand>> mSet(Publisher<MSetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notEmpty(command.getKeyValuePairs(), "Pairs must not be null or empty");
 
@@ -249,7 +249,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<MSetCommand>> mSetNX(Publisher<MSetCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notEmpty(command.getKeyValuePairs(), "Pairs must not be null or empty");
 
@@ -260,7 +260,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<NumericResponse<AppendCommand, Long>> append(Publisher<AppendCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -273,7 +273,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<ByteBufferResponse<RangeCommand>> getRange(Publisher<RangeCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -291,7 +291,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<NumericResponse<SetRangeCommand, Long>> setRange(Publisher<SetRangeCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -305,7 +305,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<GetBitCommand>> getBit(Publisher<GetBitCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getOffset(), "Offset must not be null");
@@ -318,7 +318,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<BooleanResponse<SetBitCommand>> setBit(Publisher<SetBitCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getOffset(), "Offset must not be null");
@@ -331,7 +331,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<NumericResponse<BitCountCommand, Long>> bitCount(Publisher<BitCountCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -348,7 +348,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<MultiValueResponse<BitFieldCommand, Long>> bitField(Publisher<BitFieldCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -363,7 +363,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<NumericResponse<BitOpCommand, Long>> bitOp(Publisher<BitOpCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getDestinationKey(), "DestinationKey must not be null");
 			Assert.notEmpty(command.getKeys(), "Keys must not be null or empty");
@@ -422,7 +422,7 @@ class LettuceReactiveStringCommands implements ReactiveStringCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> strLen(Publisher<KeyCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> reactiveCommands
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> reactiveCommands
 				.strlen(command.getKey()).map(respValue -> new NumericResponse<>(command, respValue))));
 	}
 
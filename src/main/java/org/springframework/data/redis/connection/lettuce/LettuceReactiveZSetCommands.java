@@ -77,7 +77,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@SuppressWarnings("unchecked")
 	public Flux<NumericResponse<ZAddCommand, Number>> zAdd(Publisher<ZAddCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notEmpty(command.getTuples(), "Tuples must not be empty or null");
@@ -126,7 +126,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZRemCommand, Long>> zRem(Publisher<ZRemCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notEmpty(command.getValues(), "Values must not be null or empty");
@@ -140,7 +140,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZIncrByCommand, Double>> zIncrBy(Publisher<ZIncrByCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Member must not be null");
@@ -181,7 +181,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZRankCommand, Long>> zRank(Publisher<ZRankCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -197,7 +197,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<CommandResponse<ZRangeCommand, Flux<Tuple>>> zRange(Publisher<ZRangeCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -229,7 +229,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@SuppressWarnings("unchecked")
 	public Flux<CommandResponse<ZRangeStoreCommand, Mono<Long>>> zRangeStore(Publisher<ZRangeStoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Source key must not be null");
 			Assert.notNull(command.getDestKey(), "Destination key must not be null");
@@ -266,7 +266,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	public Flux<CommandResponse<ZRangeByScoreCommand, Flux<Tuple>>> zRangeByScore(
 			Publisher<ZRangeByScoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -327,7 +327,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<CommandResponse<KeyCommand, Flux<Tuple>>> zScan(Publisher<KeyScanCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getOptions(), "ScanOptions must not be null");
@@ -343,7 +343,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZCountCommand, Long>> zCount(Publisher<ZCountCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -358,7 +358,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZLexCountCommand, Long>> zLexCount(Publisher<ZLexCountCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -429,7 +429,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<KeyCommand, Long>> zCard(Publisher<KeyCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 
@@ -440,7 +440,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZScoreCommand, Double>> zScore(Publisher<ZScoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValue(), "Value must not be null");
@@ -453,7 +453,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<MultiValueResponse<ZMScoreCommand, Double>> zMScore(Publisher<ZMScoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getValues(), "Values must not be null");
@@ -467,7 +467,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	public Flux<NumericResponse<ZRemRangeByRankCommand, Long>> zRemRangeByRank(
 			Publisher<ZRemRangeByRankCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -484,7 +484,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	public Flux<NumericResponse<ZRemRangeByScoreCommand, Long>> zRemRangeByScore(
 			Publisher<ZRemRangeByScoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -499,7 +499,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZRemRangeByLexCommand, Long>> zRemRangeByLex(Publisher<ZRemRangeByLexCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Key must not be null");
 			Assert.notNull(command.getRange(), "Range must not be null");
@@ -539,7 +539,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	@Override
 	public Flux<NumericResponse<ZDiffStoreCommand, Long>> zDiffStore(Publisher<ZDiffStoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Destination key must not be null");
 			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty");
@@ -603,7 +603,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	public Flux<NumericResponse<ZAggregateStoreCommand, Long>> zInterStore(
 			Publisher<? extends ZAggregateStoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Destination key must not be null");
 			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty");
@@ -676,7 +676,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	public Flux<NumericResponse<ZAggregateStoreCommand, Long>> zUnionStore(
 			Publisher<? extends ZAggregateStoreCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Destination key must not be null");
 			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty");
@@ -701,7 +701,7 @@ class LettuceReactiveZSetCommands implements ReactiveZSetCommands {
 	public Flux<CommandResponse<ZRangeByLexCommand, Flux<ByteBuffer>>> zRangeByLex(
 			Publisher<ZRangeByLexCommand> commands) {
 
-		return this.connection.execute(reactiveCommands -> Flux.from(commands).concatMap(command -> {
+		return this.connection.execute(reactiveCommands -> connection.mapCommands(commands, command -> {
 
 			Assert.notNull(command.getKey(), "Destination key must not be null");
 
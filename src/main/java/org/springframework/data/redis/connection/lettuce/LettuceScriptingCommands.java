@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.connection.lettuce;
 
+import io.lettuce.core.FlushMode;
+import io.lettuce.core.api.async.RedisFunctionAsyncCommands;
 import io.lettuce.core.api.async.RedisScriptingAsyncCommands;
 
 import java.util.Arrays;
@@ -113,6 +115,50 @@ class LettuceScriptingCommands implements RedisScriptingCommands {
 		return evalSha(LettuceConverters.toString(scriptSha1), returnType, numKeys, keysAndArgs);
 	}
 
+	@Override
+	public String functionLoad(byte @NonNull [] libraryCode, boolean replace) {
+
+		Assert.notNull(libraryCode, "Library code must not be null");
+
+		return connection.invoke().just(RedisFunctionAsyncCommands::functionLoad, LettuceConverters.toString(libraryCode),
+				replace);
+	}
+
+	@Override
+	public void functionFlush() {
+		connection.invoke().just(RedisFunctionAsyncCommands::functionFlush, FlushMode.SYNC);
+	}
+
+	@Override
+	public <T> T fCall(@NonNull String function, @NonNull ReturnType returnType, int numKeys,
+			byte @NonNull [] @NonNull... keysAndArgs) {
+
+		Assert.notNull(function, "Function must not be null");
+
+		byte[][] keys = extractScriptKeys(numKeys, keysAndArgs);
+		byte[][] args = extractScriptArgs(numKeys, keysAndArgs);
+
+		return connection
+				.invoke().from(RedisFunctionAsyncCommands::fcall, function,
+						LettuceConverters.toScriptOutputType(returnType), keys, args)
+				.get(new LettuceEvalResultsConverter<T>(returnType));
+	}
+
+	@Override
+	public <T> T fCallReadOnly(@NonNull String function, @NonNull ReturnType returnType, int numKeys,
+			byte @NonNull [] @NonNull... keysAndArgs) {
+
+		Assert.notNull(function, "Function must not be null");
+
+		byte[][] keys = extractScriptKeys(numKeys, keysAndArgs);
+		byte[][] args = extractScriptArgs(numKeys, keysAndArgs);
+
+		return connection
+				.invoke().from(RedisFunctionAsyncCommands::fcallReadOnly, function,
+						LettuceConverters.toScriptOutputType(returnType), keys, args)
+				.get(new LettuceEvalResultsConverter<T>(returnType));
+	}
+
 	private static byte[][] extractScriptKeys(int numKeys, byte[]... keysAndArgs) {
 		if (numKeys > 0) {
 			return Arrays.copyOfRange(keysAndArgs, 0, numKeys);
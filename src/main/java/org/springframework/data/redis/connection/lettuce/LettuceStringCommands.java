@@ -60,7 +60,8 @@ class LettuceStringCommands implements RedisStringCommands {
 
 		Assert.notNull(key, "Key must not be null");
 
-		return connection.invoke().just(RedisStringAsyncCommands::get, key);
+		return connection.readThroughClientSideCache(key, null,
+				() -> connection.invoke().just(RedisStringAsyncCommands::get, key));
 	}
 
 	@Override
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.NullUnmarked;
+
+/**
+ * Redis operations for bitmaps addressing many offsets and keys at once. Offset updates and reads are translated into
+ * {@code BITFIELD} commands, one per key, that are sent within a single pipeline. Bits are exchanged as
+ * {@link BitSet}, where bit {@code n} of the {@link BitSet} represents offset {@code n} of the Redis bitmap.
+ * <p>
+ * {@link BitSet} indexes are {@code int} values, hence only offsets up to {@link Integer#MAX_VALUE} can be addressed.
+ *
+ * @param <K> key type.
+ * @since 4.2
+ * @see <a href="https://redis.io/commands/bitfield">Redis Documentation: BITFIELD</a>
+ */
+@NullUnmarked
+public interface BitmapOperations<K> {
+
+	/**
+	 * Set the given {@code offsets} of the bitmap at {@code key} to {@code value}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param offsets must not be {@literal null}.
+	 * @param value the bit value to set.
+	 */
+	default void set(@NonNull K key, @NonNull BitSet offsets, boolean value) {
+		batch().set(key, offsets, value).execute();
+	}
+
+	/**
+	 * Read the given {@code offsets} of the bitmap at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param offsets must not be {@literal null}.
+	 * @return the subset of {@code offsets} that are set.
+	 */
+	default BitSet get(@NonNull K key, @NonNull BitSet offsets) {
+		return batch().get(key, offsets).execute().get(key);
+	}
+
+	/**
+	 * Read the entire bitmap stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the bitmap, empty if {@code key} does not exist.
+	 * @see <a href="https://redis.io/commands/get">Redis Documentation: GET</a>
+	 */
+	BitSet getBitmap(@NonNull K key);
+
+	/**
+	 * Read the entire bitmaps stored at {@code keys} using a single {@code MGET}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return bitmaps per key in iteration order of {@code keys}, empty for keys that do not exist.
+	 * @see <a href="https://redis.io/commands/mget">Redis Documentation: MGET</a>
+	 */
+	Map<K, BitSet> getBitmaps(@NonNull Collection<@NonNull K> keys);
+
+	/**
+	 * Replace the bitmap stored at {@code key} with {@code bitmap}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param bitmap must not be {@literal null}.
+	 * @see <a href="https://redis.io/commands/set">Redis Documentation: SET</a>
+	 */
+	void setBitmap(@NonNull K key, @NonNull BitSet bitmap);
+
+	/**
+	 * Create a new {@link BitmapBatch} collecting offset updates and reads across keys.
+	 *
+	 * @return a new {@link BitmapBatch}.
+	 */
+	BitmapBatch<K> batch();
+
+	/**
+	 * @return the underlying {@link RedisOperations} used to execute commands.
+	 */
+	@NonNull
+	RedisOperations<K, ?> getOperations();
+
+	/**
+	 * Builder collecting bitmap updates and reads. Steps registered for the same key are applied in registration order
+	 * using a single {@code BITFIELD} command (split into multiple commands for very large batches), all keys are sent
+	 * within one pipeline. Updates of whole bytes are written as 8-bit fields and reads fetch each touched byte once.
+	 *
+	 * @param <K> key type.
+	 */
+	interface BitmapBatch<K> {
+
+		/**
+		 * Set the bit at {@code offset} of the bitmap at {@code key} to {@code value}.
+		 *
+		 * @param key must not be {@literal null}.
+		 * @param offset offset of the bit, must not be negative.
+		 * @param value the bit value to set.
+		 * @return this batch.
+		 */
+		BitmapBatch<K> set(@NonNull K key, int offset, boolean value);
+
+		/**
+		 * Set the given {@code offsets} of the bitmap at {@code key} to {@code value}.
+		 *
+		 * @param key must not be {@literal null}.
+		 * @param offsets must not be {@literal null}.
+		 * @param value the bit value to set.
+		 * @return this batch.
+		 */
+		BitmapBatch<K> set(@NonNull K key, @NonNull BitSet offsets, boolean value);
+
+		/**
+		 * Read the given {@code offsets} of the bitmap at {@code key}.
+		 *
+		 * @param key must not be {@literal null}.
+		 * @param offsets must not be {@literal null}.
+		 * @return this batch.
+		 */
+		BitmapBatch<K> get(@NonNull K key, @NonNull BitSet offsets);
+
+		/**
+		 * Execute all collected steps.
+		 *
+		 * @return for each key that was read, the subset of requested offsets that are set.
+		 */
+		Map<K, BitSet> execute();
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldGet;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldSet;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldSubCommand;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.BitFieldSubCommands.Offset;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link BitmapOperations}.
+ *
+ * @since 4.2
+ */
+class DefaultBitmapOperations<K, V> extends AbstractOperations<K, V> implements BitmapOperations<K> {
+
+	/**
+	 * Upper bound of sub-commands sent with a single {@code BITFIELD} command.
+	 */
+	static final int MAX_SUB_COMMANDS = 1024;
+
+	private static final BitFieldType BIT = BitFieldType.unsigned(1);
+	private static final BitFieldType BYTE = BitFieldType.UINT_8;
+
+	DefaultBitmapOperations(RedisTemplate<K, V> template) {
+		super(template);
+	}
+
+	@Override
+	public BitSet getBitmap(K key) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] raw = execute(connection -> connection.get(rawKey));
+
+		return raw != null ? toBitSet(raw) : new BitSet();
+	}
+
+	@Override
+	public Map<K, BitSet> getBitmaps(Collection<K> keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+
+		if (keys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		byte[][] rawKeys = rawKeys(keys);
+		List<byte[]> raw = execute(connection -> connection.mGet(rawKeys));
+
+		Map<K, BitSet> bitmaps = new LinkedHashMap<>(keys.size());
+		int i = 0;
+		for (K key : keys) {
+
+			byte[] value = raw != null ? raw.get(i++) : null;
+			bitmaps.put(key, value != null ? toBitSet(value) : new BitSet());
+		}
+
+		return bitmaps;
+	}
+
+	@Override
+	public void setBitmap(K key, BitSet bitmap) {
+
+		Assert.notNull(bitmap, "Bitmap must not be null");
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = toRedisBitmap(bitmap);
+
+		execute(connection -> connection.set(rawKey, rawValue));
+	}
+
+	@Override
+	public BitmapBatch<K> batch() {
+		return new DefaultBitmapBatch();
+	}
+
+	/**
+	 * Convert a Redis bitmap, addressing bits from the most significant bit of the first byte, into a {@link BitSet}.
+	 */
+	static BitSet toBitSet(byte[] bitmap) {
+
+		byte[] reversed = new byte[bitmap.length];
+		for (int i = 0; i < bitmap.length; i++) {
+			reversed[i] = reverse(bitmap[i]);
+		}
+
+		return BitSet.valueOf(reversed);
+	}
+
+	/**
+	 * Convert a {@link BitSet} into the Redis bitmap representation.
+	 */
+	static byte[] toRedisBitmap(BitSet bits) {
+
+		byte[] bitmap = bits.toByteArray();
+		for (int i = 0; i < bitmap.length; i++) {
+			bitmap[i] = reverse(bitmap[i]);
+		}
+
+		return bitmap;
+	}
+
+	private static byte reverse(byte value) {
+		return (byte) (Integer.reverse(value & 0xff) >>> 24);
+	}
+
+	/**
+	 * A batch step applying {@code value} to or reading {@code offsets} if {@code value} is {@literal null}.
+	 */
+	private record Step(BitSet offsets, @Nullable Boolean value) {
+
+		boolean isRead() {
+			return value == null;
+		}
+	}
+
+	/**
+	 * Position of a read byte within the pipelined results and the requested offsets within that byte.
+	 */
+	private record ByteRead(int command, int index, int byteOffset, int mask) {}
+
+	private class DefaultBitmapBatch implements BitmapBatch<K> {
+
+		private final Map<K, List<Step>> steps = new LinkedHashMap<>();
+
+		@Override
+		public BitmapBatch<K> set(K key, int offset, boolean value) {
+
+			Assert.isTrue(offset >= 0, "Offset must not be negative");
+
+			stepFor(key, value).offsets().set(offset);
+			return this;
+		}
+
+		@Override
+		public BitmapBatch<K> set(K key, BitSet offsets, boolean value) {
+
+			Assert.notNull(offsets, "Offsets must not be null");
+
+			stepFor(key, value).offsets().or(offsets);
+			return this;
+		}
+
+		@Override
+		public BitmapBatch<K> get(K key, BitSet offsets) {
+
+			Assert.notNull(offsets, "Offsets must not be null");
+
+			stepFor(key, null).offsets().or(offsets);
+			return this;
+		}
+
+		/**
+		 * Return the last step for {@code key} if it is compatible with {@code value} or register a new one.
+		 */
+		private Step stepFor(K key, @Nullable Boolean value) {
+
+			Assert.notNull(key, "Key must not be null");
+
+			List<Step> keySteps = steps.computeIfAbsent(key, it -> new ArrayList<>());
+
+			if (!keySteps.isEmpty()) {
+
+				Step last = keySteps.get(keySteps.size() - 1);
+				if (last.isRead() ? value == null : last.value().equals(value)) {
+					return last;
+				}
+			}
+
+			Step step = new Step(new BitSet(), value);
+			keySteps.add(step);
+			return step;
+		}
+
+		@Override
+		public Map<K, BitSet> execute() {
+
+			List<byte[]> rawKeys = new ArrayList<>();
+			List<BitFieldSubCommands> commands = new ArrayList<>();
+			Map<K, List<ByteRead>> reads = new LinkedHashMap<>();
+
+			steps.forEach((key, keySteps) -> {
+
+				List<BitFieldSubCommand> subCommands = new ArrayList<>();
+				List<ByteRead> keyReads = new ArrayList<>();
+				boolean read = false;
+
+				for (Step step : keySteps) {
+					if (step.isRead()) {
+						read = true;
+						addReads(step.offsets(), subCommands, keyReads, commands.size());
+					} else {
+						addWrites(step.offsets(), step.value(), subCommands);
+					}
+				}
+
+				// keys read without offsets still report an empty result
+				if (read) {
+					reads.put(key, keyReads);
+				}
+
+				byte[] rawKey = rawKey(key);
+				for (int i = 0; i < subCommands.size(); i += MAX_SUB_COMMANDS) {
+
+					List<BitFieldSubCommand> chunk = subCommands.subList(i, Math.min(i + MAX_SUB_COMMANDS, subCommands.size()));
+					rawKeys.add(rawKey);
+					commands.add(BitFieldSubCommands.create(chunk.toArray(new BitFieldSubCommand[0])));
+				}
+			});
+
+			List<Object> results = commands.isEmpty() ? Collections.emptyList()
+					: template.executePipelined((RedisCallback<Object>) connection -> {
+
+						for (int i = 0; i < commands.size(); i++) {
+							connection.bitField(rawKeys.get(i), commands.get(i));
+						}
+						return null;
+					}, null);
+
+			Map<K, BitSet> values = new LinkedHashMap<>(reads.size());
+			reads.forEach((key, keyReads) -> values.put(key, decode(keyReads, results)));
+
+			return values;
+		}
+
+		/**
+		 * Read each byte containing any of {@code offsets} once using an 8-bit field. {@code firstCommand} is the position
+		 * of the first {@code BITFIELD} command for the key within the pipeline.
+		 */
+		private void addReads(BitSet offsets, List<BitFieldSubCommand> subCommands, List<ByteRead> keyReads,
+				int firstCommand) {
+
+			for (int i = offsets.nextSetBit(0); i >= 0;) {
+
+				int byteOffset = i & ~7;
+				int mask = 0;
+
+				for (; i >= 0 && i < byteOffset + 8; i = next(offsets, i)) {
+					mask |= 0x80 >>> (i - byteOffset);
+				}
+
+				int position = subCommands.size();
+				keyReads.add(new ByteRead(firstCommand + position / MAX_SUB_COMMANDS, position % MAX_SUB_COMMANDS,
+						byteOffset, mask));
+				subCommands.add(BitFieldGet.create(BYTE, Offset.offset(byteOffset)));
+			}
+		}
+
+		private BitSet decode(List<ByteRead> keyReads, List<Object> results) {
+
+			BitSet value = new BitSet();
+
+			for (ByteRead read : keyReads) {
+
+				Number raw = (Number) ((List<?>) results.get(read.command())).get(read.index());
+				int bits = raw.intValue() & read.mask();
+
+				for (int bit = 0; bit < 8; bit++) {
+					if ((bits & (0x80 >>> bit)) != 0) {
+						value.set(read.byteOffset() + bit);
+					}
+				}
+			}
+
+			return value;
+		}
+
+		/**
+		 * Write whole bytes covered by {@code offsets} using 8-bit fields and remaining offsets using single bits.
+		 */
+		private void addWrites(BitSet offsets, boolean value, List<BitFieldSubCommand> subCommands) {
+
+			for (int i = offsets.nextSetBit(0); i >= 0;) {
+
+				if ((i & 7) == 0 && offsets.nextClearBit(i) - i >= 8) {
+
+					subCommands.add(BitFieldSet.create(BYTE, Offset.offset(i), value ? 0xff : 0));
+					i = offsets.nextSetBit(i + 8);
+				} else {
+
+					subCommands.add(BitFieldSet.create(BIT, Offset.offset(i), value ? 1 : 0));
+					i = next(offsets, i);
+				}
+			}
+		}
+
+		private static int next(BitSet offsets, int current) {
+			return current == Integer.MAX_VALUE ? -1 : offsets.nextSetBit(current + 1);
+		}
+	}
+}
@@ -15,13 +15,19 @@
  */
 package org.springframework.data.redis.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metric;
 import org.springframework.data.geo.Point;
@@ -31,6 +37,7 @@ import org.springframework.data.redis.connection.RedisGeoCommands.GeoRadiusComma
 import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.data.redis.domain.geo.GeoReference.GeoMemberReference;
 import org.springframework.data.redis.domain.geo.GeoShape;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * Default implementation of {@link GeoOperations}.
@@ -90,6 +97,42 @@ class DefaultGeoOperations<K, M> extends AbstractOperations<K, M> implements Geo
 		return add(key, memberCoordinateMap);
 	}
 
+	@Override
+	public Map<K, Long> addAll(Map<K, Map<M, Point>> locations) {
+
+		if (locations.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<byte[]> rawKeys = new ArrayList<>(locations.size());
+		List<Map<byte[], Point>> rawLocations = new ArrayList<>(locations.size());
+
+		for (Map.Entry<K, Map<M, Point>> entry : locations.entrySet()) {
+
+			Map<byte[], Point> rawMemberCoordinateMap = new LinkedHashMap<>(entry.getValue().size());
+			entry.getValue().forEach((member, point) -> rawMemberCoordinateMap.put(rawValue(member), point));
+
+			rawKeys.add(rawKey(entry.getKey()));
+			rawLocations.add(rawMemberCoordinateMap);
+		}
+
+		List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+
+			for (int i = 0; i < rawKeys.size(); i++) {
+				connection.geoAdd(rawKeys.get(i), rawLocations.get(i));
+			}
+			return null;
+		}, null);
+
+		Map<K, Long> added = new LinkedHashMap<>(locations.size());
+		Iterator<Object> iterator = results.iterator();
+		for (K key : locations.keySet()) {
+			added.put(key, (Long) iterator.next());
+		}
+
+		return added;
+	}
+
 	@Override
 	public Distance distance(K key, M member1, M member2) {
 
@@ -203,6 +246,60 @@ class DefaultGeoOperations<K, M> extends AbstractOperations<K, M> implements Geo
 		return deserializeGeoResults(raw);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<K, GeoResults<GeoLocation<M>>> search(Collection<K> keys, GeoReference<M> reference,
+			GeoShape geoPredicate, RedisGeoCommands.GeoSearchCommandArgs args) {
+
+		if (keys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<byte[]> rawKeys = keys.stream().map(this::rawKey).toList();
+		GeoReference<byte[]> rawMember = getGeoReference(reference);
+
+		List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+
+			for (byte[] rawKey : rawKeys) {
+				connection.geoSearch(rawKey, rawMember, geoPredicate, args);
+			}
+			return null;
+		}, null);
+
+		Map<K, GeoResults<GeoLocation<M>>> found = new LinkedHashMap<>(keys.size());
+		Iterator<Object> iterator = results.iterator();
+		for (K key : keys) {
+			found.put(key, deserializeGeoResults((GeoResults<GeoLocation<byte[]>>) iterator.next()));
+		}
+
+		return found;
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "NullAway" })
+	public Stream<GeoResult<GeoLocation<M>>> searchAsStream(K key, GeoReference<M> reference, GeoShape geoPredicate,
+			RedisGeoCommands.GeoSearchCommandArgs args) {
+
+		byte[] rawKey = rawKey(key);
+		GeoReference<byte[]> rawMember = getGeoReference(reference);
+
+		GeoResults<GeoLocation<byte[]>> raw = execute(
+				connection -> connection.geoSearch(rawKey, rawMember, geoPredicate, args));
+
+		if (raw == null) {
+			return Stream.empty();
+		}
+
+		RedisSerializer<M> serializer = (RedisSerializer<M>) valueSerializer();
+		if (serializer == null) {
+			return raw.getContent().stream().map(it -> (GeoResult<GeoLocation<M>>) (Object) it);
+		}
+
+		return raw.getContent().stream().map(it -> new GeoResult<>(
+				new GeoLocation<>(serializer.deserialize(it.getContent().getName()), it.getContent().getPoint()),
+				it.getDistance()));
+	}
+
 	@Override
 	public Long searchAndStore(K key, K destKey, GeoReference<M> reference, GeoShape geoPredicate,
 			RedisGeoCommands.GeoSearchStoreCommandArgs args) {
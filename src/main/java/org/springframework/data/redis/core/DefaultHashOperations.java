@@ -60,9 +60,12 @@ class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> imp
 
 		byte[] rawKey = rawKey(key);
 		byte[] rawHashKey = rawHashKey(hashKey);
-		byte[] rawHashValue = execute(connection -> connection.hGet(rawKey, rawHashKey));
 
-		return (HV) rawHashValue != null ? deserializeHashValue(rawHashValue) : null;
+		return template.executeRead("HGET", () -> {
+
+			byte[] rawHashValue = execute(connection -> connection.hGet(rawKey, rawHashKey));
+			return (HV) rawHashValue != null ? deserializeHashValue(rawHashValue) : null;
+		}, rawKey, rawHashKey);
 	}
 
 	@Override
@@ -191,9 +194,12 @@ class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> imp
 			rawHashKeys[counter++] = rawHashKey(hashKey);
 		}
 
-		List<byte[]> rawValues = execute(connection -> connection.hMGet(rawKey, rawHashKeys));
+		byte[][] args = new byte[rawHashKeys.length + 1][];
+		args[0] = rawKey;
+		System.arraycopy(rawHashKeys, 0, args, 1, rawHashKeys.length);
 
-		return deserializeHashValues(rawValues);
+		return template.executeRead("HMGET",
+				() -> deserializeHashValues(execute(connection -> connection.hMGet(rawKey, rawHashKeys))), args);
 	}
 
 	@Override
@@ -381,9 +387,12 @@ class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> imp
 	public Map<@NonNull HK, HV> entries(@NonNull K key) {
 
 		byte[] rawKey = rawKey(key);
-		Map<byte[], byte[]> entries = execute(connection -> connection.hGetAll(rawKey));
 
-		return entries != null ? deserializeHashMap(entries) : Collections.emptyMap();
+		return template.executeRead("HGETALL", () -> {
+
+			Map<byte[], byte[]> entries = execute(connection -> connection.hGetAll(rawKey));
+			return entries != null ? deserializeHashMap(entries) : Collections.emptyMap();
+		}, rawKey);
 	}
 
 	@Override
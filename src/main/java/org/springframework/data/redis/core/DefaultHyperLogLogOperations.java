@@ -15,7 +15,16 @@
  */
 package org.springframework.data.redis.core;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.SetCondition;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
 
 /**
  * @author Christoph Strobl
@@ -56,6 +65,78 @@ class DefaultHyperLogLogOperations<K, V> extends AbstractOperations<K, V> implem
 		});
 	}
 
+	@Override
+	public HyperLogLogSketch sketch(K key) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] raw = execute(connection -> connection.get(rawKey));
+
+		return raw != null ? HyperLogLogSketch.from(raw) : new HyperLogLogSketch();
+	}
+
+	@Override
+	public Long merge(K destination, HyperLogLogSketch sketch) {
+
+		Assert.notNull(sketch, "Sketch must not be null");
+
+		byte[] rawDestinationKey = rawKey(destination);
+		byte[] rawSketch = sketch.toByteArray();
+		byte[] rawTemporaryKey = temporaryKey(rawDestinationKey);
+
+		return execute(connection -> {
+
+			if (rawTemporaryKey == null) {
+
+				// no key sharing the slot of destination can be derived: merge locally instead
+				byte[] existing = connection.get(rawDestinationKey);
+				byte[] merged = existing != null ? HyperLogLogSketch.from(existing).merge(sketch).toByteArray() : rawSketch;
+
+				connection.set(rawDestinationKey, merged, SetCondition.upsert(), Expiration.keepTtl());
+				return connection.pfCount(rawDestinationKey);
+			}
+
+			connection.set(rawTemporaryKey, rawSketch, SetCondition.upsert(), Expiration.seconds(60));
+			try {
+				connection.pfMerge(rawDestinationKey, rawTemporaryKey);
+			} finally {
+				connection.del(rawTemporaryKey);
+			}
+
+			return connection.pfCount(rawDestinationKey);
+		});
+	}
+
+	/**
+	 * Derive a unique key mapping to the same cluster slot as {@code key} by reusing its hash tag or by wrapping
+	 * {@code key} into one.
+	 *
+	 * @return the temporary key or {@literal null} if no such key can be derived.
+	 */
+	private static byte @Nullable [] temporaryKey(byte[] key) {
+
+		byte[] suffix = (":pfmerge:" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+		byte[] candidate = hasHashTag(key) ? ByteUtils.concat(key, suffix)
+				: ByteUtils.concatAll(new byte[] { '{' }, key, new byte[] { '}' }, suffix);
+
+		return ClusterSlotHashUtil.calculateSlot(candidate) == ClusterSlotHashUtil.calculateSlot(key) ? candidate : null;
+	}
+
+	private static boolean hasHashTag(byte[] key) {
+
+		for (int start = 0; start < key.length; start++) {
+			if (key[start] == '{') {
+				for (int end = start + 1; end < key.length; end++) {
+					if (key[end] == '}') {
+						return end > start + 1;
+					}
+				}
+				return false;
+			}
+		}
+
+		return false;
+	}
+
 	@Override
 	public void delete(K key) {
 		template.delete(key);
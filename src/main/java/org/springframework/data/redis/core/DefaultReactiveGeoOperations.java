@@ -20,6 +20,7 @@ import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -125,6 +126,18 @@ class DefaultReactiveGeoOperations<K, V> implements ReactiveGeoOperations<K, V>
 				.flatMap(list -> geoCommands.geoAdd(rawKey(key), list)));
 	}
 
+	@Override
+	public Mono<Map<K, Long>> addAll(Map<K, Map<V, Point>> locations) {
+
+		Assert.notNull(locations, "Locations must not be null");
+
+		return createMono(geoCommands -> Flux.fromIterable(locations.entrySet())
+				.flatMapSequential(entry -> geoCommands.geoAdd(rawKey(entry.getKey()), entry.getValue().entrySet().stream()
+						.map(it -> new GeoLocation<>(rawValue(it.getKey()), it.getValue())).toList())
+						.map(added -> Map.entry(entry.getKey(), added)))
+				.collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new));
+	}
+
 	@Override
 	public Mono<Distance> distance(K key, V member1, V member2) {
 
@@ -280,6 +293,20 @@ class DefaultReactiveGeoOperations<K, V> implements ReactiveGeoOperations<K, V>
 				geoCommands -> geoCommands.geoSearch(rawKey(key), rawReference, geoPredicate, args).map(this::readGeoResult));
 	}
 
+	@Override
+	public Flux<Map.Entry<K, GeoResult<GeoLocation<V>>>> search(Collection<K> keys, GeoReference<V> reference,
+			GeoShape geoPredicate, RedisGeoCommands.GeoSearchCommandArgs args) {
+
+		Assert.notNull(keys, "Keys must not be null");
+		Assert.notNull(reference, "GeoReference must not be null");
+
+		GeoReference<ByteBuffer> rawReference = getGeoReference(reference);
+
+		return createFlux(geoCommands -> Flux.fromIterable(keys)
+				.flatMapSequential(key -> geoCommands.geoSearch(rawKey(key), rawReference, geoPredicate, args)
+						.map(result -> Map.entry(key, readGeoResult(result)))));
+	}
+
 	@Override
 	public Mono<Long> searchAndStore(K key, K destKey, GeoReference<V> reference, GeoShape geoPredicate,
 			RedisGeoCommands.GeoSearchStoreCommandArgs args) {
@@ -97,8 +97,9 @@ class DefaultReactiveHashOperations<H, HK, HV> implements ReactiveHashOperations
 		Assert.notNull(key, "Key must not be null");
 		Assert.notNull(hashKey, "Hash key must not be null");
 
-		return createMono(
-				hashCommands -> hashCommands.hGet(rawKey(key), rawHashKey((HK) hashKey)).map(this::readHashValue));
+		return template.doCreateReadMono(serializationContext, "HGET",
+				() -> new ByteBuffer[] { rawKey(key), rawHashKey((HK) hashKey) },
+				args -> createMono(hashCommands -> hashCommands.hGet(args[0], args[1]).map(this::readHashValue)));
 	}
 
 	@Override
@@ -268,8 +269,9 @@ class DefaultReactiveHashOperations<H, HK, HV> implements ReactiveHashOperations
 
 		Assert.notNull(key, "Key must not be null");
 
-		return createFlux(hashCommands -> hashCommands.hGetAll(rawKey(key)) //
-				.map(this::deserializeHashEntry));
+		return template.doCreateReadFlux(serializationContext, "HGETALL", () -> new ByteBuffer[] { rawKey(key) },
+				args -> createFlux(hashCommands -> hashCommands.hGetAll(args[0]) //
+						.map(this::deserializeHashEntry)));
 	}
 
 	@Override
@@ -187,8 +187,9 @@ class DefaultReactiveValueOperations<K, V> implements ReactiveValueOperations<K,
 
 		Assert.notNull(key, "Key must not be null");
 
-		return createMono(stringCommands -> stringCommands.get(rawKey((K) key)) //
-				.map(this::readRequiredValue));
+		return template.doCreateReadMono(serializationContext, "GET", () -> new ByteBuffer[] { rawKey((K) key) },
+				args -> createMono(stringCommands -> stringCommands.get(args[0]) //
+						.map(this::readRequiredValue)));
 	}
 
 	@Override
@@ -52,7 +52,9 @@ class DefaultValueOperations<K, V> extends AbstractOperations<K, V> implements V
 
 	@Override
 	public @Nullable V get(Object key) {
-		return execute(valueCallbackFor(key, DefaultedRedisConnection::get));
+
+		byte[] rawKey = rawKey(key);
+		return template.executeRead("GET", () -> deserializeValue(execute(connection -> connection.get(rawKey))), rawKey);
 	}
 
 	@Override
@@ -159,9 +161,8 @@ class DefaultValueOperations<K, V> extends AbstractOperations<K, V> implements V
 			rawKeys[counter++] = rawKey(hashKey);
 		}
 
-		List<byte[]> rawValues = execute(connection -> connection.mGet(rawKeys));
-
-		return deserializeValues(rawValues);
+		return template.executeRead("MGET", () -> deserializeValues(execute(connection -> connection.mGet(rawKeys))),
+				rawKeys);
 	}
 
 	@Override
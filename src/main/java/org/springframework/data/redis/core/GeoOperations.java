@@ -15,13 +15,16 @@
  */
 package org.springframework.data.redis.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullUnmarked;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metric;
 import org.springframework.data.geo.Point;
@@ -90,6 +93,17 @@ public interface GeoOperations<K, M> {
 	 */
 	Long add(@NonNull K key, @NonNull Iterable<@NonNull GeoLocation<M>> locations);
 
+	/**
+	 * Add the given members with their coordinates to multiple {@literal key}s by issuing one {@code GEOADD} per key
+	 * within a single pipeline.
+	 *
+	 * @param locations key to member/coordinate mapping, must not be {@literal null}.
+	 * @return number of elements added per key, in iteration order of {@code locations}.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/geoadd">Redis Documentation: GEOADD</a>
+	 */
+	Map<K, Long> addAll(@NonNull Map<@NonNull K, @NonNull Map<@NonNull M, @NonNull Point>> locations);
+
 	/**
 	 * Get the {@link Distance} between {@literal member1} and {@literal member2}.
 	 *
@@ -306,6 +320,37 @@ public interface GeoOperations<K, M> {
 	GeoResults<GeoLocation<M>> search(@NonNull K key, @NonNull GeoReference<M> reference, @NonNull GeoShape geoPredicate,
 			@NonNull GeoSearchCommandArgs args);
 
+	/**
+	 * Run the same {@code GEOSEARCH} against multiple {@literal key}s within a single pipeline.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @param reference must not be {@literal null}.
+	 * @param geoPredicate must not be {@literal null}.
+	 * @param args must not be {@literal null}.
+	 * @return search results per key, in iteration order of {@code keys}.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/geosearch">Redis Documentation: GEOSEARCH</a>
+	 */
+	Map<K, GeoResults<GeoLocation<M>>> search(@NonNull Collection<@NonNull K> keys, @NonNull GeoReference<M> reference,
+			@NonNull GeoShape geoPredicate, @NonNull GeoSearchCommandArgs args);
+
+	/**
+	 * Get the {@literal member}s using {@link GeoReference} as center of the query within the boundaries of a given
+	 * {@link GeoShape predicate} applying {@link GeoRadiusCommandArgs} as {@link Stream}. Members are deserialized while
+	 * the stream is consumed so that short-circuiting operations such as {@link Stream#limit(long)} or
+	 * {@link Stream#findFirst()} do not pay for the remainder of a wide query.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param reference must not be {@literal null}.
+	 * @param geoPredicate must not be {@literal null}.
+	 * @param args must not be {@literal null}.
+	 * @return never {@literal null}. An empty {@link Stream} when used in pipeline / transaction.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/geosearch">Redis Documentation: GEOSEARCH</a>
+	 */
+	Stream<GeoResult<GeoLocation<M>>> searchAsStream(@NonNull K key, @NonNull GeoReference<M> reference,
+			@NonNull GeoShape geoPredicate, @NonNull GeoSearchCommandArgs args);
+
 	/**
 	 * Get the {@literal member}s within the boundaries of a given {@link Circle} and store results at {@code destKey}.
 	 *
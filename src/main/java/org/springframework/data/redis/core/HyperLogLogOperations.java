@@ -52,6 +52,31 @@ public interface HyperLogLogOperations<K, V> {
 	 */
 	Long union(@NonNull K destination, @NonNull K @NonNull... sourceKeys);
 
+	/**
+	 * Read the registers of the HyperLogLog stored at {@literal key} into a local {@link HyperLogLogSketch}. Elements can
+	 * be added to and cardinalities estimated from the returned sketch without contacting Redis.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the sketch, empty if {@literal key} does not exist or when used in pipeline / transaction.
+	 * @throws IllegalArgumentException if {@literal key} does not hold a HyperLogLog.
+	 * @since 4.2
+	 */
+	HyperLogLogSketch sketch(@NonNull K key);
+
+	/**
+	 * Merge a local {@link HyperLogLogSketch} into the HyperLogLog stored at {@literal destination} by writing its
+	 * registers to a temporary key that shares the cluster slot of {@literal destination} and applying {@code PFMERGE}.
+	 * Elements are not transferred individually, so buffering many additions in a sketch and merging it periodically
+	 * replaces one {@code PFADD} per addition with a single write.
+	 *
+	 * @param destination key of the HyperLogLog to merge {@code sketch} into, must not be {@literal null}.
+	 * @param sketch must not be {@literal null}.
+	 * @return the approximated cardinality of {@literal destination} after merging. {@literal null} when used in
+	 *         pipeline / transaction.
+	 * @since 4.2
+	 */
+	Long merge(@NonNull K destination, @NonNull HyperLogLogSketch sketch);
+
 	/**
 	 * Removes the given {@literal key}.
 	 *
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * Client-side HyperLogLog sketch that is bit-compatible with the Redis HyperLogLog implementation. Elements are hashed
+ * and mapped to the same 16384 6-bit registers Redis uses for {@code PFADD}, so a sketch can be built locally, merged
+ * into a server-side key without sending individual elements and restored from the value of a server-side key.
+ * <p>
+ * Sketches are thread-safe. Cardinality estimates use the same estimator as {@code PFCOUNT} and therefore return the
+ * same value for the same set of registers.
+ *
+ * @since 4.2
+ * @see HyperLogLogOperations#sketch(Object)
+ * @see HyperLogLogOperations#merge(Object, HyperLogLogSketch)
+ * @see <a href="https://redis.io/docs/latest/develop/data-types/probabilistic/hyperloglogs/">Redis Documentation:
+ *      HyperLogLog</a>
+ */
+public final class HyperLogLogSketch {
+
+	private static final int P = 14;
+	private static final int Q = 64 - P;
+	private static final int REGISTERS = 1 << P;
+	private static final int BITS = 6;
+	private static final int REGISTER_MAX = (1 << BITS) - 1;
+
+	private static final int HEADER_SIZE = 16;
+	private static final int DENSE_SIZE = HEADER_SIZE + (REGISTERS * BITS + 7) / 8;
+	private static final byte[] MAGIC = "HYLL".getBytes(StandardCharsets.US_ASCII);
+	private static final byte ENCODING_DENSE = 0;
+	private static final byte ENCODING_SPARSE = 1;
+
+	private static final long HASH_SEED = 0xadc83b19L;
+	private static final long HASH_M = 0xc6a4a7935bd1e995L;
+	private static final int HASH_R = 47;
+	private static final double ALPHA_INF = 0.721347520444481703680;
+
+	private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	private final byte[] registers;
+
+	/**
+	 * Create a new, empty {@link HyperLogLogSketch}.
+	 */
+	public HyperLogLogSketch() {
+		this(new byte[REGISTERS]);
+	}
+
+	private HyperLogLogSketch(byte[] registers) {
+		this.registers = registers;
+	}
+
+	/**
+	 * Create a {@link HyperLogLogSketch} from the raw value of a Redis HyperLogLog key using either the dense or the
+	 * sparse representation.
+	 *
+	 * @param hll the raw value as returned by {@code GET}, must not be {@literal null}.
+	 * @return the sketch holding the registers of {@code hll}.
+	 * @throws IllegalArgumentException if {@code hll} is not a valid HyperLogLog representation.
+	 */
+	public static HyperLogLogSketch from(byte[] hll) {
+
+		Assert.notNull(hll, "HyperLogLog must not be null");
+		Assert.isTrue(hll.length >= HEADER_SIZE && hll[0] == MAGIC[0] && hll[1] == MAGIC[1] && hll[2] == MAGIC[2]
+				&& hll[3] == MAGIC[3], "Value is not a HyperLogLog");
+
+		byte[] registers = new byte[REGISTERS];
+
+		if (hll[4] == ENCODING_DENSE) {
+
+			Assert.isTrue(hll.length == DENSE_SIZE, "Invalid size of dense HyperLogLog: %d".formatted(hll.length));
+
+			for (int i = 0; i < REGISTERS; i++) {
+				registers[i] = (byte) getDenseRegister(hll, i);
+			}
+		} else if (hll[4] == ENCODING_SPARSE) {
+			decodeSparse(hll, registers);
+		} else {
+			throw new IllegalArgumentException("Unknown HyperLogLog encoding: %d".formatted(hll[4]));
+		}
+
+		return new HyperLogLogSketch(registers);
+	}
+
+	/**
+	 * Add a serialized element to this sketch.
+	 *
+	 * @param element must not be {@literal null}.
+	 * @return {@literal true} if the sketch was modified, equivalent to {@code PFADD} returning {@code 1}.
+	 */
+	public boolean add(byte[] element) {
+
+		Assert.notNull(element, "Element must not be null");
+
+		long hash = hash(element);
+		int index = (int) (hash & (REGISTERS - 1));
+
+		hash >>>= P;
+		hash |= 1L << Q;
+		byte count = (byte) (Long.numberOfTrailingZeros(hash) + 1);
+
+		synchronized (registers) {
+
+			if (registers[index] >= count) {
+				return false;
+			}
+
+			registers[index] = count;
+			return true;
+		}
+	}
+
+	/**
+	 * Merge the registers of {@code other} into this sketch, equivalent to {@code PFMERGE}.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return this sketch.
+	 */
+	public HyperLogLogSketch merge(HyperLogLogSketch other) {
+
+		Assert.notNull(other, "Other sketch must not be null");
+
+		byte[] source = other.copyRegisters();
+
+		synchronized (registers) {
+			for (int i = 0; i < REGISTERS; i++) {
+				if (source[i] > registers[i]) {
+					registers[i] = source[i];
+				}
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Return the approximated cardinality of the elements observed by this sketch using the {@code PFCOUNT} estimator.
+	 *
+	 * @return the approximated cardinality.
+	 */
+	public long size() {
+
+		int[] histogram = new int[64];
+
+		synchronized (registers) {
+			for (byte register : registers) {
+				histogram[register]++;
+			}
+		}
+
+		double m = REGISTERS;
+		double z = m * tau((m - histogram[Q + 1]) / m);
+
+		for (int j = Q; j >= 1; --j) {
+			z += histogram[j];
+			z *= 0.5;
+		}
+
+		z += m * sigma(histogram[0] / m);
+
+		return Math.round(ALPHA_INF * m * m / z);
+	}
+
+	/**
+	 * @return {@literal true} if no element has been added to this sketch.
+	 */
+	public boolean isEmpty() {
+
+		synchronized (registers) {
+			for (byte register : registers) {
+				if (register != 0) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Return a copy of this sketch and reset this sketch atomically. Elements added concurrently are either part of the
+	 * returned copy or retained by this sketch.
+	 *
+	 * @return a copy holding the registers of this sketch before resetting it.
+	 */
+	public HyperLogLogSketch drain() {
+
+		byte[] copy = new byte[REGISTERS];
+
+		synchronized (registers) {
+			System.arraycopy(registers, 0, copy, 0, REGISTERS);
+			Arrays.fill(registers, (byte) 0);
+		}
+
+		return new HyperLogLogSketch(copy);
+	}
+
+	/**
+	 * @return an independent copy of this sketch.
+	 */
+	public HyperLogLogSketch copy() {
+		return new HyperLogLogSketch(copyRegisters());
+	}
+
+	/**
+	 * Remove all elements from this sketch.
+	 */
+	public void clear() {
+
+		synchronized (registers) {
+			Arrays.fill(registers, (byte) 0);
+		}
+	}
+
+	/**
+	 * Encode this sketch using the dense Redis HyperLogLog representation. The cached cardinality is marked invalid so
+	 * that Redis recomputes it on the next {@code PFCOUNT}.
+	 *
+	 * @return the dense representation that can be stored using {@code SET}.
+	 */
+	public byte[] toByteArray() {
+
+		byte[] source = copyRegisters();
+		byte[] hll = new byte[DENSE_SIZE];
+
+		System.arraycopy(MAGIC, 0, hll, 0, MAGIC.length);
+		hll[4] = ENCODING_DENSE;
+		hll[HEADER_SIZE - 1] = (byte) 0x80;
+
+		for (int i = 0; i < REGISTERS; i++) {
+			setDenseRegister(hll, i, source[i]);
+		}
+
+		return hll;
+	}
+
+	private byte[] copyRegisters() {
+
+		synchronized (registers) {
+			return registers.clone();
+		}
+	}
+
+	private static int getDenseRegister(byte[] hll, int register) {
+
+		int bit = register * BITS;
+		int index = HEADER_SIZE + bit / 8;
+		int shift = bit & 7;
+
+		int value = (hll[index] & 0xff) >>> shift;
+		if (index + 1 < hll.length) {
+			value |= (hll[index + 1] & 0xff) << (8 - shift);
+		}
+
+		return value & REGISTER_MAX;
+	}
+
+	private static void setDenseRegister(byte[] hll, int register, int value) {
+
+		int bit = register * BITS;
+		int index = HEADER_SIZE + bit / 8;
+		int shift = bit & 7;
+
+		hll[index] = (byte) ((hll[index] & ~(REGISTER_MAX << shift)) | (value << shift));
+		if (index + 1 < hll.length) {
+			hll[index + 1] = (byte) ((hll[index + 1] & ~(REGISTER_MAX >>> (8 - shift))) | (value >>> (8 - shift)));
+		}
+	}
+
+	private static void decodeSparse(byte[] hll, byte[] registers) {
+
+		int register = 0;
+		int position = HEADER_SIZE;
+
+		while (position < hll.length) {
+
+			int opcode = hll[position] & 0xff;
+
+			if ((opcode & 0xc0) == 0) { // ZERO: 00xxxxxx
+				register += (opcode & 0x3f) + 1;
+				position++;
+			} else if ((opcode & 0xc0) == 0x40) { // XZERO: 01xxxxxx yyyyyyyy
+
+				Assert.isTrue(position + 1 < hll.length, "Truncated sparse HyperLogLog");
+				register += (((opcode & 0x3f) << 8) | (hll[position + 1] & 0xff)) + 1;
+				position += 2;
+			} else { // VAL: 1vvvvvxx
+
+				int value = ((opcode >>> 2) & 0x1f) + 1;
+				int run = (opcode & 0x3) + 1;
+
+				Assert.isTrue(register + run <= REGISTERS, "Sparse HyperLogLog exceeds register count");
+				for (int i = 0; i < run; i++) {
+					registers[register++] = (byte) value;
+				}
+				position++;
+			}
+		}
+
+		Assert.isTrue(register == REGISTERS, "Invalid sparse HyperLogLog register count: %d".formatted(register));
+	}
+
+	/**
+	 * MurmurHash64A as used by Redis, reading 8-byte blocks in little-endian order.
+	 */
+	static long hash(byte[] key) {
+
+		int length = key.length;
+		long h = HASH_SEED ^ (length * HASH_M);
+		int blocks = length - (length & 7);
+
+		for (int i = 0; i < blocks; i += 8) {
+
+			long k = (long) LONG_LE.get(key, i);
+
+			k *= HASH_M;
+			k ^= k >>> HASH_R;
+			k *= HASH_M;
+
+			h ^= k;
+			h *= HASH_M;
+		}
+
+		int remaining = length & 7;
+		if (remaining > 0) {
+
+			for (int i = remaining - 1; i >= 0; i--) {
+				h ^= (key[blocks + i] & 0xffL) << (8 * i);
+			}
+			h *= HASH_M;
+		}
+
+		h ^= h >>> HASH_R;
+		h *= HASH_M;
+		h ^= h >>> HASH_R;
+
+		return h;
+	}
+
+	private static double tau(double x) {
+
+		if (x == 0. || x == 1.) {
+			return 0.;
+		}
+
+		double zPrime;
+		double y = 1.0;
+		double z = 1 - x;
+
+		do {
+			x = Math.sqrt(x);
+			zPrime = z;
+			y *= 0.5;
+			z -= Math.pow(1 - x, 2) * y;
+		} while (zPrime != z);
+
+		return z / 3;
+	}
+
+	private static double sigma(double x) {
+
+		if (x == 1.) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		double zPrime;
+		double y = 1;
+		double z = x;
+
+		do {
+			x *= x;
+			zPrime = z;
+			z += x * y;
+			y += y;
+		} while (zPrime != z);
+
+		return z;
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.redis.core;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -112,6 +113,18 @@ public interface JsonOperations<K> {
 		return value(key).set(value);
 	}
 
+	/**
+	 * Set multiple keys to JSON {@code values} using {@code JSON.MSET}. In a cluster, keys are grouped by slot and the
+	 * groups are written in parallel.
+	 *
+	 * @param values must not be {@literal null} or empty.
+	 * @return the outcome for each key in iteration order of {@code values}. A key is reported with {@literal false} if
+	 *         its slot group could not be written.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/json.mset">Redis Documentation: JSON.MSET</a>
+	 */
+	Map<K, Boolean> setAll(Map<? extends K, ? extends Object> values);
+
 	/**
 	 * Read the JSON values at the given {@code paths} for the given {@code key} in a single {@code JSON.GET}. The
 	 * supplied paths form the complete set to retrieve and are returned as one combined JSON document.
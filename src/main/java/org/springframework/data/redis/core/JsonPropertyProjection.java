@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Token-level rewriting of {@code JSON.GET} responses for bare property paths into a JSON object keyed by property name.
+ * <p>
+ * {@code JSON.GET} returns a match array for a single JSONPath ({@code ["John"]}) and an object keyed by path for
+ * multiple JSONPaths ({@code {"$.name":["John"],"$.age":[34]}}). The projection copies the raw bytes of the first match
+ * of each path into the resulting object ({@code {"name":"John","age":34}}) without materializing intermediate Java
+ * objects. Properties without a match are rendered as {@code null}. {@link #projectNested(byte[], Collection)} renders
+ * dotted property names as nested objects instead of using them as keys.
+ *
+ * @since 4.2
+ */
+final class JsonPropertyProjection {
+
+	private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+	private final byte[] json;
+
+	private int position;
+
+	private JsonPropertyProjection(byte[] json) {
+		this.json = json;
+	}
+
+	/**
+	 * Rewrite the {@code JSON.GET} {@code response} for {@code $.<name>} paths into a JSON object keyed by {@code names}.
+	 *
+	 * @param response the raw {@code JSON.GET} response.
+	 * @param names the bare property names in the order they were requested.
+	 * @return the JSON object.
+	 * @throws SerializationException if the response is not well-formed.
+	 */
+	static byte[] project(byte[] response, Collection<String> names) {
+
+		Map<String, byte @Nullable []> matches = readMatches(response, names);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(response.length + names.size() * 8);
+		out.write('{');
+
+		boolean first = true;
+		for (String name : names) {
+
+			if (!first) {
+				out.write(',');
+			}
+			first = false;
+
+			writeName(out, name);
+
+			byte[] match = matches.get("$." + name);
+			out.writeBytes(match != null ? match : NULL);
+		}
+
+		out.write('}');
+		return out.toByteArray();
+	}
+
+	/**
+	 * Rewrite the {@code JSON.GET} {@code response} for {@code $.<name>} paths into a JSON object shaped like the
+	 * document: dotted names such as {@code address.city} are rendered as nested objects
+	 * ({@code {"address":{"city":"Emond's Field"}}}). Nested objects without any matching property are rendered as
+	 * {@code null}.
+	 *
+	 * @param response the raw {@code JSON.GET} response.
+	 * @param names the bare property names in the order they were requested.
+	 * @return the JSON object.
+	 * @throws IllegalArgumentException if a name addresses a property nested within another requested name.
+	 * @throws SerializationException if the response is not well-formed.
+	 */
+	static byte[] projectNested(byte[] response, Collection<String> names) {
+
+		Map<String, byte @Nullable []> matches = readMatches(response, names);
+		Map<String, Object> root = new LinkedHashMap<>();
+
+		for (String name : names) {
+
+			String[] segments = name.split("\\.");
+			Map<String, Object> current = root;
+
+			for (int i = 0; i < segments.length - 1; i++) {
+
+				Object child = current.computeIfAbsent(segments[i], key -> new LinkedHashMap<String, Object>());
+
+				if (!(child instanceof Map<?, ?>)) {
+					throw overlapping(name);
+				}
+
+				current = asObject(child);
+			}
+
+			byte[] match = matches.get("$." + name);
+			if (current.putIfAbsent(segments[segments.length - 1], match != null ? match : NULL) != null) {
+				throw overlapping(name);
+			}
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(response.length + names.size() * 8);
+		writeObject(out, root);
+		return out.toByteArray();
+	}
+
+	private static Map<String, byte @Nullable []> readMatches(byte[] response, Collection<String> names) {
+
+		JsonPropertyProjection reader = new JsonPropertyProjection(response);
+		Map<String, byte @Nullable []> matches = new HashMap<>(names.size());
+
+		if (names.size() == 1) {
+			matches.put("$." + names.iterator().next(), reader.readFirstMatch());
+		} else {
+			reader.readMatchesByPath(matches);
+		}
+
+		return matches;
+	}
+
+	private static void writeObject(ByteArrayOutputStream out, Map<String, Object> object) {
+
+		out.write('{');
+
+		boolean first = true;
+		for (Map.Entry<String, Object> entry : object.entrySet()) {
+
+			if (!first) {
+				out.write(',');
+			}
+			first = false;
+
+			writeName(out, entry.getKey());
+
+			if (entry.getValue() instanceof byte[] match) {
+				out.writeBytes(match);
+			} else if (hasMatch(asObject(entry.getValue()))) {
+				writeObject(out, asObject(entry.getValue()));
+			} else {
+				out.writeBytes(NULL);
+			}
+		}
+
+		out.write('}');
+	}
+
+	private static boolean hasMatch(Map<String, Object> object) {
+
+		for (Object value : object.values()) {
+			if (value instanceof byte[] match ? match != NULL : hasMatch(asObject(value))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static void writeName(ByteArrayOutputStream out, String name) {
+
+		// bare property names consist of word characters, dots and dashes only and do not require escaping
+		out.write('"');
+		out.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+		out.write('"');
+		out.write(':');
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> asObject(Object value) {
+		return (Map<String, Object>) value;
+	}
+
+	private static IllegalArgumentException overlapping(String name) {
+		return new IllegalArgumentException("Property '%s' overlaps with another requested property".formatted(name));
+	}
+
+	private void readMatchesByPath(Map<String, byte @Nullable []> matches) {
+
+		expect('{');
+
+		if (peek() == '}') {
+			position++;
+			return;
+		}
+
+		do {
+
+			String path = readString();
+			expect(':');
+			matches.put(path, readFirstMatch());
+		} while (next(',', '}'));
+	}
+
+	private byte @Nullable [] readFirstMatch() {
+
+		if (peek() != '[') {
+			return copy(skipValue());
+		}
+
+		expect('[');
+
+		if (peek() == ']') {
+			position++;
+			return null;
+		}
+
+		byte[] first = copy(skipValue());
+
+		while (next(',', ']')) {
+			skipValue();
+		}
+
+		return first;
+	}
+
+	private byte[] copy(int start) {
+
+		byte[] result = new byte[position - start];
+		System.arraycopy(json, start, result, 0, result.length);
+		return result;
+	}
+
+	private boolean next(char separator, char end) {
+
+		byte b = peek();
+		position++;
+
+		if (b == separator) {
+			return true;
+		}
+
+		if (b == end) {
+			return false;
+		}
+
+		throw malformed();
+	}
+
+	/**
+	 * Skip the value at the current position.
+	 *
+	 * @return the start position of the value.
+	 */
+	private int skipValue() {
+
+		int start = skipWhitespace();
+		int depth = 0;
+
+		while (position < json.length) {
+
+			byte b = json[position];
+
+			if (b == '"') {
+				skipString();
+			} else if (b == '{' || b == '[') {
+				depth++;
+				position++;
+			} else if (depth > 0) {
+				if (b == '}' || b == ']') {
+					depth--;
+				}
+				position++;
+			} else if (isDelimiter(b)) {
+				break;
+			} else {
+				position++;
+			}
+		}
+
+		if (position == start || depth != 0) {
+			throw malformed();
+		}
+
+		return start;
+	}
+
+	private void skipString() {
+
+		position++;
+
+		while (position < json.length) {
+
+			byte b = json[position++];
+
+			if (b == '\\') {
+				position++;
+			} else if (b == '"') {
+				return;
+			}
+		}
+
+		throw malformed();
+	}
+
+	private String readString() {
+
+		skipWhitespace();
+
+		if (position >= json.length || json[position] != '"') {
+			throw malformed();
+		}
+
+		int start = position;
+		skipString();
+
+		String raw = new String(json, start + 1, position - start - 2, StandardCharsets.UTF_8);
+		return raw.indexOf('\\') == -1 ? raw : unescape(raw);
+	}
+
+	private static String unescape(String raw) {
+
+		StringBuilder builder = new StringBuilder(raw.length());
+
+		for (int i = 0; i < raw.length(); i++) {
+
+			char c = raw.charAt(i);
+
+			if (c != '\\' || i + 1 >= raw.length()) {
+				builder.append(c);
+				continue;
+			}
+
+			char escaped = raw.charAt(++i);
+			switch (escaped) {
+				case 'b' -> builder.append('\b');
+				case 'f' -> builder.append('\f');
+				case 'n' -> builder.append('\n');
+				case 'r' -> builder.append('\r');
+				case 't' -> builder.append('\t');
+				case 'u' -> {
+					builder.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+					i += 4;
+				}
+				default -> builder.append(escaped);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private void expect(char c) {
+
+		if (peek() != c) {
+			throw malformed();
+		}
+
+		position++;
+	}
+
+	private byte peek() {
+
+		skipWhitespace();
+
+		if (position >= json.length) {
+			throw malformed();
+		}
+
+		return json[position];
+	}
+
+	private int skipWhitespace() {
+
+		while (position < json.length && isWhitespace(json[position])) {
+			position++;
+		}
+
+		return position;
+	}
+
+	private static boolean isDelimiter(byte b) {
+		return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+	}
+
+	private SerializationException malformed() {
+		return new SerializationException("Malformed JSON.GET response at position %d".formatted(position));
+	}
+
+}
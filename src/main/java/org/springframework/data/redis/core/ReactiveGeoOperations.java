@@ -95,6 +95,17 @@ public interface ReactiveGeoOperations<K, M> {
 	 */
 	Flux<Long> add(K key, Publisher<? extends Collection<GeoLocation<M>>> locations);
 
+	/**
+	 * Add the given members with their coordinates to multiple {@literal key}s. {@code GEOADD} commands are issued
+	 * without awaiting previous replies so they share network round trips.
+	 *
+	 * @param locations key to member/coordinate mapping, must not be {@literal null}.
+	 * @return number of elements added per key, in iteration order of {@code locations}.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/geoadd">Redis Documentation: GEOADD</a>
+	 */
+	Mono<Map<K, Long>> addAll(Map<K, Map<M, Point>> locations);
+
 	/**
 	 * Get the {@link Distance} between {@literal member1} and {@literal member2}.
 	 *
@@ -325,6 +336,21 @@ public interface ReactiveGeoOperations<K, M> {
 	Flux<GeoResult<GeoLocation<M>>> search(K key, GeoReference<M> reference, GeoShape geoPredicate,
 			GeoSearchCommandArgs args);
 
+	/**
+	 * Run the same {@code GEOSEARCH} against multiple {@literal key}s. Commands are issued without awaiting previous
+	 * replies and results are emitted as they are decoded, grouped by key in iteration order of {@code keys}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @param reference must not be {@literal null}.
+	 * @param geoPredicate must not be {@literal null}.
+	 * @param args must not be {@literal null}.
+	 * @return search results paired with the key they were found at.
+	 * @since 4.2
+	 * @see <a href="https://redis.io/commands/geosearch">Redis Documentation: GEOSEARCH</a>
+	 */
+	Flux<Map.Entry<K, GeoResult<GeoLocation<M>>>> search(Collection<K> keys, GeoReference<M> reference,
+			GeoShape geoPredicate, GeoSearchCommandArgs args);
+
 	/**
 	 * Get the {@literal member}s within the boundaries of a given {@link Circle} and store results at {@code destKey}.
 	 *
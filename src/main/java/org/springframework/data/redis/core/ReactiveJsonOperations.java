@@ -0,0 +1,390 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.json.JsonType;
+import org.springframework.data.redis.core.JsonOperations.JsonResult;
+import org.springframework.data.redis.core.JsonOperations.JsonSetSpec;
+import org.springframework.data.redis.core.JsonOperations.PathSpec;
+import org.springframework.lang.CheckReturnValue;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive Redis operations for JSON values providing the fluent API of {@link JsonOperations} on top of reactive
+ * infrastructure, for example:
+ *
+ * <pre class="code">
+ * operations.value("key").set("value");
+ * operations.array("key").path("$.names").index(2).insert("John");
+ *
+ * Mono&lt;Person&gt; person = operations.value("key").get().mapNotNull(it -&gt; it.as(Person.class));
+ * Flux&lt;JsonResult&gt; people = operations.values(keys).get();
+ * </pre>
+ * <p>
+ * Commands returning one result per matching path emit one element per match. Reactive Streams do not permit
+ * {@literal null} elements, therefore matches with an incompatible JSON type are not emitted. Multi-key reads stream
+ * one {@link JsonResult} per key in the order of the given keys.
+ *
+ * @since 4.2
+ * @param <K> the Redis key type.
+ * @see JsonOperations
+ */
+public interface ReactiveJsonOperations<K> {
+
+	/**
+	 * Start building a JSON array operation for the given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return a spec for specifying the array operation.
+	 */
+	ReactiveJsonArraySpec array(K key);
+
+	/**
+	 * Start building a JSON boolean operation for the given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return a spec for specifying the boolean operation.
+	 */
+	ReactiveJsonBooleanSpec bool(K key);
+
+	/**
+	 * Start building a JSON string operation for the given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return a spec for specifying the string operation.
+	 */
+	ReactiveJsonStringSpec string(K key);
+
+	/**
+	 * Start building a JSON value operation for the given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return a spec for specifying the value operation.
+	 */
+	ReactiveJsonAtKeySpec value(K key);
+
+	/**
+	 * Retrieve the JSON value for the given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the JSON value for the given key. The value is {@link JsonResult#isNull() absent} if the key does not
+	 *         exist.
+	 */
+	default Mono<JsonResult> get(K key) {
+		return value(key).get();
+	}
+
+	/**
+	 * Set the {@code key} to a JSON {@code value}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return {@literal true} if the value was written; {@literal false} otherwise.
+	 */
+	default Mono<Boolean> set(K key, Object value) {
+		return value(key).set(value);
+	}
+
+	/**
+	 * Start building a JSON multi-value operation for the given {@code keys}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param additionalKeys must not be {@literal null}.
+	 * @return a spec for specifying the multi-value operation.
+	 */
+	@SuppressWarnings("unchecked")
+	default ReactiveJsonAtKeysSpec values(K key, K... additionalKeys) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(additionalKeys, "Additional keys must not be null");
+
+		List<K> keys = new ArrayList<>();
+		keys.add(key);
+		keys.addAll(List.of(additionalKeys));
+		return values(keys);
+	}
+
+	/**
+	 * Start building a JSON multi-value operation for the given {@code keys}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return a spec for specifying the multi-value operation.
+	 */
+	ReactiveJsonAtKeysSpec values(Collection<K> keys);
+
+	/**
+	 * Specification for reactive JSON array operations bound to a particular {@code key}.
+	 *
+	 * @see JsonOperations.JsonArraySpec
+	 */
+	interface ReactiveJsonArraySpec extends PathSpec<ReactiveJsonArraySpec> {
+
+		/**
+		 * Append the given {@code values} to the JSON array at the configured path.
+		 *
+		 * @param values values to append, must not be empty or {@literal null}.
+		 * @return the new array length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.arrappend">Redis Documentation: JSON.ARRAPPEND</a>
+		 */
+		default Flux<Long> append(Object... values) {
+			return append(List.of(values));
+		}
+
+		/**
+		 * Append the given {@code values} to the JSON array at the configured path.
+		 *
+		 * @param values values to append, must not be empty or {@literal null}.
+		 * @return the new array length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.arrappend">Redis Documentation: JSON.ARRAPPEND</a>
+		 */
+		Flux<Long> append(Collection<? extends Object> values);
+
+		/**
+		 * Return the length of the JSON array at the configured path.
+		 *
+		 * @return the array length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.arrlen">Redis Documentation: JSON.ARRLEN</a>
+		 */
+		Flux<Long> length();
+
+		/**
+		 * Trim the JSON array so that it contains only the specified inclusive range of elements.
+		 *
+		 * @param start index of the first element to keep.
+		 * @param end index of the last element to keep. Negative values are interpreted as starting from the end.
+		 * @return the new array length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.arrtrim">Redis Documentation: JSON.ARRTRIM</a>
+		 */
+		Flux<Long> trim(int start, int end);
+
+		/**
+		 * Return the first index of {@code value} within the JSON array at the configured path.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return the index of the first occurrence for each matching path, {@code -1} if not found.
+		 * @see <a href="https://redis.io/commands/json.arrindex">Redis Documentation: JSON.ARRINDEX</a>
+		 */
+		Flux<Long> indexOf(Object value);
+
+		/**
+		 * Select an array element by its {@code index} for subsequent operations.
+		 *
+		 * @param index the array index to operate on.
+		 * @return a spec for index-based array operations.
+		 */
+		ReactiveJsonArrayAtIndex index(int index);
+
+	}
+
+	/**
+	 * Specification for reactive JSON array operations bound to a previously selected array index.
+	 */
+	interface ReactiveJsonArrayAtIndex {
+
+		/**
+		 * Insert {@code values} before the previously selected array index.
+		 *
+		 * @param values the values to insert, must not be empty or {@literal null}.
+		 * @return the new array length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.arrinsert">Redis Documentation: JSON.ARRINSERT</a>
+		 */
+		default Flux<Long> insert(Object... values) {
+			return insert(List.of(values));
+		}
+
+		/**
+		 * Insert {@code values} before the previously selected array index.
+		 *
+		 * @param values the values to insert, must not be empty or {@literal null}.
+		 * @return the new array length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.arrinsert">Redis Documentation: JSON.ARRINSERT</a>
+		 */
+		Flux<Long> insert(Collection<? extends Object> values);
+
+	}
+
+	/**
+	 * Specification for reactive JSON boolean operations bound to a particular {@code key}.
+	 */
+	interface ReactiveJsonBooleanSpec
+			extends ReactiveJsonKeySupport<ReactiveJsonBooleanSpec>, ReactiveJsonSet<Boolean, ReactiveJsonBooleanSpec> {
+
+		/**
+		 * Toggle the boolean values at the configured path.
+		 *
+		 * @return the updated boolean value for each matching path.
+		 * @see <a href="https://redis.io/commands/json.toggle">Redis Documentation: JSON.TOGGLE</a>
+		 */
+		Flux<Boolean> toggle();
+
+	}
+
+	/**
+	 * Specification for reactive JSON string operations bound to a particular {@code key}.
+	 */
+	interface ReactiveJsonStringSpec
+			extends ReactiveJsonKeySupport<ReactiveJsonStringSpec>, ReactiveJsonSet<String, ReactiveJsonStringSpec> {
+
+		/**
+		 * Return the length of the JSON string values at the configured path.
+		 *
+		 * @return the string length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.strlen">Redis Documentation: JSON.STRLEN</a>
+		 */
+		Flux<Long> length();
+
+		/**
+		 * Append {@code value} to the JSON string values at the configured path.
+		 *
+		 * @param value the string value to append, must not be {@literal null}.
+		 * @return the updated string length for each matching path.
+		 * @see <a href="https://redis.io/commands/json.strappend">Redis Documentation: JSON.STRAPPEND</a>
+		 */
+		Flux<Long> append(String value);
+
+	}
+
+	/**
+	 * Specification for reactive JSON value operations bound to a particular {@code key}.
+	 */
+	interface ReactiveJsonAtKeySpec
+			extends ReactiveJsonKeySupport<ReactiveJsonAtKeySpec>, ReactiveJsonSet<Object, ReactiveJsonAtKeySpec> {
+
+		/**
+		 * Merge {@code value} into the JSON value at the configured path.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return {@literal true} if the merge was applied; {@literal false} otherwise.
+		 * @see <a href="https://redis.io/commands/json.merge">Redis Documentation: JSON.MERGE</a>
+		 */
+		Mono<Boolean> mergeWith(Object value);
+
+		/**
+		 * Determine the {@link JsonType type} of the JSON values at the configured path.
+		 *
+		 * @return the JSON type for each matching path.
+		 * @see <a href="https://redis.io/commands/json.type">Redis Documentation: JSON.TYPE</a>
+		 */
+		Flux<JsonType> getType();
+
+	}
+
+	/**
+	 * Specification for reactive JSON multi-key operations sharing a common JSON path.
+	 */
+	interface ReactiveJsonAtKeysSpec extends PathSpec<ReactiveJsonAtKeysSpec> {
+
+		/**
+		 * Read the JSON value at the configured path for each key. Results are emitted in the order of the given keys as
+		 * soon as they arrive. Absent keys are emitted as {@link JsonResult#isNull() absent} results.
+		 *
+		 * @return the JSON values.
+		 * @see <a href="https://redis.io/commands/json.get">Redis Documentation: JSON.GET</a>
+		 */
+		Flux<JsonResult> get();
+
+	}
+
+	/**
+	 * Common support for reactive JSON operations bound to a single key and configurable path.
+	 *
+	 * @param <P> self-type used for fluent method chaining.
+	 */
+	interface ReactiveJsonKeySupport<P extends ReactiveJsonKeySupport<P>> extends PathSpec<P> {
+
+		/**
+		 * Clear the JSON values at the configured path.
+		 *
+		 * @return the number of values that were cleared.
+		 * @see <a href="https://redis.io/commands/json.clear">Redis Documentation: JSON.CLEAR</a>
+		 */
+		Mono<Long> clear();
+
+		/**
+		 * Delete the JSON values at the configured path.
+		 *
+		 * @return the number of values that were deleted.
+		 * @see <a href="https://redis.io/commands/json.del">Redis Documentation: JSON.DEL</a>
+		 */
+		Mono<Long> delete();
+
+		/**
+		 * Retrieve the JSON value at the configured path.
+		 *
+		 * @return the JSON value wrapper. The value is {@link JsonResult#isNull() absent} if the key does not exist.
+		 * @see <a href="https://redis.io/commands/json.get">Redis Documentation: JSON.GET</a>
+		 */
+		Mono<JsonResult> get();
+
+	}
+
+	/**
+	 * Common support for setting JSON values at the currently configured path.
+	 *
+	 * @param <T> value type.
+	 * @param <S> self-type used for fluent method chaining.
+	 * @see <a href="https://redis.io/commands/json.set">Redis Documentation: JSON.SET</a>
+	 */
+	interface ReactiveJsonSet<T, S extends ReactiveJsonSet<T, S>> {
+
+		/**
+		 * Apply a condition to the set operation through a {@link JsonSetSpec}.
+		 *
+		 * @param consumer callback to configure the condition.
+		 * @return a new spec instance.
+		 */
+		@CheckReturnValue
+		ReactiveJsonSet<T, S> conditional(Consumer<JsonSetSpec> consumer);
+
+		/**
+		 * Set the JSON {@code value} at the configured path.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return {@literal true} if the value was written; {@literal false} otherwise.
+		 */
+		Mono<Boolean> set(T value);
+
+		/**
+		 * Set the JSON {@code value} at the configured path only if the path has one or more matches ({@code XX}).
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return {@literal true} if the value was written; {@literal false} otherwise.
+		 */
+		default Mono<Boolean> setIfPresent(T value) {
+			return conditional(JsonSetSpec::ifPresent).set(value);
+		}
+
+		/**
+		 * Set the JSON {@code value} at the configured path only if the path has no matches ({@code NX}).
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return {@literal true} if the value was written; {@literal false} otherwise.
+		 */
+		default Mono<Boolean> setIfAbsent(T value) {
+			return conditional(JsonSetSpec::ifAbsent).set(value);
+		}
+
+	}
+
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import org.springframework.data.redis.connection.ReactiveJsonCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonSetCondition;
+import org.springframework.data.redis.connection.json.JsonType;
+import org.springframework.data.redis.connection.json.JsonValue;
+import org.springframework.data.redis.core.JsonOperations.JsonResult;
+import org.springframework.data.redis.core.JsonOperations.JsonSetSpec;
+import org.springframework.data.redis.core.RedisJsonTemplate.DefaultJsonResult;
+import org.springframework.data.redis.core.RedisJsonTemplate.DefaultJsonSetSpec;
+import org.springframework.data.redis.core.RedisJsonTemplate.DefaultPathSpec;
+import org.springframework.data.redis.serializer.RedisJsonSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive counterpart of {@link RedisJsonTemplate} exposing the fluent JSON API through {@link ReactiveJsonCommands}.
+ * Results are deserialized through the same {@link JsonResult} implementation as the imperative template.
+ * <p>
+ * Multi-key reads issue one {@code JSON.GET} per key on the shared connection instead of a single {@code JSON.MGET}.
+ * Commands are pipelined by the driver so results stream as they arrive while retaining the order of the given keys.
+ * This arrangement also allows reading keys that map to different slots in a cluster.
+ *
+ * @since 4.2
+ * @param <K> the Redis key type.
+ * @see ReactiveJsonOperations
+ * @see RedisJsonTemplate
+ */
+public class ReactiveRedisJsonTemplate<K> implements ReactiveJsonOperations<K> {
+
+	private final ReactiveRedisConnectionFactory connectionFactory;
+
+	private final RedisSerializer<K> keySerializer;
+
+	private final RedisJsonSerializer jsonSerializer;
+
+	/**
+	 * Creates a new {@link ReactiveRedisJsonTemplate} using the given {@link ReactiveRedisConnectionFactory} and
+	 * serializers.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param keySerializer must not be {@literal null}.
+	 * @param jsonSerializer must not be {@literal null}.
+	 */
+	public ReactiveRedisJsonTemplate(ReactiveRedisConnectionFactory connectionFactory, RedisSerializer<K> keySerializer,
+			RedisJsonSerializer jsonSerializer) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null");
+		Assert.notNull(keySerializer, "KeySerializer must not be null");
+		Assert.notNull(jsonSerializer, "JsonSerializer must not be null");
+
+		this.connectionFactory = connectionFactory;
+		this.keySerializer = keySerializer;
+		this.jsonSerializer = jsonSerializer;
+	}
+
+	/**
+	 * Create a new {@link ReactiveRedisJsonTemplate} using the given {@link ReactiveRedisConnectionFactory} and default
+	 * serializers for usage with {@link String} keys.
+	 *
+	 * @param connectionFactory the connection factory to use.
+	 * @return a new {@link ReactiveRedisJsonTemplate} instance.
+	 */
+	public static ReactiveRedisJsonTemplate<String> create(ReactiveRedisConnectionFactory connectionFactory) {
+		return create(connectionFactory, RedisJsonTemplate.defaultJsonSerializer());
+	}
+
+	/**
+	 * Create a new {@link ReactiveRedisJsonTemplate} using the given {@link ReactiveRedisConnectionFactory} and
+	 * {@link RedisJsonSerializer} for usage with {@link String} keys.
+	 *
+	 * @param connectionFactory the connection factory to use.
+	 * @param jsonSerializer the JSON serializer to use.
+	 * @return a new {@link ReactiveRedisJsonTemplate} instance.
+	 */
+	public static ReactiveRedisJsonTemplate<String> create(ReactiveRedisConnectionFactory connectionFactory,
+			RedisJsonSerializer jsonSerializer) {
+		return new ReactiveRedisJsonTemplate<>(connectionFactory, RedisSerializer.string(), jsonSerializer);
+	}
+
+	@Override
+	public ReactiveJsonArraySpec array(K key) {
+		return new DefaultReactiveJsonArraySpec(rawKey(key), JsonPath.root());
+	}
+
+	@Override
+	public ReactiveJsonBooleanSpec bool(K key) {
+		return new DefaultReactiveJsonBooleanSpec(rawKey(key), JsonPath.root(), JsonSetCondition.upsert());
+	}
+
+	@Override
+	public ReactiveJsonStringSpec string(K key) {
+		return new DefaultReactiveJsonStringSpec(rawKey(key), JsonPath.root(), JsonSetCondition.upsert());
+	}
+
+	@Override
+	public ReactiveJsonAtKeySpec value(K key) {
+		return new DefaultReactiveJsonAtKeySpec(rawKey(key), JsonPath.root(), JsonSetCondition.upsert());
+	}
+
+	@Override
+	public ReactiveJsonAtKeysSpec values(Collection<K> keys) {
+
+		Assert.notEmpty(keys, "Keys must not be empty");
+		return new DefaultReactiveJsonMultiGetSpec(keys.stream().map(this::rawKey).toList(), JsonPath.root());
+	}
+
+	private <T> Flux<T> execute(Function<ReactiveJsonCommands, Publisher<T>> action) {
+
+		return Flux.usingWhen(Mono.fromSupplier(connectionFactory::getReactiveConnection),
+				connection -> action.apply(connection.jsonCommands()), ReactiveRedisConnection::closeLater);
+	}
+
+	private <T> Mono<T> executeMono(Function<ReactiveJsonCommands, Publisher<T>> action) {
+		return execute(action).next();
+	}
+
+	private ByteBuffer rawKey(K key) {
+
+		Assert.notNull(key, "Key must not be null");
+		return ByteBuffer.wrap(key instanceof byte[] bytes ? bytes : keySerializer.serialize(key));
+	}
+
+	private JsonValue serialize(Object it) {
+		return JsonValue.raw(it instanceof byte[] bytes ? bytes : jsonSerializer.serialize(it));
+	}
+
+	private JsonValue[] serialize(Collection<? extends Object> values) {
+		return values.stream().map(this::serialize).toArray(JsonValue[]::new);
+	}
+
+	private JsonResult toResult(ByteBuffer buffer) {
+		return new DefaultJsonResult(jsonSerializer, ByteUtils.getBytes(buffer));
+	}
+
+	private JsonResult absent() {
+		return new DefaultJsonResult(jsonSerializer, null);
+	}
+
+	abstract class DefaultReactiveJsonSpec<T, S extends ReactiveJsonKeySupport<S> & ReactiveJsonSet<T, S>>
+			extends DefaultPathSpec<S> implements ReactiveJsonKeySupport<S>, ReactiveJsonSet<T, S> {
+
+		final ByteBuffer key;
+		final JsonSetCondition condition;
+
+		DefaultReactiveJsonSpec(ByteBuffer key, JsonPath jsonPath, JsonSetCondition condition) {
+			super(jsonPath);
+			this.key = key;
+			this.condition = condition;
+		}
+
+		abstract DefaultReactiveJsonSpec<T, S> create(ByteBuffer key, JsonPath jsonPath, JsonSetCondition condition);
+
+		@Override
+		public Mono<Long> clear() {
+			return executeMono(c -> c.jsonClear(key.duplicate(), jsonPath));
+		}
+
+		@Override
+		public Mono<Long> delete() {
+			return executeMono(c -> c.jsonDel(key.duplicate(), jsonPath));
+		}
+
+		@Override
+		public Mono<JsonResult> get() {
+			return executeMono(c -> c.jsonGet(key.duplicate(), jsonPath)).map(ReactiveRedisJsonTemplate.this::toResult)
+					.defaultIfEmpty(absent());
+		}
+
+		@Override
+		public ReactiveJsonSet<T, S> conditional(Consumer<JsonSetSpec> consumer) {
+
+			DefaultJsonSetSpec spec = new DefaultJsonSetSpec();
+			consumer.accept(spec);
+
+			return create(key, jsonPath, spec.condition());
+		}
+
+		@Override
+		public Mono<Boolean> set(T value) {
+
+			JsonValue jsonValue = serialize(value);
+			return executeMono(c -> c.jsonSet(key.duplicate(), jsonPath, jsonValue, condition));
+		}
+
+	}
+
+	class DefaultReactiveJsonArraySpec extends DefaultPathSpec<ReactiveJsonArraySpec> implements ReactiveJsonArraySpec {
+
+		private final ByteBuffer key;
+
+		DefaultReactiveJsonArraySpec(ByteBuffer key, JsonPath jsonPath) {
+			super(jsonPath);
+			this.key = key;
+		}
+
+		@Override
+		ReactiveJsonArraySpec create(JsonPath jsonPath) {
+			return new DefaultReactiveJsonArraySpec(key, jsonPath);
+		}
+
+		@Override
+		public Flux<Long> append(Collection<? extends Object> values) {
+
+			JsonValue[] jsonValues = serialize(values);
+			return execute(c -> c.jsonArrAppend(key.duplicate(), jsonPath, jsonValues));
+		}
+
+		@Override
+		public Flux<Long> length() {
+			return execute(c -> c.jsonArrLen(key.duplicate(), jsonPath));
+		}
+
+		@Override
+		public Flux<Long> trim(int start, int end) {
+			return execute(c -> c.jsonArrTrim(key.duplicate(), jsonPath, start, end));
+		}
+
+		@Override
+		public Flux<Long> indexOf(Object value) {
+
+			JsonValue jsonValue = serialize(value);
+			return execute(c -> c.jsonArrIndex(key.duplicate(), jsonPath, jsonValue));
+		}
+
+		@Override
+		public ReactiveJsonArrayAtIndex index(int index) {
+			return values -> {
+
+				JsonValue[] jsonValues = serialize(values);
+				return execute(c -> c.jsonArrInsert(key.duplicate(), jsonPath, index, jsonValues));
+			};
+		}
+
+	}
+
+	class DefaultReactiveJsonBooleanSpec extends DefaultReactiveJsonSpec<Boolean, ReactiveJsonBooleanSpec>
+			implements ReactiveJsonBooleanSpec {
+
+		DefaultReactiveJsonBooleanSpec(ByteBuffer key, JsonPath jsonPath, JsonSetCondition condition) {
+			super(key, jsonPath, condition);
+		}
+
+		@Override
+		ReactiveJsonBooleanSpec create(JsonPath jsonPath) {
+			return new DefaultReactiveJsonBooleanSpec(key, jsonPath, condition);
+		}
+
+		@Override
+		DefaultReactiveJsonSpec<Boolean, ReactiveJsonBooleanSpec> create(ByteBuffer key, JsonPath jsonPath,
+				JsonSetCondition condition) {
+			return new DefaultReactiveJsonBooleanSpec(key, jsonPath, condition);
+		}
+
+		@Override
+		public Flux<Boolean> toggle() {
+			return execute(c -> c.jsonToggle(key.duplicate(), jsonPath));
+		}
+
+	}
+
+	class DefaultReactiveJsonStringSpec extends DefaultReactiveJsonSpec<String, ReactiveJsonStringSpec>
+			implements ReactiveJsonStringSpec {
+
+		DefaultReactiveJsonStringSpec(ByteBuffer key, JsonPath jsonPath, JsonSetCondition condition) {
+			super(key, jsonPath, condition);
+		}
+
+		@Override
+		ReactiveJsonStringSpec create(JsonPath jsonPath) {
+			return new DefaultReactiveJsonStringSpec(key, jsonPath, condition);
+		}
+
+		@Override
+		DefaultReactiveJsonSpec<String, ReactiveJsonStringSpec> create(ByteBuffer key, JsonPath jsonPath,
+				JsonSetCondition condition) {
+			return new DefaultReactiveJsonStringSpec(key, jsonPath, condition);
+		}
+
+		@Override
+		public Flux<Long> length() {
+			return execute(c -> c.jsonStrLen(key.duplicate(), jsonPath));
+		}
+
+		@Override
+		public Flux<Long> append(String value) {
+
+			Assert.notNull(value, "Value must not be null");
+			return execute(c -> c.jsonStrAppend(key.duplicate(), jsonPath, value));
+		}
+
+	}
+
+	class DefaultReactiveJsonAtKeySpec extends DefaultReactiveJsonSpec<Object, ReactiveJsonAtKeySpec>
+			implements ReactiveJsonAtKeySpec {
+
+		DefaultReactiveJsonAtKeySpec(ByteBuffer key, JsonPath jsonPath, JsonSetCondition condition) {
+			super(key, jsonPath, condition);
+		}
+
+		@Override
+		ReactiveJsonAtKeySpec create(JsonPath jsonPath) {
+			return new DefaultReactiveJsonAtKeySpec(key, jsonPath, condition);
+		}
+
+		@Override
+		DefaultReactiveJsonSpec<Object, ReactiveJsonAtKeySpec> create(ByteBuffer key, JsonPath jsonPath,
+				JsonSetCondition condition) {
+			return new DefaultReactiveJsonAtKeySpec(key, jsonPath, condition);
+		}
+
+		@Override
+		public Mono<Boolean> mergeWith(Object value) {
+
+			JsonValue jsonValue = serialize(value);
+			return executeMono(c -> c.jsonMerge(key.duplicate(), jsonPath, jsonValue));
+		}
+
+		@Override
+		public Flux<JsonType> getType() {
+			return execute(c -> c.jsonType(key.duplicate(), jsonPath));
+		}
+
+	}
+
+	class DefaultReactiveJsonMultiGetSpec extends DefaultPathSpec<ReactiveJsonAtKeysSpec>
+			implements ReactiveJsonAtKeysSpec {
+
+		private final List<ByteBuffer> keys;
+
+		DefaultReactiveJsonMultiGetSpec(List<ByteBuffer> keys, JsonPath jsonPath) {
+			super(jsonPath);
+			this.keys = keys;
+		}
+
+		@Override
+		ReactiveJsonAtKeysSpec create(JsonPath jsonPath) {
+			return new DefaultReactiveJsonMultiGetSpec(keys, jsonPath);
+		}
+
+		@Override
+		public Flux<JsonResult> get() {
+
+			// one connection for all keys so that the driver pipelines the individual reads
+			return execute(c -> Flux.fromIterable(keys).flatMapSequential(key -> c.jsonGet(key.duplicate(), jsonPath)
+					.map(ReactiveRedisJsonTemplate.this::toResult).defaultIfEmpty(absent())));
+		}
+
+	}
+
+}
@@ -32,6 +32,7 @@ import org.reactivestreams.Publisher;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.ExpirationOptions;
 import org.springframework.data.redis.connection.ReactiveSubscription.Message;
+import org.springframework.data.redis.core.script.RedisFunction;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.hash.HashMapper;
@@ -93,6 +94,31 @@ public interface ReactiveRedisOperations<K, V> {
 	 */
 	<T> Flux<T> executeInSession(ReactiveRedisSessionCallback<K, V, T> action);
 
+	/**
+	 * Executes the given action within a Redis session using pipelining. Commands issued through the
+	 * {@link ReactiveRedisOperations} passed to the callback are buffered while subscribing to the {@link Publisher}
+	 * returned by the callback and written to Redis with a single flush. Results are emitted in the order the returned
+	 * {@link Publisher} emits them.
+	 * <p>
+	 * Commands must be composed eagerly to be pipelined, for example:
+	 *
+	 * <pre class="code">
+	 * template.executePipelined(operations -&gt; Flux.mergeSequential(operations.opsForHash().putAll(key, entity),
+	 * 		operations.expire(key, ttl), operations.opsForZSet().add(index, key, score)));
+	 * </pre>
+	 *
+	 * Commands that are issued only after a previous command completed (such as with {@link Flux#concat(Publisher[])})
+	 * are sent without pipelining. Drivers that do not support pipelining execute the callback as
+	 * {@link #executeInSession(ReactiveRedisSessionCallback)} does.
+	 *
+	 * @param <T> return type
+	 * @param action callback object that specifies the Redis action
+	 * @return a result object returned by the action or {@link Flux#empty()}.
+	 * @since 4.2
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#pipeline(java.util.function.Supplier)
+	 */
+	<T> Flux<T> executePipelined(ReactiveRedisSessionCallback<K, V, T> action);
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with Redis Pub/Sub
 	// -------------------------------------------------------------------------
@@ -540,6 +566,19 @@ public interface ReactiveRedisOperations<K, V> {
 	<T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args, RedisElementWriter<?> argsWriter,
 			RedisElementReader<T> resultReader);
 
+	/**
+	 * Invokes the given {@link RedisFunction} that has been registered through a
+	 * {@link org.springframework.data.redis.core.script.RedisFunctionLibrary}.
+	 *
+	 * @param function The function to invoke. Must not be {@literal null}.
+	 * @param keys keys that need to be passed to the function. Must not be {@literal null}.
+	 * @param args args that need to be passed to the function. Must not be {@literal null}.
+	 * @return result value of the function {@link Flux#empty()} if {@link RedisFunction#getResultType()} is
+	 *         {@literal null}, likely indicating a throw-away status reply (i.e. "OK").
+	 * @since 4.2
+	 */
+	<T> Flux<T> execute(RedisFunction<T> function, List<K> keys, List<?> args);
+
 	// -------------------------------------------------------------------------
 	// Methods to obtain specific operations interface objects.
 	// -------------------------------------------------------------------------
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.redis.core;
 
+import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -27,6 +28,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -42,12 +45,14 @@ import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.ReactiveSubscription.Message;
 import org.springframework.data.redis.core.script.DefaultReactiveScriptExecutor;
 import org.springframework.data.redis.core.script.ReactiveScriptExecutor;
+import org.springframework.data.redis.core.script.RedisFunction;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.hash.HashMapper;
 import org.springframework.data.redis.hash.ObjectHashMapper;
 import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.observability.RedisObservations;
 import org.springframework.data.redis.serializer.RedisElementReader;
 import org.springframework.data.redis.serializer.RedisElementWriter;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -93,6 +98,9 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 	private final ReactiveStreamOperations<K, ?, ?> streamOps;
 	private final ReactiveValueOperations<K, V> valueOps;
 	private final ReactiveZSetOperations<K, V> zsetOps;
+	private final int commandConcurrency;
+	private final @Nullable SingleFlight singleFlight;
+	private final ObservationRegistry observationRegistry;
 
 	/**
 	 * Creates new {@link ReactiveRedisTemplate} using given {@link ReactiveRedisConnectionFactory} and
@@ -116,6 +124,12 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 	 */
 	public ReactiveRedisTemplate(ReactiveRedisConnectionFactory connectionFactory,
 			RedisSerializationContext<K, V> serializationContext, boolean exposeConnection) {
+		this(connectionFactory, serializationContext, exposeConnection, 0, null, ObservationRegistry.NOOP);
+	}
+
+	private ReactiveRedisTemplate(ReactiveRedisConnectionFactory connectionFactory,
+			RedisSerializationContext<K, V> serializationContext, boolean exposeConnection, int commandConcurrency,
+			@Nullable SingleFlight singleFlight, ObservationRegistry observationRegistry) {
 
 		Assert.notNull(connectionFactory, "ConnectionFactory must not be null");
 		Assert.notNull(serializationContext, "SerializationContext must not be null");
@@ -123,6 +137,9 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 		this.connectionFactory = connectionFactory;
 		this.serializationContext = serializationContext;
 		this.exposeConnection = exposeConnection;
+		this.commandConcurrency = commandConcurrency;
+		this.singleFlight = singleFlight;
+		this.observationRegistry = observationRegistry;
 		this.reactiveScriptExecutor = new DefaultReactiveScriptExecutor<>(connectionFactory, serializationContext);
 
 		this.geoOps = opsForGeo(serializationContext);
@@ -144,6 +161,67 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 		return connectionFactory;
 	}
 
+	/**
+	 * Create a new {@link ReactiveRedisTemplate} that sends up to {@code commandConcurrency} commands of a command stream
+	 * without awaiting the reply of previous commands. Raising the concurrency speeds up bulk writes issued through
+	 * {@link ReactiveRedisConnection} command streams while responses retain their order.
+	 *
+	 * @param commandConcurrency the number of in-flight commands, must be greater than zero.
+	 * @return a new {@link ReactiveRedisTemplate} using the given command concurrency.
+	 * @since 4.2
+	 * @see ReactiveRedisConnection#setCommandConcurrency(int)
+	 */
+	public ReactiveRedisTemplate<K, V> withCommandConcurrency(int commandConcurrency) {
+
+		Assert.isTrue(commandConcurrency > 0, "Command concurrency must be greater than zero");
+
+		return new ReactiveRedisTemplate<>(connectionFactory, serializationContext, exposeConnection, commandConcurrency,
+				singleFlight, observationRegistry);
+	}
+
+	/**
+	 * Create a new {@link ReactiveRedisTemplate} that coalesces concurrent identical reads ({@literal GET},
+	 * {@literal HGET} and {@literal HGETALL}) issued through its operations into a single command execution and
+	 * deserialization. Reads join an execution only while it is in flight, results are not cached. Subscribers joining
+	 * an execution receive the same result objects and must treat them as read-only.
+	 *
+	 * @return a new {@link ReactiveRedisTemplate} using single-flight reads.
+	 * @since 4.2
+	 * @see #getSingleFlightStatistics()
+	 */
+	public ReactiveRedisTemplate<K, V> withSingleFlightReads() {
+		return new ReactiveRedisTemplate<>(connectionFactory, serializationContext, exposeConnection, commandConcurrency,
+				new SingleFlight(), observationRegistry);
+	}
+
+	/**
+	 * Create a new {@link ReactiveRedisTemplate} recording observations for the commands and pipelines issued through it.
+	 * Observations start when subscribing to a command and use the observation registered in the subscriber context as
+	 * parent.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @return a new {@link ReactiveRedisTemplate} using the given {@link ObservationRegistry}.
+	 * @since 4.2
+	 * @see org.springframework.data.redis.observability.RedisObservation
+	 */
+	public ReactiveRedisTemplate<K, V> withObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		return new ReactiveRedisTemplate<>(connectionFactory, serializationContext, exposeConnection, commandConcurrency,
+				singleFlight, observationRegistry);
+	}
+
+	/**
+	 * Returns the {@link SingleFlightStatistics} if {@link #withSingleFlightReads() single-flight reads} are enabled.
+	 *
+	 * @return the statistics or {@literal null} if single-flight reads are disabled.
+	 * @since 4.2
+	 */
+	public @Nullable SingleFlightStatistics getSingleFlightStatistics() {
+		return singleFlight;
+	}
+
 	// -------------------------------------------------------------------------
 	// Execution methods
 	// -------------------------------------------------------------------------
@@ -176,6 +254,15 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 				.from(doInConnection(connection -> action.doWithOperations(withConnection(connection)), exposeConnection));
 	}
 
+	@Override
+	public <T> Flux<T> executePipelined(ReactiveRedisSessionCallback<K, V, T> action) {
+
+		Assert.notNull(action, "Callback object must not be null");
+		return Flux.from(doInConnection(
+				connection -> connection.pipeline(() -> action.doWithOperations(withConnection(connection))),
+				exposeConnection));
+	}
+
 	/**
 	 * Create a reusable Flux for a {@link ReactiveRedisCallback}. Callback is executed within a connection context. The
 	 * connection is released outside the callback.
@@ -236,6 +323,56 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 		return Mono.from(doInConnection(callback, true));
 	}
 
+	/**
+	 * Create a {@link Mono} for a read command. Concurrent identical reads within the same {@code scope} share a single
+	 * execution if {@link #withSingleFlightReads() single-flight reads} are enabled.
+	 *
+	 * @param scope the scope of the read, typically the {@link RedisSerializationContext} used to read the result.
+	 * @param command the command name.
+	 * @param args supplier of the binary command arguments identifying the read.
+	 * @param read function creating the read for the given arguments.
+	 * @return a {@link Mono} emitting the result of the read.
+	 * @since 4.2
+	 */
+	<T> Mono<T> doCreateReadMono(Object scope, String command, Supplier<ByteBuffer[]> args,
+			Function<ByteBuffer[], Mono<T>> read) {
+
+		SingleFlight singleFlight = this.singleFlight;
+
+		return Mono.defer(() -> {
+
+			ByteBuffer[] rawArgs = args.get();
+
+			return singleFlight != null ? singleFlight.executeMono(scope, command, () -> read.apply(rawArgs), rawArgs)
+					: read.apply(rawArgs);
+		});
+	}
+
+	/**
+	 * Create a {@link Flux} for a read command. Concurrent identical reads within the same {@code scope} share a single
+	 * execution if {@link #withSingleFlightReads() single-flight reads} are enabled.
+	 *
+	 * @param scope the scope of the read, typically the {@link RedisSerializationContext} used to read the result.
+	 * @param command the command name.
+	 * @param args supplier of the binary command arguments identifying the read.
+	 * @param read function creating the read for the given arguments.
+	 * @return a {@link Flux} emitting the result of the read.
+	 * @since 4.2
+	 */
+	<T> Flux<T> doCreateReadFlux(Object scope, String command, Supplier<ByteBuffer[]> args,
+			Function<ByteBuffer[], Flux<T>> read) {
+
+		SingleFlight singleFlight = this.singleFlight;
+
+		return Flux.defer(() -> {
+
+			ByteBuffer[] rawArgs = args.get();
+
+			return singleFlight != null ? singleFlight.executeFlux(scope, command, () -> read.apply(rawArgs), rawArgs)
+					: read.apply(rawArgs);
+		});
+	}
+
 	/**
 	 * Executes the given action object within a connection that can be exposed or not. Additionally, the connection can
 	 * be pipelined. Note the results of the pipeline are discarded (making it suitable for write-only scenarios).
@@ -251,6 +388,10 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 
 		Mono<ReactiveRedisConnection> connection = getConnection();
 
+		if (!observationRegistry.isNoop()) {
+			connection = connection.map(it -> RedisObservations.observe(it, connectionFactory, observationRegistry));
+		}
+
 		if (!exposeConnection) {
 			connection = connection.map(this::createRedisConnectionProxy);
 		}
@@ -274,7 +415,16 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 
 		ReactiveRedisConnectionFactory factory = getConnectionFactory();
 
-		return Mono.fromSupplier(() -> preProcessConnection(factory.getReactiveConnection(), false));
+		return Mono.fromSupplier(() -> {
+
+			ReactiveRedisConnection connection = factory.getReactiveConnection();
+
+			if (commandConcurrency > 0) {
+				connection.setCommandConcurrency(commandConcurrency);
+			}
+
+			return preProcessConnection(connection, false);
+		});
 	}
 
 	@Override
@@ -570,6 +720,11 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 		return reactiveScriptExecutor.execute(script, keys, args, argsWriter, resultReader);
 	}
 
+	@Override
+	public <T> Flux<T> execute(RedisFunction<T> function, List<K> keys, List<?> args) {
+		return reactiveScriptExecutor.execute(function, keys, args);
+	}
+
 	// -------------------------------------------------------------------------
 	// Implementation hooks and helper methods
 	// -------------------------------------------------------------------------
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisJsonCommands;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonSetCondition;
+import org.springframework.data.redis.connection.json.JsonValue;
+import org.springframework.data.redis.core.PartialUpdate.PropertyUpdate;
+import org.springframework.data.redis.core.PartialUpdate.UpdateCommand;
+import org.springframework.data.redis.core.RedisJsonTemplate.DefaultJsonResult;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
+import org.springframework.data.redis.serializer.RedisJsonSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisKeyValueAdapter} storing entities as RedisJSON documents instead of flattened Redis Hashes. Objects are
+ * written with {@code JSON.SET} to the same {@code keyspace:id} key used by the hash-based adapter, so repository
+ * metadata such as the keyspace set, secondary indexes and time-to-live keep working unchanged.
+ * <p>
+ * Unlike the hash representation, nested objects, collections and maps keep their natural JSON structure.
+ * {@link PartialUpdate partial updates} are translated into {@code JSON.SET}/{@code JSON.DEL} against the JSONPath of
+ * each updated property and {@code JSON.MERGE} for {@link PartialUpdate#getValue() values}, avoiding a read of the
+ * whole document. Note that {@code JSON.MERGE} removes fields for which the serialized value is {@code null}. Selected
+ * properties can be read through {@link #get(Object, String, Class, String...)} which only transfers the requested
+ * fields.
+ * <p>
+ * Documents are not backed by phantom copies, hence {@link RedisKeyExpiredEvent expiration events} do not carry the
+ * expired value. Requires the RedisJSON module (or Redis 8).
+ *
+ * @since 4.2
+ * @see RedisJsonTemplate
+ */
+public class RedisJsonKeyValueAdapter extends RedisKeyValueAdapter {
+
+	private static final Pattern PROPERTY_NAME = Pattern.compile("[\\w-]+(?:\\.[\\w-]+)*");
+	private static final Pattern LIST_INDEX = Pattern.compile("\\.\\[(\\d+)]");
+	private static final Pattern MAP_KEY = Pattern.compile("\\.\\[([^]]+)]");
+
+	private final RedisJsonSerializer jsonSerializer;
+
+	/**
+	 * Creates new {@link RedisJsonKeyValueAdapter} with default {@link RedisMappingContext} and the default
+	 * {@link RedisJsonSerializer}.
+	 *
+	 * @param redisOps must not be {@literal null}.
+	 */
+	public RedisJsonKeyValueAdapter(RedisOperations<?, ?> redisOps) {
+		this(redisOps, new RedisMappingContext());
+	}
+
+	/**
+	 * Creates new {@link RedisJsonKeyValueAdapter} using the default {@link RedisJsonSerializer}.
+	 *
+	 * @param redisOps must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public RedisJsonKeyValueAdapter(RedisOperations<?, ?> redisOps, RedisMappingContext mappingContext) {
+		this(redisOps, mappingContext, RedisJsonTemplate.defaultJsonSerializer());
+	}
+
+	/**
+	 * Creates new {@link RedisJsonKeyValueAdapter}.
+	 *
+	 * @param redisOps must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param jsonSerializer serializer used to convert entities to and from JSON documents, must not be
+	 *          {@literal null}.
+	 */
+	public RedisJsonKeyValueAdapter(RedisOperations<?, ?> redisOps, RedisMappingContext mappingContext,
+			RedisJsonSerializer jsonSerializer) {
+
+		super(redisOps, mappingContext);
+
+		Assert.notNull(jsonSerializer, "RedisJsonSerializer must not be null");
+		this.jsonSerializer = jsonSerializer;
+	}
+
+	@Override
+	@SuppressWarnings("NullAway")
+	public Object put(Object id, Object item, String keyspace) {
+
+		Assert.isTrue(!(item instanceof RedisData), "RedisData cannot be stored as JSON document");
+
+		// the hash representation is only computed for id, keyspace, time-to-live and index data
+		RedisData rdo = new RedisData();
+		getConverter().write(item, rdo);
+
+		if (rdo.getId() == null) {
+			rdo.setId(toString(id));
+		}
+
+		String keyspaceToUse = rdo.getKeyspace() != null ? rdo.getKeyspace() : keyspace;
+		JsonValue document = JsonValue.raw(jsonSerializer.serialize(item));
+
+		execute((RedisCallback<Object>) connection -> {
+
+			byte[] key = toBytes(rdo.getId());
+			byte[] objectKey = createKey(keyspaceToUse, rdo.getId());
+
+			connection.jsonCommands().jsonSet(objectKey, document);
+			boolean isNew = Long.valueOf(1).equals(connection.sAdd(toBytes(keyspaceToUse), key));
+
+			if (expires(rdo)) {
+				connection.expire(objectKey, rdo.getTimeToLive());
+			} else if (!isNew) {
+				connection.persist(objectKey);
+			}
+
+			IndexWriter indexWriter = new IndexWriter(connection, getConverter());
+
+			if (isNew) {
+				indexWriter.createIndexes(key, rdo.getIndexedData());
+			} else {
+				indexWriter.deleteAndUpdateIndexes(key, rdo.getIndexedData());
+			}
+
+			return null;
+		});
+
+		return item;
+	}
+
+	@Override
+	public <T> @Nullable T get(Object id, String keyspace, Class<T> type) {
+
+		byte[] key = createKey(keyspace, toString(id));
+		byte[] document = execute(connection -> connection.jsonCommands().jsonGet(key));
+
+		return read(key, document, keyspace, type);
+	}
+
+	/**
+	 * Read only the given top-level or nested {@code properties} of the document stored for {@code id}. Properties not
+	 * listed are left at their default value in the returned object. Nested properties are addressed using dot notation
+	 * (e.g. {@code address.city}) and are read into the corresponding nested object, which is {@literal null} if none of
+	 * its requested properties exist. A property must not be requested along with one of its nested properties.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @param type the desired target type.
+	 * @param properties names of the properties to read, must not be empty.
+	 * @return {@literal null} if no document exists for {@code id}.
+	 */
+	public <T> @Nullable T get(Object id, String keyspace, Class<T> type, String... properties) {
+
+		Assert.notEmpty(properties, "Properties must not be empty");
+
+		List<String> names = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(properties)));
+		for (String name : names) {
+
+			Assert.isTrue(PROPERTY_NAME.matcher(name).matches(), () -> "Invalid property name '%s'".formatted(name));
+			Assert.isTrue(names.stream().noneMatch(other -> other.startsWith(name + ".")),
+					() -> "Property '%s' must not be requested along with its nested properties".formatted(name));
+		}
+
+		byte[] key = createKey(keyspace, toString(id));
+		JsonPath[] paths = names.stream().map(name -> JsonPath.raw("$." + name)).toArray(JsonPath[]::new);
+
+		byte[] response = execute(connection -> connection.jsonCommands().jsonGet(key, paths));
+
+		if (response == null) {
+			return null;
+		}
+
+		return jsonSerializer.deserialize(JsonPropertyProjection.projectNested(response, names), type);
+	}
+
+	@Override
+	public <T> List<T> getAllOf(String keyspace, Class<T> type, long offset, int rows) {
+
+		byte[] binKeyspace = toBytes(keyspace);
+
+		Set<byte[]> ids = execute((RedisCallback<Set<byte[]>>) connection -> connection.sMembers(binKeyspace));
+		List<byte[]> keys = ids != null ? new ArrayList<>(ids) : Collections.emptyList();
+
+		if (keys.isEmpty() || keys.size() < offset) {
+			return Collections.emptyList();
+		}
+
+		offset = Math.max(0, offset);
+
+		if (rows > 0) {
+			keys = keys.subList((int) offset, Math.min((int) offset + rows, keys.size()));
+		}
+
+		return getAll(keyspace, keys, type);
+	}
+
+	/**
+	 * Load the documents for the given {@code ids} using a single {@code JSON.MGET}. Ids without a document are skipped.
+	 * Entities declaring a {@link TimeToLive} property read their remaining time to live with one additional pipelined
+	 * round trip.
+	 *
+	 * @param keyspace the keyspace to fetch entities from.
+	 * @param ids binary ids of the entities to load.
+	 * @param type the desired target type.
+	 * @return never {@literal null}.
+	 */
+	<T> List<T> getAll(String keyspace, List<byte[]> ids, Class<T> type) {
+
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		byte[][] keys = new byte[ids.size()][];
+		for (int i = 0; i < ids.size(); i++) {
+			keys[i] = createKey(keyspace, toString(ids.get(i)));
+		}
+
+		List<byte[]> documents = execute(connection -> connection.jsonCommands().jsonMGet(keys));
+
+		if (documents == null) {
+			return Collections.emptyList();
+		}
+
+		Class<?> typeToUse = resolveType(keyspace, type);
+		List<byte[]> resultKeys = new ArrayList<>(documents.size());
+		List<T> result = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+
+			T value = deserialize(documents.get(i), typeToUse, type);
+			if (value != null) {
+				resultKeys.add(keys[i]);
+				result.add(value);
+			}
+		}
+
+		return Object.class.equals(typeToUse) ? result : readBackTimeToLivesIfSet(typeToUse, resultKeys, result);
+	}
+
+	/**
+	 * Read back the {@link TimeToLive} property of all {@code values} using a single pipeline.
+	 */
+	@SuppressWarnings("NullAway")
+	private <T> List<T> readBackTimeToLivesIfSet(Class<?> type, List<byte[]> keys, List<T> values) {
+
+		if (values.isEmpty()) {
+			return values;
+		}
+
+		RedisPersistentEntity<?> entity = getConverter().getMappingContext().getRequiredPersistentEntity(type);
+		RedisPersistentProperty ttlProperty = entity.hasExplicitTimeToLiveProperty()
+				? entity.getExplicitTimeToLiveProperty()
+				: null;
+
+		if (ttlProperty == null) {
+			return values;
+		}
+
+		TimeUnit unit = ttlProperty.getRequiredAnnotation(TimeToLive.class).unit();
+
+		List<Object> timeouts = execute((RedisCallback<List<Object>>) connection -> {
+
+			connection.openPipeline();
+			for (byte[] key : keys) {
+				if (TimeUnit.SECONDS.equals(unit)) {
+					connection.ttl(key);
+				} else {
+					connection.pTtl(key, unit);
+				}
+			}
+			return connection.closePipeline();
+		});
+
+		List<T> result = new ArrayList<>(values.size());
+		for (int i = 0; i < values.size(); i++) {
+
+			T value = values.get(i);
+			Object timeout = timeouts != null ? timeouts.get(i) : null;
+
+			if (timeout != null || !ttlProperty.getType().isPrimitive()) {
+
+				PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(value);
+				accessor.setProperty(ttlProperty,
+						getConverter().getConversionService().convert(timeout, ttlProperty.getType()));
+				value = accessor.getBean();
+			}
+
+			result.add(value);
+		}
+
+		return result;
+	}
+
+	@Override
+	@SuppressWarnings("NullAway")
+	public void update(PartialUpdate<?> update) {
+
+		RedisPersistentEntity<?> entity = getConverter().getMappingContext()
+				.getRequiredPersistentEntity(update.getTarget());
+
+		String keyspace = entity.getRequiredKeySpace();
+		Object id = update.getId();
+		byte[] binId = toBytes(id);
+		byte[] redisKey = createKey(keyspace, toString(id));
+
+		RedisData rdo = new RedisData();
+		getConverter().write(update, rdo);
+
+		execute((RedisCallback<Void>) connection -> {
+
+			RedisJsonCommands json = connection.jsonCommands();
+
+			if (update.getValue() != null) {
+				json.jsonMerge(redisKey, JsonValue.raw(jsonSerializer.serialize(update.getValue())));
+			}
+
+			for (PropertyUpdate pUpdate : update.getPropertyUpdates()) {
+
+				JsonPath path = toJsonPath(pUpdate.getPropertyPath());
+
+				if (UpdateCommand.DEL.equals(pUpdate.getCmd()) || pUpdate.getValue() == null) {
+					json.jsonDel(redisKey, path);
+					removeFromIndexes(connection, keyspace, binId, pUpdate.getPropertyPath());
+				} else {
+					json.jsonSet(redisKey, path, JsonValue.raw(jsonSerializer.serialize(pUpdate.getValue())),
+							JsonSetCondition.upsert());
+				}
+			}
+
+			if (update.isRefreshTtl()) {
+
+				if (expires(rdo)) {
+					connection.expire(redisKey, rdo.getTimeToLive());
+				} else {
+					connection.persist(redisKey);
+				}
+			}
+
+			new IndexWriter(connection, getConverter()).updateIndexes(binId, rdo.getIndexedData());
+			return null;
+		});
+	}
+
+	/**
+	 * Translate a {@link PropertyUpdate#getPropertyPath() property path} such as {@code address.city},
+	 * {@code items.[0]} or {@code attributes.[key]} into its JSONPath counterpart.
+	 */
+	static JsonPath toJsonPath(String propertyPath) {
+
+		String path = LIST_INDEX.matcher(propertyPath).replaceAll("[$1]");
+		path = MAP_KEY.matcher(path)
+				.replaceAll(result -> Matcher.quoteReplacement("[\"" + result.group(1).replace("\"", "\\\"") + "\"]"));
+
+		return JsonPath.raw("$." + path);
+	}
+
+	/**
+	 * Remove {@code id} from all indexes tracked in the index helper set that were derived from {@code propertyPath} or
+	 * one of its nested properties.
+	 */
+	private void removeFromIndexes(RedisConnection connection, String keyspace, byte[] id, String propertyPath) {
+
+		byte[] indexHelperKey = createKey(keyspace, toString(id) + ":idx");
+		String indexPrefix = keyspace + ":" + propertyPath;
+
+		for (byte[] indexKey : connection.sMembers(indexHelperKey)) {
+
+			String index = new String(indexKey, StandardCharsets.UTF_8);
+
+			if (!index.equals(indexPrefix) && !index.startsWith(indexPrefix + ":")
+					&& !index.startsWith(indexPrefix + ".")) {
+				continue;
+			}
+
+			if (DataType.ZSET.equals(connection.type(indexKey))) {
+				connection.zRem(indexKey, id);
+			} else {
+				connection.sRem(indexKey, id);
+			}
+
+			connection.sRem(indexHelperKey, indexKey);
+		}
+	}
+
+	private <T> @Nullable T read(byte[] key, byte @Nullable [] document, String keyspace, Class<T> type) {
+
+		Class<?> typeToUse = resolveType(keyspace, type);
+		T value = deserialize(document, typeToUse, type);
+
+		if (Object.class.equals(typeToUse)) {
+			return value;
+		}
+
+		return type.cast(readBackTimeToLiveIfSet(key, value));
+	}
+
+	private <T> @Nullable T deserialize(byte @Nullable [] document, Class<?> typeToUse, Class<T> type) {
+		return document != null ? type.cast(new DefaultJsonResult(jsonSerializer, document).as(typeToUse)) : null;
+	}
+
+	private Class<?> resolveType(String keyspace, Class<?> type) {
+		return Object.class.equals(type) ? resolveType(keyspace) : type;
+	}
+
+	/**
+	 * Resolve the entity type stored in {@code keyspace} from the mapping context, falling back to {@link Object} which
+	 * reads the document into its generic JSON representation.
+	 */
+	private Class<?> resolveType(String keyspace) {
+
+		for (RedisPersistentEntity<?> entity : getConverter().getMappingContext().getPersistentEntities()) {
+			if (keyspace.equals(entity.getKeySpace())) {
+				return entity.getType();
+			}
+		}
+
+		return Object.class;
+	}
+}
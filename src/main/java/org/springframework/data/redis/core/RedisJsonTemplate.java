@@ -172,6 +172,32 @@ public class RedisJsonTemplate<K> implements RedisJsonOperations<K> {
 		return new DefaultJsonAtKeySpec(rawKey(key), JsonPath.root(), JsonSetCondition.upsert());
 	}
 
+	@Override
+	public Map<K, Boolean> setAll(Map<? extends K, ? extends Object> values) {
+
+		Assert.notEmpty(values, "Values must not be empty");
+
+		List<K> keys = new ArrayList<>(values.size());
+		Map<byte[], JsonValue> rawValues = new LinkedHashMap<>(values.size());
+
+		values.forEach((key, value) -> {
+
+			Assert.notNull(value, "Value must not be null");
+
+			keys.add(key);
+			rawValues.put(rawKey(key), JsonValue.raw(rawValue(value)));
+		});
+
+		List<Boolean> outcomes = execute(c -> c.jsonMSet(rawValues));
+		Map<K, Boolean> result = new LinkedHashMap<>(keys.size());
+
+		for (int i = 0; i < keys.size(); i++) {
+			result.put(keys.get(i), outcomes != null && Boolean.TRUE.equals(outcomes.get(i)));
+		}
+
+		return result;
+	}
+
 	@Override
 	public JsonResult paths(K key, Collection<String> paths) {
 
@@ -198,9 +224,8 @@ public class RedisJsonTemplate<K> implements RedisJsonOperations<K> {
 	}
 
 	/**
-	 * Read bare property names and assemble them into a single JSON object.
+	 * Read bare property names and assemble them into a single JSON object by rewriting the response at token level.
 	 */
-	@SuppressWarnings("unchecked")
 	private JsonResult getProperties(byte[] rawKey, Collection<String> names) {
 
 		JsonPath[] jsonPaths = names.stream().map(name -> JsonPath.raw("$." + name)).toArray(JsonPath[]::new);
@@ -210,28 +235,7 @@ public class RedisJsonTemplate<K> implements RedisJsonOperations<K> {
 			return new DefaultJsonResult(this.jsonSerializer, null);
 		}
 
-		// JSON.GET returns a match array for one JSONPath and an object keyed by path for multiple JSONPaths.
-		Map<String, List<Object>> matches;
-		if (names.size() == 1) {
-			String name = names.iterator().next();
-			ResolvableType matchesType = ResolvableType.forClassWithGenerics(List.class, Object.class);
-			List<Object> singleMatch = (List<Object>) jsonSerializer.deserialize(response, matchesType);
-			matches = new LinkedHashMap<>();
-			matches.put("$." + name, singleMatch);
-		} else {
-			ResolvableType matchesType = ResolvableType.forClassWithGenerics(Map.class, ResolvableType.forClass(String.class),
-					ResolvableType.forClassWithGenerics(List.class, Object.class));
-			matches = (Map<String, List<Object>>) jsonSerializer.deserialize(response, matchesType);
-		}
-
-		// best effort re-serialization to unwrap nested arrays and pull properties to the top-level.
-		Map<String, Object> properties = new LinkedHashMap<>();
-		for (String name : names) {
-			List<Object> match = matches == null ? null : matches.get("$." + name);
-			properties.put(name, match == null || match.isEmpty() ? null : match.get(0));
-		}
-
-		return new DefaultJsonResult(this.jsonSerializer, jsonSerializer.serialize(properties));
+		return new DefaultJsonResult(this.jsonSerializer, JsonPropertyProjection.project(response, names));
 	}
 
 	@Override
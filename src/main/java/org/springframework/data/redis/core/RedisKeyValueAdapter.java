@@ -592,7 +592,7 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 	}
 
 	@SuppressWarnings("NullAway")
-	private String toString(Object value) {
+	String toString(Object value) {
 		return value instanceof String stringValue ? stringValue
 				: getConverter().getConversionService().convert(value, String.class);
 	}
@@ -601,7 +601,8 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 	 * Read back and set {@link TimeToLive} for the property.
 	 */
 	@SuppressWarnings("NullAway")
-	private @Nullable <T> T readBackTimeToLiveIfSet(byte @Nullable [] key, @Nullable T target) {
+	@Nullable
+	<T> T readBackTimeToLiveIfSet(byte @Nullable [] key, @Nullable T target) {
 
 		if (target == null || key == null) {
 			return target;
@@ -647,7 +648,7 @@ public class RedisKeyValueAdapter extends AbstractKeyValueAdapter
 	 * @param data must not be {@literal null}.
 	 * @since 2.3.7
 	 */
-	private boolean expires(RedisData data) {
+	boolean expires(RedisData data) {
 		return data.getTimeToLive() != null && data.getTimeToLive() > 0;
 	}
 
@@ -34,6 +34,7 @@ import org.springframework.data.redis.connection.ExpirationOptions;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
 import org.springframework.data.redis.core.query.SortQuery;
+import org.springframework.data.redis.core.script.RedisFunction;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.types.RedisClientInfo;
@@ -170,6 +171,20 @@ public interface RedisOperations<K, V> {
 	<T extends @Nullable Object> T execute(@NonNull RedisScript<T> script, @NonNull RedisSerializer<?> argsSerializer,
 			@NonNull RedisSerializer<T> resultSerializer, @NonNull List<@NonNull K> keys, @NonNull Object @NonNull... args);
 
+	/**
+	 * Invokes the given {@link RedisFunction} that has been registered through a
+	 * {@link org.springframework.data.redis.core.script.RedisFunctionLibrary}.
+	 *
+	 * @param function The function to invoke
+	 * @param keys Any keys that need to be passed to the function
+	 * @param args Any args that need to be passed to the function
+	 * @return The return value of the function or null if {@link RedisFunction#getResultType()} is null, likely
+	 *         indicating a throw-away status reply (i.e. "OK")
+	 * @since 4.2
+	 */
+	<T extends @Nullable Object> T execute(@NonNull RedisFunction<T> function, @NonNull List<@NonNull K> keys,
+			@NonNull Object @NonNull... args);
+
 	/**
 	 * Allocates and binds a new {@link RedisConnection} to the actual return type of the method. It is up to the caller
 	 * to free resources after use.
@@ -767,6 +782,15 @@ public interface RedisOperations<K, V> {
 	@NonNull
 	HyperLogLogOperations<K, V> opsForHyperLogLog();
 
+	/**
+	 * Returns the operations performed on bitmap values.
+	 *
+	 * @return never {@literal null}.
+	 * @since 4.2
+	 */
+	@NonNull
+	BitmapOperations<K> opsForBitmap();
+
 	/**
 	 * Returns the operations performed on list values.
 	 *
@@ -103,22 +103,25 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 			return getRequiredAdapter().getAllOf(keyspace, type, offset, rows);
 		}
 
+		if (getRequiredAdapter() instanceof RedisJsonKeyValueAdapter jsonAdapter) {
+
+			List<byte[]> ids = jsonAdapter
+					.execute(connection -> page(findKeys(criteria, rows, keyspace, type, connection), offset, rows));
+			return jsonAdapter.getAll(keyspace, ids != null ? ids : Collections.emptyList(), type);
+		}
+
 		RedisCallback<Map<byte[], Map<byte[], byte[]>>> callback = connection -> {
 
-			List<byte[]> keys = findKeys(criteria, rows, keyspace, type, connection);
+			List<byte[]> keys = page(findKeys(criteria, rows, keyspace, type, connection), offset, rows);
 			byte[] keyspaceBin = getRequiredAdapter().getConverter().getConversionService().convert(keyspace + ":",
 					byte[].class);
 
 			Map<byte[], Map<byte[], byte[]>> rawData = new LinkedHashMap<>();
 
-			if (keys.isEmpty() || keys.size() < offset) {
+			if (keys.isEmpty()) {
 				return Collections.emptyMap();
 			}
 
-			int offsetToUse = Math.max(0, (int) offset);
-			if (rows > 0) {
-				keys = keys.subList(Math.max(0, offsetToUse), Math.min(offsetToUse + rows, keys.size()));
-			}
 			for (byte[] id : keys) {
 
 				byte[] singleKey = ByteUtils.concat(keyspaceBin, id);
@@ -148,6 +151,20 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 		return result;
 	}
 
+	private static List<byte[]> page(List<byte[]> keys, long offset, int rows) {
+
+		if (keys.isEmpty() || keys.size() < offset) {
+			return Collections.emptyList();
+		}
+
+		int offsetToUse = Math.max(0, (int) offset);
+		if (rows > 0) {
+			return keys.subList(offsetToUse, Math.min(offsetToUse + rows, keys.size()));
+		}
+
+		return keys;
+	}
+
 	@SuppressWarnings("NullAway")
 	private List<byte[]> findKeys(RedisOperationChain criteria, int rows, String keyspace, Class<?> domainType,
 			RedisConnection connection) {
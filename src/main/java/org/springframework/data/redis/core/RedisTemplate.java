@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.io.Closeable;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
@@ -28,6 +30,7 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullUnmarked;
@@ -50,12 +53,14 @@ import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.data.redis.core.query.QueryUtils;
 import org.springframework.data.redis.core.query.SortQuery;
 import org.springframework.data.redis.core.script.DefaultScriptExecutor;
+import org.springframework.data.redis.core.script.RedisFunction;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.script.ScriptExecutor;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.types.RedisClientInfo;
 import org.springframework.data.redis.hash.HashMapper;
 import org.springframework.data.redis.hash.ObjectHashMapper;
+import org.springframework.data.redis.observability.RedisObservations;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.SerializationUtils;
@@ -118,6 +123,10 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 
 	private @Nullable ScriptExecutor<K> scriptExecutor;
 
+	private @Nullable SingleFlight singleFlight;
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
 	private final BoundOperationsProxyFactory boundOperations = new BoundOperationsProxyFactory();
 	private final ValueOperations<K, V> valueOps = new DefaultValueOperations<>(this);
 	private final ListOperations<K, V> listOps = new DefaultListOperations<>(this);
@@ -128,6 +137,7 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 	private final GeoOperations<K, V> geoOps = new DefaultGeoOperations<>(this);
 	private final HashOperations<K, ?, ?> hashOps = new DefaultHashOperations<>(this);
 	private final HyperLogLogOperations<K, V> hllOps = new DefaultHyperLogLogOperations<>(this);
+	private final BitmapOperations<K> bitmapOps = new DefaultBitmapOperations<>(this);
 	private final ClusterOperations<K, V> clusterOps = new DefaultClusterOperations<>(this);
 
 	/**
@@ -231,6 +241,57 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		this.enableTransactionSupport = enableTransactionSupport;
 	}
 
+	/**
+	 * Sets whether concurrent identical reads ({@literal GET}, {@literal MGET}, {@literal HGET}, {@literal HMGET} and
+	 * {@literal HGETALL}) issued through the operations of this template share a single command execution and
+	 * deserialization. Reads join an execution only while it is in flight, results are not cached. Callers joining an
+	 * execution receive the same result object and must treat it as read-only.
+	 * <p>
+	 * Reads issued within a {@link SessionCallback}, a pipeline or a transaction are never coalesced.
+	 *
+	 * @param singleFlightReads {@literal true} to coalesce concurrent identical reads.
+	 * @since 4.2
+	 * @see #getSingleFlightStatistics()
+	 */
+	public void setSingleFlightReads(boolean singleFlightReads) {
+		this.singleFlight = singleFlightReads ? new SingleFlight() : null;
+	}
+
+	/**
+	 * Returns the {@link SingleFlightStatistics} if {@link #setSingleFlightReads(boolean) single-flight reads} are
+	 * enabled.
+	 *
+	 * @return the statistics or {@literal null} if single-flight reads are disabled.
+	 * @since 4.2
+	 */
+	public @Nullable SingleFlightStatistics getSingleFlightStatistics() {
+		return singleFlight;
+	}
+
+	/**
+	 * Sets the {@link ObservationRegistry} used to record observations for obtaining connections, commands and pipelines
+	 * issued through this template. Observations are not recorded for callbacks that require the native connection to be
+	 * exposed. Defaults to {@link ObservationRegistry#NOOP}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 4.2
+	 * @see org.springframework.data.redis.observability.RedisObservation
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * @return the {@link ObservationRegistry} in use.
+	 * @since 4.2
+	 */
+	public ObservationRegistry getObservationRegistry() {
+		return observationRegistry;
+	}
+
 	/**
 	 * Sets the {@link ClassLoader} to be used for the default {@link JdkSerializationRedisSerializer} in case no other
 	 * {@link RedisSerializer} is explicitly set as the default one.
@@ -401,13 +462,18 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		Assert.notNull(action, "Callback object must not be null");
 
 		RedisConnectionFactory factory = getRequiredConnectionFactory();
-		RedisConnection conn = RedisConnectionUtils.getConnection(factory, enableTransactionSupport);
+		RedisConnection conn = RedisObservations.acquire(
+				() -> RedisConnectionUtils.getConnection(factory, enableTransactionSupport), factory, observationRegistry);
 
 		try {
 
 			boolean existingConnection = TransactionSynchronizationManager.hasResource(factory);
 			RedisConnection connToUse = preProcessConnection(conn, existingConnection);
 
+			if (!exposeConnection) {
+				connToUse = RedisObservations.observe(connToUse, factory, observationRegistry);
+			}
+
 			boolean pipelineStatus = connToUse.isPipelined();
 			if (pipeline && !pipelineStatus) {
 				connToUse.openPipeline();
@@ -418,7 +484,7 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 
 			// close pipeline
 			if (pipeline && !pipelineStatus) {
-				connToUse.closePipeline();
+				closePipeline(connToUse);
 			}
 
 			return postProcessResult(result, connToUse, existingConnection);
@@ -427,6 +493,28 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		}
 	}
 
+	/**
+	 * Execute a read command. Concurrent identical reads share a single execution if
+	 * {@link #setSingleFlightReads(boolean) single-flight reads} are enabled and no connection is bound to the current
+	 * thread.
+	 *
+	 * @param command the command name.
+	 * @param read the read to run.
+	 * @param args the binary command arguments identifying the read.
+	 * @return the result of the read.
+	 * @since 4.2
+	 */
+	<T extends @Nullable Object> T executeRead(String command, Supplier<T> read, byte[]... args) {
+
+		SingleFlight singleFlight = this.singleFlight;
+
+		if (singleFlight == null || TransactionSynchronizationManager.hasResource(getRequiredConnectionFactory())) {
+			return read.get();
+		}
+
+		return singleFlight.execute(this, command, read, args);
+	}
+
 	@Override
 	public <T extends @Nullable Object> T execute(@NonNull SessionCallback<T> session) {
 
@@ -468,12 +556,12 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 						throw new InvalidDataAccessApiUsageException(
 								"Callback cannot return a non-null value as it gets overwritten by the pipeline");
 					}
-					List<Object> closePipeline = connection.closePipeline();
+					List<Object> closePipeline = closePipeline(connection);
 					pipelinedClosed = true;
 					return deserializeMixedResults(closePipeline, resultSerializer, hashKeySerializer, hashValueSerializer);
 				} finally {
 					if (!pipelinedClosed) {
-						connection.closePipeline();
+						closePipeline(connection);
 					}
 				}
 			});
@@ -500,17 +588,34 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 					throw new InvalidDataAccessApiUsageException(
 							"Callback cannot return a non-null value as it gets overwritten by the pipeline");
 				}
-				List<Object> closePipeline = connection.closePipeline();
+				List<Object> closePipeline = closePipeline(connection);
 				pipelinedClosed = true;
 				return deserializeMixedResults(closePipeline, resultSerializer, hashKeySerializer, hashValueSerializer);
 			} finally {
 				if (!pipelinedClosed) {
-					connection.closePipeline();
+					closePipeline(connection);
 				}
 			}
 		});
 	}
 
+	private List<Object> closePipeline(RedisConnection connection) {
+
+		try {
+			return connection.closePipeline();
+		} catch (RuntimeException ex) {
+			evictScriptsOnNoScriptError(ex);
+			throw ex;
+		}
+	}
+
+	private void evictScriptsOnNoScriptError(RuntimeException ex) {
+
+		if (scriptExecutor instanceof DefaultScriptExecutor<K> defaultScriptExecutor) {
+			defaultScriptExecutor.evictOnNoScriptError(ex);
+		}
+	}
+
 	@Override
 	public <T extends @Nullable Object> T execute(@NonNull RedisScript<T> script, @NonNull List<@NonNull K> keys,
 			@NonNull Object @NonNull... args) {
@@ -524,6 +629,12 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		return scriptExecutor.execute(script, argsSerializer, resultSerializer, keys, args);
 	}
 
+	@Override
+	public <T extends @Nullable Object> T execute(@NonNull RedisFunction<T> function, @NonNull List<@NonNull K> keys,
+			@NonNull Object @NonNull... args) {
+		return scriptExecutor.execute(function, keys, args);
+	}
+
 	@Override
 	public <T extends Closeable> T executeWithStickyConnection(@NonNull RedisCallback<T> callback) {
 
@@ -978,7 +1089,13 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 
 	protected List<Object> execRaw() {
 
-		List<Object> raw = execute(RedisTxCommands::exec);
+		List<Object> raw;
+		try {
+			raw = execute(RedisTxCommands::exec);
+		} catch (RuntimeException ex) {
+			evictScriptsOnNoScriptError(ex);
+			throw ex;
+		}
 		return raw == null ? Collections.emptyList() : raw;
 	}
 
@@ -1065,6 +1182,11 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		return hllOps;
 	}
 
+	@Override
+	public BitmapOperations<K> opsForBitmap() {
+		return bitmapOps;
+	}
+
 	@Override
 	public ListOperations<K, V> opsForList() {
 		return listOps;
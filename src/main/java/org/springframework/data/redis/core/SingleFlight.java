@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+
+/**
+ * Coalesces concurrent identical reads so that they share a single command execution and a single deserialization.
+ * Reads are identical if they originate from the same scope, typically a template or serialization context, and use
+ * the same command and arguments.
+ * <p>
+ * A read joins an in-flight execution only while that execution is running. Completed results are not cached. Callers
+ * that joined an execution receive the very same result object and must therefore not mutate it.
+ *
+ * @since 4.2
+ */
+class SingleFlight implements SingleFlightStatistics {
+
+	private final ConcurrentHashMap<Flight, Object> flights = new ConcurrentHashMap<>();
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder executions = new LongAdder();
+	private final LongAdder executionTime = new LongAdder();
+
+	/**
+	 * Run a blocking read or join an identical read that is currently in flight.
+	 *
+	 * @param scope the scope of the read.
+	 * @param command the command name.
+	 * @param read the read to run.
+	 * @param args the binary command arguments.
+	 * @return the result of the read.
+	 */
+	@SuppressWarnings("unchecked")
+	<T extends @Nullable Object> T execute(Object scope, String command, Supplier<T> read, byte[]... args) {
+
+		requests.increment();
+
+		Flight flight = new Flight(scope, command, Arrays.stream(args).map(ByteArrayWrapper::new).toList());
+		CompletableFuture<@Nullable Object> future = new CompletableFuture<>();
+		Object inFlight = flights.putIfAbsent(flight, future);
+
+		if (inFlight != null) {
+			return (T) join((CompletableFuture<@Nullable Object>) inFlight);
+		}
+
+		executions.increment();
+		long start = System.nanoTime();
+
+		try {
+
+			T result = read.get();
+			future.complete(result);
+			return result;
+		} catch (RuntimeException | Error ex) {
+			future.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			executionTime.add(System.nanoTime() - start);
+			flights.remove(flight, future);
+		}
+	}
+
+	/**
+	 * Run a reactive read or join an identical read that is currently in flight.
+	 *
+	 * @param scope the scope of the read.
+	 * @param command the command name.
+	 * @param read the read to run.
+	 * @param args the binary command arguments.
+	 * @return the result of the read.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Mono<T> executeMono(Object scope, String command, Supplier<Mono<T>> read, ByteBuffer... args) {
+
+		return Mono.defer(() -> (Mono<T>) flights.computeIfAbsent(flight(scope, command, args), key -> {
+
+			Runnable onFinally = start(key);
+			return read.get().doFinally(signal -> onFinally.run()).cache();
+		}));
+	}
+
+	/**
+	 * Run a reactive read or join an identical read that is currently in flight.
+	 *
+	 * @param scope the scope of the read.
+	 * @param command the command name.
+	 * @param read the read to run.
+	 * @param args the binary command arguments.
+	 * @return the result of the read.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Flux<T> executeFlux(Object scope, String command, Supplier<Flux<T>> read, ByteBuffer... args) {
+
+		return Flux.defer(() -> (Flux<T>) flights.computeIfAbsent(flight(scope, command, args), key -> {
+
+			Runnable onFinally = start(key);
+			return read.get().doFinally(signal -> onFinally.run()).cache();
+		}));
+	}
+
+	private Flight flight(Object scope, String command, ByteBuffer[] args) {
+
+		requests.increment();
+
+		return new Flight(scope, command, Arrays.stream(args).map(ByteArrayWrapper::new).toList());
+	}
+
+	private Runnable start(Flight flight) {
+
+		executions.increment();
+		long start = System.nanoTime();
+
+		return () -> {
+			executionTime.add(System.nanoTime() - start);
+			flights.remove(flight);
+		};
+	}
+
+	private static @Nullable Object join(CompletableFuture<@Nullable Object> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			if (ex.getCause() instanceof Error cause) {
+				throw cause;
+			}
+
+			throw ex;
+		}
+	}
+
+	@Override
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	@Override
+	public long getExecutions() {
+		return executions.sum();
+	}
+
+	@Override
+	public Duration getTotalExecutionTime() {
+		return Duration.ofNanos(executionTime.sum());
+	}
+
+	private record Flight(Object scope, String command, List<ByteArrayWrapper> args) {}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+
+/**
+ * Statistics of single-flight reads that coalesce concurrent identical read commands into a single execution.
+ * Statistics are captured locally and reflect the state at the time of the call.
+ *
+ * @since 4.2
+ * @see RedisTemplate#setSingleFlightReads(boolean)
+ * @see ReactiveRedisTemplate#withSingleFlightReads()
+ */
+public interface SingleFlightStatistics {
+
+	/**
+	 * @return the number of read requests issued through the template.
+	 */
+	long getRequests();
+
+	/**
+	 * @return the number of read commands actually sent to Redis.
+	 */
+	long getExecutions();
+
+	/**
+	 * @return the accumulated time spent executing reads including deserialization.
+	 */
+	Duration getTotalExecutionTime();
+
+	/**
+	 * @return the number of requests that joined an in-flight read instead of issuing their own command.
+	 */
+	default long getCollapsed() {
+		return Math.max(0, getRequests() - getExecutions());
+	}
+
+	/**
+	 * @return the ratio of {@link #getCollapsed() collapsed} requests to all requests, {@literal 0} if no reads have been
+	 *         recorded.
+	 */
+	default double getCollapseRatio() {
+
+		long requests = getRequests();
+
+		return requests == 0 ? 0 : (double) getCollapsed() / requests;
+	}
+
+	/**
+	 * @return the mean time spent per executed read, {@link Duration#ZERO} if no reads have been executed.
+	 */
+	default Duration getMeanExecutionTime() {
+
+		long executions = getExecutions();
+
+		return executions == 0 ? Duration.ZERO : getTotalExecutionTime().dividedBy(executions);
+	}
+}
@@ -101,6 +101,31 @@ public class DefaultReactiveScriptExecutor<K> implements ReactiveScriptExecutor<
 		});
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Flux<T> execute(RedisFunction<T> function, List<K> keys, List<?> args) {
+
+		Assert.notNull(function, "RedisFunction must not be null");
+		Assert.notNull(keys, "Keys must not be null");
+		Assert.notNull(args, "Args must not be null");
+
+		SerializationPair<?> serializationPair = serializationContext.getValueSerializationPair();
+		RedisElementReader<T> resultReader = (RedisElementReader<T>) serializationPair.getReader();
+
+		return execute(connection -> {
+
+			ReturnType returnType = ReturnType.fromJavaType(function.getResultType());
+			ByteBuffer[] keysAndArgs = keysAndArgs(serializationPair.getWriter(), keys, args);
+			int keySize = keys.size();
+
+			Flux<T> result = function.isReadOnly()
+					? connection.scriptingCommands().fCallReadOnly(function.getName(), returnType, keySize, keysAndArgs)
+					: connection.scriptingCommands().fCall(function.getName(), returnType, keySize, keysAndArgs);
+
+			return function.returnsRawValue() ? result : deserializeResult(resultReader, result);
+		});
+	}
+
 	protected <T> Flux<T> eval(ReactiveRedisConnection connection, RedisScript<T> script, ReturnType returnType,
 			int numKeys, ByteBuffer[] keysAndArgs, RedisElementReader<T> resultReader) {
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Default implementation of {@link RedisFunction}.
+ *
+ * @param name the function name.
+ * @param resultType the result type, can be {@literal null}.
+ * @param readOnly whether to invoke the function using {@code FCALL_RO}.
+ * @since 4.2
+ */
+record DefaultRedisFunction<T>(String name, @Nullable Class<T> resultType, boolean readOnly)
+		implements RedisFunction<T> {
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public @Nullable Class<T> getResultType() {
+		return resultType;
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+}
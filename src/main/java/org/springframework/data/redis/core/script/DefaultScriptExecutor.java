@@ -16,6 +16,8 @@
 package org.springframework.data.redis.core.script;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullUnmarked;
@@ -23,6 +25,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -30,8 +33,15 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * Default implementation of {@link ScriptExecutor}. Optimizes performance by attempting to execute script first using
- * evalsha, then falling back to eval if Redis has not yet cached the script. Evalsha is not attempted if the script is
- * executed in a pipeline or transaction.
+ * evalsha, then falling back to eval if Redis has not yet cached the script.
+ * <p>
+ * Scripts executed in a pipeline or transaction are sent using eval by default as errors surface only when closing the
+ * pipeline or executing the transaction. Using evalsha there can be enabled through
+ * {@link #setEvalShaInPipelines(boolean)}. Scripts not known to be cached are then loaded upfront using a dedicated
+ * connection, on all master nodes when connected to a Redis Cluster. Scripts can be {@link #preload(RedisScript[])
+ * preloaded} to avoid loading them on first use. A {@code NOSCRIPT} error reported by a pipeline or transaction (see
+ * {@link #evictOnNoScriptError(Throwable)}) invalidates all known scripts so they are loaded again on their next use.
+ * Note that the pipeline or transaction reporting the error fails nonetheless.
  *
  * @author Jennifer Hickey
  * @author Christoph Strobl
@@ -44,6 +54,10 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 
 	private final RedisTemplate<K, ?> template;
 
+	private final Set<String> loadedScripts = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean evalShaInPipelines = false;
+
 	/**
 	 * @param template The {@link RedisTemplate} to use
 	 */
@@ -51,6 +65,20 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 		this.template = template;
 	}
 
+	/**
+	 * Configure whether scripts executed in a pipeline or transaction are sent using {@code EVALSHA} instead of
+	 * {@code EVAL}. Using {@code EVALSHA} avoids sending the script body with each invocation at the risk of failing the
+	 * pipeline or transaction with a {@code NOSCRIPT} error if the script cache was flushed, e.g. after
+	 * {@code SCRIPT FLUSH}, a restart or a failover. Within a transaction, other queued commands are applied regardless.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param evalShaInPipelines {@literal true} to use {@code EVALSHA} in pipelines and transactions.
+	 * @since 4.2
+	 */
+	public void setEvalShaInPipelines(boolean evalShaInPipelines) {
+		this.evalShaInPipelines = evalShaInPipelines;
+	}
+
 	@SuppressWarnings("unchecked")
 	public <T extends @Nullable Object> T execute(@NonNull RedisScript<T> script, @NonNull List<@NonNull K> keys,
 			@NonNull Object @NonNull... args) {
@@ -67,9 +95,19 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 			final byte[][] keysAndArgs = keysAndArgs(argsSerializer, keys, args);
 			final int keySize = keys != null ? keys.size() : 0;
 			if (connection.isPipelined() || connection.isQueueing()) {
-				// We could script load first and then do evalsha to ensure sha is present,
-				// but this adds a sha1 to exec/closePipeline results. Instead, just eval
-				connection.eval(scriptBytes(script), returnType, keySize, keysAndArgs);
+
+				if (!evalShaInPipelines) {
+					// We could script load first and then do evalsha to ensure sha is present,
+					// but this adds a sha1 to exec/closePipeline results. Instead, just eval
+					connection.eval(scriptBytes(script), returnType, keySize, keysAndArgs);
+					return null;
+				}
+
+				// load the script through a separate connection to not add its sha1 to exec/closePipeline results
+				if (!loadedScripts.contains(script.getSha1())) {
+					preload(script);
+				}
+				connection.evalSha(script.getSha1(), returnType, keySize, keysAndArgs);
 				return null;
 			}
 			return eval(connection, script, returnType, keySize, keysAndArgs, resultSerializer);
@@ -89,6 +127,8 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 						: new RedisSystemException(ex.getMessage(), ex);
 			}
 
+			// script cache was flushed, e.g. after a failover or SCRIPT FLUSH
+			loadedScripts.remove(script.getSha1());
 			result = connection.eval(scriptBytes(script), returnType, numKeys, keysAndArgs);
 		}
 
@@ -99,6 +139,102 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 		return deserializeResult(resultSerializer, result);
 	}
 
+	/**
+	 * Load the given {@link RedisScript scripts} into the script cache using a dedicated connection. When connected to a
+	 * Redis Cluster, scripts are loaded on all master nodes.
+	 *
+	 * @param scripts the scripts to load.
+	 * @since 4.2
+	 */
+	public void preload(@NonNull RedisScript<?> @NonNull... scripts) {
+
+		try (RedisConnection connection = template.getRequiredConnectionFactory().getConnection()) {
+			for (RedisScript<?> script : scripts) {
+				connection.scriptingCommands().scriptLoad(scriptBytes(script));
+				loadedScripts.add(script.getSha1());
+			}
+		}
+	}
+
+	/**
+	 * Inspect an exception raised when closing a pipeline or executing a transaction for {@code NOSCRIPT} errors. Redis
+	 * flushes its script cache as a whole ({@code SCRIPT FLUSH}, restart, failover), so a single {@code NOSCRIPT} reply
+	 * invalidates all scripts known to be loaded. They are loaded again on their next pipelined or transactional use.
+	 *
+	 * @param ex the exception raised by {@link RedisConnection#closePipeline()} or {@link RedisConnection#exec()}.
+	 * @return {@literal true} if the exception reported a {@code NOSCRIPT} error.
+	 * @since 4.2
+	 */
+	public boolean evictOnNoScriptError(@NonNull Throwable ex) {
+
+		if (containsNoScriptError(ex)) {
+			loadedScripts.clear();
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean containsNoScriptError(Throwable ex) {
+
+		if (ScriptUtils.exceptionContainsNoScriptError(ex)) {
+			return true;
+		}
+
+		if (ex instanceof RedisPipelineException pipelineException) {
+			for (Object result : pipelineException.getPipelineResult()) {
+				if (result instanceof Throwable error && ScriptUtils.exceptionContainsNoScriptError(error)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends @Nullable Object> T execute(@NonNull RedisFunction<T> function, @NonNull List<@NonNull K> keys,
+			@NonNull Object @NonNull... args) {
+		// use the Template's value serializer for args and result
+		return execute(function, template.getValueSerializer(), (RedisSerializer<T>) template.getValueSerializer(), keys,
+				args);
+	}
+
+	/**
+	 * Invokes the given {@link RedisFunction}, using the provided {@link RedisSerializer}s to serialize the function
+	 * arguments and result.
+	 *
+	 * @param function the function to invoke.
+	 * @param argsSerializer The {@link RedisSerializer} to use for serializing args.
+	 * @param resultSerializer The {@link RedisSerializer} to use for serializing the function return value.
+	 * @param keys any keys that need to be passed to the function.
+	 * @param args any args that need to be passed to the function.
+	 * @return The return value of the function or {@literal null} if {@link RedisFunction#getResultType()} is
+	 *         {@literal null}.
+	 * @since 4.2
+	 */
+	public <T extends @Nullable Object> T execute(@NonNull RedisFunction<T> function,
+			@NonNull RedisSerializer<?> argsSerializer, @NonNull RedisSerializer<T> resultSerializer,
+			@NonNull List<@NonNull K> keys, @NonNull Object @NonNull... args) {
+		return template.execute((RedisCallback<T>) connection -> {
+
+			ReturnType returnType = ReturnType.fromJavaType(function.getResultType());
+			byte[][] keysAndArgs = keysAndArgs(argsSerializer, keys, args);
+			int keySize = keys != null ? keys.size() : 0;
+
+			Object result = function.isReadOnly()
+					? connection.scriptingCommands().fCallReadOnly(function.getName(), returnType, keySize, keysAndArgs)
+					: connection.scriptingCommands().fCall(function.getName(), returnType, keySize, keysAndArgs);
+
+			if (connection.isPipelined() || connection.isQueueing() || function.returnsRawValue()) {
+				return null;
+			}
+
+			return deserializeResult(resultSerializer, result);
+		});
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	protected byte[][] keysAndArgs(RedisSerializer argsSerializer, List<K> keys, Object[] args) {
 		final int keySize = keys != null ? keys.size() : 0;
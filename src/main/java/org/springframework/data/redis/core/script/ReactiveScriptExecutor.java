@@ -105,4 +105,17 @@ public interface ReactiveScriptExecutor<K> {
 	<T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args, RedisElementWriter<?> argsWriter,
 			RedisElementReader<T> resultReader);
 
+	/**
+	 * Invokes the given {@link RedisFunction} using {@code FCALL} or {@code FCALL_RO} for
+	 * {@link RedisFunction#isReadOnly() read-only} functions.
+	 *
+	 * @param function The function to invoke. Must not be {@literal null}.
+	 * @param keys any keys that need to be passed to the function. Must not be {@literal null}.
+	 * @param args any args that need to be passed to the function. Can be {@literal empty}.
+	 * @return The return value of the function or {@link Flux#empty()} if {@link RedisFunction#getResultType()} is
+	 *         {@literal null}, likely indicating a throw-away status reply (i.e. "OK")
+	 * @since 4.2
+	 */
+	<T> Flux<T> execute(RedisFunction<T> function, List<K> keys, List<?> args);
+
 }
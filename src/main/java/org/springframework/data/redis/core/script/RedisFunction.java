@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A function registered through a {@link RedisFunctionLibrary} to be invoked using
+ * <a href="https://redis.io/commands/fcall">FCALL</a> or <a href="https://redis.io/commands/fcall_ro">FCALL_RO</a>.
+ * Unlike {@link RedisScript scripts}, functions are persisted and replicated by the server and do not require sending
+ * the function body or a digest along with each invocation.
+ *
+ * @param <T> The function result type. Should be one of Long, Boolean, List, or deserialized value type. Can be
+ *          {@literal null} if the function returns a throw-away status (i.e "OK")
+ * @since 4.2
+ * @see RedisFunctionLibrary
+ */
+public interface RedisFunction<T> {
+
+	/**
+	 * @return the function name.
+	 */
+	String getName();
+
+	/**
+	 * @return The function result type. Should be one of Long, Boolean, List, or deserialized value type.
+	 *         {@literal null} if the function returns a throw-away status (i.e "OK").
+	 */
+	@Nullable
+	Class<T> getResultType();
+
+	/**
+	 * @return {@literal true} if the function is declared with the {@code no-writes} flag and can be invoked using
+	 *         {@code FCALL_RO}.
+	 */
+	boolean isReadOnly();
+
+	/**
+	 * @return {@literal true} if result type is {@literal null} and does not need any further deserialization.
+	 */
+	default boolean returnsRawValue() {
+		return getResultType() == null;
+	}
+
+	/**
+	 * Creates new {@link RedisFunction} (with throw away result) for the given function {@code name}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return new instance of {@link RedisFunction}.
+	 */
+	static <T> RedisFunction<T> of(String name) {
+
+		Assert.hasText(name, "Function name must not be null or empty");
+
+		return new DefaultRedisFunction<>(name, null, false);
+	}
+
+	/**
+	 * Creates new {@link RedisFunction} for the given function {@code name}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param resultType must not be {@literal null}.
+	 * @return new instance of {@link RedisFunction}.
+	 */
+	static <T> RedisFunction<T> of(String name, Class<T> resultType) {
+
+		Assert.hasText(name, "Function name must not be null or empty");
+		Assert.notNull(resultType, "ResultType must not be null");
+
+		return new DefaultRedisFunction<>(name, resultType, false);
+	}
+
+	/**
+	 * Creates new read-only {@link RedisFunction} for the given function {@code name}. Read-only functions are invoked
+	 * using {@code FCALL_RO} and must be declared with the {@code no-writes} flag.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param resultType must not be {@literal null}.
+	 * @return new instance of {@link RedisFunction}.
+	 */
+	static <T> RedisFunction<T> readOnly(String name, Class<T> resultType) {
+
+		Assert.hasText(name, "Function name must not be null or empty");
+		Assert.notNull(resultType, "ResultType must not be null");
+
+		return new DefaultRedisFunction<>(name, resultType, true);
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.Resource;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.util.Assert;
+
+/**
+ * A library of {@link RedisFunction functions} to be registered using
+ * <a href="https://redis.io/commands/function-load">FUNCTION LOAD</a>. The library code must start with a shebang
+ * declaring the engine and the library name, for example {@code #!lua name=mylib}.
+ *
+ * @since 4.2
+ * @see RedisFunctionLibraryInitializer
+ */
+public final class RedisFunctionLibrary {
+
+	private static final Pattern SHEBANG = Pattern.compile("^#!\\S+\\s+(?:.*\\s)?name=(\\S+)");
+
+	private final String name;
+	private final String code;
+
+	private RedisFunctionLibrary(String name, String code) {
+		this.name = name;
+		this.code = code;
+	}
+
+	/**
+	 * Creates new {@link RedisFunctionLibrary} from the given library {@code code}.
+	 *
+	 * @param code must not be {@literal null} or empty.
+	 * @return new instance of {@link RedisFunctionLibrary}.
+	 * @throws IllegalArgumentException if the code does not declare a library name.
+	 */
+	public static RedisFunctionLibrary of(String code) {
+
+		Assert.hasText(code, "Library code must not be null or empty");
+
+		String name = parseName(code);
+
+		Assert.notNull(name,
+				() -> "Library code must start with a shebang declaring the library name, e.g. '#!lua name=mylib'");
+
+		return new RedisFunctionLibrary(name, code);
+	}
+
+	/**
+	 * Creates new {@link RedisFunctionLibrary} from the given {@link Resource}.
+	 *
+	 * @param resource must not be {@literal null}.
+	 * @return new instance of {@link RedisFunctionLibrary}.
+	 * @throws ScriptingException if the resource cannot be read.
+	 */
+	public static RedisFunctionLibrary from(Resource resource) {
+
+		Assert.notNull(resource, "Resource must not be null");
+
+		try {
+			return of(new ResourceScriptSource(resource).getScriptAsString());
+		} catch (IOException ex) {
+			throw new ScriptingException("Error reading function library from %s".formatted(resource), ex);
+		}
+	}
+
+	private static @Nullable String parseName(String code) {
+
+		int endOfLine = code.indexOf('\n');
+		Matcher matcher = SHEBANG.matcher(endOfLine != -1 ? code.substring(0, endOfLine).trim() : code.trim());
+
+		return matcher.find() ? matcher.group(1) : null;
+	}
+
+	/**
+	 * @return the library name declared in the shebang.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the library code.
+	 */
+	public String getCode() {
+		return code;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		return o instanceof RedisFunctionLibrary that && name.equals(that.name) && code.equals(that.code);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * name.hashCode() + code.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "RedisFunctionLibrary[name=%s]".formatted(name);
+	}
+}
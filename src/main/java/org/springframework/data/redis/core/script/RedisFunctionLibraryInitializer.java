@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SmartLifecycle} component registering {@link RedisFunctionLibrary function libraries} on startup. Libraries
+ * are loaded using {@code FUNCTION LOAD REPLACE} so that registration is idempotent and updated library code replaces
+ * previous versions. When connected to a Redis Cluster, libraries are loaded on all master nodes.
+ * <p>
+ * The initializer starts in the last lifecycle phase by default to ensure the {@link RedisConnectionFactory} has been
+ * started.
+ *
+ * @since 4.2
+ */
+public class RedisFunctionLibraryInitializer implements SmartLifecycle {
+
+	private static final Log logger = LogFactory.getLog(RedisFunctionLibraryInitializer.class);
+
+	private final RedisConnectionFactory connectionFactory;
+	private final List<RedisFunctionLibrary> libraries;
+
+	private int phase = DEFAULT_PHASE;
+	private volatile boolean running;
+
+	/**
+	 * Creates a new {@link RedisFunctionLibraryInitializer}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param libraries must not be {@literal null}.
+	 */
+	public RedisFunctionLibraryInitializer(RedisConnectionFactory connectionFactory, RedisFunctionLibrary... libraries) {
+
+		Assert.notNull(connectionFactory, "RedisConnectionFactory must not be null");
+		Assert.notNull(libraries, "Libraries must not be null");
+		Assert.noNullElements(libraries, "Libraries must not contain null elements");
+
+		this.connectionFactory = connectionFactory;
+		this.libraries = List.of(libraries);
+	}
+
+	/**
+	 * Register all configured libraries.
+	 */
+	public void registerLibraries() {
+
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+
+			for (RedisFunctionLibrary library : libraries) {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("Loading function library '%s'".formatted(library.getName()));
+				}
+
+				connection.scriptingCommands().functionLoad(library.getCode().getBytes(StandardCharsets.UTF_8), true);
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+
+		registerLibraries();
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return phase;
+	}
+
+	/**
+	 * Specify the lifecycle phase in which to register libraries. Defaults to {@link SmartLifecycle#DEFAULT_PHASE}.
+	 *
+	 * @param phase the lifecycle phase.
+	 */
+	public void setPhase(int phase) {
+		this.phase = phase;
+	}
+
+	/**
+	 * @return the configured libraries.
+	 */
+	public List<RedisFunctionLibrary> getLibraries() {
+		return libraries;
+	}
+}
@@ -59,4 +59,18 @@ public interface ScriptExecutor<K> {
 	<T extends @Nullable Object> T execute(@NonNull RedisScript<T> script, @NonNull RedisSerializer<?> argsSerializer,
 			@NonNull RedisSerializer<T> resultSerializer, @NonNull List<@NonNull K> keys, @NonNull Object... args);
 
+	/**
+	 * Invokes the given {@link RedisFunction} using {@code FCALL} or {@code FCALL_RO} for
+	 * {@link RedisFunction#isReadOnly() read-only} functions.
+	 *
+	 * @param function the function to invoke.
+	 * @param keys any keys that need to be passed to the function.
+	 * @param args any args that need to be passed to the function.
+	 * @return The return value of the function or {@literal null} if {@link RedisFunction#getResultType()} is
+	 *         {@literal null}, likely indicating a throw-away status reply (i.e. "OK")
+	 * @since 4.2
+	 */
+	<T extends @Nullable Object> T execute(@NonNull RedisFunction<T> function, @NonNull List<@NonNull K> keys,
+			@NonNull Object @NonNull... args);
+
 }
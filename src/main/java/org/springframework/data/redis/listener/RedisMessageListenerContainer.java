@@ -15,7 +15,10 @@
  */
 package org.springframework.data.redis.listener;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -59,6 +62,8 @@ import org.springframework.data.redis.connection.Subscription;
 import org.springframework.data.redis.connection.SubscriptionListener;
 import org.springframework.data.redis.connection.util.ByteArrayWrapper;
 import org.springframework.data.redis.listener.adapter.RedisListenerExecutionFailedException;
+import org.springframework.data.redis.observability.RedisObservation;
+import org.springframework.data.redis.observability.RedisObservationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.Assert;
@@ -149,6 +154,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 	private @Nullable ErrorHandler errorHandler;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
 	private @Nullable Executor subscriptionExecutor;
 	private @Nullable Executor taskExecutor;
 
@@ -181,6 +188,21 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		this.errorHandler = errorHandler;
 	}
 
+	/**
+	 * Set the {@link ObservationRegistry} used to record an observation for each message delivered to a listener.
+	 * Defaults to {@link ObservationRegistry#NOOP}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 4.2
+	 * @see RedisObservation#MESSAGE
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
 	/**
 	 * Sets the task execution used for subscribing to Redis channels. By default, if no executor is set, the
 	 * {@link #setTaskExecutor(Executor)} will be used. In some cases, this might be undesired as the listening to the
@@ -847,7 +869,17 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 	protected void processMessage(MessageListener listener, Message message, byte[] source) {
 
 		try {
-			listener.onMessage(message, source);
+			if (observationRegistry.isNoop()) {
+				listener.onMessage(message, source);
+			} else {
+
+				RedisObservationContext context = new RedisObservationContext(RedisObservation.MESSAGE);
+				context.setSubscriptionType(Arrays.equals(message.getChannel(), source) ? "channel" : "pattern");
+				context.setChannel(serializer.deserialize(message.getChannel()));
+
+				RedisObservation.createNotStarted(context, observationRegistry)
+						.observe(() -> listener.onMessage(message, source));
+			}
 		} catch (Throwable cause) {
 			handleListenerException(cause);
 		}
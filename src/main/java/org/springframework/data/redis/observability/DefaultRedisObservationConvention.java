@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.common.docs.KeyName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.observability.RedisObservation.RedisKeyName;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link RedisObservationConvention} reporting the key names declared by a {@link RedisObservation}.
+ *
+ * @since 4.2
+ */
+public class DefaultRedisObservationConvention implements RedisObservationConvention {
+
+	private final RedisObservation observation;
+
+	/**
+	 * Create a new {@link DefaultRedisObservationConvention} for the given {@link RedisObservation}.
+	 *
+	 * @param observation must not be {@literal null}.
+	 */
+	public DefaultRedisObservationConvention(RedisObservation observation) {
+
+		Assert.notNull(observation, "RedisObservation must not be null");
+
+		this.observation = observation;
+	}
+
+	@Override
+	public String getName() {
+		return observation.getName();
+	}
+
+	@Override
+	public @Nullable String getContextualName(RedisObservationContext context) {
+		return observation == RedisObservation.COMMAND ? context.getCommand() : null;
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(RedisObservationContext context) {
+		return keyValues(observation.getLowCardinalityKeyNames(), context, true);
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(RedisObservationContext context) {
+		return keyValues(observation.getHighCardinalityKeyNames(), context, false);
+	}
+
+	private static KeyValues keyValues(KeyName[] keyNames, RedisObservationContext context, boolean includeNone) {
+
+		List<KeyValue> keyValues = new ArrayList<>(keyNames.length);
+
+		for (KeyName keyName : keyNames) {
+
+			String value = valueOf((RedisKeyName) keyName, context);
+
+			if (value != null) {
+				keyValues.add(keyName.withValue(value));
+			} else if (includeNone) {
+				keyValues.add(keyName.withValue(KeyValue.NONE_VALUE));
+			}
+		}
+
+		return KeyValues.of(keyValues);
+	}
+
+	private static @Nullable String valueOf(RedisKeyName keyName, RedisObservationContext context) {
+
+		return switch (keyName) {
+			case DB_SYSTEM -> "redis";
+			case CLIENT -> context.getClient();
+			case CONNECTION_TYPE -> context.getConnectionType();
+			case COMMAND -> context.getCommand();
+			case CLUSTER_NODE -> context.getClusterNode();
+			case PIPELINE_SIZE -> toString(context.getPipelineSize());
+			case CACHE_NAME -> context.getCacheName();
+			case CACHE_OPERATION -> context.getCacheOperation();
+			case CACHE_RESULT -> context.getCacheResult();
+			case SERIALIZER -> context.getSerializer();
+			case SERIALIZATION_OPERATION -> context.getSerializationOperation();
+			case SERIALIZED_SIZE -> toString(context.getSerializedSize());
+			case SUBSCRIPTION_TYPE -> context.getSubscriptionType();
+			case CHANNEL -> context.getChannel();
+		};
+	}
+
+	private static @Nullable String toString(@Nullable Integer value) {
+		return value != null ? value.toString() : null;
+	}
+}
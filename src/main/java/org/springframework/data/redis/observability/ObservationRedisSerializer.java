@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RedisSerializer} decorator recording a {@link RedisObservation#SERIALIZATION} observation for each
+ * serialization and deserialization. Comparing serialization observations with {@link RedisObservation#COMMAND}
+ * observations separates the time spent converting values from the time spent executing commands.
+ *
+ * <pre class="code">
+ * template.setValueSerializer(ObservationRedisSerializer.observe(RedisSerializer.json(), observationRegistry));
+ * </pre>
+ *
+ * @param <T> type of the values.
+ * @since 4.2
+ */
+public class ObservationRedisSerializer<T> implements RedisSerializer<T> {
+
+	private static final String SERIALIZE = "serialize";
+	private static final String DESERIALIZE = "deserialize";
+
+	private final RedisSerializer<T> delegate;
+	private final ObservationRegistry registry;
+	private final String serializer;
+
+	/**
+	 * Create a new {@link ObservationRedisSerializer}.
+	 *
+	 * @param delegate the serializer to observe, must not be {@literal null}.
+	 * @param registry must not be {@literal null}.
+	 */
+	public ObservationRedisSerializer(RedisSerializer<T> delegate, ObservationRegistry registry) {
+
+		Assert.notNull(delegate, "RedisSerializer must not be null");
+		Assert.notNull(registry, "ObservationRegistry must not be null");
+
+		this.delegate = delegate;
+		this.registry = registry;
+		this.serializer = ClassUtils.getUserClass(delegate).getSimpleName();
+	}
+
+	/**
+	 * Decorate the given {@link RedisSerializer} unless the {@link ObservationRegistry} is a no-op registry.
+	 *
+	 * @param delegate the serializer to observe, must not be {@literal null}.
+	 * @param registry must not be {@literal null}.
+	 * @return the observed serializer or {@code delegate} if {@code registry} is a no-op registry.
+	 */
+	public static <T> RedisSerializer<T> observe(RedisSerializer<T> delegate, ObservationRegistry registry) {
+
+		Assert.notNull(registry, "ObservationRegistry must not be null");
+
+		return registry.isNoop() ? delegate : new ObservationRedisSerializer<>(delegate, registry);
+	}
+
+	@Override
+	public byte[] serialize(@Nullable T value) throws SerializationException {
+
+		RedisObservationContext context = createContext(SERIALIZE);
+		Observation observation = RedisObservation.createNotStarted(context, registry).start();
+
+		try {
+
+			byte[] bytes = delegate.serialize(value);
+			context.setSerializedSize(bytes != null ? bytes.length : null);
+			return bytes;
+		} catch (RuntimeException ex) {
+			observation.error(ex);
+			throw ex;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	@Override
+	public @Nullable T deserialize(byte @Nullable [] bytes) throws SerializationException {
+
+		RedisObservationContext context = createContext(DESERIALIZE);
+		context.setSerializedSize(bytes != null ? bytes.length : null);
+		Observation observation = RedisObservation.createNotStarted(context, registry).start();
+
+		try {
+			return delegate.deserialize(bytes);
+		} catch (RuntimeException ex) {
+			observation.error(ex);
+			throw ex;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	@Override
+	public boolean canSerialize(Class<?> type) {
+		return delegate.canSerialize(type);
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return delegate.getTargetType();
+	}
+
+	/**
+	 * @return the observed serializer.
+	 */
+	public RedisSerializer<T> getDelegate() {
+		return delegate;
+	}
+
+	private RedisObservationContext createContext(String operation) {
+
+		RedisObservationContext context = new RedisObservationContext(RedisObservation.SERIALIZATION);
+		context.setSerializer(serializer);
+		context.setSerializationOperation(operation);
+		return context;
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link InvocationHandler} recording {@link RedisObservation observations} for commands invoked on a
+ * {@link RedisConnection} or one of its command interfaces.
+ *
+ * @since 4.2
+ */
+class ObservingConnectionInvocationHandler implements InvocationHandler {
+
+	private static final Set<String> UNOBSERVED_METHODS = Set.of("close", "isClosed", "getNativeConnection",
+			"isQueueing", "isPipelined", "isSubscribed", "getSubscription", "getSentinelConnection");
+
+	private final Object target;
+	private final ConnectionState state;
+
+	private ObservingConnectionInvocationHandler(Object target, ConnectionState state) {
+		this.target = target;
+		this.state = state;
+	}
+
+	static Object createProxy(RedisConnection connection, ObservationRegistry registry, String client,
+			String connectionType) {
+		return createProxy(connection, new ConnectionState(connection, registry, client, connectionType));
+	}
+
+	private static Object createProxy(Object target, ConnectionState state) {
+
+		ClassLoader classLoader = target.getClass().getClassLoader();
+		Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(target.getClass(), classLoader);
+
+		return Proxy.newProxyInstance(classLoader, interfaces, new ObservingConnectionInvocationHandler(target, state));
+	}
+
+	@Override
+	public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+		String name = method.getName();
+
+		if (method.getDeclaringClass() == Object.class) {
+			return switch (name) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				default -> invokeTarget(method, args);
+			};
+		}
+
+		if (UNOBSERVED_METHODS.contains(name) || name.endsWith("ubscribe")) {
+			return invokeTarget(method, args);
+		}
+
+		if (isCommandsAccessor(method)) {
+
+			Object commands = invokeTarget(method, args);
+			return commands != null ? createProxy(commands, state) : null;
+		}
+
+		if (name.equals("openPipeline")) {
+			return openPipeline(method, args);
+		}
+
+		if (name.equals("closePipeline")) {
+			return closePipeline(method, args);
+		}
+
+		if (state.connection.isPipelined() || state.connection.isQueueing()) {
+			return invokeTarget(method, args);
+		}
+
+		RedisObservationContext context = state.createContext(RedisObservation.COMMAND);
+		context.setCommand(getCommand(method, args));
+		context.setClusterNode(getClusterNode(args));
+
+		Observation observation = RedisObservation.createNotStarted(context, state.registry).start();
+
+		try (Observation.Scope ignored = observation.openScope()) {
+			return invokeTarget(method, args);
+		} catch (Throwable ex) {
+			observation.error(ex);
+			throw ex;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	private @Nullable Object openPipeline(Method method, @Nullable Object[] args) throws Throwable {
+
+		boolean pipelined = state.connection.isPipelined();
+		Object result = invokeTarget(method, args);
+
+		if (!pipelined && state.pipeline == null) {
+			state.pipeline = RedisObservation.createNotStarted(state.createContext(RedisObservation.PIPELINE), state.registry)
+					.start();
+		}
+
+		return result;
+	}
+
+	private @Nullable Object closePipeline(Method method, @Nullable Object[] args) throws Throwable {
+
+		if (!state.connection.isPipelined()) {
+			return invokeTarget(method, args);
+		}
+
+		Observation observation = state.pipeline != null ? state.pipeline
+				: RedisObservation.createNotStarted(state.createContext(RedisObservation.PIPELINE), state.registry).start();
+		state.pipeline = null;
+
+		try {
+
+			Object result = invokeTarget(method, args);
+
+			if (result instanceof List<?> results) {
+				((RedisObservationContext) observation.getContext()).setPipelineSize(results.size());
+			}
+
+			return result;
+		} catch (Throwable ex) {
+			observation.error(ex);
+			throw ex;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	private @Nullable Object invokeTarget(Method method, @Nullable Object[] args) throws Throwable {
+
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	/**
+	 * Accessors such as {@code stringCommands()} return command interfaces whose invocations are observed as well.
+	 */
+	static boolean isCommandsAccessor(Method method) {
+		return method.getParameterCount() == 0 && method.getReturnType().isInterface()
+				&& method.getName().endsWith("Commands");
+	}
+
+	/**
+	 * Derive the command name from the method name, using the command argument of {@code execute(String, …)}.
+	 */
+	static String getCommand(Method method, @Nullable Object @Nullable [] args) {
+
+		if (method.getName().equals("execute") && args != null && args.length > 0 && args[0] instanceof String command) {
+			return command.toUpperCase(Locale.ROOT);
+		}
+
+		return method.getName().toUpperCase(Locale.ROOT);
+	}
+
+	static @Nullable String getClusterNode(@Nullable Object @Nullable [] args) {
+
+		if (args != null) {
+			for (Object arg : args) {
+				if (arg instanceof RedisClusterNode node) {
+					return node.asString();
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * State shared between the proxy of a connection and the proxies of its command interfaces.
+	 */
+	static class ConnectionState {
+
+		final RedisConnection connection;
+		final ObservationRegistry registry;
+		final String client;
+		final String connectionType;
+
+		@Nullable Observation pipeline;
+
+		ConnectionState(RedisConnection connection, ObservationRegistry registry, String client, String connectionType) {
+			this.connection = connection;
+			this.registry = registry;
+			this.client = client;
+			this.connectionType = connectionType;
+		}
+
+		RedisObservationContext createContext(RedisObservation observation) {
+
+			RedisObservationContext context = new RedisObservationContext(observation);
+			context.setClient(client);
+			context.setConnectionType(connectionType);
+			return context;
+		}
+	}
+}
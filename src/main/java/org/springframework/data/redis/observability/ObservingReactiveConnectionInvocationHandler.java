@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link InvocationHandler} recording {@link RedisObservation observations} for the {@link Mono} and {@link Flux}
+ * commands of a {@link ReactiveRedisConnection} or one of its command interfaces. Observations start on subscription
+ * and use the observation registered in the subscriber context as parent.
+ *
+ * @since 4.2
+ */
+class ObservingReactiveConnectionInvocationHandler implements InvocationHandler {
+
+	private static final Set<String> UNOBSERVED_METHODS = Set.of("close", "closeLater", "setCommandConcurrency");
+
+	private final Object target;
+	private final ObservationRegistry registry;
+	private final String client;
+	private final String connectionType;
+
+	private ObservingReactiveConnectionInvocationHandler(Object target, ObservationRegistry registry, String client,
+			String connectionType) {
+
+		this.target = target;
+		this.registry = registry;
+		this.client = client;
+		this.connectionType = connectionType;
+	}
+
+	static Object createProxy(Object target, ObservationRegistry registry, String client, String connectionType) {
+
+		ClassLoader classLoader = target.getClass().getClassLoader();
+		Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(target.getClass(), classLoader);
+
+		return Proxy.newProxyInstance(classLoader, interfaces,
+				new ObservingReactiveConnectionInvocationHandler(target, registry, client, connectionType));
+	}
+
+	@Override
+	public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+		String name = method.getName();
+
+		if (method.getDeclaringClass() == Object.class) {
+			return switch (name) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				default -> invokeTarget(method, args);
+			};
+		}
+
+		if (UNOBSERVED_METHODS.contains(name)) {
+			return invokeTarget(method, args);
+		}
+
+		if (ObservingConnectionInvocationHandler.isCommandsAccessor(method)) {
+
+			Object commands = invokeTarget(method, args);
+			return commands != null ? createProxy(commands, registry, client, connectionType) : null;
+		}
+
+		Object result = invokeTarget(method, args);
+
+		if (!(result instanceof Mono<?>) && !(result instanceof Flux<?>)) {
+			return result;
+		}
+
+		RedisObservation observation = name.equals("pipeline") ? RedisObservation.PIPELINE : RedisObservation.COMMAND;
+		String command = ObservingConnectionInvocationHandler.getCommand(method, args);
+		String clusterNode = ObservingConnectionInvocationHandler.getClusterNode(args);
+
+		if (result instanceof Mono<?> mono) {
+			return Mono.deferContextual(contextView -> {
+
+				Observation current = start(observation, command, clusterNode, contextView);
+				return mono.doOnError(current::error).doFinally(signal -> current.stop())
+						.contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, current));
+			});
+		}
+
+		Flux<?> flux = (Flux<?>) result;
+		return Flux.deferContextual(contextView -> {
+
+			Observation current = start(observation, command, clusterNode, contextView);
+			return flux.doOnError(current::error).doFinally(signal -> current.stop())
+					.contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, current));
+		});
+	}
+
+	private Observation start(RedisObservation observation, String command, @Nullable String clusterNode,
+			ContextView contextView) {
+
+		RedisObservationContext context = new RedisObservationContext(observation);
+		context.setClient(client);
+		context.setConnectionType(connectionType);
+
+		if (observation == RedisObservation.COMMAND) {
+			context.setCommand(command);
+			context.setClusterNode(clusterNode);
+		}
+
+		Observation parent = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+
+		return RedisObservation.createNotStarted(context, registry).parentObservation(parent).start();
+	}
+
+	private @Nullable Object invokeTarget(Method method, @Nullable Object[] args) throws Throwable {
+
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Observations recorded by Spring Data Redis. Each observation uses a fixed set of
+ * {@link #getLowCardinalityKeyNames() low cardinality keys} that are suitable for metrics, values that are not set on
+ * the {@link RedisObservationContext} are reported as {@code none}.
+ *
+ * @since 4.2
+ */
+public enum RedisObservation implements ObservationDocumentation {
+
+	/**
+	 * Execution of a single Redis command. Commands issued while a connection is pipelined or queued within a
+	 * transaction are reported through {@link #PIPELINE} respectively the {@code EXEC} command.
+	 */
+	COMMAND("spring.data.redis.command",
+			keys(RedisKeyName.DB_SYSTEM, RedisKeyName.CLIENT, RedisKeyName.CONNECTION_TYPE, RedisKeyName.COMMAND,
+					RedisKeyName.CLUSTER_NODE),
+			keys()),
+
+	/**
+	 * Pipeline from opening until its results are received. Reports the number of pipelined commands.
+	 */
+	PIPELINE("spring.data.redis.pipeline",
+			keys(RedisKeyName.DB_SYSTEM, RedisKeyName.CLIENT, RedisKeyName.CONNECTION_TYPE),
+			keys(RedisKeyName.PIPELINE_SIZE)),
+
+	/**
+	 * Obtaining a connection from a connection factory, including the time waiting for a pooled connection.
+	 */
+	CONNECTION("spring.data.redis.connection.acquire",
+			keys(RedisKeyName.DB_SYSTEM, RedisKeyName.CLIENT, RedisKeyName.CONNECTION_TYPE),
+			keys()),
+
+	/**
+	 * Cache operation of a {@link org.springframework.data.redis.cache.RedisCacheWriter}.
+	 */
+	CACHE("spring.data.redis.cache",
+			keys(RedisKeyName.DB_SYSTEM, RedisKeyName.CACHE_NAME, RedisKeyName.CACHE_OPERATION, RedisKeyName.CACHE_RESULT),
+			keys()),
+
+	/**
+	 * Serialization or deserialization using an {@link ObservationRedisSerializer}.
+	 */
+	SERIALIZATION("spring.data.redis.serialization",
+			keys(RedisKeyName.SERIALIZER, RedisKeyName.SERIALIZATION_OPERATION),
+			keys(RedisKeyName.SERIALIZED_SIZE)),
+
+	/**
+	 * Delivery of a Pub/Sub message or stream record to a listener.
+	 */
+	MESSAGE("spring.data.redis.listener",
+			keys(RedisKeyName.DB_SYSTEM, RedisKeyName.SUBSCRIPTION_TYPE),
+			keys(RedisKeyName.CHANNEL));
+
+	private final String name;
+	private final KeyName[] lowCardinalityKeyNames;
+	private final KeyName[] highCardinalityKeyNames;
+	private final DefaultRedisObservationConvention defaultConvention;
+
+	RedisObservation(String name, KeyName[] lowCardinalityKeyNames, KeyName[] highCardinalityKeyNames) {
+
+		this.name = name;
+		this.lowCardinalityKeyNames = lowCardinalityKeyNames;
+		this.highCardinalityKeyNames = highCardinalityKeyNames;
+		this.defaultConvention = new DefaultRedisObservationConvention(this);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+		return DefaultRedisObservationConvention.class;
+	}
+
+	@Override
+	public KeyName[] getLowCardinalityKeyNames() {
+		return lowCardinalityKeyNames.clone();
+	}
+
+	@Override
+	public KeyName[] getHighCardinalityKeyNames() {
+		return highCardinalityKeyNames.clone();
+	}
+
+	/**
+	 * Create a new, not yet started {@link Observation} for the given {@link RedisObservationContext} using the default
+	 * convention of its {@link RedisObservationContext#getObservation() observation} unless the
+	 * {@link ObservationRegistry} provides a matching global convention.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param registry must not be {@literal null}.
+	 * @return the {@link Observation}.
+	 */
+	public static Observation createNotStarted(RedisObservationContext context, ObservationRegistry registry) {
+
+		RedisObservation observation = context.getObservation();
+		return observation.observation(null, observation.defaultConvention, () -> context, registry);
+	}
+
+	private static KeyName[] keys(KeyName... keyNames) {
+		return keyNames;
+	}
+
+	/**
+	 * Key names used by {@link RedisObservation observations}.
+	 */
+	public enum RedisKeyName implements KeyName {
+
+		/**
+		 * Database system, always {@code redis}.
+		 */
+		DB_SYSTEM("db.system"),
+
+		/**
+		 * Redis client library, such as {@code lettuce} or {@code jedis}.
+		 */
+		CLIENT("spring.data.redis.client"),
+
+		/**
+		 * Connection type, {@code standalone} or {@code cluster}.
+		 */
+		CONNECTION_TYPE("spring.data.redis.connection.type"),
+
+		/**
+		 * Redis command derived from the invoked connection method, such as {@code HSET}.
+		 */
+		COMMAND("db.operation"),
+
+		/**
+		 * Cluster node a command was routed to explicitly.
+		 */
+		CLUSTER_NODE("spring.data.redis.cluster.node"),
+
+		/**
+		 * Number of commands sent with a pipeline.
+		 */
+		PIPELINE_SIZE("spring.data.redis.pipeline.size"),
+
+		/**
+		 * Name of the cache.
+		 */
+		CACHE_NAME("spring.data.redis.cache.name"),
+
+		/**
+		 * Cache operation, such as {@code get} or {@code put}.
+		 */
+		CACHE_OPERATION("spring.data.redis.cache.operation"),
+
+		/**
+		 * Outcome of cache reads, {@code hit} or {@code miss}.
+		 */
+		CACHE_RESULT("spring.data.redis.cache.result"),
+
+		/**
+		 * Serializer type.
+		 */
+		SERIALIZER("spring.data.redis.serializer"),
+
+		/**
+		 * {@code serialize} or {@code deserialize}.
+		 */
+		SERIALIZATION_OPERATION("spring.data.redis.serialization.operation"),
+
+		/**
+		 * Size of the binary representation in bytes.
+		 */
+		SERIALIZED_SIZE("spring.data.redis.serialization.size"),
+
+		/**
+		 * Subscription type, {@code channel}, {@code pattern} or {@code stream}.
+		 */
+		SUBSCRIPTION_TYPE("spring.data.redis.subscription.type"),
+
+		/**
+		 * Channel or stream key.
+		 */
+		CHANNEL("spring.data.redis.channel");
+
+		private final String key;
+
+		RedisKeyName(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public String asString() {
+			return key;
+		}
+	}
+}
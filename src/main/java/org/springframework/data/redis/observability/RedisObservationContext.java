@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import io.micrometer.observation.Observation;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Observation.Context} for {@link RedisObservation observations}. Attributes that do not apply to an observation
+ * remain {@literal null}.
+ *
+ * @since 4.2
+ */
+public class RedisObservationContext extends Observation.Context {
+
+	private final RedisObservation observation;
+
+	private @Nullable String client;
+	private @Nullable String connectionType;
+	private @Nullable String command;
+	private @Nullable String clusterNode;
+	private @Nullable Integer pipelineSize;
+	private @Nullable String cacheName;
+	private @Nullable String cacheOperation;
+	private @Nullable String cacheResult;
+	private @Nullable String serializer;
+	private @Nullable String serializationOperation;
+	private @Nullable Integer serializedSize;
+	private @Nullable String subscriptionType;
+	private @Nullable String channel;
+
+	/**
+	 * Create a new {@link RedisObservationContext} for the given {@link RedisObservation}.
+	 *
+	 * @param observation the observation this context is used for.
+	 */
+	public RedisObservationContext(RedisObservation observation) {
+		this.observation = observation;
+	}
+
+	/**
+	 * @return the observation this context is used for.
+	 */
+	public RedisObservation getObservation() {
+		return observation;
+	}
+
+	public @Nullable String getClient() {
+		return client;
+	}
+
+	public void setClient(@Nullable String client) {
+		this.client = client;
+	}
+
+	public @Nullable String getConnectionType() {
+		return connectionType;
+	}
+
+	public void setConnectionType(@Nullable String connectionType) {
+		this.connectionType = connectionType;
+	}
+
+	public @Nullable String getCommand() {
+		return command;
+	}
+
+	public void setCommand(@Nullable String command) {
+		this.command = command;
+	}
+
+	public @Nullable String getClusterNode() {
+		return clusterNode;
+	}
+
+	public void setClusterNode(@Nullable String clusterNode) {
+		this.clusterNode = clusterNode;
+	}
+
+	public @Nullable Integer getPipelineSize() {
+		return pipelineSize;
+	}
+
+	public void setPipelineSize(@Nullable Integer pipelineSize) {
+		this.pipelineSize = pipelineSize;
+	}
+
+	public @Nullable String getCacheName() {
+		return cacheName;
+	}
+
+	public void setCacheName(@Nullable String cacheName) {
+		this.cacheName = cacheName;
+	}
+
+	public @Nullable String getCacheOperation() {
+		return cacheOperation;
+	}
+
+	public void setCacheOperation(@Nullable String cacheOperation) {
+		this.cacheOperation = cacheOperation;
+	}
+
+	public @Nullable String getCacheResult() {
+		return cacheResult;
+	}
+
+	public void setCacheResult(@Nullable String cacheResult) {
+		this.cacheResult = cacheResult;
+	}
+
+	public @Nullable String getSerializer() {
+		return serializer;
+	}
+
+	public void setSerializer(@Nullable String serializer) {
+		this.serializer = serializer;
+	}
+
+	public @Nullable String getSerializationOperation() {
+		return serializationOperation;
+	}
+
+	public void setSerializationOperation(@Nullable String serializationOperation) {
+		this.serializationOperation = serializationOperation;
+	}
+
+	public @Nullable Integer getSerializedSize() {
+		return serializedSize;
+	}
+
+	public void setSerializedSize(@Nullable Integer serializedSize) {
+		this.serializedSize = serializedSize;
+	}
+
+	public @Nullable String getSubscriptionType() {
+		return subscriptionType;
+	}
+
+	public void setSubscriptionType(@Nullable String subscriptionType) {
+		this.subscriptionType = subscriptionType;
+	}
+
+	public @Nullable String getChannel() {
+		return channel;
+	}
+
+	public void setChannel(@Nullable String channel) {
+		this.channel = channel;
+	}
+}
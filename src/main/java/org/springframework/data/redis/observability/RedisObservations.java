@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.connection.ReactiveRedisClusterConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Utility methods to record {@link RedisObservation observations} for Redis connections independent of the Redis
+ * client library in use.
+ *
+ * @since 4.2
+ */
+public final class RedisObservations {
+
+	static final String STANDALONE = "standalone";
+	static final String CLUSTER = "cluster";
+
+	private RedisObservations() {}
+
+	/**
+	 * Decorate the given {@link RedisConnection} to record a {@link RedisObservation#COMMAND} observation for each
+	 * command and a {@link RedisObservation#PIPELINE} observation for each pipeline. Returns {@code connection} as-is if
+	 * the {@link ObservationRegistry} is a no-op registry.
+	 *
+	 * @param connection the connection to observe, must not be {@literal null}.
+	 * @param connectionFactory the factory that created {@code connection}, used to determine the client library.
+	 * @param registry must not be {@literal null}.
+	 * @return the observed connection.
+	 */
+	public static RedisConnection observe(RedisConnection connection, Object connectionFactory,
+			ObservationRegistry registry) {
+
+		Assert.notNull(connection, "RedisConnection must not be null");
+		Assert.notNull(registry, "ObservationRegistry must not be null");
+
+		if (registry.isNoop()) {
+			return connection;
+		}
+
+		String connectionType = connection instanceof RedisClusterConnection ? CLUSTER : STANDALONE;
+
+		return (RedisConnection) ObservingConnectionInvocationHandler.createProxy(connection, registry,
+				getClient(connectionFactory), connectionType);
+	}
+
+	/**
+	 * Decorate the given {@link ReactiveRedisConnection} to record a {@link RedisObservation#COMMAND} observation for
+	 * each subscription to a command and a {@link RedisObservation#PIPELINE} observation for each
+	 * {@link ReactiveRedisConnection#pipeline(Supplier) pipeline}. Returns {@code connection} as-is if the
+	 * {@link ObservationRegistry} is a no-op registry.
+	 *
+	 * @param connection the connection to observe, must not be {@literal null}.
+	 * @param connectionFactory the factory that created {@code connection}, used to determine the client library.
+	 * @param registry must not be {@literal null}.
+	 * @return the observed connection.
+	 */
+	public static ReactiveRedisConnection observe(ReactiveRedisConnection connection, Object connectionFactory,
+			ObservationRegistry registry) {
+
+		Assert.notNull(connection, "ReactiveRedisConnection must not be null");
+		Assert.notNull(registry, "ObservationRegistry must not be null");
+
+		if (registry.isNoop()) {
+			return connection;
+		}
+
+		String connectionType = connection instanceof ReactiveRedisClusterConnection ? CLUSTER : STANDALONE;
+
+		return (ReactiveRedisConnection) ObservingReactiveConnectionInvocationHandler.createProxy(connection, registry,
+				getClient(connectionFactory), connectionType);
+	}
+
+	/**
+	 * Obtain a connection from {@code connectionSupplier} recording a {@link RedisObservation#CONNECTION} observation.
+	 *
+	 * @param connectionSupplier supplier obtaining the connection, must not be {@literal null}.
+	 * @param connectionFactory the factory providing connections, used to determine the client library.
+	 * @param registry must not be {@literal null}.
+	 * @return the obtained connection.
+	 */
+	public static <C> C acquire(Supplier<C> connectionSupplier, Object connectionFactory,
+			ObservationRegistry registry) {
+
+		Assert.notNull(connectionSupplier, "Connection supplier must not be null");
+		Assert.notNull(registry, "ObservationRegistry must not be null");
+
+		if (registry.isNoop()) {
+			return connectionSupplier.get();
+		}
+
+		RedisObservationContext context = new RedisObservationContext(RedisObservation.CONNECTION);
+		context.setClient(getClient(connectionFactory));
+
+		Observation observation = RedisObservation.createNotStarted(context, registry).start();
+
+		try {
+
+			C connection = connectionSupplier.get();
+			context.setConnectionType(
+					connection instanceof RedisClusterConnection || connection instanceof ReactiveRedisClusterConnection
+							? CLUSTER
+							: STANDALONE);
+			return connection;
+		} catch (RuntimeException ex) {
+			observation.error(ex);
+			throw ex;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	/**
+	 * Determine the Redis client library used by the given connection factory.
+	 *
+	 * @param connectionFactory the connection factory.
+	 * @return {@code lettuce}, {@code jedis} or the simple class name of the connection factory.
+	 */
+	public static String getClient(Object connectionFactory) {
+
+		Class<?> type = ClassUtils.getUserClass(connectionFactory);
+		String packageName = ClassUtils.getPackageName(type);
+
+		if (packageName.endsWith(".lettuce")) {
+			return "lettuce";
+		}
+
+		if (packageName.endsWith(".jedis")) {
+			return "jedis";
+		}
+
+		return type.getSimpleName();
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Micrometer Observation support for Redis command execution, caching, serialization and message listeners.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.redis.observability;
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.stream;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +39,8 @@ import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.observability.RedisObservation;
+import org.springframework.data.redis.observability.RedisObservationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
@@ -222,7 +226,28 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 		TypeDescriptor targetType = TypeDescriptor
 				.valueOf(containerOptions.hasHashMapper() ? containerOptions.getTargetType() : MapRecord.class);
 
-		return new StreamPollTask<>(streamRequest, listener, errorHandler, targetType, readFunction, deserializerToUse);
+		return new StreamPollTask<>(streamRequest, observe(streamRequest, listener), errorHandler, targetType, readFunction,
+				deserializerToUse);
+	}
+
+	private StreamListener<K, V> observe(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener) {
+
+		ObservationRegistry observationRegistry = containerOptions.getObservationRegistry();
+
+		if (observationRegistry.isNoop()) {
+			return listener;
+		}
+
+		String stream = String.valueOf(streamRequest.getStreamOffset().getKey());
+
+		return message -> {
+
+			RedisObservationContext context = new RedisObservationContext(RedisObservation.MESSAGE);
+			context.setSubscriptionType("stream");
+			context.setChannel(stream);
+
+			RedisObservation.createNotStarted(context, observationRegistry).observe(() -> listener.onMessage(message));
+		};
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
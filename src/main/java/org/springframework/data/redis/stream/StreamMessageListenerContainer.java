@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.stream;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -507,13 +509,14 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		private final Executor executor;
 		private final @Nullable Integer phase;
 		private final @Nullable Boolean autoStartup;
+		private final ObservationRegistry observationRegistry;
 
 		@SuppressWarnings({ "unchecked", "rawtypes" })
 		private StreamMessageListenerContainerOptions(Duration pollTimeout, @Nullable Integer batchSize,
 				RedisSerializer<K> keySerializer, RedisSerializer<Object> hashKeySerializer,
 				RedisSerializer<Object> hashValueSerializer, @Nullable Class<?> targetType,
 				@Nullable HashMapper<V, ?, ?> hashMapper, ErrorHandler errorHandler, Executor executor, @Nullable Integer phase,
-				@Nullable Boolean autoStartup) {
+				@Nullable Boolean autoStartup, ObservationRegistry observationRegistry) {
 			this.pollTimeout = pollTimeout;
 			this.batchSize = batchSize;
 			this.keySerializer = keySerializer;
@@ -525,6 +528,7 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			this.executor = executor;
 			this.phase = phase;
 			this.autoStartup = autoStartup;
+			this.observationRegistry = observationRegistry;
 		}
 
 		/**
@@ -622,6 +626,14 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		public Optional<Boolean> isAutoStartup() {
 			return autoStartup != null ? Optional.of(autoStartup) : Optional.empty();
 		}
+
+		/**
+		 * @return the {@link ObservationRegistry} used to observe the delivery of records to listeners.
+		 * @since 4.2
+		 */
+		public ObservationRegistry getObservationRegistry() {
+			return observationRegistry;
+		}
 	}
 
 	/**
@@ -644,6 +656,7 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		private Executor executor = new SimpleAsyncTaskExecutor();
 		private @Nullable Integer phase;
 		private @Nullable Boolean autoStartup;
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
 		@SuppressWarnings("NullAway")
 		private StreamMessageListenerContainerOptionsBuilder() {}
@@ -705,6 +718,23 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			return this;
 		}
 
+		/**
+		 * Configure the {@link ObservationRegistry} used to record an observation for each record delivered to a
+		 * {@link StreamListener}. Defaults to {@link ObservationRegistry#NOOP}.
+		 *
+		 * @param observationRegistry must not be {@literal null}.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 4.2
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> observationRegistry(
+				ObservationRegistry observationRegistry) {
+
+			Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
 		/**
 		 * Configure the phase to use for the container {@link SmartLifecycle}
 		 *
@@ -844,7 +874,7 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			Assert.notNull(hashValueSerializer, "Hash Value Serializer must not be null");
 
 			return new StreamMessageListenerContainerOptions<>(pollTimeout, batchSize, keySerializer, hashKeySerializer,
-					hashValueSerializer, targetType, hashMapper, errorHandler, executor, phase, autoStartup);
+					hashValueSerializer, targetType, hashMapper, errorHandler, executor, phase, autoStartup, observationRegistry);
 		}
 
 	}
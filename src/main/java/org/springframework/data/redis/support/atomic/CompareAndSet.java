@@ -15,21 +15,22 @@
  */
 package org.springframework.data.redis.support.atomic;
 
-import java.util.Collection;
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
-import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.SessionCallback;
-import org.springframework.util.CollectionUtils;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
 
 /**
- * Compare-and-set (CAS) operation using Redis Transactions ({@literal WATCH} and {@literal MULTI}) to atomically update
- * the value at {@code key}.
+ * Compare-and-set (CAS) operation using a Lua script to atomically update the value at {@code key} within a single
+ * round trip.
  * <p>
- * The CAS block registers a {@literal WATCH} on the key holding the expected value which guarantees that changes after
- * watching and comparing the key will rollback the transaction. The {@literal WATCH} is reset if the comparison fails.
+ * Values are compared by their serialized representation. Floating-point values are additionally compared numerically
+ * as {@literal INCRBYFLOAT} stores its result in a format that may differ from the serialized form of the same value.
+ * A failed comparison reports the current value so that update loops can retry without reading the value again.
  *
  * @author Mark Paluch
  * @since 2.0.8
@@ -37,44 +38,75 @@ import org.springframework.util.CollectionUtils;
  * @see RedisAtomicInteger
  * @see RedisAtomicLong
  */
-class CompareAndSet<T> implements SessionCallback<Boolean> {
+@SuppressWarnings({ "rawtypes", "unchecked" })
+class CompareAndSet<T> {
 
-	private final Supplier<T> getter;
-	private final Consumer<T> setter;
-	private final Object key;
-	private final T expect;
-	private final T update;
+	private static final RedisScript<List> SCRIPT = RedisScript.of("""
+			local current = redis.call('GET', KEYS[1])
+			if not current then
+				return {}
+			end
+			if current == ARGV[2] or (ARGV[1] == '1' and tonumber(current) ~= nil
+					and tonumber(current) == tonumber(ARGV[2])) then
+				redis.call('SET', KEYS[1], ARGV[3])
+				return {1}
+			end
+			return {0, current}
+			""", List.class);
 
-	CompareAndSet(Supplier<T> getter, Consumer<T> setter, Object key, T expect, T update) {
+	static final byte[] NUMERIC = "1".getBytes(StandardCharsets.US_ASCII);
+	static final byte[] BINARY = "0".getBytes(StandardCharsets.US_ASCII);
 
-		this.getter = getter;
-		this.setter = setter;
-		this.key = key;
-		this.expect = expect;
-		this.update = update;
+	private final RedisOperations<String, T> operations;
+	private final boolean numeric;
+
+	/**
+	 * @param operations the operations used to run the script and to serialize values.
+	 * @param numeric whether to compare values numerically if their serialized representation differs.
+	 */
+	CompareAndSet(RedisOperations<String, T> operations, boolean numeric) {
+
+		this.operations = operations;
+		this.numeric = numeric;
 	}
 
-	@Override
-	@SuppressWarnings("unchecked")
-	public <K, V> Boolean execute(RedisOperations<K, V> operations) throws DataAccessException {
+	/**
+	 * Atomically set the value at {@code key} to {@code update} if the current value equals {@code expect}.
+	 *
+	 * @param key the key.
+	 * @param expect the expected value.
+	 * @param update the new value.
+	 * @return the {@link Outcome} of the operation.
+	 * @throws DataRetrievalFailureException if the key does not exist.
+	 */
+	Outcome<T> compareAndSet(String key, T expect, T update) {
 
-		operations.watch((K) key);
+		RedisSerializer<T> serializer = (RedisSerializer<T>) operations.getValueSerializer();
 
-		if (expect.equals(getter.get())) {
+		List<Object> result = operations.execute(SCRIPT, RedisSerializer.byteArray(),
+				(RedisSerializer) RedisSerializer.byteArray(), List.of(key), numeric ? NUMERIC : BINARY,
+				serializer.serialize(expect), serializer.serialize(update));
 
-			operations.multi();
-			setter.accept(update);
+		if (result == null || result.isEmpty()) {
+			throw new DataRetrievalFailureException("The key '%s' seems to no longer exist".formatted(key));
+		}
 
-			if (updateSuccessful(operations.exec())) {
-				return true;
-			}
+		if (((Number) result.get(0)).longValue() == 1) {
+			return new Outcome<>(true, update);
 		}
 
-		operations.unwatch();
-		return false;
-	}
+		T current = serializer.deserialize((byte[]) result.get(1));
+
+		Assert.state(current != null, "Current value must not be null");
 
-	private static boolean updateSuccessful(Collection<?> exec) {
-		return !CollectionUtils.isEmpty(exec);
+		return new Outcome<>(false, current);
 	}
+
+	/**
+	 * Outcome of a compare-and-set operation.
+	 *
+	 * @param updated whether the value was updated.
+	 * @param current the value after the operation, the new value if {@code updated} or the actual value otherwise.
+	 */
+	record Outcome<T>(boolean updated, T current) {}
 }
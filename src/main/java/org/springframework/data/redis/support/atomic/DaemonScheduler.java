@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Single-threaded daemon scheduler shared by atomic support types that are not configured with a dedicated executor.
+ * Tasks run blocking Redis commands, so a slow Redis server delays every task scheduled on it.
+ *
+ * @since 4.2
+ */
+final class DaemonScheduler {
+
+	static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+		Thread thread = new Thread(runnable, "redis-atomic-support");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private DaemonScheduler() {}
+}
@@ -36,7 +36,7 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 
 /**
- * Atomic double backed by Redis. Uses Redis atomic increment/decrement and watch/multi/exec operations for CAS
+ * Atomic double backed by Redis. Uses Redis atomic increment/decrement and Lua scripts for CAS and update
  * operations.
  *
  * @author Jennifer Hickey
@@ -54,6 +54,8 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 
 	private final ValueOperations<String, Double> operations;
 	private final RedisOperations<String, Double> generalOps;
+	private final CompareAndSet<Double> cas;
+	private final ScriptedUpdates<Double> updates;
 
 	/**
 	 * Constructs a new {@link RedisAtomicDouble} instance. Uses the value existing in Redis or {@code 0} if none is
@@ -92,6 +94,8 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 		this.key = redisCounter;
 		this.generalOps = redisTemplate;
 		this.operations = generalOps.opsForValue();
+		this.cas = new CompareAndSet<>(generalOps, true);
+		this.updates = new ScriptedUpdates<>(generalOps, true);
 
 		if (initialValue == null) {
 			initializeIfAbsent();
@@ -140,6 +144,8 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 		this.key = redisCounter;
 		this.generalOps = template;
 		this.operations = generalOps.opsForValue();
+		this.cas = new CompareAndSet<>(generalOps, true);
+		this.updates = new ScriptedUpdates<>(generalOps, true);
 
 		if (initialValue == null) {
 			initializeIfAbsent();
@@ -191,7 +197,8 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 	}
 
 	/**
-	 * Atomically set the value to the given updated value if the current value {@code ==} the expected value.
+	 * Atomically set the value to the given updated value if the current value {@code ==} the expected value. The
+	 * comparison runs on the server within a single round trip.
 	 *
 	 * @param expect the expected value.
 	 * @param update the new value.
@@ -199,7 +206,7 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 	 *         expected value.
 	 */
 	public boolean compareAndSet(double expect, double update) {
-		return generalOps.execute(new CompareAndSet<>(this::get, this::set, key, expect, update));
+		return cas.compareAndSet(key, expect, update).updated();
 	}
 
 	/**
@@ -243,14 +250,7 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 
 		Assert.notNull(updateFunction, "Update function must not be null");
 
-		double previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = updateFunction.applyAsDouble(previousValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return previousValue;
+		return update(updateFunction, true);
 	}
 
 	/**
@@ -268,14 +268,7 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 
 		Assert.notNull(accumulatorFunction, "Accumulator function must not be null");
 
-		double previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = accumulatorFunction.applyAsDouble(previousValue, updateValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return previousValue;
+		return update(it -> accumulatorFunction.applyAsDouble(it, updateValue), true);
 	}
 
 	/**
@@ -319,14 +312,7 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 
 		Assert.notNull(updateFunction, "Update function must not be null");
 
-		double previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = updateFunction.applyAsDouble(previousValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return newValue;
+		return update(updateFunction, false);
 	}
 
 	/**
@@ -344,14 +330,67 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 
 		Assert.notNull(accumulatorFunction, "Accumulator function must not be null");
 
-		double previousValue, newValue;
+		return update(it -> accumulatorFunction.applyAsDouble(it, updateValue), false);
+	}
 
-		do {
-			previousValue = get();
-			newValue = accumulatorFunction.applyAsDouble(previousValue, updateValue);
-		} while (!compareAndSet(previousValue, newValue));
+	/**
+	 * Atomically update the current value to the maximum of the current value and the given {@code value}. The
+	 * comparison runs on the server and does not require retries under contention. Sets the value if the key does not
+	 * exist.
+	 *
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public double maxAndGet(double value) {
+		return updates.max(key, value);
+	}
 
-		return newValue;
+	/**
+	 * Atomically update the current value to the minimum of the current value and the given {@code value}. The
+	 * comparison runs on the server and does not require retries under contention. Sets the value if the key does not
+	 * exist.
+	 *
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public double minAndGet(double value) {
+		return updates.min(key, value);
+	}
+
+	/**
+	 * Atomically add the given value to current value and limit the result to the range between {@code lowerBound}
+	 * and {@code upperBound}. A result outside the range is replaced with the exceeded bound.
+	 *
+	 * @param delta the value to add.
+	 * @param lowerBound the lower bound (inclusive).
+	 * @param upperBound the upper bound (inclusive), must not be less than {@code lowerBound}.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public double addAndGet(double delta, double lowerBound, double upperBound) {
+
+		Assert.isTrue(lowerBound <= upperBound, "Lower bound must not be greater than upper bound");
+
+		return updates.add(key, delta, lowerBound, upperBound);
+	}
+
+	private double update(DoubleUnaryOperator updateFunction, boolean returnPrevious) {
+
+		double previousValue = get();
+
+		while (true) {
+
+			double newValue = updateFunction.applyAsDouble(previousValue);
+			CompareAndSet.Outcome<Double> outcome = cas.compareAndSet(key, previousValue, newValue);
+
+			if (outcome.updated()) {
+				return returnPrevious ? previousValue : newValue;
+			}
+
+			previousValue = outcome.current();
+		}
 	}
 
 	/**
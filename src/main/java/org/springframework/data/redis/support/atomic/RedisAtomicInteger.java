@@ -36,7 +36,7 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 
 /**
- * Atomic integer backed by Redis. Uses Redis atomic increment/decrement and watch/multi/exec operations for CAS
+ * Atomic integer backed by Redis. Uses Redis atomic increment/decrement and Lua scripts for CAS and update
  * operations.
  *
  * @author Costin Leau
@@ -55,6 +55,8 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 
 	private final ValueOperations<String, Integer> operations;
 	private final RedisOperations<String, Integer> generalOps;
+	private final CompareAndSet<Integer> cas;
+	private final ScriptedUpdates<Integer> updates;
 
 	/**
 	 * Constructs a new {@link RedisAtomicInteger} instance. Uses the value existing in Redis or {@code 0} if none is
@@ -121,6 +123,8 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 		this.key = redisCounter;
 		this.generalOps = redisTemplate;
 		this.operations = generalOps.opsForValue();
+		this.cas = new CompareAndSet<>(generalOps, false);
+		this.updates = new ScriptedUpdates<>(generalOps, false);
 
 		if (initialValue == null) {
 			initializeIfAbsent();
@@ -140,6 +144,8 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 		this.key = redisCounter;
 		this.generalOps = template;
 		this.operations = generalOps.opsForValue();
+		this.cas = new CompareAndSet<>(generalOps, false);
+		this.updates = new ScriptedUpdates<>(generalOps, false);
 
 		if (initialValue == null) {
 			initializeIfAbsent();
@@ -191,7 +197,8 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 	}
 
 	/**
-	 * Atomically set the value to the given updated value if the current value {@code ==} the expected value.
+	 * Atomically set the value to the given updated value if the current value {@code ==} the expected value. The
+	 * comparison runs on the server within a single round trip.
 	 *
 	 * @param expect the expected value.
 	 * @param update the new value.
@@ -199,7 +206,7 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 	 *         expected value.
 	 */
 	public boolean compareAndSet(int expect, int update) {
-		return generalOps.execute(new CompareAndSet<>(this::get, this::set, key, expect, update));
+		return cas.compareAndSet(key, expect, update).updated();
 	}
 
 	/**
@@ -243,14 +250,7 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 
 		Assert.notNull(updateFunction, "Update function must not be null");
 
-		int previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = updateFunction.applyAsInt(previousValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return previousValue;
+		return update(updateFunction, true);
 	}
 
 	/**
@@ -268,14 +268,7 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 
 		Assert.notNull(accumulatorFunction, "Accumulator function must not be null");
 
-		int previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = accumulatorFunction.applyAsInt(previousValue, updateValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return previousValue;
+		return update(it -> accumulatorFunction.applyAsInt(it, updateValue), true);
 	}
 
 	/**
@@ -319,14 +312,7 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 
 		Assert.notNull(updateFunction, "Update function must not be null");
 
-		int previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = updateFunction.applyAsInt(previousValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return newValue;
+		return update(updateFunction, false);
 	}
 
 	/**
@@ -344,14 +330,67 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 
 		Assert.notNull(accumulatorFunction, "Accumulator function must not be null");
 
-		int previousValue, newValue;
+		return update(it -> accumulatorFunction.applyAsInt(it, updateValue), false);
+	}
 
-		do {
-			previousValue = get();
-			newValue = accumulatorFunction.applyAsInt(previousValue, updateValue);
-		} while (!compareAndSet(previousValue, newValue));
+	/**
+	 * Atomically update the current value to the maximum of the current value and the given {@code value}. The
+	 * comparison runs on the server and does not require retries under contention. Sets the value if the key does not
+	 * exist.
+	 *
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public int maxAndGet(int value) {
+		return updates.max(key, value);
+	}
 
-		return newValue;
+	/**
+	 * Atomically update the current value to the minimum of the current value and the given {@code value}. The
+	 * comparison runs on the server and does not require retries under contention. Sets the value if the key does not
+	 * exist.
+	 *
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public int minAndGet(int value) {
+		return updates.min(key, value);
+	}
+
+	/**
+	 * Atomically add the given value to current value and limit the result to the range between {@code lowerBound}
+	 * and {@code upperBound}. A result outside the range is replaced with the exceeded bound.
+	 *
+	 * @param delta the value to add.
+	 * @param lowerBound the lower bound (inclusive).
+	 * @param upperBound the upper bound (inclusive), must not be less than {@code lowerBound}.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public int addAndGet(int delta, int lowerBound, int upperBound) {
+
+		Assert.isTrue(lowerBound <= upperBound, "Lower bound must not be greater than upper bound");
+
+		return updates.add(key, delta, lowerBound, upperBound);
+	}
+
+	private int update(IntUnaryOperator updateFunction, boolean returnPrevious) {
+
+		int previousValue = get();
+
+		while (true) {
+
+			int newValue = updateFunction.applyAsInt(previousValue);
+			CompareAndSet.Outcome<Integer> outcome = cas.compareAndSet(key, previousValue, newValue);
+
+			if (outcome.updated()) {
+				return returnPrevious ? previousValue : newValue;
+			}
+
+			previousValue = outcome.current();
+		}
 	}
 
 	/**
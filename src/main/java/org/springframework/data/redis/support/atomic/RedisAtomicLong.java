@@ -37,7 +37,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.Assert;
 
 /**
- * Atomic long backed by Redis. Uses Redis atomic increment/decrement and watch/multi/exec operations for CAS
+ * Atomic long backed by Redis. Uses Redis atomic increment/decrement and Lua scripts for CAS and update
  * operations.
  *
  * @author Costin Leau
@@ -56,6 +56,8 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 
 	private final ValueOperations<String, Long> operations;
 	private final RedisOperations<String, Long> generalOps;
+	private final CompareAndSet<Long> cas;
+	private final ScriptedUpdates<Long> updates;
 
 	/**
 	 * Constructs a new {@link RedisAtomicLong} instance. Uses the value existing in Redis or {@code 0} if none is found.
@@ -93,6 +95,8 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 		this.key = redisCounter;
 		this.generalOps = redisTemplate;
 		this.operations = generalOps.opsForValue();
+		this.cas = new CompareAndSet<>(generalOps, false);
+		this.updates = new ScriptedUpdates<>(generalOps, false);
 
 		if (initialValue == null) {
 			initializeIfAbsent();
@@ -141,6 +145,8 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 		this.key = redisCounter;
 		this.generalOps = template;
 		this.operations = generalOps.opsForValue();
+		this.cas = new CompareAndSet<>(generalOps, false);
+		this.updates = new ScriptedUpdates<>(generalOps, false);
 
 		if (initialValue == null) {
 			initializeIfAbsent();
@@ -192,7 +198,8 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 	}
 
 	/**
-	 * Atomically set the value to the given updated value if the current value {@code ==} the expected value.
+	 * Atomically set the value to the given updated value if the current value {@code ==} the expected value. The
+	 * comparison runs on the server within a single round trip.
 	 *
 	 * @param expect the expected value.
 	 * @param update the new value.
@@ -200,7 +207,7 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 	 *         expected value.
 	 */
 	public boolean compareAndSet(long expect, long update) {
-		return generalOps.execute(new CompareAndSet<>(this::get, this::set, key, expect, update));
+		return cas.compareAndSet(key, expect, update).updated();
 	}
 
 	/**
@@ -243,14 +250,7 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 
 		Assert.notNull(updateFunction, "Update function must not be null");
 
-		long previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = updateFunction.applyAsLong(previousValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return previousValue;
+		return update(updateFunction, true);
 	}
 
 	/**
@@ -267,14 +267,7 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 
 		Assert.notNull(accumulatorFunction, "Accumulator function must not be null");
 
-		long previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = accumulatorFunction.applyAsLong(previousValue, updateValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return previousValue;
+		return update(it -> accumulatorFunction.applyAsLong(it, updateValue), true);
 	}
 
 	/**
@@ -317,14 +310,7 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 
 		Assert.notNull(updateFunction, "Update function must not be null");
 
-		long previousValue, newValue;
-
-		do {
-			previousValue = get();
-			newValue = updateFunction.applyAsLong(previousValue);
-		} while (!compareAndSet(previousValue, newValue));
-
-		return newValue;
+		return update(updateFunction, false);
 	}
 
 	/**
@@ -341,14 +327,67 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 
 		Assert.notNull(accumulatorFunction, "Accumulator function must not be null");
 
-		long previousValue, newValue;
+		return update(it -> accumulatorFunction.applyAsLong(it, updateValue), false);
+	}
 
-		do {
-			previousValue = get();
-			newValue = accumulatorFunction.applyAsLong(previousValue, updateValue);
-		} while (!compareAndSet(previousValue, newValue));
+	/**
+	 * Atomically update the current value to the maximum of the current value and the given {@code value}. The
+	 * comparison runs on the server and does not require retries under contention. Sets the value if the key does not
+	 * exist.
+	 *
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public long maxAndGet(long value) {
+		return updates.max(key, value);
+	}
 
-		return newValue;
+	/**
+	 * Atomically update the current value to the minimum of the current value and the given {@code value}. The
+	 * comparison runs on the server and does not require retries under contention. Sets the value if the key does not
+	 * exist.
+	 *
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public long minAndGet(long value) {
+		return updates.min(key, value);
+	}
+
+	/**
+	 * Atomically add the given value to current value and limit the result to the range between {@code lowerBound}
+	 * and {@code upperBound}. A result outside the range is replaced with the exceeded bound.
+	 *
+	 * @param delta the value to add.
+	 * @param lowerBound the lower bound (inclusive).
+	 * @param upperBound the upper bound (inclusive), must not be less than {@code lowerBound}.
+	 * @return the updated value.
+	 * @since 4.2
+	 */
+	public long addAndGet(long delta, long lowerBound, long upperBound) {
+
+		Assert.isTrue(lowerBound <= upperBound, "Lower bound must not be greater than upper bound");
+
+		return updates.add(key, delta, lowerBound, upperBound);
+	}
+
+	private long update(LongUnaryOperator updateFunction, boolean returnPrevious) {
+
+		long previousValue = get();
+
+		while (true) {
+
+			long newValue = updateFunction.applyAsLong(previousValue);
+			CompareAndSet.Outcome<Long> outcome = cas.compareAndSet(key, previousValue, newValue);
+
+			if (outcome.updated()) {
+				return returnPrevious ? previousValue : newValue;
+			}
+
+			previousValue = outcome.current();
+		}
 	}
 
 	/**
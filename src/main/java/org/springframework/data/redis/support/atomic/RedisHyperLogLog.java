@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.HyperLogLogSketch;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Distinct counter that buffers additions in a local {@link HyperLogLogSketch} and merges them into a Redis
+ * HyperLogLog on a fixed schedule. Elements are hashed locally exactly like {@literal PFADD} would hash them, so the
+ * merged result equals adding every element individually while only the registers are written once per flush.
+ * <p>
+ * {@link #estimatedSize()} answers from a local view made of the last server state read by {@link #size()} and all
+ * elements added through this instance, without contacting Redis. Additions of other instances as well as the removal
+ * of the server-side HyperLogLog become visible with the next {@link #size()} call.
+ * <p>
+ * Additions that have not been flushed yet are lost if the JVM terminates without {@link #close() closing} this
+ * instance.
+ *
+ * @param <V> element type.
+ * @since 4.2
+ * @see HyperLogLogOperations#merge(Object, HyperLogLogSketch)
+ * @see RedisLongAdder
+ */
+public class RedisHyperLogLog<V> implements Closeable {
+
+	private static final Log logger = LogFactory.getLog(RedisHyperLogLog.class);
+
+	private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+	private final String key;
+	private final HyperLogLogOperations<String, V> operations;
+	private final RedisSerializer<V> serializer;
+	private final HyperLogLogSketch pending = new HyperLogLogSketch();
+	private final Object flushMonitor = new Object();
+	private volatile HyperLogLogSketch view = new HyperLogLogSketch();
+	private volatile @Nullable HyperLogLogSketch flushing;
+	private final ScheduledFuture<?> flushTask;
+
+	/**
+	 * Constructs a new {@link RedisHyperLogLog} counting {@link String} elements and flushing buffered additions every
+	 * second.
+	 *
+	 * @param redisKey Redis key of the HyperLogLog.
+	 * @param factory connection factory.
+	 * @return the new {@link RedisHyperLogLog}.
+	 */
+	public static RedisHyperLogLog<String> create(String redisKey, RedisConnectionFactory factory) {
+
+		Assert.notNull(factory, "a valid factory is required");
+
+		RedisTemplate<String, String> template = new RedisTemplate<>();
+		template.setKeySerializer(RedisSerializer.string());
+		template.setValueSerializer(RedisSerializer.string());
+		template.setConnectionFactory(factory);
+		template.afterPropertiesSet();
+
+		return new RedisHyperLogLog<>(redisKey, template, DEFAULT_FLUSH_INTERVAL, DaemonScheduler.INSTANCE);
+	}
+
+	/**
+	 * Constructs a new {@link RedisHyperLogLog} using the given {@link RedisTemplate} and
+	 * {@link ScheduledExecutorService}. Elements are serialized with the value serializer of {@code template}.
+	 *
+	 * @param redisKey Redis key of the HyperLogLog.
+	 * @param template the template.
+	 * @param flushInterval interval between flushes of buffered additions, must be positive.
+	 * @param scheduler the scheduler running periodic flushes.
+	 */
+	@SuppressWarnings("unchecked")
+	public RedisHyperLogLog(String redisKey, RedisTemplate<String, V> template, Duration flushInterval,
+			ScheduledExecutorService scheduler) {
+
+		Assert.hasText(redisKey, "a valid key is required");
+		Assert.notNull(template, "a valid template is required");
+		Assert.notNull(template.getValueSerializer(), "Template must define a value serializer");
+		Assert.notNull(flushInterval, "Flush interval must not be null");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.key = redisKey;
+		this.operations = template.opsForHyperLogLog();
+		this.serializer = (RedisSerializer<V>) template.getValueSerializer();
+
+		long interval = flushInterval.toNanos();
+		this.flushTask = scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Add the given elements. Additions are buffered locally until the next flush.
+	 *
+	 * @param values must not be {@literal null}.
+	 */
+	@SafeVarargs
+	public final void add(V... values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		for (V value : values) {
+
+			byte[] element = serializer.serialize(value);
+			Assert.notNull(element, "Serialized value must not be null");
+
+			pending.add(element);
+			view.add(element);
+		}
+	}
+
+	/**
+	 * Return the approximated cardinality of the server-side HyperLogLog including additions of this instance that
+	 * have not been flushed yet. Reads the registers of the server-side HyperLogLog and refreshes the local view used by
+	 * {@link #estimatedSize()}.
+	 *
+	 * @return the approximated cardinality.
+	 */
+	public long size() {
+
+		// rebuild the view as registers only ever grow through merges
+		HyperLogLogSketch refreshed = operations.sketch(key);
+
+		synchronized (flushMonitor) {
+
+			refreshed.merge(pending);
+
+			HyperLogLogSketch flushing = this.flushing;
+			if (flushing != null) {
+				refreshed.merge(flushing);
+			}
+		}
+
+		this.view = refreshed;
+		return refreshed.size();
+	}
+
+	/**
+	 * Return the approximated cardinality from the local view without contacting Redis. The view reflects the server
+	 * state at the last {@link #size()} call and all additions made through this instance since.
+	 *
+	 * @return the approximated cardinality.
+	 */
+	public long estimatedSize() {
+		return view.size();
+	}
+
+	/**
+	 * Merge buffered additions into the server-side HyperLogLog. Buffered additions are retained if writing fails.
+	 */
+	public void flush() {
+
+		HyperLogLogSketch drained;
+
+		synchronized (flushMonitor) {
+
+			drained = pending.drain();
+
+			if (drained.isEmpty()) {
+				return;
+			}
+
+			// keep drained additions visible to size() until they are written
+			flushing = drained;
+		}
+
+		try {
+			operations.merge(key, drained);
+		} catch (RuntimeException ex) {
+			pending.merge(drained);
+			throw ex;
+		} finally {
+			flushing = null;
+		}
+	}
+
+	private void flushQuietly() {
+
+		try {
+			flush();
+		} catch (RuntimeException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Cannot flush HyperLogLog '%s'; retrying with the next flush".formatted(key), ex);
+			}
+		}
+	}
+
+	/**
+	 * Discard buffered additions, clear the local view and remove the server-side HyperLogLog.
+	 */
+	public void reset() {
+
+		pending.clear();
+		view = new HyperLogLogSketch();
+		operations.delete(key);
+	}
+
+	/**
+	 * Stop periodic flushes and merge buffered additions into Redis. Elements added after closing are only written by
+	 * explicit {@link #flush()} calls.
+	 */
+	@Override
+	public void close() {
+
+		flushTask.cancel(false);
+		flush();
+	}
+
+	/**
+	 * @return the Redis key of the HyperLogLog.
+	 */
+	public String getKey() {
+		return key;
+	}
+}
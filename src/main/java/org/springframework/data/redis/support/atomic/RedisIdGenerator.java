@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hi/lo identifier generator reserving blocks of identifiers from a {@link RedisAtomicLong} with a single
+ * {@literal INCRBY}. Identifiers are handed out from the local block without locking. The next block is reserved
+ * asynchronously once half of the current block has been consumed so that callers rarely wait for Redis.
+ * <p>
+ * The block size adapts to the observed consumption rate: it doubles if a block was consumed in less than half of the
+ * target block duration and halves if consuming a block took more than twice as long, staying within the configured
+ * bounds.
+ * <p>
+ * Generated identifiers are unique across all generators sharing the same counter but not ordered. Identifiers of
+ * reserved blocks that have not been handed out are lost when the generator is discarded.
+ *
+ * @since 4.2
+ * @see RedisAtomicLong
+ */
+public class RedisIdGenerator implements LongSupplier {
+
+	private static final Log logger = LogFactory.getLog(RedisIdGenerator.class);
+
+	private static final int DEFAULT_MIN_BLOCK_SIZE = 100;
+	private static final int DEFAULT_MAX_BLOCK_SIZE = 100_000;
+	private static final Duration DEFAULT_TARGET_BLOCK_DURATION = Duration.ofSeconds(1);
+
+	private static final Block EXHAUSTED = new Block(1, 0);
+
+	private final RedisAtomicLong counter;
+	private final int minBlockSize;
+	private final int maxBlockSize;
+	private final long targetBlockNanos;
+	private final Executor executor;
+
+	private final Lock lock = new ReentrantLock();
+
+	private volatile Block current = EXHAUSTED;
+	private volatile int blockSize;
+
+	private @Nullable CompletableFuture<Block> prefetch;
+
+	/**
+	 * Create a new {@link RedisIdGenerator} reserving between {@literal 100} and {@literal 100000} identifiers at a time
+	 * aiming for one reservation per second.
+	 *
+	 * @param counter the counter to reserve identifiers from.
+	 */
+	public RedisIdGenerator(RedisAtomicLong counter) {
+		this(counter, DEFAULT_MIN_BLOCK_SIZE, DEFAULT_MAX_BLOCK_SIZE, DEFAULT_TARGET_BLOCK_DURATION,
+				DaemonScheduler.INSTANCE);
+	}
+
+	/**
+	 * Create a new {@link RedisIdGenerator}. Use the same {@code minBlockSize} and {@code maxBlockSize} to reserve blocks
+	 * of a fixed size.
+	 *
+	 * @param counter the counter to reserve identifiers from.
+	 * @param minBlockSize the minimum number of identifiers to reserve at a time, must be greater than zero.
+	 * @param maxBlockSize the maximum number of identifiers to reserve at a time, must not be less than
+	 *          {@code minBlockSize}.
+	 * @param targetBlockDuration the desired time to consume a block, must be positive.
+	 * @param executor the executor reserving blocks ahead of time.
+	 */
+	public RedisIdGenerator(RedisAtomicLong counter, int minBlockSize, int maxBlockSize, Duration targetBlockDuration,
+			Executor executor) {
+
+		Assert.notNull(counter, "Counter must not be null");
+		Assert.isTrue(minBlockSize > 0, "Minimum block size must be greater than zero");
+		Assert.isTrue(maxBlockSize >= minBlockSize, "Maximum block size must not be less than minimum block size");
+		Assert.notNull(targetBlockDuration, "Target block duration must not be null");
+		Assert.isTrue(!targetBlockDuration.isNegative() && !targetBlockDuration.isZero(),
+				"Target block duration must be positive");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.counter = counter;
+		this.minBlockSize = minBlockSize;
+		this.maxBlockSize = maxBlockSize;
+		this.targetBlockNanos = targetBlockDuration.toNanos();
+		this.executor = executor;
+		this.blockSize = minBlockSize;
+	}
+
+	/**
+	 * Obtain the next identifier.
+	 *
+	 * @return the next identifier.
+	 */
+	public long nextId() {
+
+		while (true) {
+
+			Block block = current;
+			long id = block.next.getAndIncrement();
+
+			if (id <= block.last) {
+
+				if (id == block.prefetchAt) {
+					prefetch();
+				}
+
+				return id;
+			}
+
+			advance(block);
+		}
+	}
+
+	@Override
+	public long getAsLong() {
+		return nextId();
+	}
+
+	/**
+	 * @return the number of identifiers reserved by the next reservation.
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	private void prefetch() {
+
+		lock.lock();
+		try {
+			if (prefetch == null) {
+				int size = blockSize;
+				prefetch = CompletableFuture.supplyAsync(() -> reserve(size), executor);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void advance(Block exhausted) {
+
+		lock.lock();
+		try {
+
+			if (current != exhausted) {
+				return;
+			}
+
+			if (exhausted != EXHAUSTED) {
+				adaptBlockSize(exhausted);
+			}
+
+			Block next = null;
+			CompletableFuture<Block> prefetched = this.prefetch;
+			this.prefetch = null;
+
+			if (prefetched != null) {
+				try {
+					next = prefetched.join();
+				} catch (CompletionException ex) {
+					logger.warn("Cannot reserve identifier block ahead of time; reserving block now", ex.getCause());
+				}
+			}
+
+			if (next == null) {
+				next = reserve(blockSize);
+			}
+
+			next.activate();
+			current = next;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void adaptBlockSize(Block exhausted) {
+
+		long elapsed = System.nanoTime() - exhausted.activatedAt;
+		int size = blockSize;
+
+		if (elapsed < targetBlockNanos / 2) {
+			blockSize = (int) Math.min((long) size * 2, maxBlockSize);
+		} else if (elapsed > targetBlockNanos * 2) {
+			blockSize = Math.max(size / 2, minBlockSize);
+		}
+	}
+
+	private Block reserve(int size) {
+
+		long last = counter.addAndGet(size);
+		return new Block(last - size + 1, last);
+	}
+
+	/**
+	 * Reserved range of identifiers.
+	 */
+	static class Block {
+
+		final AtomicLong next;
+		final long last;
+		final long prefetchAt;
+
+		volatile long activatedAt;
+
+		Block(long first, long last) {
+
+			this.next = new AtomicLong(first);
+			this.last = last;
+			this.prefetchAt = first + (last - first) / 2;
+		}
+
+		void activate() {
+			this.activatedAt = System.nanoTime();
+		}
+	}
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Distributed counter that buffers updates locally and writes them to Redis in batches. Updates are accumulated in a
+ * {@link LongAdder} and flushed using {@literal INCRBY} on a fixed schedule, trading read-your-writes precision for
+ * throughput. Suitable for metrics and rate counters that receive many more updates than reads.
+ * <p>
+ * The value can be striped across multiple keys to spread a hot counter over multiple cluster slots. Each stripe key
+ * uses its own hash tag ({@code {counter:0}}, {@code {counter:1}}, ...) and {@link #sum()} aggregates all stripes using
+ * {@literal MGET}. A counter using a single stripe stores its value at the counter key itself and can be read using
+ * {@link RedisAtomicLong}.
+ * <p>
+ * Increments that have not been flushed yet are lost if the JVM terminates without {@link #close() closing} the adder.
+ * <p>
+ * Updates are written at least once: a failed flush retains its updates for the next flush. If the failure is
+ * ambiguous, such as a command timeout, {@literal INCRBY} may have been applied already and the retry counts the
+ * updates twice.
+ * <p>
+ * Adders created without a dedicated {@link ScheduledExecutorService} issue their blocking {@literal INCRBY} calls
+ * from a single daemon thread that is shared with other types of this package. A slow or unreachable Redis server
+ * therefore delays the flushes of every such adder. Pass a dedicated {@link ScheduledExecutorService} to isolate counters from each other.
+ * <p>
+ * Although {@link Number} is {@link java.io.Serializable}, a {@link RedisLongAdder} is bound to its Redis connection and
+ * flush task and cannot be serialized.
+ *
+ * @since 4.2
+ * @see java.util.concurrent.atomic.LongAdder
+ * @see RedisAtomicLong
+ */
+public class RedisLongAdder extends Number implements Closeable {
+
+	private static final @Serial long serialVersionUID = 1L;
+
+	private static final Log logger = LogFactory.getLog(RedisLongAdder.class);
+
+	private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+	private final transient String key;
+	private final transient List<String> stripeKeys;
+	private final transient RedisOperations<String, Long> operations;
+	private final transient LongAdder pending = new LongAdder();
+	private final transient AtomicInteger nextStripe;
+	private final transient ScheduledFuture<?> flushTask;
+
+	/**
+	 * Constructs a new {@link RedisLongAdder} using a single stripe flushing buffered updates every second.
+	 *
+	 * @param redisCounter Redis key of this counter.
+	 * @param factory connection factory.
+	 */
+	public RedisLongAdder(String redisCounter, RedisConnectionFactory factory) {
+		this(redisCounter, factory, 1, DEFAULT_FLUSH_INTERVAL);
+	}
+
+	/**
+	 * Constructs a new {@link RedisLongAdder}.
+	 *
+	 * @param redisCounter Redis key of this counter.
+	 * @param factory connection factory.
+	 * @param stripes number of keys the value is spread across, must be greater than zero.
+	 * @param flushInterval interval between flushes of buffered updates, must be positive.
+	 * @see #RedisLongAdder(String, RedisOperations, int, Duration, ScheduledExecutorService)
+	 */
+	public RedisLongAdder(String redisCounter, RedisConnectionFactory factory, int stripes, Duration flushInterval) {
+		this(redisCounter, createTemplate(factory), stripes, flushInterval, DaemonScheduler.INSTANCE);
+	}
+
+	/**
+	 * Constructs a new {@link RedisLongAdder} using the given {@link RedisOperations} and
+	 * {@link ScheduledExecutorService}.
+	 * <p>
+	 * Note: The key serializer of {@code template} must be able to serialize {@link String} keys and the value serializer
+	 * must read and write {@link Long} values in their decimal representation, such as {@link GenericToStringSerializer}.
+	 *
+	 * @param redisCounter Redis key of this counter.
+	 * @param template the template.
+	 * @param stripes number of keys the value is spread across, must be greater than zero.
+	 * @param flushInterval interval between flushes of buffered updates, must be positive.
+	 * @param scheduler the scheduler running periodic flushes.
+	 */
+	public RedisLongAdder(String redisCounter, RedisOperations<String, Long> template, int stripes,
+			Duration flushInterval, ScheduledExecutorService scheduler) {
+
+		Assert.hasText(redisCounter, "a valid counter name is required");
+		Assert.notNull(template, "a valid template is required");
+		Assert.isTrue(stripes > 0, "Stripes must be greater than zero");
+		Assert.notNull(flushInterval, "Flush interval must not be null");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.key = redisCounter;
+		this.stripeKeys = stripeKeys(redisCounter, stripes);
+		this.operations = template;
+		this.nextStripe = new AtomicInteger(ThreadLocalRandom.current().nextInt(stripes));
+
+		long interval = flushInterval.toNanos();
+		this.flushTask = scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.NANOSECONDS);
+	}
+
+	private static RedisTemplate<String, Long> createTemplate(RedisConnectionFactory factory) {
+
+		Assert.notNull(factory, "a valid factory is required");
+
+		RedisTemplate<String, Long> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setKeySerializer(RedisSerializer.string());
+		redisTemplate.setValueSerializer(new GenericToStringSerializer<>(Long.class));
+		redisTemplate.setConnectionFactory(factory);
+		redisTemplate.afterPropertiesSet();
+
+		return redisTemplate;
+	}
+
+	private static List<String> stripeKeys(String key, int stripes) {
+
+		if (stripes == 1) {
+			return List.of(key);
+		}
+
+		List<String> keys = new ArrayList<>(stripes);
+		for (int i = 0; i < stripes; i++) {
+			keys.add("{" + key + ":" + i + "}");
+		}
+
+		return Collections.unmodifiableList(keys);
+	}
+
+	/**
+	 * Add the given value. The update is buffered locally until the next flush.
+	 *
+	 * @param delta the value to add.
+	 */
+	public void add(long delta) {
+		pending.add(delta);
+	}
+
+	/**
+	 * Equivalent to {@code add(1)}.
+	 */
+	public void increment() {
+		pending.increment();
+	}
+
+	/**
+	 * Equivalent to {@code add(-1)}.
+	 */
+	public void decrement() {
+		pending.decrement();
+	}
+
+	/**
+	 * Return the current sum of all stripes including updates of this instance that have not been flushed yet. Updates
+	 * buffered by other instances are not reflected until they are flushed.
+	 *
+	 * @return the current sum.
+	 */
+	public long sum() {
+
+		long sum = pending.sum();
+
+		List<Long> values = operations.opsForValue().multiGet(stripeKeys);
+
+		if (values != null) {
+			for (Long value : values) {
+				if (value != null) {
+					sum += value;
+				}
+			}
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Write buffered updates to Redis. Buffered updates are retained if writing fails and written again with the next
+	 * flush, even if the failed {@literal INCRBY} might have been applied, e.g. when it timed out.
+	 */
+	public void flush() {
+
+		long delta = pending.sumThenReset();
+
+		if (delta == 0) {
+			return;
+		}
+
+		String stripeKey = stripeKeys.get(Math.floorMod(nextStripe.getAndIncrement(), stripeKeys.size()));
+
+		try {
+			operations.opsForValue().increment(stripeKey, delta);
+		} catch (RuntimeException ex) {
+			pending.add(delta);
+			throw ex;
+		}
+	}
+
+	private void flushQuietly() {
+
+		try {
+			flush();
+		} catch (RuntimeException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Cannot flush counter '%s'; retrying with the next flush".formatted(key), ex);
+			}
+		}
+	}
+
+	/**
+	 * Discard buffered updates and remove all stripe keys.
+	 */
+	public void reset() {
+
+		pending.reset();
+		operations.delete(stripeKeys);
+	}
+
+	/**
+	 * Stop periodic flushes and write buffered updates to Redis. Updates issued after closing the adder are only written
+	 * by explicit {@link #flush()} calls.
+	 */
+	@Override
+	public void close() {
+
+		flushTask.cancel(false);
+		flush();
+	}
+
+	/**
+	 * @return the Redis key of this counter.
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * @return the keys holding the stripes of this counter.
+	 */
+	public List<String> getStripeKeys() {
+		return stripeKeys;
+	}
+
+	/**
+	 * @return the sum of updates that have not been flushed yet.
+	 */
+	public long getPending() {
+		return pending.sum();
+	}
+
+	@Override
+	public int intValue() {
+		return (int) sum();
+	}
+
+	@Override
+	public long longValue() {
+		return sum();
+	}
+
+	@Override
+	public float floatValue() {
+		return sum();
+	}
+
+	@Override
+	public double doubleValue() {
+		return sum();
+	}
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		throw new NotSerializableException(RedisLongAdder.class.getName());
+	}
+
+	@Serial
+	private void readObject(ObjectInputStream in) throws IOException {
+		throw new NotSerializableException(RedisLongAdder.class.getName());
+	}
+
+	/**
+	 * @return the String representation of the {@link #sum()}.
+	 */
+	@Override
+	public String toString() {
+		return Long.toString(sum());
+	}
+}
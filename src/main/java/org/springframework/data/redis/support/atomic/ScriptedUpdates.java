@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Common update functions of atomic counters ({@literal max}, {@literal min} and bounded addition) running as Lua
+ * script on the server so that contended updates do not require client-side retries.
+ * <p>
+ * Integral values are compared by their decimal representation to retain 64-bit precision. Floating-point values are
+ * compared numerically.
+ *
+ * @since 4.2
+ * @see CompareAndSet
+ */
+@SuppressWarnings("unchecked")
+class ScriptedUpdates<T> {
+
+	private static final RedisScript<byte[]> SCRIPT = RedisScript.of("""
+			local numeric, op = ARGV[1] == '1', ARGV[2]
+			local function compare(a, b)
+				if numeric then
+					local x, y = tonumber(a), tonumber(b)
+					if x == y then
+						return 0
+					end
+					return x < y and -1 or 1
+				end
+				local na, nb = string.byte(a) == 45, string.byte(b) == 45
+				if na ~= nb then
+					return na and -1 or 1
+				end
+				local result = 0
+				if #a ~= #b then
+					result = #a < #b and -1 or 1
+				elseif a ~= b then
+					result = a < b and -1 or 1
+				end
+				return na and -result or result
+			end
+			if op == 'add' then
+				redis.call(numeric and 'INCRBYFLOAT' or 'INCRBY', KEYS[1], ARGV[3])
+				local current = redis.call('GET', KEYS[1])
+				local bound
+				if compare(current, ARGV[4]) < 0 then
+					bound = ARGV[4]
+				elseif compare(current, ARGV[5]) > 0 then
+					bound = ARGV[5]
+				end
+				if bound then
+					redis.call('SET', KEYS[1], bound, 'KEEPTTL')
+					return bound
+				end
+				return current
+			end
+			local current = redis.call('GET', KEYS[1])
+			if not current or (op == 'max' and compare(ARGV[3], current) > 0)
+					or (op == 'min' and compare(ARGV[3], current) < 0) then
+				redis.call('SET', KEYS[1], ARGV[3], 'KEEPTTL')
+				return ARGV[3]
+			end
+			return current
+			""", byte[].class);
+
+	private static final byte[] MAX = "max".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] MIN = "min".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] ADD = "add".getBytes(StandardCharsets.US_ASCII);
+
+	private final RedisOperations<String, T> operations;
+	private final boolean numeric;
+
+	/**
+	 * @param operations the operations used to run the script and to serialize values.
+	 * @param numeric whether values are floating-point numbers.
+	 */
+	ScriptedUpdates(RedisOperations<String, T> operations, boolean numeric) {
+
+		this.operations = operations;
+		this.numeric = numeric;
+	}
+
+	/**
+	 * Atomically set the value at {@code key} to the maximum of its current value and {@code value}. Sets the value if
+	 * the key does not exist.
+	 *
+	 * @param key the key.
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 */
+	T max(String key, T value) {
+		return execute(key, MAX, value);
+	}
+
+	/**
+	 * Atomically set the value at {@code key} to the minimum of its current value and {@code value}. Sets the value if
+	 * the key does not exist.
+	 *
+	 * @param key the key.
+	 * @param value the value to compare with.
+	 * @return the updated value.
+	 */
+	T min(String key, T value) {
+		return execute(key, MIN, value);
+	}
+
+	/**
+	 * Atomically add {@code delta} to the value at {@code key} and limit the result to the range between
+	 * {@code lowerBound} and {@code upperBound}.
+	 *
+	 * @param key the key.
+	 * @param delta the value to add.
+	 * @param lowerBound the lower bound (inclusive).
+	 * @param upperBound the upper bound (inclusive).
+	 * @return the updated value.
+	 */
+	T add(String key, T delta, T lowerBound, T upperBound) {
+		return execute(key, ADD, delta, lowerBound, upperBound);
+	}
+
+	@SafeVarargs
+	private T execute(String key, byte[] op, T... values) {
+
+		RedisSerializer<T> serializer = (RedisSerializer<T>) operations.getValueSerializer();
+
+		Object[] args = new Object[values.length + 2];
+		args[0] = numeric ? CompareAndSet.NUMERIC : CompareAndSet.BINARY;
+		args[1] = op;
+
+		for (int i = 0; i < values.length; i++) {
+			args[i + 2] = serializer.serialize(values[i]);
+		}
+
+		byte[] result = operations.execute(SCRIPT, RedisSerializer.byteArray(), RedisSerializer.byteArray(), List.of(key),
+				args);
+
+		Assert.state(result != null, "Script result must not be null");
+
+		T value = serializer.deserialize(result);
+
+		Assert.state(value != null, "Updated value must not be null");
+
+		return value;
+	}
+}
@@ -15,7 +15,9 @@
  */
 package org.springframework.data.redis.support.collections;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
@@ -23,6 +25,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.Nullable;
@@ -30,6 +34,8 @@ import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisListCommands;
 import org.springframework.data.redis.core.BoundListOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 
 /**
@@ -46,10 +52,22 @@ import org.springframework.util.Assert;
  */
 public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements RedisList<E> {
 
+	private static final RedisScript<byte[]> SET = RedisScript.of("""
+			local old = redis.call('LINDEX', KEYS[1], ARGV[1])
+			redis.call('LSET', KEYS[1], ARGV[1], ARGV[2])
+			return old
+			""", byte[].class);
+
+	private static final int DEFAULT_PAGE_SIZE = 100;
+
 	private volatile boolean capped = false;
 
 	private volatile int maxSize = 0;
 
+	private volatile int pageSize = DEFAULT_PAGE_SIZE;
+
+	private volatile @Nullable Executor prefetchExecutor;
+
 	private final BoundListOperations<String, E> listOps;
 
 	/**
@@ -108,6 +126,31 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 		capped = (maxSize > 0);
 	}
 
+	/**
+	 * Set the number of elements to fetch per {@literal LRANGE} round trip when iterating over or streaming this list.
+	 * Defaults to {@literal 100}.
+	 *
+	 * @param pageSize the page size, must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setPageSize(int pageSize) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero");
+
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Set the {@link Executor} used to prefetch the next page while iterating over or streaming this list. Prefetching
+	 * is disabled by default.
+	 *
+	 * @param prefetchExecutor the {@link Executor} to use, can be {@literal null} to disable prefetching.
+	 * @since 4.2
+	 */
+	public void setPrefetchExecutor(@Nullable Executor prefetchExecutor) {
+		this.prefetchExecutor = prefetchExecutor;
+	}
+
 	@Override
 	public E moveFirstTo(RedisList<E> destination, RedisListCommands.Direction destinationPosition) {
 
@@ -211,9 +254,13 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 
 	@Override
 	public Iterator<E> iterator() {
-		List<E> list = content();
-		checkResult(list);
-		return new DefaultRedisListIterator(list.iterator());
+		return new PagedIterator<>(this::page, 0, Long.MAX_VALUE, pageSize, prefetchExecutor, this::remove);
+	}
+
+	@Override
+	public Spliterator<E> spliterator() {
+		return new PagedSpliterator<>(this::page, size(), pageSize, prefetchExecutor,
+				Spliterator.ORDERED | Spliterator.NONNULL);
 	}
 
 	@Override
@@ -330,11 +377,26 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public E set(int index, E element) {
 
-		E object = get(index);
-		listOps.set(index, element);
-		return object;
+		RedisSerializer<E> serializer = (RedisSerializer<E>) getOperations().getValueSerializer();
+		byte[] rawElement = rawElement(serializer, element);
+
+		byte[] old = getOperations().execute(SET, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+				Collections.singletonList(getKey()), Integer.toString(index).getBytes(StandardCharsets.US_ASCII), rawElement);
+
+		return serializer == null || old == null ? (E) old : serializer.deserialize(old);
+	}
+
+	private static <E> byte[] rawElement(@Nullable RedisSerializer<E> serializer, E element) {
+
+		if (serializer == null) {
+			Assert.isInstanceOf(byte[].class, element, "Element must be a byte[] if no value serializer is configured");
+			return (byte[]) element;
+		}
+
+		return serializer.serialize(element);
 	}
 
 	@Override
@@ -399,9 +461,16 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 
 	@Override
 	public Iterator<E> descendingIterator() {
-		List<E> content = content();
-		Collections.reverse(content);
-		return new DefaultRedisListIterator(content.iterator());
+		return new PagedIterator<>(this::descendingPage, 0, Long.MAX_VALUE, pageSize, prefetchExecutor,
+				this::removeLastOccurrence);
+	}
+
+	/**
+	 * @return a {@link PagedSpliterator} traversing this list from the tail to the head.
+	 */
+	Spliterator<E> descendingSpliterator() {
+		return new PagedSpliterator<>(this::descendingPage, size(), pageSize, prefetchExecutor,
+				Spliterator.ORDERED | Spliterator.NONNULL);
 	}
 
 	@Override
@@ -500,18 +569,24 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 			throw new IllegalArgumentException("Cannot drain a queue to itself");
 		}
 
-		int loop = (Math.min(size(), maxElements));
+		if (maxElements <= 0) {
+			return 0;
+		}
+
+		List<E> elements = listOps.leftPop(maxElements);
 
-		for (int index = 0; index < loop; index++) {
-			collection.add(poll());
+		if (elements == null) {
+			return 0;
 		}
 
-		return loop;
+		collection.addAll(elements);
+
+		return elements.size();
 	}
 
 	@Override
 	public int drainTo(Collection<? super E> collection) {
-		return drainTo(collection, size());
+		return drainTo(collection, Integer.MAX_VALUE);
 	}
 
 	@Override
@@ -588,26 +663,24 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 		return DataType.LIST;
 	}
 
-	private List<E> content() {
-		return listOps.range(0, -1);
-	}
-
 	private void cap() {
 		if (capped) {
 			listOps.trim(0, maxSize - 1);
 		}
 	}
 
-	private class DefaultRedisListIterator extends RedisIterator<E> {
+	private List<E> page(long start, long end) {
 
-		public DefaultRedisListIterator(Iterator<E> delegate) {
-			super(delegate);
-		}
+		List<E> page = listOps.range(start, end);
+		checkResult(page);
+		return page;
+	}
 
-		@Override
-		protected void removeFromRedisStorage(E item) {
-			DefaultRedisList.this.remove(item);
-		}
+	private List<E> descendingPage(long start, long end) {
+
+		List<E> page = new ArrayList<>(page(-end - 1, -start - 1));
+		Collections.reverse(page);
+		return page;
 	}
 
 	private class Itr implements Iterator<E> {
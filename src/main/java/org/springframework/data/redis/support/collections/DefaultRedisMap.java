@@ -15,12 +15,21 @@
  */
 package org.springframework.data.redis.support.collections;
 
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -30,12 +39,20 @@ import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
 
 /**
- * Default implementation for {@link RedisMap}. Note that the current implementation doesn't provide the same locking
- * semantics across all methods. In highly concurrent environments, race conditions might appear.
+ * Default implementation for {@link RedisMap}. Compound {@link java.util.concurrent.ConcurrentMap} operations such as
+ * {@link #putIfAbsent(Object, Object)}, {@link #replace(Object, Object, Object)} or {@link #remove(Object, Object)} run
+ * as a single Lua script and are therefore atomic. Conditional operations compare values by their serialized
+ * representation.
+ * <p>
+ * {@link #entrySet()} and {@link #values()} are lazy views iterating over the hash using {@literal HSCAN} in pages of
+ * {@link #setPageSize(int) page size} fields so that large hashes are never materialized at once. As with any
+ * {@literal SCAN}-based iteration, fields modified during iteration may be returned more than once or not at all.
  *
  * @author Costin Leau
  * @author Christoph Strobl
@@ -44,8 +61,62 @@ import org.springframework.data.redis.core.types.Expiration;
  */
 public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 
+	private static final int DEFAULT_PAGE_SIZE = 100;
+
+	private static final RedisScript<byte[]> PUT = RedisScript.of("""
+			local old = redis.call('HGET', KEYS[1], ARGV[1])
+			redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+			return old
+			""", byte[].class);
+
+	private static final RedisScript<byte[]> PUT_IF_ABSENT = RedisScript.of("""
+			local old = redis.call('HGET', KEYS[1], ARGV[1])
+			if not old then
+				redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+			end
+			return old
+			""", byte[].class);
+
+	private static final RedisScript<byte[]> REPLACE = RedisScript.of("""
+			local old = redis.call('HGET', KEYS[1], ARGV[1])
+			if old then
+				redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+			end
+			return old
+			""", byte[].class);
+
+	private static final RedisScript<Long> REPLACE_IF_EQUAL = RedisScript.of("""
+			if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+				redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+				return 1
+			end
+			return 0
+			""", Long.class);
+
+	private static final RedisScript<byte[]> REMOVE = RedisScript.of("""
+			local old = redis.call('HGET', KEYS[1], ARGV[1])
+			if old then
+				redis.call('HDEL', KEYS[1], ARGV[1])
+			end
+			return old
+			""", byte[].class);
+
+	private static final RedisScript<Long> REMOVE_IF_EQUAL = RedisScript.of("""
+			if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+				redis.call('HDEL', KEYS[1], ARGV[1])
+				return 1
+			end
+			return 0
+			""", Long.class);
+
+	@SuppressWarnings("rawtypes") private static final RedisScript<List> SCAN_PAGE = RedisScript.of("""
+			return redis.call('HSCAN', KEYS[1], ARGV[1], 'COUNT', ARGV[2])
+			""", List.class);
+
 	private final BoundHashOperations<String, K, V> hashOps;
 
+	private int pageSize = DEFAULT_PAGE_SIZE;
+
 	/**
 	 * Constructs a new {@link DefaultRedisMap} instance.
 	 *
@@ -67,6 +138,20 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 		this.hashOps = boundOps;
 	}
 
+	/**
+	 * Set the number of fields to request per {@literal HSCAN} round trip when iterating over {@link #entrySet()} or
+	 * {@link #values()}. Defaults to {@literal 100}.
+	 *
+	 * @param pageSize the page size, must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setPageSize(int pageSize) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero");
+
+		this.pageSize = pageSize;
+	}
+
 	@Override
 	public Long increment(K key, long delta) {
 		return hashOps.increment(key, delta);
@@ -113,9 +198,23 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 	@Override
 	public Set<java.util.Map.Entry<K, V>> entrySet() {
 
-		Map<K, V> entries = hashOps.entries();
-		checkResult(entries);
-		return entries.entrySet();
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new ScanIterator<>(Function.identity());
+			}
+
+			@Override
+			public int size() {
+				return DefaultRedisMap.this.size();
+			}
+
+			@Override
+			public void clear() {
+				DefaultRedisMap.this.clear();
+			}
+		};
 	}
 
 	@Override
@@ -134,11 +233,8 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 	}
 
 	@Override
-	public V put(K key, V value) {
-
-		V oldV = get(key);
-		hashOps.put(key, value);
-		return oldV;
+	public @Nullable V put(K key, V value) {
+		return deserializeValue(execute(PUT, rawKey(key), rawValue(value)));
 	}
 
 	@Override
@@ -148,10 +244,7 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 
 	@Override
 	public @Nullable V remove(Object key) {
-
-		V v = get(key);
-		hashOps.delete(key);
-		return v;
+		return deserializeValue(execute(REMOVE, rawKey(key)));
 	}
 
 	@Override
@@ -164,7 +257,24 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 
 	@Override
 	public Collection<V> values() {
-		return hashOps.values();
+
+		return new AbstractCollection<>() {
+
+			@Override
+			public Iterator<V> iterator() {
+				return new ScanIterator<>(Entry::getValue);
+			}
+
+			@Override
+			public int size() {
+				return DefaultRedisMap.this.size();
+			}
+
+			@Override
+			public void clear() {
+				DefaultRedisMap.this.clear();
+			}
+		};
 	}
 
 	@Override
@@ -194,7 +304,7 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 
 	@Override
 	public @Nullable V putIfAbsent(K key, V value) {
-		return (hashOps.putIfAbsent(key, value) ? null : get(key));
+		return deserializeValue(execute(PUT_IF_ABSENT, rawKey(key), rawValue(value)));
 	}
 
 	@Override
@@ -204,25 +314,9 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 			throw new NullPointerException();
 		}
 
-		return hashOps.getOperations().execute(new SessionCallback<Boolean>() {
-			@Override
-			@SuppressWarnings({ "unchecked", "rawtypes" })
-			public Boolean execute(RedisOperations ops) {
-				for (;;) {
-					ops.watch(Collections.singleton(getKey()));
-					V v = get(key);
-					if (value.equals(v)) {
-						ops.multi();
-						remove(key);
-						if (ops.exec(ops.getHashValueSerializer()) != null) {
-							return true;
-						}
-					} else {
-						return false;
-					}
-				}
-			}
-		});
+		Long result = execute(REMOVE_IF_EQUAL, rawKey(key), rawValue(value));
+		checkResult(result);
+		return result == 1;
 	}
 
 	@Override
@@ -232,25 +326,9 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 			throw new NullPointerException();
 		}
 
-		return hashOps.getOperations().execute(new SessionCallback<Boolean>() {
-			@Override
-			@SuppressWarnings({ "unchecked", "rawtypes" })
-			public Boolean execute(RedisOperations ops) {
-				for (;;) {
-					ops.watch(Collections.singleton(getKey()));
-					V v = get(key);
-					if (oldValue.equals(v)) {
-						ops.multi();
-						put(key, newValue);
-						if (ops.exec(ops.getHashValueSerializer()) != null) {
-							return true;
-						}
-					} else {
-						return false;
-					}
-				}
-			}
-		});
+		Long result = execute(REPLACE_IF_EQUAL, rawKey(key), rawValue(oldValue), rawValue(newValue));
+		checkResult(result);
+		return result == 1;
 	}
 
 	@Override
@@ -260,25 +338,7 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 			throw new NullPointerException();
 		}
 
-		return hashOps.getOperations().execute(new SessionCallback<V>() {
-			@Override
-			@SuppressWarnings({ "unchecked", "rawtypes" })
-			public V execute(RedisOperations ops) {
-				for (;;) {
-					ops.watch(Collections.singleton(getKey()));
-					V v = get(key);
-					if (v != null) {
-						ops.multi();
-						put(key, value);
-						if (ops.exec(ops.getHashValueSerializer()) != null) {
-							return v;
-						}
-					} else {
-						return null;
-					}
-				}
-			}
-		});
+		return deserializeValue(execute(REPLACE, rawKey(key), rawValue(value)));
 	}
 
 	@Override
@@ -337,6 +397,54 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 		return hashOps.hashExpiration(hashFields);
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T> @Nullable T execute(RedisScript<T> script, byte[]... args) {
+
+		RedisSerializer resultSerializer = RedisSerializer.byteArray();
+		return (T) getOperations().execute(script, RedisSerializer.byteArray(), resultSerializer,
+				Collections.singletonList(getKey()), (Object[]) args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawKey(Object key) {
+
+		RedisSerializer<Object> serializer = (RedisSerializer<Object>) getOperations().getHashKeySerializer();
+
+		if (serializer == null) {
+			Assert.isInstanceOf(byte[].class, key, "Hash key must be a byte[] if no hash key serializer is configured");
+			return (byte[]) key;
+		}
+
+		return serializer.serialize(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawValue(Object value) {
+
+		RedisSerializer<Object> serializer = (RedisSerializer<Object>) getOperations().getHashValueSerializer();
+
+		if (serializer == null) {
+			Assert.isInstanceOf(byte[].class, value, "Hash value must be a byte[] if no hash value serializer is configured");
+			return (byte[]) value;
+		}
+
+		return serializer.serialize(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable K deserializeKey(byte @Nullable [] bytes) {
+
+		RedisSerializer<?> serializer = getOperations().getHashKeySerializer();
+		return (K) (serializer == null || bytes == null ? bytes : serializer.deserialize(bytes));
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable V deserializeValue(byte @Nullable [] bytes) {
+
+		RedisSerializer<?> serializer = getOperations().getHashValueSerializer();
+		return (V) (serializer == null || bytes == null ? bytes : serializer.deserialize(bytes));
+	}
+
 	private void checkResult(@Nullable Object obj) {
 		if (obj == null) {
 			throw new IllegalStateException("Cannot read collection with Redis connection in pipeline/multi-exec mode");
@@ -351,4 +459,89 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 	private Cursor<java.util.Map.Entry<K, V>> scan(ScanOptions options) {
 		return hashOps.scan(options);
 	}
+
+	/**
+	 * {@link Iterator} fetching pages of hash entries through {@literal HSCAN}. Each page is requested with a separate
+	 * script invocation so that the iterator does not hold on to a connection between pages.
+	 */
+	private class ScanIterator<T> implements Iterator<T> {
+
+		private final Function<Entry<K, V>, T> mapper;
+
+		private byte[] cursor = "0".getBytes(StandardCharsets.US_ASCII);
+		private boolean finished;
+		private Iterator<Entry<K, V>> page = Collections.emptyIterator();
+		private @Nullable Entry<K, V> current;
+
+		ScanIterator(Function<Entry<K, V>, T> mapper) {
+			this.mapper = mapper;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			while (!page.hasNext() && !finished) {
+				page = nextPage();
+			}
+
+			return page.hasNext();
+		}
+
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			current = page.next();
+			return mapper.apply(current);
+		}
+
+		@Override
+		public void remove() {
+
+			Assert.state(current != null, "No element to remove");
+
+			hashOps.delete(current.getKey());
+			current = null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Iterator<Entry<K, V>> nextPage() {
+
+			List<Object> result = execute(SCAN_PAGE, cursor,
+					Integer.toString(pageSize).getBytes(StandardCharsets.US_ASCII));
+			checkResult(result);
+
+			cursor = (byte[]) result.get(0);
+			finished = "0".equals(new String(cursor, StandardCharsets.US_ASCII));
+
+			List<byte[]> fields = (List<byte[]>) result.get(1);
+			List<Entry<K, V>> entries = new ArrayList<>(fields.size() / 2);
+
+			for (int i = 0; i + 1 < fields.size(); i += 2) {
+				entries.add(new ScanEntry(deserializeKey(fields.get(i)), deserializeValue(fields.get(i + 1))));
+			}
+
+			return entries.iterator();
+		}
+	}
+
+	/**
+	 * Entry returned by {@link ScanIterator} writing {@link #setValue(Object) value updates} through to Redis.
+	 */
+	private class ScanEntry extends AbstractMap.SimpleEntry<K, V> {
+
+		ScanEntry(@Nullable K key, @Nullable V value) {
+			super(key, value);
+		}
+
+		@Override
+		public V setValue(V value) {
+
+			DefaultRedisMap.this.hashOps.put(getKey(), value);
+			return super.setValue(value);
+		}
+	}
 }
@@ -15,12 +15,17 @@
  */
 package org.springframework.data.redis.support.collections;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.Limit;
@@ -30,6 +35,7 @@ import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.util.Assert;
 
 /**
  * Default implementation for {@link RedisZSet}. Note that the collection support works only with normal,
@@ -43,20 +49,14 @@ import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
  */
 public class DefaultRedisZSet<E> extends AbstractRedisCollection<E> implements RedisZSet<E> {
 
+	private static final int DEFAULT_PAGE_SIZE = 100;
+
 	private final BoundZSetOperations<String, E> boundZSetOps;
 	private final double defaultScore;
 
-	private class DefaultRedisSortedSetIterator extends RedisIterator<E> {
+	private volatile int pageSize = DEFAULT_PAGE_SIZE;
 
-		public DefaultRedisSortedSetIterator(Iterator<E> delegate) {
-			super(delegate);
-		}
-
-		@Override
-		protected void removeFromRedisStorage(E item) {
-			DefaultRedisZSet.this.remove(item);
-		}
-	}
+	private volatile @Nullable Executor prefetchExecutor;
 
 	/**
 	 * Constructs a new {@link DefaultRedisZSet} instance with a default score of {@literal 1}.
@@ -106,6 +106,31 @@ public class DefaultRedisZSet<E> extends AbstractRedisCollection<E> implements R
 		this.defaultScore = defaultScore;
 	}
 
+	/**
+	 * Set the number of elements to fetch per {@literal ZRANGE} round trip when iterating over or streaming this sorted
+	 * set. Defaults to {@literal 100}.
+	 *
+	 * @param pageSize the page size, must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setPageSize(int pageSize) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero");
+
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Set the {@link Executor} used to prefetch the next page while iterating over or streaming this sorted set.
+	 * Prefetching is disabled by default.
+	 *
+	 * @param prefetchExecutor the {@link Executor} to use, can be {@literal null} to disable prefetching.
+	 * @since 4.2
+	 */
+	public void setPrefetchExecutor(@Nullable Executor prefetchExecutor) {
+		this.prefetchExecutor = prefetchExecutor;
+	}
+
 	@Override
 	public Set<E> diff(RedisZSet<?> set) {
 		return boundZSetOps.difference(set.getKey());
@@ -335,9 +360,13 @@ public class DefaultRedisZSet<E> extends AbstractRedisCollection<E> implements R
 
 	@Override
 	public Iterator<E> iterator() {
-		Set<E> members = boundZSetOps.range(0, -1);
-		checkResult(members);
-		return new DefaultRedisSortedSetIterator(members.iterator());
+		return new PagedIterator<>(this::page, 0, Long.MAX_VALUE, pageSize, prefetchExecutor, this::remove);
+	}
+
+	@Override
+	public Spliterator<E> spliterator() {
+		return new PagedSpliterator<>(this::page, size(), pageSize, prefetchExecutor,
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
 	}
 
 	@Override
@@ -479,4 +508,11 @@ public class DefaultRedisZSet<E> extends AbstractRedisCollection<E> implements R
 	public Cursor<TypedTuple<E>> scan(ScanOptions options) {
 		return boundZSetOps.scan(options);
 	}
+
+	private List<E> page(long start, long end) {
+
+		Set<E> members = boundZSetOps.range(start, end);
+		checkResult(members);
+		return new ArrayList<>(members);
+	}
 }
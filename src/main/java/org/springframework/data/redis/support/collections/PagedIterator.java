@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} over an index range of a Redis list or sorted set fetching elements in pages of a fixed size on
+ * demand. If a prefetch {@link Executor} is configured, the next page is requested asynchronously while the current
+ * page is being consumed.
+ * <p>
+ * The iterator does not hold on to a connection between pages. Modifications of the underlying collection during
+ * iteration may cause elements to be skipped or returned more than once.
+ *
+ * @param <E> the type of elements in this collection.
+ * @since 4.2
+ */
+class PagedIterator<E> implements Iterator<E> {
+
+	private final PageFetcher<E> fetcher;
+	private final long fence;
+	private final int pageSize;
+	private final @Nullable Executor prefetchExecutor;
+	private final @Nullable Consumer<E> remover;
+
+	private long offset;
+	private boolean exhausted;
+	private Iterator<E> page = Collections.emptyIterator();
+	private @Nullable CompletableFuture<List<E>> prefetched;
+	private @Nullable E lastReturned;
+
+	/**
+	 * @param fetcher the {@link PageFetcher} to obtain pages.
+	 * @param origin index of the first element, inclusive.
+	 * @param fence index of the last element, exclusive. {@link Long#MAX_VALUE} to iterate until the end.
+	 * @param pageSize number of elements to fetch per page.
+	 * @param prefetchExecutor {@link Executor} to prefetch the next page, can be {@literal null} to disable prefetching.
+	 * @param remover callback to remove elements from the underlying collection, can be {@literal null} if removal is
+	 *          not supported.
+	 */
+	PagedIterator(PageFetcher<E> fetcher, long origin, long fence, int pageSize, @Nullable Executor prefetchExecutor,
+			@Nullable Consumer<E> remover) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero");
+
+		this.fetcher = fetcher;
+		this.offset = origin;
+		this.fence = fence;
+		this.pageSize = pageSize;
+		this.prefetchExecutor = prefetchExecutor;
+		this.remover = remover;
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		while (!page.hasNext() && !exhausted) {
+			page = nextPage();
+		}
+
+		return page.hasNext();
+	}
+
+	@Override
+	public E next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		lastReturned = page.next();
+		return lastReturned;
+	}
+
+	@Override
+	public void remove() {
+
+		if (remover == null) {
+			throw new UnsupportedOperationException("remove");
+		}
+
+		Assert.state(lastReturned != null, "Next must be called before remove");
+
+		remover.accept(lastReturned);
+		lastReturned = null;
+
+		// elements after the removed one move up by one position, a prefetched page would skip an element
+		offset--;
+		prefetched = null;
+	}
+
+	private Iterator<E> nextPage() {
+
+		long start = offset;
+		int count = count(start);
+
+		CompletableFuture<List<E>> prefetched = this.prefetched;
+		this.prefetched = null;
+
+		List<E> elements = prefetched != null ? join(prefetched) : fetch(start, count);
+
+		offset = start + elements.size();
+		exhausted = elements.size() < count || offset >= fence;
+
+		if (!exhausted && prefetchExecutor != null) {
+
+			long nextStart = offset;
+			int nextCount = count(nextStart);
+
+			this.prefetched = CompletableFuture.supplyAsync(() -> fetch(nextStart, nextCount), prefetchExecutor);
+		}
+
+		return elements.iterator();
+	}
+
+	private int count(long start) {
+		return (int) Math.min(pageSize, fence - start);
+	}
+
+	private List<E> fetch(long start, int count) {
+		return count > 0 ? fetcher.fetch(start, start + count - 1) : Collections.emptyList();
+	}
+
+	private static <E> List<E> join(CompletableFuture<List<E>> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw ex;
+		}
+	}
+
+	/**
+	 * Callback to fetch a page of elements.
+	 *
+	 * @param <E> the type of elements in this collection.
+	 */
+	@FunctionalInterface
+	interface PageFetcher<E> {
+
+		/**
+		 * Fetch elements between {@code start} and {@code end}, both inclusive, in iteration order.
+		 *
+		 * @param start index of the first element.
+		 * @param end index of the last element.
+		 * @return the elements, can be fewer than requested if the range exceeds the collection.
+		 */
+		List<E> fetch(long start, long end);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.support.collections.PagedIterator.PageFetcher;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Spliterator} over an index range of a Redis list or sorted set fetching elements in pages using
+ * {@link PagedIterator}. The spliterator captures the collection size on creation and reports {@link #SIZED} and
+ * {@link #SUBSIZED}. Splitting divides the remaining index range so that parallel streams fetch disjoint pages
+ * concurrently. Splitting is only possible before traversal has started.
+ * <p>
+ * The reported size is a snapshot. Modifying the underlying collection during traversal may yield fewer or more
+ * elements than estimated.
+ *
+ * @param <E> the type of elements in this collection.
+ * @since 4.2
+ */
+class PagedSpliterator<E> implements Spliterator<E> {
+
+	private final PageFetcher<E> fetcher;
+	private final int pageSize;
+	private final @Nullable Executor prefetchExecutor;
+	private final int characteristics;
+	private final long fence;
+
+	private long origin;
+	private long consumed;
+	private @Nullable PagedIterator<E> iterator;
+
+	/**
+	 * @param fetcher the {@link PageFetcher} to obtain pages.
+	 * @param size the number of elements.
+	 * @param pageSize number of elements to fetch per page.
+	 * @param prefetchExecutor {@link Executor} to prefetch the next page, can be {@literal null} to disable prefetching.
+	 * @param characteristics additional characteristics, {@link #SIZED} and {@link #SUBSIZED} are always reported.
+	 */
+	PagedSpliterator(PageFetcher<E> fetcher, long size, int pageSize, @Nullable Executor prefetchExecutor,
+			int characteristics) {
+		this(fetcher, 0, size, pageSize, prefetchExecutor, characteristics);
+	}
+
+	private PagedSpliterator(PageFetcher<E> fetcher, long origin, long fence, int pageSize,
+			@Nullable Executor prefetchExecutor, int characteristics) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero");
+
+		this.fetcher = fetcher;
+		this.origin = origin;
+		this.fence = fence;
+		this.pageSize = pageSize;
+		this.prefetchExecutor = prefetchExecutor;
+		this.characteristics = characteristics | SIZED | SUBSIZED;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super E> action) {
+
+		Assert.notNull(action, "Action must not be null");
+
+		PagedIterator<E> iterator = getIterator();
+
+		if (!iterator.hasNext()) {
+			return false;
+		}
+
+		action.accept(iterator.next());
+		consumed++;
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super E> action) {
+
+		Assert.notNull(action, "Action must not be null");
+
+		PagedIterator<E> iterator = getIterator();
+
+		while (iterator.hasNext()) {
+			action.accept(iterator.next());
+			consumed++;
+		}
+	}
+
+	@Override
+	public @Nullable Spliterator<E> trySplit() {
+
+		long remaining = fence - origin;
+
+		if (iterator != null || remaining <= pageSize) {
+			return null;
+		}
+
+		long mid = origin + remaining / 2;
+		PagedSpliterator<E> prefix = new PagedSpliterator<>(fetcher, origin, mid, pageSize, prefetchExecutor,
+				characteristics);
+		origin = mid;
+
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Math.max(0, fence - origin - consumed);
+	}
+
+	@Override
+	public int characteristics() {
+		return characteristics;
+	}
+
+	private PagedIterator<E> getIterator() {
+
+		PagedIterator<E> iterator = this.iterator;
+
+		if (iterator == null) {
+			iterator = new PagedIterator<>(fetcher, origin, fence, pageSize, prefetchExecutor, null);
+			this.iterator = iterator;
+		}
+
+		return iterator;
+	}
+}
@@ -167,12 +167,13 @@ class ReversedRedisListView<E> implements RedisList<E> {
 
 	@Override
 	public Iterator<E> iterator() {
-		return new DescendingIterator();
+		return this.base instanceof DefaultRedisList<E> list ? list.descendingIterator() : new DescendingIterator();
 	}
 
 	@Override
 	public Spliterator<E> spliterator() {
-		return Spliterators.spliteratorUnknownSize(new DescendingIterator(), 0);
+		return this.base instanceof DefaultRedisList<E> list ? list.descendingSpliterator()
+				: Spliterators.spliteratorUnknownSize(new DescendingIterator(), 0);
 	}
 
 	// ========== Collection ==========
@@ -64,6 +64,14 @@ suspend fun <K : Any, M : Any> ReactiveGeoOperations<K, M>.addAndAwait(key: K, m
 suspend fun <K : Any, M : Any> ReactiveGeoOperations<K, M>.addAndAwait(key: K, locations: Iterable<GeoLocation<M>>): Long =
 		add(key, locations).awaitSingle()
 
+/**
+ * Coroutines variant of [ReactiveGeoOperations.addAll].
+ *
+ * @since 4.2
+ */
+suspend fun <K : Any, M : Any> ReactiveGeoOperations<K, M>.addAllAndAwait(locations: Map<K, Map<M, Point>>): Map<K, Long> =
+		addAll(locations).awaitSingle()
+
 /**
  * Coroutines [Flow] variant of [ReactiveGeoOperations.add].
  *
@@ -20,6 +20,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.springframework.data.redis.connection.SetCondition;
 import reactor.core.publisher.Mono;
 
@@ -112,6 +114,57 @@ class DefaultRedisCacheWriterUnitTests {
 		verifyNoMoreInteractions(this.mockConnection, mockStringCommands);
 	}
 
+	@Test
+	void observesCacheOperationAndCommandsOnReleasedConnection() {
+
+		byte[] key = "TestKey".getBytes();
+		byte[] value = "TestValue".getBytes();
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		RedisStringCommands mockStringCommands = mock(RedisStringCommands.class);
+
+		doReturn(mockStringCommands).when(this.mockConnection).stringCommands();
+		doReturn(value).when(mockStringCommands).get(any());
+
+		RedisCacheWriter cacheWriter = new DefaultRedisCacheWriter(this.mockConnectionFactory, mock(BatchStrategy.class))
+				.withObservationRegistry(registry);
+
+		assertThat(cacheWriter.get("TestCache", key, null)).isEqualTo(value);
+
+		TestObservationRegistryAssert.assertThat(registry).hasNumberOfObservationsEqualTo(3)
+				.hasObservationWithNameEqualTo("spring.data.redis.cache").that()
+				.hasLowCardinalityKeyValue("db.system", "redis")
+				.hasLowCardinalityKeyValue("spring.data.redis.cache.name", "TestCache")
+				.hasLowCardinalityKeyValue("spring.data.redis.cache.operation", "get")
+				.hasLowCardinalityKeyValue("spring.data.redis.cache.result", "hit").hasBeenStopped();
+		TestObservationRegistryAssert.assertThat(registry)
+				.hasObservationWithNameEqualTo("spring.data.redis.connection.acquire").that()
+				.hasLowCardinalityKeyValue("spring.data.redis.connection.type", "standalone").hasBeenStopped();
+		TestObservationRegistryAssert.assertThat(registry).hasObservationWithNameEqualTo("spring.data.redis.command")
+				.that().hasLowCardinalityKeyValue("db.operation", "GET")
+				.hasLowCardinalityKeyValue("spring.data.redis.connection.type", "standalone")
+				.hasLowCardinalityKeyValue("spring.data.redis.cluster.node", "none").hasBeenStopped();
+
+		verify(this.mockConnection).close();
+	}
+
+	@Test
+	void observesCacheMiss() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		RedisStringCommands mockStringCommands = mock(RedisStringCommands.class);
+
+		doReturn(mockStringCommands).when(this.mockConnection).stringCommands();
+
+		RedisCacheWriter cacheWriter = new DefaultRedisCacheWriter(this.mockConnectionFactory, mock(BatchStrategy.class))
+				.withObservationRegistry(registry);
+
+		assertThat(cacheWriter.get("TestCache", "TestKey".getBytes(), null)).isNull();
+
+		TestObservationRegistryAssert.assertThat(registry).hasObservationWithNameEqualTo("spring.data.redis.cache")
+				.that().hasLowCardinalityKeyValue("spring.data.redis.cache.result", "miss");
+	}
+
 	@Test // GH-2890
 	void mustNotUnlockWhenLockingFails() {
 
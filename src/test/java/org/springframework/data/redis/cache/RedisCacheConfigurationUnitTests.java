@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
@@ -109,6 +110,42 @@ class RedisCacheConfigurationUnitTests {
 		assertThat(ttiEnabledCacheConfiguration.isTimeToIdleEnabled()).isTrue();
 	}
 
+	@Test
+	void enableEarlyRefreshShouldRetainBetaAcrossCustomizations() {
+
+		RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(cacheConfiguration.isEarlyRefreshEnabled()).isFalse();
+
+		RedisCacheConfiguration earlyRefresh = cacheConfiguration.enableEarlyRefresh(2).entryTtl(Duration.ofMinutes(1))
+				.disableCachingNullValues();
+
+		assertThat(earlyRefresh.isEarlyRefreshEnabled()).isTrue();
+		assertThat(earlyRefresh.getEarlyRefreshBeta()).isEqualTo(2);
+		assertThat(cacheConfiguration.enableEarlyRefresh().getEarlyRefreshBeta()).isOne();
+		assertThatIllegalArgumentException().isThrownBy(() -> cacheConfiguration.enableEarlyRefresh(0));
+	}
+
+	@Test
+	void softTtlShouldConfigureStaleEntryHandling() {
+
+		Executor executor = Runnable::run;
+		RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(cacheConfiguration.getSoftTtl()).isNull();
+		assertThat(cacheConfiguration.usesEntryMetadata()).isFalse();
+
+		RedisCacheConfiguration stale = cacheConfiguration.entrySoftTtl(Duration.ofMinutes(1))
+				.staleWhileRevalidate(executor).serveStaleOnError().entryTtl(Duration.ofMinutes(10));
+
+		assertThat(stale.getSoftTtl()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(stale.getRefreshExecutor()).isSameAs(executor);
+		assertThat(stale.isServeStaleOnError()).isTrue();
+		assertThat(stale.isEarlyRefreshEnabled()).isFalse();
+		assertThat(stale.usesEntryMetadata()).isTrue();
+		assertThatIllegalArgumentException().isThrownBy(() -> cacheConfiguration.entrySoftTtl(Duration.ZERO));
+	}
+
 	private static class DomainType {
 
 	}
@@ -19,10 +19,22 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import static org.awaitility.Awaitility.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache.ValueRetrievalException;
 import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 
 /**
@@ -56,6 +68,229 @@ class RedisCacheUnitTests {
 		verifyNoMoreInteractions(mockCacheWriter);
 	}
 
+	@Test
+	void earlyRefreshStoresEntryMetadata() {
+
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter, RedisCacheConfiguration.defaultCacheConfig()
+				.serializeValuesWith(SerializationPair.byteArray()).entryTtl(Duration.ofMinutes(1)).enableEarlyRefresh());
+
+		doCallRealMethod().when(mockCacheWriter).get(anyString(), any(byte[].class), any(Supplier.class), any(),
+				anyBoolean());
+
+		assertThat(cache.get("TestKey", () -> "TEST".getBytes())).isEqualTo("TEST".getBytes());
+
+		ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+		verify(mockCacheWriter).put(eq("TestCache"), any(byte[].class), captor.capture(), eq(Duration.ofMinutes(1)));
+
+		RedisCacheEntry entry = RedisCacheEntry.decode(captor.getValue());
+
+		assertThat(entry.getValue()).isEqualTo("TEST".getBytes());
+		assertThat(entry.getExpiresAt() - entry.getCreatedAt()).isEqualTo(Duration.ofMinutes(1).toMillis());
+
+		doReturn(captor.getValue()).when(mockCacheWriter).get(anyString(), any(byte[].class));
+
+		assertThat(cache.get("TestKey").get()).isEqualTo("TEST".getBytes());
+	}
+
+	@Test
+	void earlyRefreshRecomputesEntryCloseToExpiration() {
+
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter, RedisCacheConfiguration.defaultCacheConfig()
+				.serializeValuesWith(SerializationPair.byteArray()).entryTtl(Duration.ofMinutes(1)).enableEarlyRefresh());
+
+		long now = System.currentTimeMillis();
+
+		doReturn(RedisCacheEntry.encode("fresh".getBytes(), now, now + 60_000, 1)).when(mockCacheWriter).get("TestCache",
+				cache.createAndConvertCacheKey("fresh"));
+		doReturn(RedisCacheEntry.encode("expiring".getBytes(), now - 60_000, now, 60_000)).when(mockCacheWriter)
+				.get("TestCache", cache.createAndConvertCacheKey("expiring"));
+
+		assertThat(cache.get("fresh", () -> "loaded".getBytes())).isEqualTo("fresh".getBytes());
+		assertThat(cache.get("expiring", () -> "loaded".getBytes())).isEqualTo("loaded".getBytes());
+
+		verify(mockCacheWriter).put(eq("TestCache"), eq(cache.createAndConvertCacheKey("expiring")), any(byte[].class),
+				any());
+		verify(mockCacheWriter, never()).put(eq("TestCache"), eq(cache.createAndConvertCacheKey("fresh")),
+				any(byte[].class), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void earlyRefreshLoadsMissingEntryThroughCacheWriter() {
+
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter, RedisCacheConfiguration.defaultCacheConfig()
+				.serializeValuesWith(SerializationPair.byteArray()).entryTtl(Duration.ofMinutes(1)).enableEarlyRefresh());
+
+		long now = System.currentTimeMillis();
+		doReturn(RedisCacheEntry.encode("locked".getBytes(), now, now + 60_000, 1)).when(mockCacheWriter)
+				.get(anyString(), any(byte[].class), any(Supplier.class), any(), anyBoolean());
+
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThat(cache.get("TestKey", () -> {
+			loads.incrementAndGet();
+			return "loaded".getBytes();
+		})).isEqualTo("locked".getBytes());
+
+		assertThat(loads).hasValue(0);
+		verify(mockCacheWriter).get(eq("TestCache"), eq(cache.createAndConvertCacheKey("TestKey")), any(Supplier.class),
+				eq(Duration.ofMinutes(1)), eq(false));
+		verify(mockCacheWriter, never()).put(anyString(), any(byte[].class), any(byte[].class), any());
+	}
+
+	@Test
+	void earlyRefreshWithTimeToIdleConsidersExpirationResetByRead() {
+
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter,
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.byteArray())
+						.entryTtl(Duration.ofMinutes(1)).enableTimeToIdle().enableEarlyRefresh());
+
+		long now = System.currentTimeMillis();
+		doReturn(RedisCacheEntry.encode("idle".getBytes(), now - 120_000, now - 60_000, 1)).when(mockCacheWriter)
+				.get(anyString(), any(byte[].class), any(Duration.class));
+
+		assertThat(cache.get("TestKey", () -> "loaded".getBytes())).isEqualTo("idle".getBytes());
+
+		verify(mockCacheWriter).get(eq("TestCache"), any(byte[].class), eq(Duration.ofMinutes(1)));
+		verify(mockCacheWriter, never()).put(anyString(), any(byte[].class), any(byte[].class), any());
+	}
+
+	@Test
+	void earlyRefreshCollapsesConcurrentLoads() throws Exception {
+
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter, RedisCacheConfiguration.defaultCacheConfig()
+				.serializeValuesWith(SerializationPair.byteArray()).enableEarlyRefresh());
+
+		doReturn(true).when(mockCacheWriter).supportsAsyncRetrieve();
+		doReturn(usingCompletedFuture(null)).when(mockCacheWriter).retrieve(anyString(), any(byte[].class));
+		doReturn(usingCompletedFuture(null)).when(mockCacheWriter).store(anyString(), any(byte[].class),
+				any(byte[].class), any());
+
+		CompletableFuture<byte[]> load = new CompletableFuture<>();
+		AtomicInteger loads = new AtomicInteger();
+
+		CompletableFuture<byte[]> first = cache.retrieve("TestKey", () -> {
+			loads.incrementAndGet();
+			return load;
+		});
+		CompletableFuture<byte[]> second = cache.retrieve("TestKey", () -> {
+			loads.incrementAndGet();
+			return CompletableFuture.completedFuture("other".getBytes());
+		});
+
+		AtomicReference<byte[]> blocking = new AtomicReference<>();
+		Thread thread = new Thread(() -> blocking.set(cache.get("TestKey", () -> {
+			loads.incrementAndGet();
+			return "other".getBytes();
+		})));
+		thread.start();
+
+		await().until(() -> thread.getState() == Thread.State.WAITING);
+
+		load.complete("TEST".getBytes());
+		thread.join();
+
+		assertThat(first.get()).isEqualTo("TEST".getBytes());
+		assertThat(second.get()).isEqualTo("TEST".getBytes());
+		assertThat(blocking.get()).isEqualTo("TEST".getBytes());
+		assertThat(loads).hasValue(1);
+		verify(mockCacheWriter).store(eq("TestCache"), any(byte[].class), any(byte[].class), any());
+	}
+
+	@Test
+	void staleEntryIsServedWhileRefreshingInBackground() {
+
+		List<Runnable> tasks = new ArrayList<>();
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter,
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.byteArray())
+						.entryTtl(Duration.ofMinutes(10)).entrySoftTtl(Duration.ofMinutes(1)).staleWhileRevalidate(tasks::add));
+
+		long now = System.currentTimeMillis();
+		doReturn(RedisCacheEntry.encode("stale".getBytes(), now - 120_000, now + 480_000, 1)).when(mockCacheWriter)
+				.get(anyString(), any(byte[].class));
+
+		AtomicInteger loads = new AtomicInteger();
+
+		Callable<byte[]> loader = () -> {
+			loads.incrementAndGet();
+			return "fresh".getBytes();
+		};
+
+		assertThat(cache.get("TestKey", loader)).isEqualTo("stale".getBytes());
+		assertThat(cache.get("TestKey", loader)).isEqualTo("stale".getBytes());
+
+		assertThat(tasks).hasSize(1);
+		assertThat(loads).hasValue(0);
+		verify(mockCacheWriter, never()).put(anyString(), any(byte[].class), any(byte[].class), any());
+
+		tasks.get(0).run();
+
+		assertThat(loads).hasValue(1);
+		verify(mockCacheWriter).put(eq("TestCache"), any(byte[].class), any(byte[].class), eq(Duration.ofMinutes(10)));
+	}
+
+	@Test
+	void staleEntryIsRetrievedWhileRefreshingInBackground() throws Exception {
+
+		List<Runnable> tasks = new ArrayList<>();
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter,
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.byteArray())
+						.entrySoftTtl(Duration.ofMinutes(1)).staleWhileRevalidate(tasks::add));
+
+		long now = System.currentTimeMillis();
+		doReturn(true).when(mockCacheWriter).supportsAsyncRetrieve();
+		doReturn(usingCompletedFuture(RedisCacheEntry.encode("stale".getBytes(), now - 120_000, 0, 1)))
+				.when(mockCacheWriter).retrieve(anyString(), any(byte[].class));
+		doReturn(usingCompletedFuture(null)).when(mockCacheWriter).store(anyString(), any(byte[].class),
+				any(byte[].class), any());
+
+		CompletableFuture<byte[]> result = cache.retrieve("TestKey",
+				() -> CompletableFuture.completedFuture("fresh".getBytes()));
+
+		assertThat(result.get()).isEqualTo("stale".getBytes());
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+
+		verify(mockCacheWriter).store(eq("TestCache"), any(byte[].class), any(byte[].class), any());
+	}
+
+	@Test
+	void serveStaleOnErrorReturnsStaleEntryIfRefreshFails() {
+
+		RedisCacheWriter mockCacheWriter = mock(RedisCacheWriter.class);
+		RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+				.serializeValuesWith(SerializationPair.byteArray()).entrySoftTtl(Duration.ofMinutes(1));
+
+		long now = System.currentTimeMillis();
+		doReturn(RedisCacheEntry.encode("stale".getBytes(), now - 120_000, 0, 1)).when(mockCacheWriter)
+				.get(anyString(), any(byte[].class));
+
+		RedisCache cache = new RedisCache("TestCache", mockCacheWriter, configuration);
+
+		assertThatExceptionOfType(ValueRetrievalException.class).isThrownBy(() -> cache.get("TestKey", () -> {
+			throw new IllegalStateException("loader failure");
+		}));
+
+		RedisCache serveStale = new RedisCache("TestCache", mockCacheWriter, configuration.serveStaleOnError());
+
+		assertThat(serveStale.get("TestKey", () -> {
+			throw new IllegalStateException("loader failure");
+		})).isEqualTo("stale".getBytes());
+
+		doThrow(new QueryTimeoutException("timeout")).when(mockCacheWriter).put(anyString(), any(byte[].class),
+				any(byte[].class), any());
+
+		assertThat(serveStale.get("TestKey", () -> "fresh".getBytes())).isEqualTo("stale".getBytes());
+	}
+
 	private <T> CompletableFuture<T> usingCompletedFuture(T value) {
 		return CompletableFuture.completedFuture(value);
 	}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.redis.connection.ClusterTestVariables.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
+
+/**
+ * Unit tests for {@link ClusterSlotGroups}.
+ */
+class ClusterSlotGroupsUnitTests {
+
+	private static final byte[] KEY_1_BYTES = KEY_1.getBytes();
+	private static final byte[] KEY_2_BYTES = KEY_2.getBytes();
+	private static final byte[] SAME_SLOT_KEY_1_BYTES = SAME_SLOT_KEY_1.getBytes();
+	private static final byte[] SAME_SLOT_KEY_2_BYTES = SAME_SLOT_KEY_2.getBytes();
+
+	@Test
+	void groupsKeysBySlotRetainingOrder() {
+
+		ClusterSlotGroups groups = ClusterSlotGroups.of(SAME_SLOT_KEY_1_BYTES, KEY_1_BYTES, SAME_SLOT_KEY_2_BYTES,
+				KEY_2_BYTES);
+
+		assertThat(groups.size()).isEqualTo(3);
+		assertThat(groups.getFirstKeys()).containsExactly(SAME_SLOT_KEY_1_BYTES, KEY_1_BYTES, KEY_2_BYTES);
+		assertThat(groups.getKeys(SAME_SLOT_KEY_1_BYTES)).containsExactly(SAME_SLOT_KEY_1_BYTES, SAME_SLOT_KEY_2_BYTES);
+		assertThat(groups.getKeys(KEY_1_BYTES)).containsExactly(KEY_1_BYTES);
+	}
+
+	@Test
+	void mergesGroupResultsInRequestOrder() {
+
+		ClusterSlotGroups groups = ClusterSlotGroups.of(SAME_SLOT_KEY_1_BYTES, KEY_1_BYTES, SAME_SLOT_KEY_2_BYTES);
+
+		List<String> merged = groups.merge(List.of(new NodeResult<>(CLUSTER_NODE_2, List.of("k1"), KEY_1_BYTES),
+				new NodeResult<>(CLUSTER_NODE_3, List.of("s1", "s2"), SAME_SLOT_KEY_1_BYTES)));
+
+		assertThat(merged).containsExactly("s1", "k1", "s2");
+	}
+
+	@Test
+	void rejectsResultsNotMatchingGroupSize() {
+
+		ClusterSlotGroups groups = ClusterSlotGroups.of(SAME_SLOT_KEY_1_BYTES, SAME_SLOT_KEY_2_BYTES);
+
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> groups.merge(List.of(new NodeResult<>(CLUSTER_NODE_3, List.of("s1"), SAME_SLOT_KEY_1_BYTES))));
+	}
+
+	@Test
+	void rejectsKeyOutsideOfGroups() {
+		assertThatIllegalArgumentException().isThrownBy(() -> ClusterSlotGroups.of(KEY_1_BYTES).getKeys(KEY_2_BYTES));
+	}
+
+}
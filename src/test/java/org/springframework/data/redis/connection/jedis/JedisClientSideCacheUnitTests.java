@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.csc.Cacheable;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.ClientSideCachingConfiguration;
+
+/**
+ * Unit tests for {@link JedisClientSideCache}.
+ */
+class JedisClientSideCacheUnitTests {
+
+	@Test
+	void cachesGetAndHGetOnly() {
+
+		Cacheable cacheable = new JedisClientSideCache.PrefixCacheable(ClientSideCachingConfiguration.defaultTracking());
+
+		assertThat(cacheable.isCacheable(Protocol.Command.GET, List.of("key"))).isTrue();
+		assertThat(cacheable.isCacheable(Protocol.Command.HGET, List.of("key".getBytes()))).isTrue();
+		assertThat(cacheable.isCacheable(Protocol.Command.SET, List.of("key"))).isFalse();
+		assertThat(cacheable.isCacheable(Protocol.Command.MGET, List.of("key"))).isFalse();
+	}
+
+	@Test
+	void restrictsCachingToConfiguredPrefixes() {
+
+		Cacheable cacheable = new JedisClientSideCache.PrefixCacheable(
+				ClientSideCachingConfiguration.defaultTracking().prefixes("user:"));
+
+		assertThat(cacheable.isCacheable(Protocol.Command.GET, List.of("user:1"))).isTrue();
+		assertThat(cacheable.isCacheable(Protocol.Command.GET, List.of("order:1".getBytes()))).isFalse();
+	}
+
+	@Test
+	void exposesDriverCacheStatistics() {
+
+		JedisClientSideCache cache = JedisClientSideCache.create(ClientSideCachingConfiguration.defaultTracking());
+
+		assertThat(cache.getCache()).isNotNull();
+		assertThat(cache.getHits()).isZero();
+		assertThat(cache.getMisses()).isZero();
+		assertThat(cache.getInvalidations()).isZero();
+		assertThat(cache.getEntryCount()).isZero();
+		assertThat(cache.getEstimatedSize()).isEqualTo(-1);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.redis.connection.ClusterTestVariables.*;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.redis.FallbackExceptionTranslationStrategy;
+import org.springframework.data.redis.connection.ClusterCommandExecutionFailureException;
+import org.springframework.data.redis.connection.ClusterCommandExecutor;
+import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonValue;
+
+/**
+ * Unit tests for {@link JedisClusterJsonCommands}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JedisClusterJsonCommandsUnitTests {
+
+	private static final RedisClusterNode NODE_1 = node(MASTER_NODE_1_PORT, MASTER_NODE_1_ID, 0, 5460);
+	private static final RedisClusterNode NODE_2 = node(MASTER_NODE_2_PORT, MASTER_NODE_2_ID, 5461, 10922);
+	private static final RedisClusterNode NODE_3 = node(MASTER_NODE_3_PORT, MASTER_NODE_3_ID, 10923, 16383);
+
+	@Mock UnifiedJedis clusterMock;
+	@Mock ClusterTopologyProvider topologyProviderMock;
+	@Mock ClusterNodeResourceProvider resourceProviderMock;
+	@Mock Jedis node1Mock;
+	@Mock Jedis node2Mock;
+	@Mock Jedis node3Mock;
+
+	private JedisClusterJsonCommands commands;
+
+	@BeforeEach
+	void setUp() {
+
+		when(topologyProviderMock.getTopology()).thenReturn(new ClusterTopology(Set.of(NODE_1, NODE_2, NODE_3)));
+		when(resourceProviderMock.getResourceForSpecificNode(NODE_1)).thenReturn(node1Mock);
+		when(resourceProviderMock.getResourceForSpecificNode(NODE_2)).thenReturn(node2Mock);
+		when(resourceProviderMock.getResourceForSpecificNode(NODE_3)).thenReturn(node3Mock);
+
+		ClusterCommandExecutor executor = new ClusterCommandExecutor(topologyProviderMock, resourceProviderMock,
+				new FallbackExceptionTranslationStrategy(JedisExceptionConverter.INSTANCE));
+
+		commands = new JedisClusterJsonCommands(new JedisClusterConnection(clusterMock, executor, topologyProviderMock));
+	}
+
+	@Test
+	void jsonMSetSendsOneCommandPerSlot() {
+
+		when(node1Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class))).thenReturn("OK".getBytes());
+		when(node2Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class))).thenReturn("OK".getBytes());
+		when(node3Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class))).thenReturn("OK".getBytes());
+
+		List<Boolean> outcomes = commands.jsonMSet(JsonPath.root(), values(KEY_1, SAME_SLOT_KEY_1, KEY_2, SAME_SLOT_KEY_2));
+
+		assertThat(outcomes).containsExactly(true, true, true, true);
+
+		ArgumentCaptor<byte[][]> captor = ArgumentCaptor.forClass(byte[][].class);
+		verify(node3Mock).sendCommand(any(ProtocolCommand.class), captor.capture());
+		assertThat(captor.getValue()).hasSize(6);
+		assertThat(captor.getValue()[0]).isEqualTo(SAME_SLOT_KEY_1.getBytes());
+		assertThat(captor.getValue()[3]).isEqualTo(SAME_SLOT_KEY_2.getBytes());
+	}
+
+	@Test
+	void jsonMSetReportsSlotRejectedByRedis() {
+
+		when(node1Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class))).thenReturn("OK".getBytes());
+		when(node2Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class)))
+				.thenThrow(new JedisDataException("ERR wrong type"));
+		when(node3Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class))).thenReturn("OK".getBytes());
+
+		List<Boolean> outcomes = commands.jsonMSet(JsonPath.root(), values(KEY_1, SAME_SLOT_KEY_1, KEY_2, SAME_SLOT_KEY_2));
+
+		assertThat(outcomes).containsExactly(false, true, true, true);
+	}
+
+	@Test
+	void jsonMSetPropagatesConnectionFailures() {
+
+		when(node1Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class))).thenReturn("OK".getBytes());
+		when(node2Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class)))
+				.thenThrow(new JedisConnectionException("connection lost"));
+		when(node3Mock.sendCommand(any(ProtocolCommand.class), any(byte[][].class))).thenReturn("OK".getBytes());
+
+		assertThatExceptionOfType(ClusterCommandExecutionFailureException.class)
+				.isThrownBy(() -> commands.jsonMSet(JsonPath.root(), values(KEY_1, KEY_2, SAME_SLOT_KEY_1)));
+	}
+
+	private static Map<byte[], JsonValue> values(String... keys) {
+
+		Map<byte[], JsonValue> values = new LinkedHashMap<>();
+		for (String key : keys) {
+			values.put(key.getBytes(), JsonValue.of(key));
+		}
+		return values;
+	}
+
+	private static RedisClusterNode node(int port, String id, int lowerSlot, int upperSlot) {
+		return RedisClusterNode.newRedisClusterNode().listeningAt(CLUSTER_HOST, port).withId(id)
+				.promotedAs(NodeType.MASTER).serving(new SlotRange(lowerSlot, upperSlot)).build();
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+
+/**
+ * Unit tests for {@link JedisClusterReadRouter}.
+ */
+class JedisClusterReadRouterUnitTests {
+
+	private static final byte[] KEY = "key".getBytes();
+
+	RedisClusterNode master = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379).withId("master")
+			.promotedAs(NodeType.MASTER).serving(new SlotRange(0, 16383)).linkState(LinkState.CONNECTED).build();
+	RedisClusterNode replica = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7382).withId("replica")
+			.promotedAs(NodeType.REPLICA).replicaOf("master").serving(new SlotRange(0, 16383))
+			.linkState(LinkState.CONNECTED).build();
+
+	UnifiedJedis cluster = mock(UnifiedJedis.class);
+	ClusterTopologyProvider topologyProvider = mock(ClusterTopologyProvider.class);
+	ClusterNodeResourceProvider resourceProvider = mock(ClusterNodeResourceProvider.class);
+	Jedis replicaJedis = mock(Jedis.class);
+	Connection replicaConnection = mock(Connection.class);
+
+	@BeforeEach
+	void setUp() {
+
+		when(topologyProvider.getTopology())
+				.thenReturn(new ClusterTopology(new LinkedHashSet<>(List.of(master, replica))));
+		when(resourceProvider.getResourceForSpecificNode(replica)).thenReturn(replicaJedis);
+		when(replicaJedis.getConnection()).thenReturn(replicaConnection);
+	}
+
+	@Test
+	void routesKeyedReadsToReplicaSendingReadonlyOncePerConnection() {
+
+		JedisClusterReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED);
+
+		Object first = router.execute(KEY, it -> it);
+		Object second = router.execute(KEY, it -> it);
+
+		assertThat(first).isInstanceOf(UnifiedJedis.class).isNotSameAs(cluster);
+		assertThat(second).isInstanceOf(UnifiedJedis.class).isNotSameAs(cluster);
+		verify(replicaJedis).readonly();
+		verify(resourceProvider, times(2)).returnResourceForSpecificNode(replica, replicaJedis);
+	}
+
+	@Test
+	void forgetsBrokenReplicaConnections() {
+
+		JedisClusterReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED);
+
+		when(replicaConnection.isBroken()).thenReturn(true);
+		router.execute(KEY, it -> it);
+
+		when(replicaConnection.isBroken()).thenReturn(false);
+		router.execute(KEY, it -> it);
+		router.execute(KEY, it -> it);
+
+		verify(replicaJedis, times(2)).readonly();
+	}
+
+	@Test
+	void routesReadsWithoutKeyToMaster() {
+
+		JedisClusterReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED);
+
+		assertThat(router.execute(null, it -> it)).isSameAs(cluster);
+		verifyNoInteractions(resourceProvider);
+	}
+
+	@Test
+	void masterPolicyNeverRoutesToReplicas() {
+
+		JedisClusterReadRouter router = createRouter(JedisReadFrom.MASTER);
+
+		assertThat(router.execute(KEY, it -> it)).isSameAs(cluster);
+		verifyNoInteractions(resourceProvider);
+	}
+
+	@Test
+	void retriesOnMasterIfReplicaFails() {
+
+		JedisClusterReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED);
+
+		assertThat(router.execute(KEY, it -> {
+			if (it != cluster) {
+				throw new JedisConnectionException("down");
+			}
+			return it;
+		})).isSameAs(cluster);
+
+		verify(resourceProvider).returnResourceForSpecificNode(replica, replicaJedis);
+		assertThat(router.execute(KEY, it -> it)).isSameAs(cluster);
+	}
+
+	private JedisClusterReadRouter createRouter(JedisReadFrom readFrom) {
+		return new JedisClusterReadRouter(readFrom, cluster, topologyProvider, resourceProvider);
+	}
+}
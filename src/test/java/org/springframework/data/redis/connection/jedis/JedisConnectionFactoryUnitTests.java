@@ -43,6 +43,7 @@ import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ClientSideCachingConfiguration;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
@@ -421,6 +422,33 @@ class JedisConnectionFactoryUnitTests {
 		assertThat(resp2Config.getRedisProtocol()).isEqualTo(RedisProtocol.RESP2);
 	}
 
+	@Test
+	void clientSideCachingRequiresResp3() {
+
+		JedisConnectionFactory connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(),
+				JedisClientConfiguration.builder().customize(it -> it.protocol(RedisProtocol.RESP2)).build());
+		connectionFactory.setUseUnifiedJedis(true);
+		connectionFactory.setClientSideCaching(ClientSideCachingConfiguration.defaultTracking());
+		connectionFactory.setEarlyStartup(false);
+		connectionFactory.afterPropertiesSet();
+
+		assertThatIllegalStateException().isThrownBy(connectionFactory::start).withMessageContaining("RESP3");
+		assertThat(connectionFactory.getClientSideCacheStatistics()).isNull();
+	}
+
+	@Test
+	void clientSideCachingRequiresRedisClient() {
+
+		JedisConnectionFactory connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(),
+				JedisClientConfiguration.builder().customize(DefaultJedisClientConfig.Builder::resp3).build());
+		connectionFactory.setUseUnifiedJedis(false);
+		connectionFactory.setClientSideCaching(ClientSideCachingConfiguration.defaultTracking());
+		connectionFactory.setEarlyStartup(false);
+		connectionFactory.afterPropertiesSet();
+
+		assertThatIllegalStateException().isThrownBy(connectionFactory::start).withMessageContaining("RedisClient");
+	}
+
 	private static JedisClientConfig apply(JedisClientConfiguration configuration) {
 
 		JedisConnectionFactory connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(),
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.RedisNode;
+
+/**
+ * Unit tests for {@link JedisSentinelReadRouter}.
+ */
+class JedisSentinelReadRouterUnitTests {
+
+	UnifiedJedis master = mock(UnifiedJedis.class);
+	UnifiedJedis replica1 = mock(UnifiedJedis.class);
+	UnifiedJedis replica2 = mock(UnifiedJedis.class);
+
+	Map<RedisNode, UnifiedJedis> clients = Map.of(new RedisNode("replica1", 6379), replica1,
+			new RedisNode("replica2", 6379), replica2);
+
+	@Test
+	void replicaPreferredDistributesReadsAcrossReplicas() {
+
+		JedisSentinelReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED,
+				List.of(new RedisNode("replica1", 6379), new RedisNode("replica2", 6379)));
+
+		assertThat(router.execute(null, it -> it)).isSameAs(replica1);
+		assertThat(router.execute(null, it -> it)).isSameAs(replica2);
+		assertThat(router.execute(null, it -> it)).isSameAs(replica1);
+	}
+
+	@Test
+	void replicaPreferredFallsBackToMasterWithoutReplicas() {
+
+		JedisSentinelReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED, List.of());
+
+		assertThat(router.execute(null, it -> it)).isSameAs(master);
+		assertThat(router.selectClient()).isSameAs(master);
+	}
+
+	@Test
+	void retriesOnMasterAndSuspendsFailedReplica() {
+
+		JedisSentinelReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED,
+				List.of(new RedisNode("replica1", 6379)));
+
+		assertThat(router.execute(null, it -> {
+			if (it == replica1) {
+				throw new JedisConnectionException("down");
+			}
+			return it;
+		})).isSameAs(master);
+
+		assertThat(router.execute(null, it -> it)).isSameAs(master);
+	}
+
+	@Test
+	void masterPolicyNeverRoutesToReplicas() {
+
+		JedisSentinelReadRouter router = createRouter(JedisReadFrom.MASTER, List.of(new RedisNode("replica1", 6379)));
+
+		assertThat(router.execute(null, it -> it)).isSameAs(master);
+	}
+
+	@Test
+	void closeDisposesReplicaClients() {
+
+		JedisSentinelReadRouter router = createRouter(JedisReadFrom.REPLICA_PREFERRED,
+				List.of(new RedisNode("replica1", 6379)));
+
+		router.execute(null, it -> it);
+		router.close();
+
+		verify(replica1).close();
+		verifyNoInteractions(master);
+	}
+
+	private JedisSentinelReadRouter createRouter(JedisReadFrom readFrom, List<RedisNode> replicas) {
+		return new JedisSentinelReadRouter(readFrom, master, () -> replicas, clients::get, Duration.ofMinutes(1));
+	}
+}
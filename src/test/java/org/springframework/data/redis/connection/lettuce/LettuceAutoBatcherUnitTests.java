@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link LettuceAutoBatcher}.
+ */
+class LettuceAutoBatcherUnitTests {
+
+	StatefulRedisConnection<String, String> connectionMock = mock(StatefulRedisConnection.class);
+	ScheduledExecutorService schedulerMock = mock(ScheduledExecutorService.class);
+
+	LettuceAutoBatcher batcher;
+
+	@BeforeEach
+	void setUp() {
+
+		batcher = new LettuceAutoBatcher(
+				LettuceAutoBatchingConfiguration.defaults().window(Duration.ofNanos(100)).maxBatchSize(3), schedulerMock);
+		batcher.attach(connectionMock);
+	}
+
+	@Test
+	void disablesAutoFlushOnAttach() {
+
+		verify(connectionMock).setAutoFlushCommands(false);
+		assertThat(batcher.isAttached(connectionMock)).isTrue();
+	}
+
+	@Test
+	void schedulesFlushForFirstCommandOfBatch() {
+
+		batcher.onCommand(connectionMock);
+		batcher.onCommand(connectionMock);
+
+		ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+		verify(schedulerMock).schedule(flush.capture(), eq(100L), eq(TimeUnit.NANOSECONDS));
+		verify(connectionMock, never()).flushCommands();
+
+		flush.getValue().run();
+
+		verify(connectionMock).flushCommands();
+		assertThat(batcher.getFlushes()).isOne();
+		assertThat(batcher.getCommands()).isEqualTo(2);
+		assertThat(batcher.getAverageBatchSize()).isEqualTo(2);
+	}
+
+	@Test
+	void flushesOnceBatchIsFull() {
+
+		batcher.onCommand(connectionMock);
+		batcher.onCommand(connectionMock);
+		batcher.onCommand(connectionMock);
+
+		verify(connectionMock).flushCommands();
+		assertThat(batcher.getSizeTriggeredFlushes()).isOne();
+	}
+
+	@Test
+	void flushesImmediatelyIfSchedulingFails() {
+
+		when(schedulerMock.schedule(any(Runnable.class), anyLong(), any())).thenThrow(new IllegalStateException());
+
+		batcher.onCommand(connectionMock);
+
+		verify(connectionMock).flushCommands();
+	}
+
+	@Test
+	void closeRestoresAutoFlush() {
+
+		batcher.onCommand(connectionMock);
+		batcher.close();
+
+		verify(connectionMock).setAutoFlushCommands(true);
+		verify(connectionMock, times(2)).flushCommands();
+		assertThat(batcher.isAttached(connectionMock)).isFalse();
+	}
+
+	@Test
+	void syncViewDispatchesAsynchronouslyAndTakesPartInBatch() {
+
+		RedisAsyncCommands<String, String> asyncMock = mock(RedisAsyncCommands.class);
+		when(connectionMock.async()).thenReturn(asyncMock);
+		when(connectionMock.getTimeout()).thenReturn(Duration.ofSeconds(1));
+		when(asyncMock.get("key")).thenReturn(new LettuceServerCommands.CompletedRedisFuture<>("value"));
+
+		assertThat(batcher.sync(connectionMock).get("key")).isEqualTo("value");
+
+		verify(schedulerMock).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	void asyncViewTakesPartInBatch() {
+
+		RedisAsyncCommands<String, String> asyncMock = mock(RedisAsyncCommands.class);
+		RedisFuture<String> future = new LettuceServerCommands.CompletedRedisFuture<>("value");
+		when(connectionMock.async()).thenReturn(asyncMock);
+		when(asyncMock.get("key")).thenReturn(future);
+
+		RedisAsyncCommands<String, String> view = batcher.async(connectionMock);
+		view.get("key");
+		view.get("key");
+		view.get("key");
+
+		assertThat(view.get("key")).isSameAs(future);
+		verify(connectionMock).flushCommands();
+		assertThat(batcher.getSizeTriggeredFlushes()).isOne();
+	}
+
+	@Test
+	void viewsPassThroughNonCommandMethods() {
+
+		RedisAsyncCommands<String, String> asyncMock = mock(RedisAsyncCommands.class);
+		when(connectionMock.async()).thenReturn(asyncMock);
+		when(asyncMock.getStatefulConnection()).thenReturn(connectionMock);
+
+		assertThat(batcher.sync(connectionMock).getStatefulConnection()).isSameAs(connectionMock);
+		verifyNoInteractions(schedulerMock);
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.ClientSideCachingConfiguration;
+
+/**
+ * Unit tests for {@link LettuceClientSideCache}.
+ */
+class LettuceClientSideCacheUnitTests {
+
+	StatefulRedisConnectionImpl<byte[], byte[]> connectionMock;
+	RedisCommands<byte[], byte[]> commandsMock;
+
+	LettuceClientSideCache cache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		connectionMock = mock(StatefulRedisConnectionImpl.class);
+		commandsMock = mock(RedisCommands.class);
+		when(connectionMock.sync()).thenReturn(commandsMock);
+
+		cache = new LettuceClientSideCache(ClientSideCachingConfiguration.defaultTracking().maxEntries(2));
+		cache.track(connectionMock);
+	}
+
+	@Test
+	void enablesTrackingOnce() {
+
+		cache.track(connectionMock);
+
+		verify(commandsMock).clientTracking(any(TrackingArgs.class));
+		verify(connectionMock).addListener(cache);
+		assertThat(cache.isTracking()).isTrue();
+	}
+
+	@Test
+	void servesSubsequentReadsFromCache() {
+
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(bytes("key"), null, () -> bytes("value" + loads.incrementAndGet()));
+		byte[] value = cache.get(bytes("key"), null, () -> bytes("value" + loads.incrementAndGet()));
+
+		assertThat(value).isEqualTo(bytes("value1"));
+		assertThat(loads).hasValue(1);
+		assertThat(cache.getHits()).isOne();
+		assertThat(cache.getMisses()).isOne();
+		assertThat(cache.getEntryCount()).isOne();
+		assertThat(cache.getEstimatedSize()).isEqualTo("key".length() + "value1".length());
+		assertThat(cache.getHitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	void cachesAbsentValuesAndHashFieldsSeparately() {
+
+		cache.get(bytes("key"), null, () -> null);
+		cache.get(bytes("key"), bytes("field"), () -> bytes("value"));
+
+		assertThat(cache.get(bytes("key"), null, () -> bytes("other"))).isNull();
+		assertThat(cache.get(bytes("key"), bytes("field"), () -> bytes("other"))).isEqualTo(bytes("value"));
+		assertThat(cache.getEntryCount()).isEqualTo(2);
+	}
+
+	@Test
+	void invalidationMessageEvictsKey() {
+
+		cache.get(bytes("key"), null, () -> bytes("value"));
+		cache.get(bytes("key"), bytes("field"), () -> bytes("value"));
+
+		cache.onPushMessage(invalidate(ByteBuffer.wrap(bytes("key"))));
+
+		assertThat(cache.getEntryCount()).isZero();
+		assertThat(cache.getEstimatedSize()).isZero();
+		assertThat(cache.getInvalidations()).isOne();
+		assertThat(cache.get(bytes("key"), null, () -> bytes("updated"))).isEqualTo(bytes("updated"));
+	}
+
+	@Test
+	void invalidationDuringLoadDiscardsResponse() {
+
+		cache.get(bytes("key"), null, () -> {
+			cache.onPushMessage(invalidate(ByteBuffer.wrap(bytes("key"))));
+			return bytes("stale");
+		});
+
+		assertThat(cache.getEntryCount()).isZero();
+		assertThat(cache.get(bytes("key"), null, () -> bytes("fresh"))).isEqualTo(bytes("fresh"));
+	}
+
+	@Test
+	void flushMessageClearsCache() {
+
+		cache.get(bytes("key1"), null, () -> bytes("value"));
+		cache.get(bytes("key2"), null, () -> bytes("value"));
+
+		PushMessage flush = mock(PushMessage.class);
+		when(flush.getType()).thenReturn("invalidate");
+		when(flush.getContent()).thenReturn(Arrays.asList(ByteBuffer.wrap(bytes("invalidate")), null));
+
+		cache.onPushMessage(flush);
+
+		assertThat(cache.getEntryCount()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+
+		cache.get(bytes("key1"), null, () -> bytes("value"));
+		cache.get(bytes("key2"), null, () -> bytes("value"));
+		cache.get(bytes("key1"), null, () -> bytes("value"));
+		cache.get(bytes("key3"), null, () -> bytes("value"));
+
+		assertThat(cache.getEntryCount()).isEqualTo(2);
+		assertThat(cache.get(bytes("key1"), null, () -> bytes("reloaded"))).isEqualTo(bytes("value"));
+		assertThat(cache.get(bytes("key2"), null, () -> bytes("reloaded"))).isEqualTo(bytes("reloaded"));
+	}
+
+	@Test
+	void disconnectSuspendsCaching() {
+
+		cache.get(bytes("key"), null, () -> bytes("value"));
+
+		cache.onRedisDisconnected(mock(RedisChannelHandler.class));
+		assertThat(cache.isTracking()).isTrue();
+
+		cache.onRedisDisconnected(connectionMock);
+
+		assertThat(cache.isTracking()).isFalse();
+		assertThat(cache.getEntryCount()).isZero();
+		assertThat(cache.get(bytes("key"), null, () -> bytes("value"))).isEqualTo(bytes("value"));
+		assertThat(cache.getEntryCount()).isZero();
+	}
+
+	@Test
+	void bypassesKeysNotMatchingPrefix() {
+
+		LettuceClientSideCache cache = new LettuceClientSideCache(
+				ClientSideCachingConfiguration.defaultTracking().prefixes("user:"));
+		cache.track(connectionMock);
+
+		cache.get(bytes("order:1"), null, () -> bytes("value"));
+		cache.get(bytes("user:1"), null, () -> bytes("value"));
+
+		assertThat(cache.getEntryCount()).isOne();
+		assertThat(cache.getMisses()).isOne();
+	}
+
+	private static PushMessage invalidate(ByteBuffer... keys) {
+
+		PushMessage message = mock(PushMessage.class);
+		when(message.getType()).thenReturn("invalidate");
+		when(message.getContent()).thenReturn(List.of(ByteBuffer.wrap(bytes("invalidate")), List.of(keys)));
+
+		return message;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes();
+	}
+}
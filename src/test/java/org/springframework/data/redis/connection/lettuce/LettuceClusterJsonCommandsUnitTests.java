@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.redis.connection.ClusterTestVariables.*;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.json.arguments.JsonMsetArgs;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.redis.connection.ClusterCommandExecutionFailureException;
+import org.springframework.data.redis.connection.ClusterCommandExecutor;
+import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonValue;
+
+/**
+ * Unit tests for {@link LettuceClusterJsonCommands}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LettuceClusterJsonCommandsUnitTests {
+
+	private static final RedisClusterNode NODE_1 = node(MASTER_NODE_1_PORT, MASTER_NODE_1_ID, 0, 5460);
+	private static final RedisClusterNode NODE_2 = node(MASTER_NODE_2_PORT, MASTER_NODE_2_ID, 5461, 10922);
+	private static final RedisClusterNode NODE_3 = node(MASTER_NODE_3_PORT, MASTER_NODE_3_ID, 10923, 16383);
+
+	@Mock RedisClusterClient clusterMock;
+	@Mock ClusterTopologyProvider topologyProviderMock;
+	@Mock ClusterNodeResourceProvider resourceProviderMock;
+	@Mock RedisClusterCommands<byte[], byte[]> node1Mock;
+	@Mock RedisClusterCommands<byte[], byte[]> node2Mock;
+	@Mock RedisClusterCommands<byte[], byte[]> node3Mock;
+
+	private LettuceClusterJsonCommands commands;
+
+	@BeforeEach
+	void setUp() {
+
+		when(topologyProviderMock.getTopology()).thenReturn(new ClusterTopology(Set.of(NODE_1, NODE_2, NODE_3)));
+		when(resourceProviderMock.getResourceForSpecificNode(NODE_1)).thenReturn(node1Mock);
+		when(resourceProviderMock.getResourceForSpecificNode(NODE_2)).thenReturn(node2Mock);
+		when(resourceProviderMock.getResourceForSpecificNode(NODE_3)).thenReturn(node3Mock);
+
+		ClusterCommandExecutor executor = new ClusterCommandExecutor(topologyProviderMock, resourceProviderMock,
+				LettuceClusterConnection.exceptionConverter);
+
+		commands = new LettuceClusterJsonCommands(new LettuceClusterConnection(clusterMock, executor));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void jsonMSetSendsOneCommandPerSlot() {
+
+		when(node1Mock.jsonMSet(anyList())).thenReturn("OK");
+		when(node2Mock.jsonMSet(anyList())).thenReturn("OK");
+		when(node3Mock.jsonMSet(anyList())).thenReturn("OK");
+
+		List<Boolean> outcomes = commands.jsonMSet(JsonPath.root(), values(KEY_1, SAME_SLOT_KEY_1, KEY_2, SAME_SLOT_KEY_2));
+
+		assertThat(outcomes).containsExactly(true, true, true, true);
+
+		ArgumentCaptor<List<JsonMsetArgs<byte[], byte[]>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(node3Mock).jsonMSet(captor.capture());
+		assertThat(captor.getValue()).hasSize(2);
+
+		verify(node1Mock).jsonMSet(anyList());
+		verify(node2Mock).jsonMSet(anyList());
+	}
+
+	@Test
+	void jsonMSetReportsSlotRejectedByRedis() {
+
+		when(node1Mock.jsonMSet(anyList())).thenReturn("OK");
+		when(node2Mock.jsonMSet(anyList())).thenThrow(new RedisCommandExecutionException("ERR wrong type"));
+		when(node3Mock.jsonMSet(anyList())).thenReturn("OK");
+
+		List<Boolean> outcomes = commands.jsonMSet(JsonPath.root(), values(KEY_1, SAME_SLOT_KEY_1, KEY_2, SAME_SLOT_KEY_2));
+
+		assertThat(outcomes).containsExactly(false, true, true, true);
+	}
+
+	@Test
+	void jsonMSetPropagatesConnectionFailures() {
+
+		when(node1Mock.jsonMSet(anyList())).thenReturn("OK");
+		when(node2Mock.jsonMSet(anyList())).thenThrow(new RedisConnectionException("connection lost"));
+		when(node3Mock.jsonMSet(anyList())).thenReturn("OK");
+
+		assertThatExceptionOfType(ClusterCommandExecutionFailureException.class)
+				.isThrownBy(() -> commands.jsonMSet(JsonPath.root(), values(KEY_1, KEY_2, SAME_SLOT_KEY_1)));
+	}
+
+	private static Map<byte[], JsonValue> values(String... keys) {
+
+		Map<byte[], JsonValue> values = new LinkedHashMap<>();
+		for (String key : keys) {
+			values.put(key.getBytes(), JsonValue.of(key));
+		}
+		return values;
+	}
+
+	private static RedisClusterNode node(int port, String id, int lowerSlot, int upperSlot) {
+		return RedisClusterNode.newRedisClusterNode().listeningAt(CLUSTER_HOST, port).withId(id)
+				.promotedAs(NodeType.MASTER).serving(new SlotRange(lowerSlot, upperSlot)).build();
+	}
+
+}
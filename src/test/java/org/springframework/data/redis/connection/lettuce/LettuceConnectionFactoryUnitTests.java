@@ -37,6 +37,7 @@ import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
 import io.lettuce.core.resource.ClientResources;
 
 import java.time.Duration;
@@ -55,6 +56,7 @@ import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.ConnectionFactoryTracker;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.ClientSideCachingConfiguration;
 import org.springframework.data.redis.connection.PoolException;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisClusterConnection;
@@ -1297,6 +1299,19 @@ class LettuceConnectionFactoryUnitTests {
 		assertThat(client).isNull();
 	}
 
+	@Test
+	void clientSideCachingRequiresResp3() {
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(),
+				LettuceTestClientConfiguration.builder()
+						.clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build()).build());
+		connectionFactory.setClientSideCaching(ClientSideCachingConfiguration.defaultTracking());
+		connectionFactory.setEarlyStartup(false);
+		connectionFactory.afterPropertiesSet();
+
+		assertThatIllegalStateException().isThrownBy(connectionFactory::start).withMessageContaining("RESP3");
+	}
+
 	private RedisURI requireNonNullRedisURI(AbstractRedisClient client) {
 		RedisURI redisUri = (RedisURI) getField(client, "redisURI");
 		assertThat(redisUri).isNotNull();
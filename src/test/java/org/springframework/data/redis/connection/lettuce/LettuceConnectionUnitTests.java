@@ -22,6 +22,7 @@ import io.lettuce.core.*;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
@@ -39,6 +40,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -542,4 +544,46 @@ class LettuceConnectionUnitTests {
 
 		}
 	}
+
+	@Nested
+	class AutoBatchingUnitTests {
+
+		ScheduledExecutorService schedulerMock = mock(ScheduledExecutorService.class);
+		LettuceConnection batchedConnection;
+
+		@BeforeEach
+		void setUp() {
+
+			LettuceAutoBatcher batcher = new LettuceAutoBatcher(LettuceAutoBatchingConfiguration.defaults(), schedulerMock);
+			batcher.attach(statefulConnectionMock);
+
+			batchedConnection = new LettuceConnection(statefulConnectionMock, 1, clientMock);
+			batchedConnection.setAutoBatcher(batcher);
+		}
+
+		@Test
+		@SuppressWarnings("unchecked")
+		void synchronousCommandsUseSharedConnection() {
+
+			when(statefulConnectionMock.getTimeout()).thenReturn(Duration.ofSeconds(1));
+
+			batchedConnection.getConnection().ping();
+
+			verify(clientMock, never()).connect(any(RedisCodec.class));
+			verify(commandsMock, never()).ping();
+			verify(asyncCommandsMock).ping();
+			verify(schedulerMock).schedule(any(Runnable.class), anyLong(), any());
+		}
+
+		@Test
+		void nativeConnectionTakesPartInBatching() {
+
+			RedisClusterAsyncCommands<byte[], byte[]> nativeConnection = batchedConnection.getNativeConnection();
+			nativeConnection.get("key".getBytes());
+
+			assertThat(nativeConnection).isNotSameAs(asyncCommandsMock);
+			verify(asyncCommandsMock).get("key".getBytes());
+			verify(schedulerMock).schedule(any(Runnable.class), anyLong(), any());
+		}
+	}
 }
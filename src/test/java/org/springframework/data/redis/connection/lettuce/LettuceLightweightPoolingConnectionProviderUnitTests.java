@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.PoolException;
+
+/**
+ * Unit tests for {@link LettuceLightweightPoolingConnectionProvider}.
+ */
+class LettuceLightweightPoolingConnectionProviderUnitTests {
+
+	LettuceConnectionProvider connectionProviderMock = mock(LettuceConnectionProvider.class);
+
+	GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+
+	LettuceLightweightPoolingConnectionProvider.Statistics statistics = new LettuceLightweightPoolingConnectionProvider.Statistics();
+
+	@BeforeEach
+	void before() {
+
+		when(connectionProviderMock.getConnection(any())).thenAnswer(invocation -> newConnection());
+		when(connectionProviderMock.getConnectionAsync(any()))
+				.thenAnswer(invocation -> CompletableFuture.completedFuture(newConnection()));
+		when(connectionProviderMock.releaseAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+	}
+
+	@Test
+	void reusesReleasedConnection() {
+
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		StatefulRedisConnection<?, ?> connection = provider.getConnection(StatefulRedisConnection.class);
+		provider.release(connection);
+
+		assertThat(statistics.getIdleConnections()).isOne();
+		assertThat(provider.getConnection(StatefulRedisConnection.class)).isSameAs(connection);
+		assertThat(statistics.getActiveConnections()).isOne();
+		assertThat(statistics.getIdleConnections()).isZero();
+		assertThat(statistics.getAcquisitions()).isEqualTo(2);
+		verify(connectionProviderMock).getConnection(any());
+	}
+
+	@Test
+	void servesSynchronousAndAsynchronousAcquisitionFromSamePool() {
+
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		StatefulRedisConnection<?, ?> connection = provider.getConnection(StatefulRedisConnection.class);
+		provider.releaseAsync(connection).join();
+
+		assertThat(provider.getConnectionAsync(StatefulRedisConnection.class).toCompletableFuture().join())
+				.isSameAs(connection);
+		verify(connectionProviderMock, never()).getConnectionAsync(any());
+	}
+
+	@Test
+	void shouldDiscardTransactionOnRelease() {
+
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+		StatefulRedisConnection<?, ?> connection = provider.getConnection(StatefulRedisConnection.class);
+		when(connection.isMulti()).thenReturn(true);
+
+		provider.release(connection);
+
+		verify(connection.async()).discard();
+	}
+
+	@Test
+	void shouldPrepareThePool() {
+
+		poolConfig.setMinIdle(5);
+
+		createProvider().getConnection(StatefulRedisConnection.class);
+
+		verify(connectionProviderMock, times(5)).getConnection(any());
+		assertThat(statistics.getIdleConnections()).isEqualTo(4);
+	}
+
+	@Test
+	void handsOffReleasedConnectionToWaiter() {
+
+		poolConfig.setMaxTotal(1);
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		StatefulRedisConnection<?, ?> connection = provider.getConnection(StatefulRedisConnection.class);
+		CompletableFuture<StatefulRedisConnection> waiter = provider.getConnectionAsync(StatefulRedisConnection.class)
+				.toCompletableFuture();
+
+		assertThat(waiter).isNotDone();
+		assertThat(statistics.getPendingAcquisitions()).isOne();
+
+		provider.release(connection);
+
+		assertThat(waiter).isCompletedWithValue(connection);
+		assertThat(statistics.getPendingAcquisitions()).isZero();
+	}
+
+	@Test
+	void timesOutWhenExhausted() {
+
+		poolConfig.setMaxTotal(1);
+		poolConfig.setMaxWait(Duration.ofMillis(10));
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		provider.getConnection(StatefulRedisConnection.class);
+
+		assertThatExceptionOfType(PoolException.class)
+				.isThrownBy(() -> provider.getConnection(StatefulRedisConnection.class));
+		assertThat(statistics.getAcquisitionTimeouts()).isOne();
+		assertThat(statistics.getPendingAcquisitions()).isZero();
+	}
+
+	@Test
+	void failsFastWhenExhaustedAndNotBlocking() {
+
+		poolConfig.setMaxTotal(1);
+		poolConfig.setBlockWhenExhausted(false);
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		provider.getConnection(StatefulRedisConnection.class);
+
+		assertThat(provider.getConnectionAsync(StatefulRedisConnection.class).toCompletableFuture())
+				.isCompletedExceptionally();
+	}
+
+	@Test
+	void discardsClosedConnectionOnRelease() {
+
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		StatefulRedisConnection<?, ?> connection = provider.getConnection(StatefulRedisConnection.class);
+		when(connection.isOpen()).thenReturn(false);
+		provider.release(connection);
+
+		verify(connectionProviderMock).releaseAsync(connection);
+		assertThat(provider.getConnection(StatefulRedisConnection.class)).isNotSameAs(connection);
+	}
+
+	@Test
+	void rejectsDuplicateRelease() {
+
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		StatefulRedisConnection<?, ?> connection = provider.getConnection(StatefulRedisConnection.class);
+		provider.release(connection);
+
+		assertThatExceptionOfType(PoolException.class).isThrownBy(() -> provider.release(connection));
+	}
+
+	@Test
+	void destroyClosesPooledConnections() throws Exception {
+
+		LettuceLightweightPoolingConnectionProvider provider = createProvider();
+
+		StatefulRedisConnection<?, ?> connection = provider.getConnection(StatefulRedisConnection.class);
+		provider.release(connection);
+		provider.destroy();
+
+		verify(connectionProviderMock).releaseAsync(connection);
+		assertThat(statistics.getIdleConnections()).isZero();
+	}
+
+	private LettuceLightweightPoolingConnectionProvider createProvider() {
+
+		LettucePoolingClientConfiguration configuration = LettucePoolingClientConfiguration.builder()
+				.poolConfig(poolConfig).lightweightPool().build();
+
+		return new LettuceLightweightPoolingConnectionProvider(connectionProviderMock, configuration, statistics);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static StatefulRedisConnection<byte[], byte[]> newConnection() {
+
+		StatefulRedisConnection<byte[], byte[]> connection = mock(StatefulRedisConnection.class);
+		RedisAsyncCommands<byte[], byte[]> commands = mock(RedisAsyncCommands.class);
+
+		when(connection.isOpen()).thenReturn(true);
+		when(connection.async()).thenReturn(commands);
+
+		return connection;
+	}
+}
@@ -119,4 +119,11 @@ class LettucePoolingClientConfigurationUnitTests {
 		assertThat(configuration.getPoolConfig()).isEqualTo(poolConfig);
 		assertThat(configuration.getClientName()).contains("clientName");
 	}
+
+	@Test
+	void shouldConfigureLightweightPool() {
+
+		assertThat(LettucePoolingClientConfiguration.defaultConfiguration().isUseLightweightPool()).isFalse();
+		assertThat(LettucePoolingClientConfiguration.builder().lightweightPool().build().isUseLightweightPool()).isTrue();
+	}
 }
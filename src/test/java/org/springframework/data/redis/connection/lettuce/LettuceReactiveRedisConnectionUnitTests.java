@@ -23,10 +23,12 @@ import io.lettuce.core.XAddArgs;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -259,4 +262,87 @@ class LettuceReactiveRedisConnectionUnitTests {
 		assertThat(args.getValue()).extracting("nomkstream").isEqualTo(true);
 	}
 
+	@Test
+	void pipelineShouldFlushCommandsOnDedicatedConnection() {
+
+		when(reactiveCommands.ping()).thenReturn(Mono.just("PONG"));
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(sharedConnection,
+				connectionProvider);
+
+		connection.pipeline(() -> Flux.mergeSequential(connection.ping(), connection.ping())).as(StepVerifier::create)
+				.expectNext("PONG", "PONG").verifyComplete();
+
+		InOrder inOrder = inOrder(sharedConnection, reactiveCommands);
+		inOrder.verify(sharedConnection).setAutoFlushCommands(false);
+		inOrder.verify(reactiveCommands, times(2)).ping();
+		inOrder.verify(sharedConnection).setAutoFlushCommands(true);
+		inOrder.verify(sharedConnection).flushCommands();
+		verify(connectionProvider).getConnectionAsync(StatefulConnection.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRouteToSharedConnectionAfterPipeline() {
+
+		StatefulRedisConnection<ByteBuffer, ByteBuffer> dedicatedConnection = mock(StatefulRedisConnection.class);
+		RedisReactiveCommands<ByteBuffer, ByteBuffer> dedicatedCommands = mock(RedisReactiveCommands.class);
+		when(dedicatedConnection.reactive()).thenReturn(dedicatedCommands);
+		when(dedicatedCommands.ping()).thenReturn(Mono.just("PONG"));
+		when(reactiveCommands.ping()).thenReturn(Mono.just("PONG"));
+		when(connectionProvider.getConnectionAsync(any()))
+				.thenReturn(CompletableFuture.completedFuture(dedicatedConnection));
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(sharedConnection,
+				connectionProvider);
+
+		connection.pipeline(connection::ping).as(StepVerifier::create).expectNext("PONG").verifyComplete();
+		connection.ping().as(StepVerifier::create).expectNext("PONG").verifyComplete();
+
+		verify(dedicatedCommands).ping();
+		verify(reactiveCommands).ping();
+		verify(dedicatedConnection).setAutoFlushCommands(true);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRouteToSharedConnectionAfterFailedOrCancelledPipeline() {
+
+		StatefulRedisConnection<ByteBuffer, ByteBuffer> dedicatedConnection = mock(StatefulRedisConnection.class);
+		when(reactiveCommands.ping()).thenReturn(Mono.just("PONG"));
+		when(connectionProvider.getConnectionAsync(any()))
+				.thenReturn(CompletableFuture.completedFuture(dedicatedConnection));
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(sharedConnection,
+				connectionProvider);
+
+		connection.pipeline(() -> Flux.error(new IllegalStateException())).as(StepVerifier::create)
+				.verifyError(IllegalStateException.class);
+		connection.pipeline(Flux::never).as(StepVerifier::create).thenCancel().verify();
+
+		connection.ping().as(StepVerifier::create).expectNext("PONG").verifyComplete();
+
+		verify(reactiveCommands).ping();
+		verify(dedicatedConnection, times(2)).setAutoFlushCommands(true);
+	}
+
+	@Test
+	void mapCommandsShouldPreserveOrderWithConcurrentCommands() {
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(sharedConnection,
+				connectionProvider);
+		connection.setCommandConcurrency(4);
+
+		connection.mapCommands(Flux.just(3, 1, 2), it -> Mono.delay(Duration.ofMillis(it * 10L)).thenReturn(it))
+				.as(StepVerifier::create).expectNext(3, 1, 2).verifyComplete();
+	}
+
+	@Test
+	void shouldRejectNonPositiveCommandConcurrency() {
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(connectionProvider);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> connection.setCommandConcurrency(0));
+	}
+
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.data.redis.ObjectFactory;
+
+/**
+ * Integration tests for {@link DefaultBitmapOperations} cross-checking batched {@code BITFIELD} access against
+ * {@code SETBIT} and {@code GETBIT}.
+ */
+@ParameterizedClass
+@MethodSource("testParams")
+public class DefaultBitmapOperationsIntegrationTests<K, V> {
+
+	private final RedisTemplate<K, V> redisTemplate;
+	private final ObjectFactory<K> keyFactory;
+	private final BitmapOperations<K> bitmapOps;
+	private final ValueOperations<K, V> valueOps;
+
+	public DefaultBitmapOperationsIntegrationTests(RedisTemplate<K, V> redisTemplate, ObjectFactory<K> keyFactory,
+			ObjectFactory<V> valueFactory) {
+
+		this.redisTemplate = redisTemplate;
+		this.keyFactory = keyFactory;
+		this.bitmapOps = redisTemplate.opsForBitmap();
+		this.valueOps = redisTemplate.opsForValue();
+	}
+
+	public static Collection<Object[]> testParams() {
+		return AbstractOperationsTestParams.testParams();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.execute((RedisCallback<Object>) connection -> {
+			connection.flushDb();
+			return null;
+		});
+	}
+
+	@Test
+	void batchWritesAreVisibleToGetBit() {
+
+		K key = keyFactory.instance();
+
+		BitSet offsets = bits(0, 1, 7, 42, 1000);
+		offsets.set(8, 24);
+
+		bitmapOps.set(key, offsets, true);
+
+		for (int offset = 0; offset <= 1001; offset++) {
+			assertThat(valueOps.getBit(key, offset)).describedAs("offset %d", offset).isEqualTo(offsets.get(offset));
+		}
+	}
+
+	@Test
+	void batchClearsAreVisibleToGetBit() {
+
+		K key = keyFactory.instance();
+
+		BitSet all = new BitSet();
+		all.set(0, 40);
+		bitmapOps.set(key, all, true);
+
+		BitSet cleared = bits(3, 39);
+		cleared.set(16, 24);
+		bitmapOps.set(key, cleared, false);
+
+		for (int offset = 0; offset < 40; offset++) {
+			assertThat(valueOps.getBit(key, offset)).describedAs("offset %d", offset).isEqualTo(!cleared.get(offset));
+		}
+	}
+
+	@Test
+	void batchReadsReturnOffsetsWrittenWithSetBit() {
+
+		K key = keyFactory.instance();
+
+		for (int offset : new int[] { 0, 3, 8, 9, 10, 11, 12, 13, 14, 15, 100, 255 }) {
+			valueOps.setBit(key, offset, true);
+		}
+
+		BitSet requested = new BitSet();
+		requested.set(0, 20);
+		requested.set(99, 102);
+		requested.set(255);
+		requested.set(4096);
+
+		assertThat(bitmapOps.get(key, requested).stream()).containsExactly(0, 3, 8, 9, 10, 11, 12, 13, 14, 15, 100, 255);
+	}
+
+	@Test
+	void batchAppliesStepsInOrderAcrossKeys() {
+
+		K one = keyFactory.instance();
+		K two = keyFactory.instance();
+
+		valueOps.setBit(two, 6, true);
+
+		Map<K, BitSet> result = bitmapOps.batch() //
+				.set(one, bits(1, 2), true) //
+				.set(two, 7, true) //
+				.set(one, 2, false) //
+				.get(one, bits(1, 2)) //
+				.get(two, bits(5, 6, 7)) //
+				.execute();
+
+		assertThat(result.get(one).stream()).containsExactly(1);
+		assertThat(result.get(two).stream()).containsExactly(6, 7);
+		assertThat(valueOps.getBit(one, 2)).isFalse();
+	}
+
+	@Test
+	void getWithoutOffsetsReturnsEmptyBitSet() {
+		assertThat(bitmapOps.get(keyFactory.instance(), new BitSet())).isEmpty();
+	}
+
+	@Test
+	void getBitmapReturnsOffsetsWrittenWithSetBit() {
+
+		K key = keyFactory.instance();
+
+		for (int offset : new int[] { 0, 7, 9, 30, 64 }) {
+			valueOps.setBit(key, offset, true);
+		}
+
+		assertThat(bitmapOps.getBitmap(key).stream()).containsExactly(0, 7, 9, 30, 64);
+		assertThat(bitmapOps.getBitmap(keyFactory.instance())).isEmpty();
+	}
+
+	@Test
+	void setBitmapIsVisibleToGetBit() {
+
+		K key = keyFactory.instance();
+
+		bitmapOps.setBitmap(key, bits(1, 13, 23));
+
+		for (int offset = 0; offset < 24; offset++) {
+			assertThat(valueOps.getBit(key, offset)).describedAs("offset %d", offset)
+					.isEqualTo(offset == 1 || offset == 13 || offset == 23);
+		}
+		assertThat(bitmapOps.getBitmaps(List.of(key)).get(key).stream()).containsExactly(1, 13, 23);
+	}
+
+	private static BitSet bits(int... offsets) {
+
+		BitSet bits = new BitSet();
+		Arrays.stream(offsets).forEach(bits::set);
+		return bits;
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldGet;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldSet;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldSubCommand;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Unit tests for {@link DefaultBitmapOperations} using an in-memory {@code BITFIELD} emulation.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DefaultBitmapOperationsUnitTests {
+
+	@Mock RedisConnectionFactory connectionFactoryMock;
+	@Mock RedisConnection connectionMock;
+
+	private final Map<String, byte[]> bitmaps = new HashMap<>();
+	private final List<BitFieldSubCommands> commands = new ArrayList<>();
+	private final List<Object> pipelineResults = new ArrayList<>();
+
+	private BitmapOperations<String> bitmapOps;
+
+	@BeforeEach
+	void setUp() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.closePipeline()).thenAnswer(invocation -> {
+
+			List<Object> results = new ArrayList<>(pipelineResults);
+			pipelineResults.clear();
+			return results;
+		});
+		when(connectionMock.bitField(any(), any())).thenAnswer(invocation -> {
+
+			String key = new String(invocation.<byte[]> getArgument(0));
+			BitFieldSubCommands subCommands = invocation.getArgument(1);
+
+			commands.add(subCommands);
+			pipelineResults.add(bitField(key, subCommands));
+			return null;
+		});
+		when(connectionMock.set(any(), any())).thenAnswer(invocation -> {
+
+			bitmaps.put(new String(invocation.<byte[]> getArgument(0)), invocation.getArgument(1));
+			return true;
+		});
+		when(connectionMock.get(any())).thenAnswer(invocation -> bitmaps.get(new String(invocation.<byte[]> getArgument(0))));
+
+		RedisTemplate<String, String> template = new RedisTemplate<>();
+		template.setDefaultSerializer(StringRedisSerializer.UTF_8);
+		template.setConnectionFactory(connectionFactoryMock);
+		template.afterPropertiesSet();
+
+		bitmapOps = template.opsForBitmap();
+	}
+
+	@Test
+	void convertsBitOrderFromAndToRedis() {
+
+		byte[] redis = { (byte) 0b1000_0001, 0b0100_0000 };
+
+		BitSet bits = DefaultBitmapOperations.toBitSet(redis);
+
+		assertThat(bits.stream()).containsExactly(0, 7, 9);
+		assertThat(DefaultBitmapOperations.toRedisBitmap(bits)).isEqualTo(redis);
+	}
+
+	@Test
+	void setAndGetOffsets() {
+
+		bitmapOps.set("bitmap", bits(1, 3, 42), true);
+
+		assertThat(bitmapOps.get("bitmap", bits(0, 1, 2, 3, 42, 43)).stream()).containsExactly(1, 3, 42);
+		assertThat(bitmapOps.getBitmap("bitmap").stream()).containsExactly(1, 3, 42);
+	}
+
+	@Test
+	void getWithoutOffsetsReturnsEmptyBitSet() {
+
+		assertThat(bitmapOps.get("bitmap", new BitSet())).isEmpty();
+		assertThat(commands).isEmpty();
+		verify(connectionMock, never()).openPipeline();
+	}
+
+	@Test
+	void writesWholeBytesAsEightBitFields() {
+
+		BitSet offsets = new BitSet();
+		offsets.set(8, 24);
+		offsets.set(30);
+
+		bitmapOps.set("bitmap", offsets, true);
+
+		assertThat(commands).hasSize(1);
+		assertThat(commands.get(0).getSubCommands()).hasSize(3);
+		assertThat(commands.get(0).getSubCommands().get(0).getType().getBits()).isEqualTo(8);
+		assertThat(commands.get(0).getSubCommands().get(2).getType().getBits()).isEqualTo(1);
+		assertThat(bitmapOps.getBitmap("bitmap")).isEqualTo(offsets);
+	}
+
+	@Test
+	void readsEachByteOnce() {
+
+		bitmapOps.setBitmap("bitmap", bits(0, 5, 17));
+
+		BitSet result = bitmapOps.get("bitmap", bits(0, 1, 5, 6, 7, 16, 17));
+
+		assertThat(result.stream()).containsExactly(0, 5, 17);
+		assertThat(commands.get(0).getSubCommands()).hasSize(2).allMatch(BitFieldGet.class::isInstance);
+	}
+
+	@Test
+	void appliesStepsInOrderAcrossKeysInSinglePipeline() {
+
+		Map<String, BitSet> result = bitmapOps.batch() //
+				.set("one", bits(1, 2), true) //
+				.set("two", 7, true) //
+				.set("one", 2, false) //
+				.get("one", bits(1, 2)) //
+				.get("two", bits(6, 7)) //
+				.execute();
+
+		assertThat(result).containsOnlyKeys("one", "two");
+		assertThat(result.get("one").stream()).containsExactly(1);
+		assertThat(result.get("two").stream()).containsExactly(7);
+		assertThat(commands).hasSize(2);
+		verify(connectionMock).openPipeline();
+		verify(connectionMock).closePipeline();
+	}
+
+	@Test
+	void splitsLargeBatchesIntoMultipleCommands() {
+
+		BitSet offsets = new BitSet();
+		for (int i = 0; i < 4 * DefaultBitmapOperations.MAX_SUB_COMMANDS; i += 3) {
+			offsets.set(i);
+		}
+
+		bitmapOps.set("bitmap", offsets, true);
+
+		assertThat(commands).hasSizeGreaterThan(1)
+				.allMatch(it -> it.getSubCommands().size() <= DefaultBitmapOperations.MAX_SUB_COMMANDS);
+		assertThat(bitmapOps.get("bitmap", offsets)).isEqualTo(offsets);
+	}
+
+	@Test
+	void getBitmapsReadsAllKeys() {
+
+		bitmapOps.setBitmap("one", bits(3));
+		when(connectionMock.mGet(any(byte[][].class))).thenAnswer(invocation -> Arrays
+				.stream(invocation.<byte[][]> getArgument(0)).map(it -> bitmaps.get(new String(it))).toList());
+
+		Map<String, BitSet> result = bitmapOps.getBitmaps(List.of("one", "missing"));
+
+		assertThat(result).containsOnlyKeys("one", "missing");
+		assertThat(result.get("one").stream()).containsExactly(3);
+		assertThat(result.get("missing")).isEmpty();
+	}
+
+	private static BitSet bits(int... offsets) {
+
+		BitSet bits = new BitSet();
+		Arrays.stream(offsets).forEach(bits::set);
+		return bits;
+	}
+
+	/**
+	 * Minimal {@code BITFIELD} emulation supporting unsigned {@code GET} and {@code SET}.
+	 */
+	private List<Long> bitField(String key, BitFieldSubCommands subCommands) {
+
+		List<Long> results = new ArrayList<>();
+
+		for (BitFieldSubCommand subCommand : subCommands) {
+
+			int width = subCommand.getType().getBits();
+			long offset = subCommand.getOffset().getValue() * (subCommand.getOffset().isZeroBased() ? 1 : width);
+
+			long value = 0;
+			for (int i = 0; i < width; i++) {
+				value = (value << 1) | (bit(key, offset + i) ? 1 : 0);
+			}
+
+			if (subCommand instanceof BitFieldSet set) {
+				for (int i = 0; i < width; i++) {
+					setBit(key, offset + i, ((set.getValue() >>> (width - 1 - i)) & 1) == 1);
+				}
+			}
+
+			results.add(value);
+		}
+
+		return results;
+	}
+
+	private boolean bit(String key, long offset) {
+
+		byte[] bitmap = bitmaps.getOrDefault(key, new byte[0]);
+		int index = (int) (offset / 8);
+
+		return index < bitmap.length && (bitmap[index] & (0x80 >>> (offset % 8))) != 0;
+	}
+
+	private void setBit(String key, long offset, boolean value) {
+
+		byte[] bitmap = bitmaps.getOrDefault(key, new byte[0]);
+		int index = (int) (offset / 8);
+
+		if (index >= bitmap.length) {
+			bitmap = Arrays.copyOf(bitmap, index + 1);
+		}
+
+		if (value) {
+			bitmap[index] |= (byte) (0x80 >>> (offset % 8));
+		} else {
+			bitmap[index] &= (byte) ~(0x80 >>> (offset % 8));
+		}
+
+		bitmaps.put(key, bitmap);
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.redis.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.assertj.core.data.Offset.offset;
 import static org.springframework.data.redis.connection.RedisGeoCommands.DistanceUnit.KILOMETERS;
@@ -24,8 +25,10 @@ import static org.springframework.data.redis.connection.RedisGeoCommands.GeoRadi
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.assertj.core.data.Offset;
 import org.jspecify.annotations.Nullable;
@@ -39,6 +42,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.ObjectFactory;
@@ -48,6 +52,7 @@ import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.domain.geo.BoundingBox;
 import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.data.redis.domain.geo.GeoShape;
 import org.springframework.data.redis.test.condition.EnabledOnCommand;
 
 /**
@@ -635,4 +640,68 @@ public class DefaultGeoOperationsIntegrationTests<K, M> {
 		assertThat(result).isEqualTo(1);
 		assertThat(redisTemplate.boundZSetOps(destKey).range(0, -1)).containsExactly(direction.isAscending() ? member1 : member2);
 	}
+
+	@Test
+	void addAllShouldAddToMultipleKeys() {
+
+		K key1 = keyFactory.instance();
+		K key2 = keyFactory.instance();
+
+		Map<K, Map<M, Point>> locations = new LinkedHashMap<>();
+		locations.put(key1, Map.of(valueFactory.instance(), POINT_PALERMO, valueFactory.instance(), POINT_CATANIA));
+		locations.put(key2, Map.of(valueFactory.instance(), POINT_ARIGENTO));
+
+		Map<K, Long> added = geoOperations.addAll(locations);
+
+		assertThat(added).containsExactly(entry(key1, 2L), entry(key2, 1L));
+	}
+
+	@Test
+	@EnabledOnCommand("GEOSEARCH")
+	void geoSearchShouldReturnResultsForMultipleKeys() {
+
+		assumeThat(redisTemplate.getRequiredConnectionFactory()).isInstanceOf(LettuceConnectionFactory.class);
+
+		K key1 = keyFactory.instance();
+		K key2 = keyFactory.instance();
+		K key3 = keyFactory.instance();
+		M member1 = valueFactory.instance();
+		M member2 = valueFactory.instance();
+		M member3 = valueFactory.instance();
+
+		geoOperations.add(key1, POINT_PALERMO, member1);
+		geoOperations.add(key1, POINT_CATANIA, member2);
+		geoOperations.add(key2, POINT_ARIGENTO, member3);
+
+		Map<K, GeoResults<GeoLocation<M>>> result = geoOperations.search(List.of(key1, key2, key3),
+				GeoReference.fromCoordinate(POINT_PALERMO), GeoShape.byRadius(new Distance(150, KILOMETERS)),
+				newGeoSearchArgs());
+
+		assertThat(result).containsOnlyKeys(key1, key2, key3);
+		assertThat(result.get(key1).getContent()).extracting(it -> it.getContent().getName()).containsExactly(member1);
+		assertThat(result.get(key2).getContent()).extracting(it -> it.getContent().getName()).containsExactly(member3);
+		assertThat(result.get(key3).getContent()).isEmpty();
+	}
+
+	@Test
+	@EnabledOnCommand("GEOSEARCH")
+	void geoSearchAsStreamShouldReturnResults() {
+
+		assumeThat(redisTemplate.getRequiredConnectionFactory()).isInstanceOf(LettuceConnectionFactory.class);
+
+		K key = keyFactory.instance();
+		M member1 = valueFactory.instance();
+		M member2 = valueFactory.instance();
+		M member3 = valueFactory.instance();
+
+		geoOperations.add(key, POINT_PALERMO, member1);
+		geoOperations.add(key, POINT_CATANIA, member2);
+		geoOperations.add(key, POINT_ARIGENTO, member3);
+
+		try (Stream<GeoResult<GeoLocation<M>>> stream = geoOperations.searchAsStream(key,
+				GeoReference.fromCoordinate(POINT_PALERMO), GeoShape.byRadius(new Distance(150, KILOMETERS)),
+				newGeoSearchArgs().sortAscending())) {
+			assertThat(stream.map(it -> it.getContent().getName())).containsExactly(member1, member3);
+		}
+	}
 }
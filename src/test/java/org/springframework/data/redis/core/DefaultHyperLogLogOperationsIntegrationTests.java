@@ -25,6 +25,7 @@ import org.junit.jupiter.params.ParameterizedClass;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import org.springframework.data.redis.ObjectFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * @author Christoph Strobl
@@ -137,4 +138,60 @@ public class DefaultHyperLogLogOperationsIntegrationTests<K, V> {
 
 		assertThat(hyperLogLogOps.size(desinationKey)).isGreaterThan(3L);
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void sketchShouldMatchServerRegisters() {
+
+		K key = keyFactory.instance();
+		V v1 = valueFactory.instance();
+		V v2 = valueFactory.instance();
+		V v3 = valueFactory.instance();
+
+		hyperLogLogOps.add(key, v1, v2, v3);
+
+		HyperLogLogSketch local = new HyperLogLogSketch();
+		local.add(serialize(v1));
+		local.add(serialize(v2));
+		local.add(serialize(v3));
+
+		HyperLogLogSketch server = hyperLogLogOps.sketch(key);
+
+		assertThat(server.toByteArray()).isEqualTo(local.toByteArray());
+		assertThat(server.size()).isEqualTo(hyperLogLogOps.size(key));
+	}
+
+	@Test
+	void sketchShouldBeEmptyForAbsentKey() {
+		assertThat(hyperLogLogOps.sketch(keyFactory.instance()).isEmpty()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void mergeShouldUnionSketchWithServerValue() {
+
+		K key = keyFactory.instance();
+		V v1 = valueFactory.instance();
+		V v2 = valueFactory.instance();
+		V v3 = valueFactory.instance();
+
+		hyperLogLogOps.add(key, v1, v2);
+
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+		sketch.add(serialize(v2));
+		sketch.add(serialize(v3));
+
+		Long size = hyperLogLogOps.merge(key, sketch);
+
+		assertThat(size).isEqualTo(3L);
+		assertThat(hyperLogLogOps.add(key, v1, v2, v3)).isZero();
+		assertThat(redisTemplate.execute((RedisCallback<Long>) connection -> connection.dbSize())).isOne();
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serialize(V value) {
+
+		RedisSerializer<V> serializer = (RedisSerializer<V>) redisTemplate.getValueSerializer();
+		return serializer != null ? serializer.serialize(value) : (byte[]) value;
+	}
 }
@@ -26,6 +26,7 @@ import reactor.test.StepVerifier;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -494,4 +495,50 @@ public class DefaultReactiveGeoOperationsIntegrationTests<K, V> {
 				.expectNext(2L) //
 				.verifyComplete();
 	}
+
+	@Test
+	void addAllShouldAddToMultipleKeys() {
+
+		K key1 = keyFactory.instance();
+		K key2 = keyFactory.instance();
+
+		Map<K, Map<V, Point>> locations = new LinkedHashMap<>();
+		locations.put(key1, Map.of(valueFactory.instance(), POINT_PALERMO, valueFactory.instance(), POINT_CATANIA));
+		locations.put(key2, Map.of(valueFactory.instance(), POINT_ARIGENTO));
+
+		geoOperations.addAll(locations).as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual).containsExactly(entry(key1, 2L), entry(key2, 1L))) //
+				.verifyComplete();
+	}
+
+	@Test
+	@EnabledOnCommand("GEOSEARCH")
+	void geoSearchShouldReturnLocationsForMultipleKeys() {
+
+		K key1 = keyFactory.instance();
+		K key2 = keyFactory.instance();
+		V member1 = valueFactory.instance();
+		V member2 = valueFactory.instance();
+		V member3 = valueFactory.instance();
+
+		geoOperations.add(key1, POINT_PALERMO, member1).block();
+		geoOperations.add(key1, POINT_CATANIA, member2).block();
+		geoOperations.add(key2, POINT_ARIGENTO, member3).block();
+
+		geoOperations
+				.search(List.of(key1, key2), GeoReference.fromCoordinate(POINT_PALERMO),
+						GeoShape.byRadius(new Distance(150D, KILOMETERS)), newGeoSearchArgs())
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getKey()).isEqualTo(key1);
+					assertThat(actual.getValue().getContent().getName()).isEqualTo(member1);
+				}) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getKey()).isEqualTo(key2);
+					assertThat(actual.getValue().getContent().getName()).isEqualTo(member3);
+				}) //
+				.verifyComplete();
+	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HyperLogLogSketch}.
+ */
+class HyperLogLogSketchUnitTests {
+
+	@Test
+	void emptySketchShouldHaveZeroSize() {
+
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+
+		assertThat(sketch.size()).isZero();
+		assertThat(sketch.isEmpty()).isTrue();
+	}
+
+	@Test
+	void shouldCountSmallCardinalitiesExactly() {
+
+		HyperLogLogSketch sketch = sketchOf("a", "b", "c", "d", "e", "f", "g");
+
+		assertThat(sketch.size()).isEqualTo(7);
+	}
+
+	@Test
+	void shouldReportModifications() {
+
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+
+		assertThat(sketch.add(bytes("a"))).isTrue();
+		assertThat(sketch.add(bytes("a"))).isFalse();
+	}
+
+	@Test
+	void shouldEstimateLargeCardinalities() {
+
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+		for (int i = 0; i < 100_000; i++) {
+			sketch.add(bytes("element-" + i));
+		}
+
+		assertThat(sketch.size()).isCloseTo(100_000, withinPercentage(2));
+	}
+
+	@Test
+	void mergeShouldUnionRegisters() {
+
+		HyperLogLogSketch sketch = sketchOf("a", "b", "c").merge(sketchOf("c", "d"));
+
+		assertThat(sketch.size()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldRoundtripDenseRepresentation() {
+
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+		for (int i = 0; i < 10_000; i++) {
+			sketch.add(bytes("element-" + i));
+		}
+
+		byte[] dense = sketch.toByteArray();
+
+		assertThat(dense).hasSize(12304).startsWith(bytes("HYLL"));
+		assertThat(dense[15] & 0x80).describedAs("cached cardinality must be invalidated").isNotZero();
+		assertThat(HyperLogLogSketch.from(dense).toByteArray()).isEqualTo(dense);
+		assertThat(HyperLogLogSketch.from(dense).size()).isEqualTo(sketch.size());
+	}
+
+	@Test
+	void shouldReadSparseRepresentation() {
+
+		byte[] sparse = new byte[21];
+		System.arraycopy(bytes("HYLL"), 0, sparse, 0, 4);
+		sparse[4] = 1;
+		sparse[16] = 0x40; // XZERO: registers 0-99
+		sparse[17] = 99;
+		sparse[18] = (byte) 0x89; // VAL: registers 100-101 set to 3
+		int remaining = 16384 - 102 - 1;
+		sparse[19] = (byte) (0x40 | (remaining >> 8)); // XZERO: remaining registers
+		sparse[20] = (byte) remaining;
+
+		HyperLogLogSketch sketch = HyperLogLogSketch.from(sparse);
+
+		assertThat(sketch.isEmpty()).isFalse();
+		assertThat(sketch.size()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRejectInvalidRepresentation() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> HyperLogLogSketch.from(bytes("not a hyperloglog")));
+		assertThatIllegalArgumentException().isThrownBy(() -> HyperLogLogSketch.from(bytes("HYLL\0\0\0\0\0\0\0\0\0\0\0\0")));
+	}
+
+	@Test
+	void drainShouldResetSketch() {
+
+		HyperLogLogSketch sketch = sketchOf("a", "b");
+
+		HyperLogLogSketch drained = sketch.drain();
+
+		assertThat(drained.size()).isEqualTo(2);
+		assertThat(sketch.isEmpty()).isTrue();
+	}
+
+	private static HyperLogLogSketch sketchOf(String... elements) {
+
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+		for (String element : elements) {
+			sketch.add(bytes(element));
+		}
+		return sketch;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Unit tests for {@link JsonPropertyProjection}.
+ */
+class JsonPropertyProjectionUnitTests {
+
+	@Test
+	void projectsSingleMatchArray() {
+
+		assertThat(project("[\"Rand al'Thor\"]", "name")).isEqualTo("{\"name\":\"Rand al'Thor\"}");
+		assertThat(project("[]", "name")).isEqualTo("{\"name\":null}");
+	}
+
+	@Test
+	void projectsMatchesByPathInRequestedOrder() {
+
+		String response = "{\"$.age\":[34],\"$.name\":[\"Rand, \\\"al]\"],\"$.madness\":[]}";
+
+		assertThat(project(response, "name", "age", "madness"))
+				.isEqualTo("{\"name\":\"Rand, \\\"al]\",\"age\":34,\"madness\":null}");
+	}
+
+	@Test
+	void copiesNestedValuesVerbatim() {
+
+		String response = " { \"$.a\" : [ {\"x\":[1,2,{\"y\":\"}\"}]} , 2 ] , \"$.b\":[null]} ";
+
+		assertThat(project(response, "a", "b")).isEqualTo("{\"a\":{\"x\":[1,2,{\"y\":\"}\"}]},\"b\":null}");
+	}
+
+	@Test
+	void projectsDottedNamesIntoNestedObjects() {
+
+		String response = "{\"$.name\":[\"Rand\"],\"$.address.city\":[\"Emond's Field\"],\"$.address.zip\":[1]}";
+
+		assertThat(projectNested(response, "name", "address.city", "address.zip"))
+				.isEqualTo("{\"name\":\"Rand\",\"address\":{\"city\":\"Emond's Field\",\"zip\":1}}");
+		assertThat(projectNested("[]", "address.city")).isEqualTo("{\"address\":null}");
+		assertThat(projectNested("[null]", "address.city")).isEqualTo("{\"address\":{\"city\":null}}");
+	}
+
+	@Test
+	void rejectsOverlappingNestedNames() {
+
+		String response = "{\"$.address\":[{}],\"$.address.city\":[\"Caemlyn\"]}";
+
+		assertThatIllegalArgumentException().isThrownBy(() -> projectNested(response, "address", "address.city"));
+		assertThatIllegalArgumentException().isThrownBy(() -> projectNested(response, "address.city", "address"));
+	}
+
+	@Test
+	void rejectsMalformedResponse() {
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> project("{\"$.a\":[1", "a", "b"));
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> project("[\"unterminated", "a"));
+	}
+
+	private static String project(String response, String... names) {
+		return new String(JsonPropertyProjection.project(response.getBytes(StandardCharsets.UTF_8), List.of(names)),
+				StandardCharsets.UTF_8);
+	}
+
+	private static String projectNested(String response, String... names) {
+		return new String(
+				JsonPropertyProjection.projectNested(response.getBytes(StandardCharsets.UTF_8), List.of(names)),
+				StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.ReactiveJsonCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonSetCondition;
+import org.springframework.data.redis.connection.json.JsonValue;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Unit tests for {@link ReactiveRedisJsonTemplate}.
+ */
+class ReactiveRedisJsonTemplateUnitTests {
+
+	ReactiveRedisConnectionFactory connectionFactory = mock(ReactiveRedisConnectionFactory.class);
+	ReactiveRedisConnection connection = mock(ReactiveRedisConnection.class);
+	ReactiveJsonCommands commands = mock(ReactiveJsonCommands.class);
+
+	ReactiveRedisJsonTemplate<String> template;
+
+	@BeforeEach
+	void setUp() {
+
+		when(connectionFactory.getReactiveConnection()).thenReturn(connection);
+		when(connection.jsonCommands()).thenReturn(commands);
+		when(connection.closeLater()).thenReturn(Mono.empty());
+
+		template = new ReactiveRedisJsonTemplate<>(connectionFactory, RedisSerializer.string(),
+				GenericJacksonJsonRedisSerializer.builder().build());
+	}
+
+	@Test
+	void valuesGetStreamsResultsInKeyOrder() {
+
+		when(commands.jsonGet(eq(buffer("k1")), any(JsonPath[].class)))
+				.thenReturn(Mono.delay(java.time.Duration.ofMillis(50)).map(it -> buffer("[1]")));
+		when(commands.jsonGet(eq(buffer("k2")), any(JsonPath[].class))).thenReturn(Mono.empty());
+		when(commands.jsonGet(eq(buffer("k3")), any(JsonPath[].class))).thenReturn(Mono.just(buffer("[3]")));
+
+		template.values(List.of("k1", "k2", "k3")).get() //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.as(Long.class)).isEqualTo(1L)) //
+				.assertNext(it -> assertThat(it.isNull()).isTrue()) //
+				.assertNext(it -> assertThat(it.as(Long.class)).isEqualTo(3L)) //
+				.verifyComplete();
+
+		verify(connectionFactory).getReactiveConnection();
+		verify(connection).closeLater();
+	}
+
+	@Test
+	void getReturnsAbsentResultForMissingKey() {
+
+		when(commands.jsonGet(eq(buffer("key")), any(JsonPath[].class))).thenReturn(Mono.empty());
+
+		template.get("key").as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.isNull()).isTrue()) //
+				.verifyComplete();
+	}
+
+	@Test
+	void setIfAbsentAppliesCondition() {
+
+		when(commands.jsonSet(any(), any(), any(), any())).thenReturn(Mono.just(true));
+
+		template.value("key").path("$.name").setIfAbsent("John").as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		verify(commands).jsonSet(eq(buffer("key")), eq(JsonPath.raw("$.name")), any(JsonValue.class),
+				eq(JsonSetCondition.ifPathNotExists()));
+	}
+
+	private static ByteBuffer buffer(String value) {
+		return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
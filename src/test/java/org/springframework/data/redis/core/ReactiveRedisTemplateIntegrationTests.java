@@ -153,6 +153,36 @@ public class ReactiveRedisTemplateIntegrationTests<K, V> {
 		redisTemplate.hasKey(key).as(StepVerifier::create).expectNext(true).verifyComplete();
 	}
 
+	@Test
+	void executePipelinedShouldEmitResultsInOrder() {
+
+		K key1 = keyFactory.instance();
+		K key2 = keyFactory.instance();
+		V value = valueFactory.instance();
+
+		redisTemplate.executePipelined(operations -> Flux.mergeSequential(operations.opsForValue().set(key1, value),
+				operations.opsForValue().setIfAbsent(key1, value), operations.hasKey(key2),
+				operations.expire(key1, Duration.ofMinutes(1)))) //
+				.as(StepVerifier::create) //
+				.expectNext(true, false, false, true) //
+				.verifyComplete();
+
+		redisTemplate.opsForValue().get(key1).as(StepVerifier::create).expectNext(value).verifyComplete();
+	}
+
+	@Test
+	void executePipelinedShouldSendDependentCommands() {
+
+		K key = keyFactory.instance();
+		V value = valueFactory.instance();
+
+		redisTemplate.executePipelined(operations -> operations.opsForValue().set(key, value)
+				.then(operations.opsForValue().get(key))) //
+				.as(StepVerifier::create) //
+				.expectNext(value) //
+				.verifyComplete();
+	}
+
 	@Test // GH-2883
 	void countExistingKeysIfValidKeyExists() {
 
@@ -70,6 +70,7 @@ class RedisCommandUnitTests {
 			"JSON_ARRINSERT, JSON.ARRINSERT, jsonArrInsert", "JSON_ARRLEN, JSON.ARRLEN, jsonArrLen",
 			"JSON_ARRTRIM, JSON.ARRTRIM, jsonArrTrim", "JSON_CLEAR, JSON.CLEAR, jsonClear", "JSON_DEL, JSON.DEL, jsonDel",
 			"JSON_GET, JSON.GET, jsonGet", "JSON_MERGE, JSON.MERGE, jsonMerge", "JSON_MGET, JSON.MGET, jsonMGet",
+			"JSON_MSET, JSON.MSET, jsonMSet",
 			"JSON_SET, JSON.SET, jsonSet", "JSON_STRAPPEND, JSON.STRAPPEND, jsonStrAppend",
 			"JSON_STRLEN, JSON.STRLEN, jsonStrLen", "JSON_TOGGLE, JSON.TOGGLE, jsonToggle",
 			"JSON_TYPE, JSON.TYPE, jsonType" })
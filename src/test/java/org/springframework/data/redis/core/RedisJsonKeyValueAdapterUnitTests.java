@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisJsonCommands;
+import org.springframework.data.redis.connection.json.JsonPath;
+import org.springframework.data.redis.connection.json.JsonSetCondition;
+import org.springframework.data.redis.connection.json.JsonValue;
+import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
+import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.index.IndexConfiguration;
+import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+/**
+ * Unit tests for {@link RedisJsonKeyValueAdapter}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisJsonKeyValueAdapterUnitTests {
+
+	@Mock RedisConnectionFactory connectionFactoryMock;
+	@Mock RedisConnection connectionMock;
+	@Mock RedisJsonCommands jsonCommandsMock;
+
+	private RedisJsonKeyValueAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+
+		RedisTemplate<?, ?> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactoryMock);
+		template.afterPropertiesSet();
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+		when(connectionMock.jsonCommands()).thenReturn(jsonCommandsMock);
+
+		RedisMappingContext context = new RedisMappingContext(
+				new MappingConfiguration(new IndexConfiguration(), new KeyspaceConfiguration()));
+		context.afterPropertiesSet();
+
+		adapter = new RedisJsonKeyValueAdapter(template, context);
+		adapter.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		adapter.destroy();
+	}
+
+	@Test
+	void putShouldStoreDocumentAndMaintainKeyspaceAndIndexes() {
+
+		when(connectionMock.sAdd(any(byte[].class), any(byte[].class))).thenReturn(1L);
+
+		adapter.put("1", new Person("1", "rand", "two rivers"), "persons");
+
+		ArgumentCaptor<JsonValue> document = ArgumentCaptor.forClass(JsonValue.class);
+		verify(jsonCommandsMock).jsonSet(eq(bytes("persons:1")), document.capture());
+		assertThat(document.getValue().asString()).contains("\"firstname\":\"rand\"").contains("\"city\":\"two rivers\"");
+
+		verify(connectionMock).sAdd(bytes("persons"), bytes("1"));
+		verify(connectionMock).sAdd(bytes("persons:firstname:rand"), bytes("1"));
+		verify(connectionMock, never()).hMSet(any(), anyMap());
+	}
+
+	@Test
+	void getShouldReadDocument() {
+
+		when(jsonCommandsMock.jsonGet(bytes("persons:1")))
+				.thenReturn(bytes("[{\"id\":\"1\",\"firstname\":\"rand\",\"city\":\"two rivers\"}]"));
+
+		Person person = adapter.get("1", "persons", Person.class);
+
+		assertThat(person).isNotNull();
+		assertThat(person.firstname).isEqualTo("rand");
+		assertThat(person.city).isEqualTo("two rivers");
+	}
+
+	@Test
+	void getShouldReturnNullForAbsentDocument() {
+		assertThat(adapter.get("1", "persons", Person.class)).isNull();
+	}
+
+	@Test
+	void getWithPropertiesShouldOnlyRequestGivenPaths() {
+
+		when(jsonCommandsMock.jsonGet(eq(bytes("persons:1")), any(JsonPath[].class)))
+				.thenReturn(bytes("[\"rand\"]"));
+
+		Person person = adapter.get("1", "persons", Person.class, "firstname");
+
+		verify(jsonCommandsMock).jsonGet(eq(bytes("persons:1")), argThat(path -> "$.firstname".equals(path.asString())));
+		assertThat(person.firstname).isEqualTo("rand");
+		assertThat(person.city).isNull();
+	}
+
+	@Test
+	void getWithNestedPropertiesShouldReadIntoNestedObject() {
+
+		when(jsonCommandsMock.jsonGet(eq(bytes("customers:1")), any(JsonPath[].class)))
+				.thenReturn(bytes("{\"$.name\":[\"rand\"],\"$.address.city\":[\"two rivers\"]}"));
+
+		Customer customer = adapter.get("1", "customers", Customer.class, "name", "address.city");
+
+		assertThat(customer.name).isEqualTo("rand");
+		assertThat(customer.address).isNotNull();
+		assertThat(customer.address.city).isEqualTo("two rivers");
+		assertThat(customer.address.street).isNull();
+	}
+
+	@Test
+	void getWithPropertiesShouldRejectOverlappingProperties() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> adapter.get("1", "customers", Customer.class, "address", "address.city"));
+		verifyNoInteractions(jsonCommandsMock);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void getAllOfShouldReadTimeToLiveInSinglePipeline() {
+
+		when(connectionMock.sMembers(bytes("customers")))
+				.thenReturn(new LinkedHashSet<>(List.of(bytes("1"), bytes("2"), bytes("3"))));
+		when(jsonCommandsMock.jsonMGet(any(byte[][].class))).thenReturn(Arrays.asList(
+				bytes("[{\"id\":\"1\",\"name\":\"rand\"}]"), null, bytes("[{\"id\":\"3\",\"name\":\"mat\"}]")));
+		when(connectionMock.closePipeline()).thenReturn(List.of(10L, 30L));
+
+		List<Customer> result = adapter.getAllOf("customers", Customer.class);
+
+		assertThat(result).extracting(it -> it.ttl).containsExactly(10L, 30L);
+		verify(connectionMock).openPipeline();
+		verify(connectionMock).ttl(bytes("customers:1"));
+		verify(connectionMock).ttl(bytes("customers:3"));
+		verify(connectionMock, never()).ttl(bytes("customers:2"));
+	}
+
+	@Test
+	void getAllOfShouldUseSingleMultiGet() {
+
+		when(connectionMock.sMembers(bytes("persons"))).thenReturn(new LinkedHashSet<>(List.of(bytes("1"), bytes("2"))));
+		when(jsonCommandsMock.jsonMGet(any(byte[][].class)))
+				.thenReturn(Arrays.asList(bytes("[{\"id\":\"1\",\"firstname\":\"rand\"}]"), null));
+
+		List<Person> result = adapter.getAllOf("persons", Person.class);
+
+		assertThat(result).extracting(it -> it.firstname).containsExactly("rand");
+		verify(jsonCommandsMock).jsonMGet(bytes("persons:1"), bytes("persons:2"));
+		verify(jsonCommandsMock, never()).jsonGet(any());
+	}
+
+	@Test
+	void updateShouldWritePropertyPaths() {
+
+		PartialUpdate<Person> update = new PartialUpdate<>("1", Person.class).set("city", "caemlyn");
+
+		adapter.update(update);
+
+		ArgumentCaptor<JsonPath> path = ArgumentCaptor.forClass(JsonPath.class);
+		ArgumentCaptor<JsonValue> value = ArgumentCaptor.forClass(JsonValue.class);
+		verify(jsonCommandsMock).jsonSet(eq(bytes("persons:1")), path.capture(), value.capture(),
+				eq(JsonSetCondition.upsert()));
+
+		assertThat(path.getValue().asString()).isEqualTo("$.city");
+		assertThat(value.getValue().asString()).isEqualTo("\"caemlyn\"");
+		verify(connectionMock, never()).hMSet(any(), anyMap());
+	}
+
+	@Test
+	void updateShouldDeletePathAndRemoveIndex() {
+
+		when(connectionMock.sMembers(bytes("persons:1:idx")))
+				.thenReturn(new LinkedHashSet<>(List.of(bytes("persons:firstname:rand"), bytes("persons:city:caemlyn"))));
+		when(connectionMock.type(any())).thenReturn(DataType.SET);
+
+		adapter.update(new PartialUpdate<>("1", Person.class).del("firstname"));
+
+		verify(jsonCommandsMock).jsonDel(eq(bytes("persons:1")), argThat(path -> "$.firstname".equals(path.asString())));
+		verify(connectionMock).sRem(bytes("persons:firstname:rand"), bytes("1"));
+		verify(connectionMock).sRem(bytes("persons:1:idx"), bytes("persons:firstname:rand"));
+		verify(connectionMock, never()).sRem(bytes("persons:city:caemlyn"), bytes("1"));
+	}
+
+	@Test
+	void shouldTranslatePropertyPaths() {
+
+		assertThat(RedisJsonKeyValueAdapter.toJsonPath("address.city").asString()).isEqualTo("$.address.city");
+		assertThat(RedisJsonKeyValueAdapter.toJsonPath("items.[0].name").asString()).isEqualTo("$.items[0].name");
+		assertThat(RedisJsonKeyValueAdapter.toJsonPath("attributes.[eye-color]").asString())
+				.isEqualTo("$.attributes[\"eye-color\"]");
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@RedisHash("persons")
+	static class Person {
+
+		@Id String id;
+		@Indexed String firstname;
+		String city;
+
+		Person() {}
+
+		Person(String id, String firstname, String city) {
+			this.id = id;
+			this.firstname = firstname;
+			this.city = city;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+
+	@RedisHash("customers")
+	static class Customer {
+
+		@Id String id;
+		String name;
+		Address address;
+		@TimeToLive Long ttl;
+
+		public String getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public Long getTtl() {
+			return ttl;
+		}
+	}
+
+	static class Address {
+
+		String street;
+		String city;
+
+		public String getStreet() {
+			return street;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+}
@@ -23,6 +23,7 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -401,6 +402,22 @@ class RedisJsonTemplateIntegrationTests<K> {
 				DRAGON_REBORN);
 	}
 
+	@Test
+	@EnabledOnCommand("JSON.MSET")
+	void setAll() {
+
+		K key1 = keyFactory.instance();
+		K key2 = keyFactory.instance();
+
+		Map<K, Object> values = new LinkedHashMap<>();
+		values.put(key1, DRAGON_REBORN);
+		values.put(key2, CALLANDOR);
+
+		assertThat(template.setAll(values)).containsExactly(Map.entry(key1, true), Map.entry(key2, true));
+		assertThat(template.values(key1, key2).get().as(Object.class)).doesNotContainNull();
+		assertThat(template.get(key1).as(DragonReborn.class)).isEqualTo(DRAGON_REBORN);
+	}
+
 	@Test // GH-3390
 	@EnabledOnCommand("JSON.SET")
 	void testSet() {
@@ -16,9 +16,19 @@
 package org.springframework.data.redis.core;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +42,8 @@ import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.instrument.classloading.ShadowingClassLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.ResourceHolderSupport;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
@@ -91,6 +103,69 @@ class RedisTemplateUnitTests {
 		assertThat(deserialized.getClass().getClassLoader()).isEqualTo((ClassLoader) scl);
 	}
 
+	@Test
+	void singleFlightShouldCoalesceConcurrentReads() throws Exception {
+
+		template.setSingleFlightReads(true);
+
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(redisConnectionMock.get(any(byte[].class))).thenAnswer(invocation -> {
+
+			entered.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return new JdkSerializationRedisSerializer().serialize("value");
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try {
+
+			Future<Object> first = executor.submit(() -> template.opsForValue().get("key"));
+			assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<Object> second = executor.submit(() -> template.opsForValue().get("key"));
+			Future<Object> third = executor.submit(() -> template.opsForValue().get("key"));
+
+			SingleFlightStatistics statistics = template.getSingleFlightStatistics();
+			await().atMost(Duration.ofSeconds(5)).until(() -> statistics.getRequests() == 3);
+
+			release.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get());
+			assertThat(third.get(5, TimeUnit.SECONDS)).isSameAs(first.get());
+
+			verify(redisConnectionMock, times(1)).get(any(byte[].class));
+			assertThat(statistics.getExecutions()).isOne();
+			assertThat(statistics.getCollapsed()).isEqualTo(2);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void singleFlightShouldNotApplyToSessionCallback() {
+
+		template.setSingleFlightReads(true);
+
+		template.execute(new SessionCallback<Object>() {
+			@Nullable
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+
+				operations.opsForValue().get((K) "key");
+				operations.opsForValue().get((K) "key");
+				return null;
+			}
+		});
+
+		verify(redisConnectionMock, times(2)).get(any(byte[].class));
+		assertThat(template.getSingleFlightStatistics().getRequests()).isZero();
+	}
+
 	@Test // DATAREDIS-531
 	void executeWithStickyConnectionShouldNotCloseConnectionWhenDone() {
 
@@ -156,6 +231,82 @@ class RedisTemplateUnitTests {
 		verify(redisConnectionMock, times(3)).close();
 	}
 
+	@Test
+	void shouldObserveConnectionAcquisitionAndCommands() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		template.setObservationRegistry(registry);
+
+		template.opsForValue().get("key");
+
+		TestObservationRegistryAssert.assertThat(registry).hasNumberOfObservationsEqualTo(2)
+				.hasObservationWithNameEqualTo("spring.data.redis.connection.acquire").that()
+				.hasLowCardinalityKeyValue("db.system", "redis")
+				.hasLowCardinalityKeyValue("spring.data.redis.connection.type", "standalone").hasBeenStopped();
+		TestObservationRegistryAssert.assertThat(registry).hasObservationWithNameEqualTo("spring.data.redis.command")
+				.that().hasContextualNameEqualTo("GET").hasLowCardinalityKeyValue("db.system", "redis")
+				.hasLowCardinalityKeyValue("db.operation", "GET")
+				.hasLowCardinalityKeyValue("spring.data.redis.connection.type", "standalone")
+				.hasLowCardinalityKeyValue("spring.data.redis.cluster.node", "none").hasBeenStopped();
+	}
+
+	@Test
+	void shouldObserveCommandsIssuedInCallbackAndCloseUnwrappedConnection() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		template.setObservationRegistry(registry);
+
+		template.execute((RedisCallback<Object>) RedisConnection::ping);
+
+		TestObservationRegistryAssert.assertThat(registry).hasObservationWithNameEqualTo("spring.data.redis.command")
+				.that().hasLowCardinalityKeyValue("db.operation", "PING");
+		TestObservationRegistryAssert.assertThat(registry).hasNumberOfObservationsWithNameEqualTo("spring.data.redis.command",
+				1);
+		verify(redisConnectionMock).ping();
+		verify(redisConnectionMock).close();
+	}
+
+	@Test
+	void shouldReleaseUnwrappedConnectionToTransactionWhenObserving() {
+
+		template.setObservationRegistry(TestObservationRegistry.create());
+		template.setEnableTransactionSupport(true);
+
+		RedisConnectionUtils.bindConnection(connectionFactoryMock);
+		ResourceHolderSupport holder = (ResourceHolderSupport) TransactionSynchronizationManager
+				.getResource(connectionFactoryMock);
+
+		try {
+
+			ReflectionTestUtils.setField(holder, "transactionActive", true);
+			holder.released();
+
+			template.opsForValue().get("key");
+
+			assertThat(holder.isOpen()).isFalse();
+			verify(redisConnectionMock, never()).close();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(connectionFactoryMock);
+		}
+	}
+
+	@Test
+	void shouldNotObserveExposedConnection() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		template.setObservationRegistry(registry);
+
+		template.execute(connection -> {
+
+			assertThat(connection).isSameAs(redisConnectionMock);
+			return connection.ping();
+		}, true);
+
+		TestObservationRegistryAssert.assertThat(registry).hasNumberOfObservationsEqualTo(1)
+				.hasSingleObservationThat().hasNameEqualTo("spring.data.redis.connection.acquire");
+		verify(redisConnectionMock).close();
+	}
+
 	private static class SomeArbitrarySerializableObject implements Serializable {
 		private static final long serialVersionUID = -5973659324040506423L;
 	}
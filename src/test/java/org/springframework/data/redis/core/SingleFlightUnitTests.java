@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ */
+class SingleFlightUnitTests {
+
+	SingleFlight singleFlight = new SingleFlight();
+
+	@Test
+	void shouldCoalesceInFlightMonos() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		Sinks.One<String> sink = Sinks.one();
+		Mono<String> source = sink.asMono().doOnSubscribe(it -> subscriptions.incrementAndGet());
+
+		Mono<String> first = singleFlight.executeMono(this, "GET", () -> source, buffer("key"));
+		Mono<String> second = singleFlight.executeMono(this, "GET", () -> source, buffer("key"));
+
+		StepVerifier.create(Flux.merge(first, second)).then(() -> sink.tryEmitValue("value")).expectNext("value", "value")
+				.verifyComplete();
+
+		assertThat(subscriptions).hasValue(1);
+		assertThat(singleFlight.getRequests()).isEqualTo(2);
+		assertThat(singleFlight.getExecutions()).isOne();
+		assertThat(singleFlight.getCollapsed()).isOne();
+	}
+
+	@Test
+	void shouldNotCoalesceDifferentArguments() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		Mono<String> source = Mono.fromSupplier(() -> "value" + subscriptions.incrementAndGet());
+
+		StepVerifier.create(singleFlight.executeMono(this, "GET", () -> source, buffer("key1"))).expectNext("value1")
+				.verifyComplete();
+		StepVerifier.create(singleFlight.executeMono(this, "GET", () -> source, buffer("key2"))).expectNext("value2")
+				.verifyComplete();
+		StepVerifier.create(singleFlight.executeMono(this, "GET", () -> source, buffer("key1"))).expectNext("value3")
+				.verifyComplete();
+
+		assertThat(singleFlight.getExecutions()).isEqualTo(3);
+		assertThat(singleFlight.getCollapsed()).isZero();
+	}
+
+	@Test
+	void shouldShareErrorsWithJoinedReads() {
+
+		Sinks.One<String> sink = Sinks.one();
+
+		Mono<String> first = singleFlight.executeMono(this, "GET", sink::asMono, buffer("key"));
+		Mono<String> second = singleFlight.executeMono(this, "GET", sink::asMono, buffer("key"));
+
+		StepVerifier.create(Flux.merge(first, second)).then(() -> sink.tryEmitError(new IllegalStateException("boom")))
+				.verifyErrorMessage("boom");
+
+		assertThat(singleFlight.getExecutions()).isOne();
+	}
+
+	@Test
+	void shouldReleaseFlightAfterCompletion() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		Flux<String> source = Flux.just("a", "b").doOnSubscribe(it -> subscriptions.incrementAndGet());
+
+		StepVerifier.create(singleFlight.executeFlux(this, "HGETALL", () -> source, buffer("key"))).expectNext("a", "b")
+				.verifyComplete();
+		StepVerifier.create(singleFlight.executeFlux(this, "HGETALL", () -> source, buffer("key"))).expectNext("a", "b")
+				.verifyComplete();
+
+		assertThat(subscriptions).hasValue(2);
+	}
+
+	@Test
+	void shouldRunBlockingRead() {
+
+		assertThat(singleFlight.execute(this, "GET", () -> "value", "key".getBytes())).isEqualTo("value");
+		assertThatIllegalStateException().isThrownBy(() -> singleFlight.execute(this, "GET", () -> {
+			throw new IllegalStateException();
+		}, "key".getBytes()));
+
+		assertThat(singleFlight.getRequests()).isEqualTo(2);
+		assertThat(singleFlight.getExecutions()).isEqualTo(2);
+	}
+
+	private static ByteBuffer buffer(String value) {
+		return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
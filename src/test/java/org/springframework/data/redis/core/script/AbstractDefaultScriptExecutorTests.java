@@ -202,6 +202,29 @@ public abstract class AbstractDefaultScriptExecutorTests {
 		assertThat(results).isEqualTo(Collections.singletonList("foo"));
 	}
 
+	@Test
+	void pipelinedExecutionRecoversAfterScriptFlush() {
+
+		StringRedisTemplate template = new StringRedisTemplate();
+		template.setConnectionFactory(getConnectionFactory());
+		template.afterPropertiesSet();
+
+		DefaultRedisScript<String> script = new DefaultRedisScript<>("return KEYS[1]", String.class);
+		RedisCallback<Object> callback = connection -> {
+			template.execute(script, Collections.singletonList("foo"));
+			return null;
+		};
+
+		assertThat(template.executePipelined(callback)).containsExactly("foo");
+
+		template.execute((RedisCallback<Object>) connection -> {
+			connection.scriptFlush();
+			return null;
+		});
+
+		assertThat(template.executePipelined(callback)).containsExactly("foo");
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testExecuteTx() {
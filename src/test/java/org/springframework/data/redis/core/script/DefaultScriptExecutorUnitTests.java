@@ -18,6 +18,8 @@ package org.springframework.data.redis.core.script;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,7 +29,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
 import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
@@ -41,6 +47,7 @@ class DefaultScriptExecutorUnitTests {
 	private StringRedisTemplate template;
 	private @Mock RedisConnection redisConnectionMock;
 	private @Mock RedisConnectionFactory connectionFactoryMock;
+	private @Mock RedisScriptingCommands scriptingCommandsMock;
 
 	private DefaultScriptExecutor<String> executor;
 
@@ -102,4 +109,137 @@ class DefaultScriptExecutorUnitTests {
 
 		assertThatExceptionOfType(RedisSystemException.class).isThrownBy(() -> executor.execute(SCRIPT, null));
 	}
+
+	@Test
+	void executeInPipelineUsesEvalByDefault() {
+
+		when(redisConnectionMock.isPipelined()).thenReturn(true);
+
+		executor.execute(SCRIPT, null);
+
+		verify(redisConnectionMock).eval(any(byte[].class), any(ReturnType.class), anyInt());
+		verify(redisConnectionMock, never()).evalSha(anyString(), any(ReturnType.class), anyInt());
+		verify(redisConnectionMock, never()).scriptingCommands();
+	}
+
+	@Test
+	void executeInPipelineLoadsScriptOnceAndUsesEvalSha() {
+
+		executor.setEvalShaInPipelines(true);
+		when(redisConnectionMock.isPipelined()).thenReturn(true);
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+
+		executor.execute(SCRIPT, null);
+		executor.execute(SCRIPT, null);
+
+		verify(scriptingCommandsMock, times(1)).scriptLoad(any(byte[].class));
+		verify(redisConnectionMock, times(2)).evalSha(eq(SCRIPT.getSha1()), any(ReturnType.class), anyInt());
+		verify(redisConnectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt());
+	}
+
+	@Test
+	void executeInPipelineLoadsScriptPreviouslyExecutedWithoutPreload() {
+
+		when(redisConnectionMock.evalSha(anyString(), any(ReturnType.class), anyInt()))
+				.thenThrow(new RedisSystemException("NOSCRIPT No matching script; Please use EVAL.", new Exception()));
+
+		executor.execute(SCRIPT, null);
+
+		executor.setEvalShaInPipelines(true);
+		reset(redisConnectionMock);
+		when(redisConnectionMock.isPipelined()).thenReturn(true);
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+
+		executor.execute(SCRIPT, null);
+
+		verify(scriptingCommandsMock, times(1)).scriptLoad(any(byte[].class));
+	}
+
+	@Test
+	void executeInPipelineReloadsScriptAfterNoScriptErrorInPipelineResults() {
+
+		RedisTemplate<String, String> template = new StringRedisTemplate(connectionFactoryMock);
+		DefaultScriptExecutor<String> scriptExecutor = new DefaultScriptExecutor<>(template);
+		scriptExecutor.setEvalShaInPipelines(true);
+		template.setScriptExecutor(scriptExecutor);
+		template.afterPropertiesSet();
+
+		when(redisConnectionMock.isPipelined()).thenReturn(true);
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+		when(redisConnectionMock.closePipeline()).thenThrow(new RedisPipelineException("Pipeline contained one or more invalid commands",
+				List.of(new RedisSystemException("NOSCRIPT No matching script; Please use EVAL.", new Exception()))))
+				.thenReturn(List.of("foo"));
+
+		RedisCallback<Object> callback = connection -> {
+			template.execute(SCRIPT, List.of("foo"));
+			return null;
+		};
+
+		assertThatExceptionOfType(RedisPipelineException.class).isThrownBy(() -> template.executePipelined(callback));
+		template.executePipelined(callback);
+
+		verify(scriptingCommandsMock, times(2)).scriptLoad(any(byte[].class));
+	}
+
+	@Test
+	void evictOnNoScriptErrorIgnoresOtherErrors() {
+
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+		executor.preload(SCRIPT);
+
+		assertThat(executor.evictOnNoScriptError(new RedisPipelineException("Pipeline contained one or more invalid commands",
+				List.of(new RedisSystemException("WRONGTYPE Operation against a key", new Exception()))))).isFalse();
+
+		executor.setEvalShaInPipelines(true);
+		when(redisConnectionMock.isPipelined()).thenReturn(true);
+		executor.execute(SCRIPT, null);
+
+		verify(scriptingCommandsMock, times(1)).scriptLoad(any(byte[].class));
+	}
+
+	@Test
+	void executeInPipelineReloadsScriptAfterNoScriptError() {
+
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+		executor.preload(SCRIPT);
+
+		when(redisConnectionMock.evalSha(anyString(), any(ReturnType.class), anyInt()))
+				.thenThrow(new RedisSystemException("NOSCRIPT No matching script; Please use EVAL.", new Exception()));
+		executor.execute(SCRIPT, null);
+
+		executor.setEvalShaInPipelines(true);
+		reset(redisConnectionMock);
+		when(redisConnectionMock.isPipelined()).thenReturn(true);
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+
+		executor.execute(SCRIPT, null);
+
+		verify(scriptingCommandsMock, times(1)).scriptLoad(any(byte[].class));
+	}
+
+	@Test
+	void executeFunctionUsesFCall() {
+
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+		when(scriptingCommandsMock.fCall(anyString(), any(ReturnType.class), anyInt(), any(byte[].class)))
+				.thenReturn("bar".getBytes());
+
+		String result = executor.execute(RedisFunction.of("myfunc", String.class), List.of("key"));
+
+		assertThat(result).isEqualTo("bar");
+		verify(scriptingCommandsMock).fCall("myfunc", ReturnType.VALUE, 1, "key".getBytes());
+	}
+
+	@Test
+	void executeReadOnlyFunctionUsesFCallReadOnly() {
+
+		when(redisConnectionMock.scriptingCommands()).thenReturn(scriptingCommandsMock);
+		when(scriptingCommandsMock.fCallReadOnly(anyString(), any(ReturnType.class), anyInt(), any(byte[].class),
+				any(byte[].class))).thenReturn(1L);
+
+		Long result = executor.execute(RedisFunction.readOnly("myfunc", Long.class), List.of("key"), "arg");
+
+		assertThat(result).isOne();
+		verify(scriptingCommandsMock).fCallReadOnly("myfunc", ReturnType.INTEGER, 1, "key".getBytes(), "arg".getBytes());
+	}
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ByteArrayResource;
+
+/**
+ * Unit tests for {@link RedisFunctionLibrary}.
+ */
+class RedisFunctionLibraryUnitTests {
+
+	@Test
+	void parsesLibraryNameFromShebang() {
+
+		RedisFunctionLibrary library = RedisFunctionLibrary
+				.of("#!lua name=mylib\nredis.register_function('f', function(keys, args) return 1 end)");
+
+		assertThat(library.getName()).isEqualTo("mylib");
+		assertThat(library.getCode()).startsWith("#!lua name=mylib");
+	}
+
+	@Test
+	void parsesLibraryNameFollowingOtherShebangArguments() {
+		assertThat(RedisFunctionLibrary.of("#!lua engine=x name=other\nreturn").getName()).isEqualTo("other");
+	}
+
+	@Test
+	void readsLibraryFromResource() {
+
+		RedisFunctionLibrary library = RedisFunctionLibrary.from(new ByteArrayResource("#!lua name=fromres\n".getBytes()));
+
+		assertThat(library.getName()).isEqualTo("fromres");
+	}
+
+	@Test
+	void rejectsCodeWithoutShebang() {
+		assertThatIllegalArgumentException().isThrownBy(() -> RedisFunctionLibrary.of("return 1"));
+	}
+}
@@ -18,6 +18,9 @@ package org.springframework.data.redis.listener;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Set;
@@ -32,6 +35,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -273,4 +278,42 @@ class RedisMessageListenerContainerUnitTests {
 		assertThat(container.isAutoStartup()).isEqualTo(false);
 	}
 
+	@Test
+	void shouldObserveChannelMessageDelivery() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		container.setObservationRegistry(registry);
+
+		MessageListener listener = mock(MessageListener.class);
+		byte[] channel = "channel".getBytes(StandardCharsets.UTF_8);
+		Message message = new DefaultMessage(channel, "body".getBytes(StandardCharsets.UTF_8));
+
+		container.processMessage(listener, message, channel);
+
+		verify(listener).onMessage(message, channel);
+		TestObservationRegistryAssert.assertThat(registry).hasSingleObservationThat()
+				.hasNameEqualTo("spring.data.redis.listener").hasLowCardinalityKeyValue("db.system", "redis")
+				.hasLowCardinalityKeyValue("spring.data.redis.subscription.type", "channel")
+				.hasHighCardinalityKeyValue("spring.data.redis.channel", "channel").hasBeenStopped();
+	}
+
+	@Test
+	void shouldObservePatternMessageDeliveryFailure() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		container.setObservationRegistry(registry);
+
+		MessageListener listener = mock(MessageListener.class);
+		byte[] pattern = "chan*".getBytes(StandardCharsets.UTF_8);
+		Message message = new DefaultMessage("channel".getBytes(StandardCharsets.UTF_8),
+				"body".getBytes(StandardCharsets.UTF_8));
+		doThrow(new IllegalStateException("boom")).when(listener).onMessage(message, pattern);
+
+		container.processMessage(listener, message, pattern);
+
+		TestObservationRegistryAssert.assertThat(registry).hasSingleObservationThat()
+				.hasLowCardinalityKeyValue("spring.data.redis.subscription.type", "pattern")
+				.hasHighCardinalityKeyValue("spring.data.redis.channel", "channel").hasError().hasBeenStopped();
+	}
+
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.observability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+/**
+ * Unit tests for {@link RedisObservations}.
+ */
+class RedisObservationsUnitTests {
+
+	private final TestObservationRegistry registry = TestObservationRegistry.create();
+
+	@Test
+	void shouldNotDecorateConnectionForNoopRegistry() {
+
+		RedisConnection connection = mock(RedisConnection.class);
+
+		assertThat((Object) RedisObservations.observe(connection, new Object(), ObservationRegistry.NOOP))
+				.isSameAs(connection);
+	}
+
+	@Test
+	void shouldObserveCommand() {
+
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisConnection observed = RedisObservations.observe(connection, new Object(), registry);
+
+		observed.ping();
+
+		TestObservationRegistryAssert.assertThat(registry).hasSingleObservationThat().hasNameEqualTo("spring.data.redis.command")
+				.hasContextualNameEqualTo("PING").hasLowCardinalityKeyValue("db.system", "redis")
+				.hasLowCardinalityKeyValue("db.operation", "PING").hasBeenStopped();
+		verify(connection).ping();
+	}
+
+	@Test
+	void shouldObserveCommandsIssuedThroughCommandInterfaces() {
+
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+		when(connection.stringCommands()).thenReturn(stringCommands);
+
+		RedisObservations.observe(connection, new Object(), registry).stringCommands().get(new byte[] { 1 });
+
+		TestObservationRegistryAssert.assertThat(registry).hasSingleObservationThat().hasLowCardinalityKeyValue("db.operation", "GET");
+		verify(stringCommands).get(new byte[] { 1 });
+	}
+
+	@Test
+	void shouldObservePipelineInsteadOfPipelinedCommands() {
+
+		RedisConnection connection = mock(RedisConnection.class);
+		when(connection.closePipeline()).thenReturn(List.of("PONG", "PONG"));
+
+		RedisConnection observed = RedisObservations.observe(connection, new Object(), registry);
+
+		observed.openPipeline();
+		when(connection.isPipelined()).thenReturn(true);
+
+		observed.ping();
+		observed.ping();
+		observed.closePipeline();
+
+		TestObservationRegistryAssert.assertThat(registry).hasNumberOfObservationsEqualTo(1).hasSingleObservationThat()
+				.hasNameEqualTo("spring.data.redis.pipeline").hasHighCardinalityKeyValue("spring.data.redis.pipeline.size", "2")
+				.hasBeenStopped();
+	}
+
+	@Test
+	void shouldRecordCommandError() {
+
+		RedisConnection connection = mock(RedisConnection.class);
+		when(connection.ping()).thenThrow(new IllegalStateException("boom"));
+
+		RedisConnection observed = RedisObservations.observe(connection, new Object(), registry);
+
+		assertThatIllegalStateException().isThrownBy(observed::ping);
+		TestObservationRegistryAssert.assertThat(registry).hasSingleObservationThat().hasError();
+	}
+
+	@Test
+	void shouldObserveConnectionAcquisition() {
+
+		RedisConnection connection = mock(RedisConnection.class);
+
+		RedisObservations.acquire(() -> connection, new Object(), registry);
+
+		TestObservationRegistryAssert.assertThat(registry).hasSingleObservationThat().hasNameEqualTo("spring.data.redis.connection.acquire")
+				.hasLowCardinalityKeyValue("spring.data.redis.client", "Object")
+				.hasLowCardinalityKeyValue("spring.data.redis.connection.type", "standalone");
+	}
+}
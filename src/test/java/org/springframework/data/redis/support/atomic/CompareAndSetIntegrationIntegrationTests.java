@@ -17,13 +17,20 @@ package org.springframework.data.redis.support.atomic;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedClass;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -72,53 +79,104 @@ public class CompareAndSetIntegrationIntegrationTests {
 		connection.close();
 	}
 
-	@Test
-	// DATAREDIS-843
+	@Test // DATAREDIS-843
 	void shouldUpdateCounter() {
 
-		long expected = 5;
-		long actual = 5;
-		long update = 6;
+		valueOps.set(KEY, 5L);
 
-		CompareAndSet<Long> cas = new CompareAndSet<>(() -> actual, newValue -> valueOps.set(KEY, newValue), KEY, expected,
-				update);
+		CompareAndSet.Outcome<Long> outcome = new CompareAndSet<>(template, false).compareAndSet(KEY, 5L, 6L);
 
-		assertThat(template.execute(cas)).isTrue();
-		assertThat(valueOps.get(KEY)).isEqualTo(update);
+		assertThat(outcome.updated()).isTrue();
+		assertThat(outcome.current()).isEqualTo(6L);
+		assertThat(valueOps.get(KEY)).isEqualTo(6L);
 	}
 
 	@Test // DATAREDIS-843
 	void expectationNotMet() {
 
-		long expected = 5;
-		long actual = 7;
-		long update = 6;
+		valueOps.set(KEY, 7L);
 
-		CompareAndSet<Long> cas = new CompareAndSet<>(() -> actual, newValue -> valueOps.set(KEY, newValue), KEY, expected,
-				update);
+		CompareAndSet.Outcome<Long> outcome = new CompareAndSet<>(template, false).compareAndSet(KEY, 5L, 6L);
 
-		assertThat(template.execute(cas)).isFalse();
-		assertThat(valueOps.get(KEY)).isNull();
+		assertThat(outcome.updated()).isFalse();
+		assertThat(outcome.current()).isEqualTo(7L);
+		assertThat(valueOps.get(KEY)).isEqualTo(7L);
 	}
 
 	@Test // DATAREDIS-843
-	void concurrentUpdate() {
+	void concurrentUpdate() throws Exception {
 
 		long expected = 5;
-		long actual = 5;
 		long update = 6;
 		long concurrentlyUpdated = 7;
 
-		CompareAndSet<Long> cas = new CompareAndSet<>(() -> actual, newValue -> {
+		valueOps.set(KEY, expected);
 
-			RedisConnection connection = factory.getConnection();
-			connection.set(KEY.getBytes(), Long.toString(concurrentlyUpdated).getBytes());
-			connection.close();
+		// value changed by another client after it was read
+		RedisConnection connection = factory.getConnection();
+		connection.set(KEY.getBytes(), Long.toString(concurrentlyUpdated).getBytes());
+		connection.close();
 
-			valueOps.set(KEY, newValue);
-		}, KEY, expected, update);
+		CompareAndSet.Outcome<Long> outcome = new CompareAndSet<>(template, false).compareAndSet(KEY, expected, update);
 
-		assertThat(template.execute(cas)).isFalse();
+		assertThat(outcome.updated()).isFalse();
+		assertThat(outcome.current()).isEqualTo(concurrentlyUpdated);
 		assertThat(valueOps.get(KEY)).isEqualTo(concurrentlyUpdated);
+
+		// contending clients must not lose updates
+		int threads = 8;
+		int incrementsPerThread = 50;
+		CompareAndSet<Long> cas = new CompareAndSet<>(template, false);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < incrementsPerThread; j++) {
+
+						long current = valueOps.get(KEY);
+						CompareAndSet.Outcome<Long> attempt;
+						while (!(attempt = cas.compareAndSet(KEY, current, current + 1)).updated()) {
+							current = attempt.current();
+						}
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(valueOps.get(KEY)).isEqualTo(concurrentlyUpdated + (long) threads * incrementsPerThread);
+	}
+
+	@Test // DATAREDIS-843
+	void absentKeyFails() {
+
+		assertThatExceptionOfType(DataRetrievalFailureException.class)
+				.isThrownBy(() -> new CompareAndSet<>(template, false).compareAndSet(KEY, 5L, 6L));
+
+		assertThat(valueOps.get(KEY)).isNull();
+	}
+
+	@Test
+	void comparesFloatingPointValuesNumerically() {
+
+		RedisTemplate<String, Double> doubleTemplate = new RedisTemplate<>();
+		doubleTemplate.setConnectionFactory(factory);
+		doubleTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+		doubleTemplate.setValueSerializer(new GenericToStringSerializer<>(Double.class));
+		doubleTemplate.afterPropertiesSet();
+
+		// INCRBYFLOAT stores "3" rather than "3.0"
+		doubleTemplate.opsForValue().increment(KEY, 3.0);
+
+		assertThat(new CompareAndSet<>(doubleTemplate, true).compareAndSet(KEY, 3.0, 4.5).updated()).isTrue();
+		assertThat(doubleTemplate.opsForValue().get(KEY)).isEqualTo(4.5);
 	}
 }
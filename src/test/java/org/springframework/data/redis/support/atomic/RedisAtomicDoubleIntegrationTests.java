@@ -402,4 +402,35 @@ public class RedisAtomicDoubleIntegrationTests {
 
 		assertThat(operatorHasBeenApplied).isTrue();
 	}
+
+	@Test
+	void compareAndSetMatchesIncrementedValue() {
+
+		doubleCounter.set(1);
+		doubleCounter.addAndGet(2);
+
+		assertThat(doubleCounter.compareAndSet(3, 4.5)).isTrue();
+		assertThat(doubleCounter.get()).isEqualTo(4.5);
+	}
+
+	@Test
+	void maxAndMinAndGet() {
+
+		doubleCounter.set(1.5);
+
+		assertThat(doubleCounter.maxAndGet(0.5)).isEqualTo(1.5);
+		assertThat(doubleCounter.maxAndGet(2.25)).isEqualTo(2.25);
+		assertThat(doubleCounter.minAndGet(-0.75)).isEqualTo(-0.75);
+		assertThat(doubleCounter.get()).isEqualTo(-0.75);
+	}
+
+	@Test
+	void boundedAddAndGetClampsResult() {
+
+		doubleCounter.set(0.5);
+
+		assertThat(doubleCounter.addAndGet(0.25, 0, 1)).isEqualTo(0.75);
+		assertThat(doubleCounter.addAndGet(1, 0, 1)).isEqualTo(1);
+		assertThat(doubleCounter.addAndGet(-2.5, 0, 1)).isZero();
+	}
 }
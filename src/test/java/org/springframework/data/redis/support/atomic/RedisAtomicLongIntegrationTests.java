@@ -380,4 +380,59 @@ public class RedisAtomicLongIntegrationTests {
 
 		assertThat(operatorHasBeenApplied).isTrue();
 	}
+
+	@Test
+	void updateAndGetRetriesWithConcurrentlyUpdatedValue() {
+
+		longCounter.set(5);
+
+		long result = longCounter.updateAndGet(input -> {
+
+			if (input == 5) {
+				template.opsForValue().set(longCounter.getKey(), 7L);
+			}
+
+			return input * 2;
+		});
+
+		assertThat(result).isEqualTo(14);
+		assertThat(longCounter.get()).isEqualTo(14);
+	}
+
+	@Test
+	void maxAndGetKeepsGreaterValue() {
+
+		longCounter.set(-5);
+
+		assertThat(longCounter.maxAndGet(-7)).isEqualTo(-5);
+		assertThat(longCounter.maxAndGet(Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+		assertThat(longCounter.maxAndGet(Long.MAX_VALUE - 1)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void minAndGetKeepsSmallerValue() {
+
+		longCounter.set(10);
+
+		assertThat(longCounter.minAndGet(12)).isEqualTo(10);
+		assertThat(longCounter.minAndGet(-3)).isEqualTo(-3);
+		assertThat(longCounter.minAndGet(-20)).isEqualTo(-20);
+		assertThat(longCounter.get()).isEqualTo(-20);
+	}
+
+	@Test
+	void boundedAddAndGetClampsResult() {
+
+		longCounter.set(8);
+
+		assertThat(longCounter.addAndGet(1, 0, 10)).isEqualTo(9);
+		assertThat(longCounter.addAndGet(5, 0, 10)).isEqualTo(10);
+		assertThat(longCounter.addAndGet(-25, 0, 10)).isZero();
+		assertThat(longCounter.get()).isZero();
+	}
+
+	@Test
+	void boundedAddAndGetRejectsInvalidRange() {
+		assertThatIllegalArgumentException().isThrownBy(() -> longCounter.addAndGet(1, 10, 0));
+	}
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Integration tests for {@link RedisHyperLogLog}.
+ */
+@ParameterizedClass
+@MethodSource("testParams")
+public class RedisHyperLogLogIntegrationTests {
+
+	private final RedisConnectionFactory factory;
+
+	private RedisHyperLogLog<String> hll;
+
+	public RedisHyperLogLogIntegrationTests(RedisConnectionFactory factory) {
+		this.factory = factory;
+	}
+
+	public static Collection<Object[]> testParams() {
+		return AtomicCountersParam.testParams();
+	}
+
+	@BeforeEach
+	void before() {
+
+		RedisConnection connection = factory.getConnection();
+		connection.flushDb();
+		connection.close();
+
+		hll = RedisHyperLogLog.create("visitors", factory);
+	}
+
+	@AfterEach
+	void after() {
+		hll.close();
+	}
+
+	@Test
+	void buffersAdditionsUntilFlushed() {
+
+		StringRedisTemplate template = new StringRedisTemplate(factory);
+
+		hll.add("a", "b", "c");
+
+		assertThat(hll.estimatedSize()).isEqualTo(3);
+		assertThat(template.opsForHyperLogLog().size("visitors")).isZero();
+
+		hll.flush();
+
+		assertThat(template.opsForHyperLogLog().size("visitors")).isEqualTo(3);
+		assertThat(template.opsForHyperLogLog().add("visitors", "a", "b", "c")).isZero();
+	}
+
+	@Test
+	void sizeIncludesAdditionsOfOtherWriters() {
+
+		StringRedisTemplate template = new StringRedisTemplate(factory);
+		template.opsForHyperLogLog().add("visitors", "x", "y");
+
+		hll.add("a", "x");
+
+		assertThat(hll.estimatedSize()).isEqualTo(2);
+		assertThat(hll.size()).isEqualTo(3);
+		assertThat(hll.estimatedSize()).isEqualTo(3);
+	}
+
+	@Test
+	void resetRemovesKey() {
+
+		hll.add("a");
+		hll.flush();
+
+		hll.reset();
+
+		assertThat(hll.size()).isZero();
+	}
+
+	@Test
+	void sizeReflectsKeyDeletedByOtherWriter() {
+
+		StringRedisTemplate template = new StringRedisTemplate(factory);
+
+		hll.add("a", "b");
+		hll.flush();
+
+		assertThat(hll.size()).isEqualTo(2);
+
+		template.delete("visitors");
+		hll.add("c");
+
+		assertThat(hll.size()).isOne();
+		assertThat(hll.estimatedSize()).isOne();
+	}
+}
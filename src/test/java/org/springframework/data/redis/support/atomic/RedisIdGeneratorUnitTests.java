@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RedisIdGenerator}.
+ */
+class RedisIdGeneratorUnitTests {
+
+	RedisAtomicLong counterMock = mock(RedisAtomicLong.class);
+	AtomicLong counter = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		when(counterMock.addAndGet(anyLong())).thenAnswer(invocation -> counter.addAndGet(invocation.getArgument(0)));
+	}
+
+	@Test
+	void reservesBlockOnFirstUse() {
+
+		RedisIdGenerator generator = new RedisIdGenerator(counterMock, 10, 10, Duration.ofHours(1), Runnable::run);
+
+		assertThat(generator.nextId()).isOne();
+		assertThat(generator.nextId()).isEqualTo(2);
+
+		verify(counterMock).addAndGet(10);
+	}
+
+	@Test
+	void prefetchesNextBlockAtHalfOfCurrentBlock() {
+
+		RedisIdGenerator generator = new RedisIdGenerator(counterMock, 10, 10, Duration.ofHours(1), Runnable::run);
+
+		for (int i = 0; i < 4; i++) {
+			generator.nextId();
+		}
+
+		verify(counterMock).addAndGet(10);
+
+		assertThat(generator.nextId()).isEqualTo(5);
+
+		verify(counterMock, times(2)).addAndGet(10);
+
+		for (int i = 0; i < 5; i++) {
+			generator.nextId();
+		}
+
+		assertThat(generator.nextId()).isEqualTo(11);
+		verify(counterMock, times(2)).addAndGet(10);
+	}
+
+	@Test
+	void growsBlockSizeWhenConsumedQuickly() {
+
+		RedisIdGenerator generator = new RedisIdGenerator(counterMock, 10, 40, Duration.ofHours(1), Runnable::run);
+
+		for (int i = 0; i < 100; i++) {
+			generator.nextId();
+		}
+
+		assertThat(generator.getBlockSize()).isEqualTo(40);
+	}
+
+	@Test
+	void shrinksBlockSizeWhenConsumedSlowly() throws InterruptedException {
+
+		RedisIdGenerator generator = new RedisIdGenerator(counterMock, 1, 8, Duration.ofMillis(50), Runnable::run);
+
+		for (int i = 0; i < 20; i++) {
+			generator.nextId();
+		}
+
+		assertThat(generator.getBlockSize()).isEqualTo(8);
+
+		Thread.sleep(150);
+
+		for (int i = 0; i < 8 && generator.getBlockSize() == 8; i++) {
+			generator.nextId();
+		}
+
+		assertThat(generator.getBlockSize()).isEqualTo(4);
+	}
+
+	@Test
+	void fallsBackToSynchronousReservationIfPrefetchFails() {
+
+		doAnswer(invocation -> counter.addAndGet(invocation.getArgument(0))) //
+				.doThrow(new IllegalStateException("boom")) //
+				.doAnswer(invocation -> counter.addAndGet(invocation.getArgument(0))) //
+				.when(counterMock).addAndGet(anyLong());
+
+		RedisIdGenerator generator = new RedisIdGenerator(counterMock, 2, 2, Duration.ofHours(1), Runnable::run);
+
+		assertThat(generator.nextId()).isOne();
+		assertThat(generator.nextId()).isEqualTo(2);
+		assertThat(generator.nextId()).isEqualTo(3);
+	}
+
+	@Test
+	void generatesUniqueIdsConcurrently() throws Exception {
+
+		ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+		RedisIdGenerator generator = new RedisIdGenerator(counterMock, 16, 1024, Duration.ofMillis(10), prefetchExecutor);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 10_000; j++) {
+						ids.add(generator.nextId());
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+			prefetchExecutor.shutdownNow();
+		}
+
+		assertThat(ids).hasSize(80_000);
+	}
+}
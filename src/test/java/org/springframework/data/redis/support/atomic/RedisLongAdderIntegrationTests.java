@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.Collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Integration tests for {@link RedisLongAdder}.
+ */
+@ParameterizedClass
+@MethodSource("testParams")
+public class RedisLongAdderIntegrationTests {
+
+	private final RedisConnectionFactory factory;
+
+	private RedisLongAdder adder;
+
+	public RedisLongAdderIntegrationTests(RedisConnectionFactory factory) {
+		this.factory = factory;
+	}
+
+	public static Collection<Object[]> testParams() {
+		return AtomicCountersParam.testParams();
+	}
+
+	@BeforeEach
+	void before() {
+
+		RedisConnection connection = factory.getConnection();
+		connection.flushDb();
+		connection.close();
+
+		adder = new RedisLongAdder("adder", factory, 4, Duration.ofHours(1));
+	}
+
+	@AfterEach
+	void after() {
+		adder.close();
+	}
+
+	@Test
+	void isNotSerializable() {
+
+		assertThatExceptionOfType(NotSerializableException.class)
+				.isThrownBy(() -> new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(adder));
+	}
+
+	@Test
+	void buffersUpdatesUntilFlushed() {
+
+		adder.increment();
+		adder.add(10);
+		adder.decrement();
+
+		assertThat(adder.getPending()).isEqualTo(10);
+
+		try (RedisLongAdder other = new RedisLongAdder("adder", factory, 4, Duration.ofHours(1))) {
+			assertThat(other.sum()).isZero();
+		}
+
+		adder.flush();
+
+		assertThat(adder.getPending()).isZero();
+		assertThat(adder.sum()).isEqualTo(10);
+	}
+
+	@Test
+	void sumAggregatesStripesAndPendingUpdates() {
+
+		for (int i = 0; i < 8; i++) {
+			adder.add(i);
+			adder.flush();
+		}
+
+		adder.add(100);
+
+		assertThat(adder.sum()).isEqualTo(128);
+		assertThat(adder.getStripeKeys()).hasSize(4).allSatisfy(key -> assertThat(key).startsWith("{adder:"));
+	}
+
+	@Test
+	void singleStripeIsCompatibleWithRedisAtomicLong() {
+
+		try (RedisLongAdder single = new RedisLongAdder("counter", factory)) {
+
+			single.add(5);
+			single.flush();
+
+			assertThat(new RedisAtomicLong("counter", factory).get()).isEqualTo(5);
+		}
+	}
+
+	@Test
+	void flushesPeriodically() throws InterruptedException {
+
+		try (RedisLongAdder periodic = new RedisLongAdder("periodic", factory, 1, Duration.ofMillis(10))) {
+
+			periodic.add(3);
+
+			for (int i = 0; i < 100 && (periodic.getPending() != 0 || periodic.sum() != 3); i++) {
+				Thread.sleep(10);
+			}
+
+			assertThat(periodic.getPending()).isZero();
+			assertThat(periodic.sum()).isEqualTo(3);
+		}
+	}
+
+	@Test
+	void resetRemovesStripes() {
+
+		adder.add(5);
+		adder.flush();
+		adder.add(1);
+
+		adder.reset();
+
+		assertThat(adder.sum()).isZero();
+	}
+}
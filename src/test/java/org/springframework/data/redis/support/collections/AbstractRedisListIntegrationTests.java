@@ -432,6 +432,24 @@ public abstract class AbstractRedisListIntegrationTests<T> extends AbstractRedis
 		assertThat(iterator.next()).isEqualTo(t1);
 	}
 
+	@Test
+	void testDescendingIteratorRemovesLastOccurrenceOfDuplicates() {
+
+		T t1 = getT();
+		T t2 = getT();
+
+		list.add(t1);
+		list.add(t2);
+		list.add(t1);
+
+		Iterator<T> iterator = list.descendingIterator();
+
+		assertThat(iterator.next()).isEqualTo(t1);
+		iterator.remove();
+
+		assertThat(list).containsExactly(t1, t2);
+	}
+
 	@Test // GH-2602
 	void testListIteratorAddNextPreviousIsCorrect() {
 
@@ -830,6 +848,34 @@ public abstract class AbstractRedisListIntegrationTests<T> extends AbstractRedis
 		assertThat(reorderedList).containsExactly(elementTwo, elementThree);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void iteratorAndStreamShouldFetchInPages() {
+
+		DefaultRedisList<T> paged = new DefaultRedisList<T>(template.boundListOps(collection.getKey()));
+		paged.setPageSize(3);
+		paged.setPrefetchExecutor(Runnable::run);
+
+		List<T> expected = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+
+			T element = getT();
+			paged.add(element);
+			expected.add(element);
+		}
+
+		List<T> iterated = new ArrayList<>();
+		paged.iterator().forEachRemaining(iterated::add);
+
+		assertThat(iterated).containsExactlyElementsOf(expected);
+		assertThat(paged.parallelStream().toList()).containsExactlyElementsOf(expected);
+
+		List<T> reversed = new ArrayList<>(expected);
+		Collections.reverse(reversed);
+
+		assertThat(paged.reversed().stream().toList()).containsExactlyElementsOf(reversed);
+	}
+
 	@SuppressWarnings("unused")
 	private static String toString(List<?> list) {
 
@@ -26,6 +26,7 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -542,4 +543,44 @@ public abstract class AbstractRedisMapIntegrationTests<K, V> {
 				new AbstractMap.SimpleImmutableEntry(k2, v2));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void entrySetShouldIterateInPages() {
+
+		assumeThat(keyFactory).isNotInstanceOf(RawObjectFactory.class);
+
+		RedisOperations<String, ?> ops = template;
+		DefaultRedisMap<K, V> paged = new DefaultRedisMap<>(ops.<K, V> boundHashOps(map.getKey() + ":paged"));
+		paged.setPageSize(10);
+
+		Set<K> expected = new LinkedHashSet<>();
+		for (int i = 0; i < 300; i++) {
+
+			K key = getKey();
+			paged.put(key, getValue());
+			expected.add(key);
+		}
+
+		Set<K> keys = new LinkedHashSet<>();
+		for (Entry<K, V> entry : paged.entrySet()) {
+			keys.add(entry.getKey());
+		}
+
+		assertThat(keys).isEqualTo(expected);
+		assertThat(paged.values()).hasSize(expected.size());
+	}
+
+	@Test
+	void entrySetIteratorShouldRemoveEntry() {
+
+		map.put(getKey(), getValue());
+		map.put(getKey(), getValue());
+
+		Iterator<Entry<K, V>> iterator = map.entrySet().iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertThat(map.size()).isOne();
+		assertThatIllegalStateException().isThrownBy(iterator::remove);
+	}
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.redis.core.BoundListOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Unit tests for {@link DefaultRedisList}.
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultRedisListUnitTests {
+
+	@Mock BoundListOperations<String, Object> operationsMock;
+	@Mock RedisOperations<String, Object> redisOperationsMock;
+
+	private DefaultRedisList<Object> list;
+
+	@BeforeEach
+	void before() {
+
+		when(operationsMock.getKey()).thenReturn("key");
+		doReturn(redisOperationsMock).when(operationsMock).getOperations();
+
+		list = new DefaultRedisList<>(operationsMock);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void setPassesBinaryElementWithoutValueSerializer() {
+
+		byte[] element = "foo".getBytes();
+		doReturn("bar".getBytes()).when(redisOperationsMock).execute(any(RedisScript.class), any(RedisSerializer.class),
+				any(RedisSerializer.class), anyList(), any(Object[].class));
+
+		assertThat(list.set(0, element)).isEqualTo("bar".getBytes());
+		verify(redisOperationsMock).execute(any(RedisScript.class), any(RedisSerializer.class),
+				any(RedisSerializer.class), anyList(), any(), same(element));
+	}
+
+	@Test
+	void setRejectsNonBinaryElementWithoutValueSerializer() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> list.set(0, "foo"))
+				.withMessageContaining("value serializer");
+	}
+}
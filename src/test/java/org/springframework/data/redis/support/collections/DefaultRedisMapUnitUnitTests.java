@@ -16,9 +16,10 @@
 package org.springframework.data.redis.support.collections;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Collections;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -29,6 +30,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.redis.core.BoundHashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * Unit tests for {@link DefaultRedisMap}.
@@ -39,6 +43,7 @@ import org.springframework.data.redis.core.BoundHashOperations;
 class DefaultRedisMapUnitUnitTests {
 
 	@Mock BoundHashOperations<String, String, String> operationsMock;
+	@Mock RedisOperations<String, String> redisOperationsMock;
 
 	private DefaultRedisMap<String, String> map;
 
@@ -48,12 +53,29 @@ class DefaultRedisMapUnitUnitTests {
 	}
 
 	@Test // DATAREDIS-803
+	@SuppressWarnings("unchecked")
 	void shouldGetEntrySet() {
 
-		when(operationsMock.entries()).thenReturn(Collections.singletonMap("foo", "bar"));
+		when(operationsMock.getKey()).thenReturn("key");
+		doReturn(redisOperationsMock).when(operationsMock).getOperations();
+		when(operationsMock.size()).thenReturn(1L);
+		doReturn(RedisSerializer.string()).when(redisOperationsMock).getHashKeySerializer();
+		doReturn(RedisSerializer.string()).when(redisOperationsMock).getHashValueSerializer();
+		doReturn(List.of("0".getBytes(), List.of("foo".getBytes(), "bar".getBytes()))).when(redisOperationsMock)
+				.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(),
+						any(Object[].class));
 
 		Set<Entry<String, String>> result = map.entrySet();
 
-		assertThat(result).hasSize(1);
+		assertThat(result).hasSize(1).containsExactly(entry("foo", "bar"));
+	}
+
+	@Test
+	void rejectsNonBinaryKeyWithoutHashKeySerializer() {
+
+		doReturn(redisOperationsMock).when(operationsMock).getOperations();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> map.put("foo", "bar"))
+				.withMessageContaining("hash key serializer");
 	}
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.support.collections.PagedIterator.PageFetcher;
+
+/**
+ * Unit tests for {@link PagedIterator} and {@link PagedSpliterator}.
+ */
+class PagedIteratorUnitTests {
+
+	List<Integer> content;
+	List<String> requests;
+	PageFetcher<Integer> fetcher;
+
+	@BeforeEach
+	void setUp() {
+
+		content = IntStream.range(0, 10).boxed().collect(Collectors.toCollection(ArrayList::new));
+		requests = new ArrayList<>();
+		fetcher = (start, end) -> {
+
+			synchronized (requests) {
+				requests.add(start + ".." + end);
+			}
+
+			return new ArrayList<>(content.subList((int) Math.min(start, content.size()),
+					(int) Math.min(end + 1, content.size())));
+		};
+	}
+
+	@Test
+	void shouldFetchPagesOnDemand() {
+
+		Iterator<Integer> iterator = new PagedIterator<>(fetcher, 0, Long.MAX_VALUE, 4, null, null);
+
+		assertThat(iterator.next()).isZero();
+		assertThat(requests).containsExactly("0..3");
+
+		List<Integer> result = new ArrayList<>();
+		iterator.forEachRemaining(result::add);
+
+		assertThat(result).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertThat(requests).containsExactly("0..3", "4..7", "8..11");
+	}
+
+	@Test
+	void shouldStopAtFence() {
+
+		Iterator<Integer> iterator = new PagedIterator<>(fetcher, 2, 7, 4, null, null);
+
+		List<Integer> result = new ArrayList<>();
+		iterator.forEachRemaining(result::add);
+
+		assertThat(result).containsExactly(2, 3, 4, 5, 6);
+		assertThat(requests).containsExactly("2..5", "6..6");
+	}
+
+	@Test
+	void shouldPrefetchNextPage() {
+
+		Executor executor = Runnable::run;
+		Iterator<Integer> iterator = new PagedIterator<>(fetcher, 0, Long.MAX_VALUE, 5, executor, null);
+
+		assertThat(iterator.next()).isZero();
+		assertThat(requests).containsExactly("0..4", "5..9");
+
+		List<Integer> result = new ArrayList<>();
+		iterator.forEachRemaining(result::add);
+
+		assertThat(result).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertThat(requests).containsExactly("0..4", "5..9", "10..14");
+	}
+
+	@Test
+	void removeShouldAdjustOffsetOfNextPage() {
+
+		Iterator<Integer> iterator = new PagedIterator<>(fetcher, 0, Long.MAX_VALUE, 3, Runnable::run, content::remove);
+
+		List<Integer> result = new ArrayList<>();
+		while (iterator.hasNext()) {
+
+			Integer next = iterator.next();
+			result.add(next);
+
+			if (next % 2 == 0) {
+				iterator.remove();
+			}
+		}
+
+		assertThat(result).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertThat(content).containsExactly(1, 3, 5, 7, 9);
+		assertThatIllegalStateException().isThrownBy(iterator::remove);
+	}
+
+	@Test
+	void removeShouldFailWithoutRemover() {
+
+		Iterator<Integer> iterator = new PagedIterator<>(fetcher, 0, Long.MAX_VALUE, 3, null, null);
+		iterator.next();
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(iterator::remove);
+	}
+
+	@Test
+	void spliteratorShouldReportSizeAndCharacteristics() {
+
+		Spliterator<Integer> spliterator = new PagedSpliterator<>(fetcher, 10, 4, null, Spliterator.ORDERED);
+
+		assertThat(spliterator.estimateSize()).isEqualTo(10);
+		assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED))
+				.isTrue();
+
+		assertThat(spliterator.tryAdvance(it -> {})).isTrue();
+		assertThat(spliterator.estimateSize()).isEqualTo(9);
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	@Test
+	void spliteratorShouldSplitIntoDisjointRanges() {
+
+		Spliterator<Integer> suffix = new PagedSpliterator<>(fetcher, 10, 4, null, Spliterator.ORDERED);
+		Spliterator<Integer> prefix = suffix.trySplit();
+
+		assertThat(prefix).isNotNull();
+		assertThat(prefix.estimateSize()).isEqualTo(5);
+		assertThat(suffix.estimateSize()).isEqualTo(5);
+
+		List<Integer> result = new ArrayList<>();
+		prefix.forEachRemaining(result::add);
+		suffix.forEachRemaining(result::add);
+
+		assertThat(result).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+	}
+
+	@Test
+	void parallelStreamShouldRetainEncounterOrder() {
+
+		content = IntStream.range(0, 1000).boxed().collect(Collectors.toCollection(ArrayList::new));
+
+		List<Integer> result = StreamSupport
+				.stream(new PagedSpliterator<>(fetcher, content.size(), 16, null, Spliterator.ORDERED), true).toList();
+
+		assertThat(result).isEqualTo(content);
+	}
+}
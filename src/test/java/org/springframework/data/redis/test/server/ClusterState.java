@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+/**
+ * Slot assignment shared by all nodes of a {@link RespCluster}. Tracks slot ownership and ongoing slot migrations to
+ * answer commands with {@code MOVED} and {@code ASK} redirections.
+ */
+class ClusterState {
+
+	private final List<RespServer> nodes = new ArrayList<>();
+	private final int[] owners = new int[ClusterSlotHashUtil.SLOT_COUNT];
+	private final Map<Integer, Integer> migrations = new HashMap<>();
+	private long epoch = 1;
+
+	synchronized void addNode(RespServer node) {
+		nodes.add(node);
+	}
+
+	synchronized List<RespServer> getNodes() {
+		return List.copyOf(nodes);
+	}
+
+	/**
+	 * Distribute all slots evenly across the registered nodes.
+	 */
+	synchronized void assignSlots() {
+
+		int size = nodes.size();
+
+		for (int slot = 0; slot < owners.length; slot++) {
+			owners[slot] = (int) ((long) slot * size / owners.length);
+		}
+	}
+
+	synchronized RespServer getOwner(int slot) {
+		return nodes.get(owners[slot]);
+	}
+
+	synchronized void beginMigration(int slot, RespServer target) {
+		migrations.put(slot, nodes.indexOf(target));
+	}
+
+	/**
+	 * Complete a slot migration assigning the slot to its migration target.
+	 *
+	 * @return the previous owner of the slot.
+	 */
+	synchronized RespServer completeMigration(int slot) {
+
+		Integer target = migrations.remove(slot);
+
+		if (target == null) {
+			throw new IllegalStateException("Slot %d is not migrating".formatted(slot));
+		}
+
+		RespServer previous = nodes.get(owners[slot]);
+		owners[slot] = target;
+		epoch++;
+		return previous;
+	}
+
+	synchronized @Nullable RespServer getMigrationTarget(int slot) {
+
+		Integer target = migrations.get(slot);
+		return target != null ? nodes.get(target) : null;
+	}
+
+	/**
+	 * Determine the redirection for a command addressing {@code slot} on {@code node}.
+	 *
+	 * @param keysExist whether all keys of the command exist on {@code node}.
+	 * @return the redirection error or {@literal null} if {@code node} serves the command.
+	 */
+	synchronized Reply.@Nullable Error redirect(RespServer node, int slot, boolean asking, boolean keysExist) {
+
+		int self = nodes.indexOf(node);
+		int owner = owners[slot];
+		Integer target = migrations.get(slot);
+
+		if (owner != self) {
+
+			if (asking && target != null && target == self) {
+				return null;
+			}
+
+			return new Reply.Error("MOVED %d %s".formatted(slot, address(nodes.get(owner))));
+		}
+
+		if (target != null && !keysExist) {
+			return new Reply.Error("ASK %d %s".formatted(slot, address(nodes.get(target))));
+		}
+
+		return null;
+	}
+
+	/**
+	 * Render {@code CLUSTER NODES} output from the perspective of {@code self}.
+	 */
+	synchronized String nodes(RespServer self) {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (int index = 0; index < nodes.size(); index++) {
+
+			RespServer node = nodes.get(index);
+
+			builder.append(node.getNodeId()).append(' ').append(address(node)).append('@').append(node.getPort() + 10000)
+					.append(' ').append(node == self ? "myself,master" : "master").append(" - 0 ")
+					.append(System.currentTimeMillis()).append(' ').append(epoch).append(" connected");
+
+			for (int[] range : ranges(index)) {
+				builder.append(' ').append(range[0] == range[1] ? Integer.toString(range[0]) : range[0] + "-" + range[1]);
+			}
+
+			for (Map.Entry<Integer, Integer> migration : migrations.entrySet()) {
+
+				if (owners[migration.getKey()] == index) {
+					builder.append(" [").append(migration.getKey()).append("->-")
+							.append(nodes.get(migration.getValue()).getNodeId()).append(']');
+				} else if (migration.getValue() == index) {
+					builder.append(" [").append(migration.getKey()).append("-<-")
+							.append(nodes.get(owners[migration.getKey()]).getNodeId()).append(']');
+				}
+			}
+
+			builder.append('\n');
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Render {@code CLUSTER SLOTS} output.
+	 */
+	synchronized Reply slots() {
+
+		List<Reply> slots = new ArrayList<>();
+
+		for (int index = 0; index < nodes.size(); index++) {
+
+			RespServer node = nodes.get(index);
+
+			for (int[] range : ranges(index)) {
+				slots.add(Reply.array(Reply.integer(range[0]), Reply.integer(range[1]),
+						Reply.array(Reply.bulk(node.getHost()), Reply.integer(node.getPort()), Reply.bulk(node.getNodeId()))));
+			}
+		}
+
+		return Reply.array(slots);
+	}
+
+	/**
+	 * Render {@code CLUSTER SHARDS} output.
+	 */
+	synchronized Reply shards() {
+
+		List<Reply> shards = new ArrayList<>();
+
+		for (int index = 0; index < nodes.size(); index++) {
+
+			RespServer node = nodes.get(index);
+			List<Reply> slots = new ArrayList<>();
+
+			for (int[] range : ranges(index)) {
+				slots.add(Reply.integer(range[0]));
+				slots.add(Reply.integer(range[1]));
+			}
+
+			Reply description = Reply.map(List.of(Reply.bulk("id"), Reply.bulk(node.getNodeId()), //
+					Reply.bulk("port"), Reply.integer(node.getPort()), //
+					Reply.bulk("ip"), Reply.bulk(node.getHost()), //
+					Reply.bulk("endpoint"), Reply.bulk(node.getHost()), //
+					Reply.bulk("role"), Reply.bulk("master"), //
+					Reply.bulk("replication-offset"), Reply.integer(0), //
+					Reply.bulk("health"), Reply.bulk("online")));
+
+			shards.add(Reply.map(List.of(Reply.bulk("slots"), Reply.array(slots), //
+					Reply.bulk("nodes"), Reply.array(description))));
+		}
+
+		return Reply.array(shards);
+	}
+
+	synchronized String info() {
+
+		long assigned = Arrays.stream(owners).filter(owner -> owner >= 0).count();
+
+		return String.join("\r\n", "cluster_state:ok", "cluster_slots_assigned:" + assigned,
+				"cluster_slots_ok:" + assigned, "cluster_slots_pfail:0", "cluster_slots_fail:0",
+				"cluster_known_nodes:" + nodes.size(), "cluster_size:" + nodes.size(), "cluster_current_epoch:" + epoch,
+				"cluster_my_epoch:" + epoch) + "\r\n";
+	}
+
+	private List<int[]> ranges(int index) {
+
+		List<int[]> ranges = new ArrayList<>();
+		int start = -1;
+
+		for (int slot = 0; slot <= owners.length; slot++) {
+
+			boolean owned = slot < owners.length && owners[slot] == index;
+
+			if (owned && start < 0) {
+				start = slot;
+			} else if (!owned && start >= 0) {
+				ranges.add(new int[] { start, slot - 1 });
+				start = -1;
+			}
+		}
+
+		return ranges;
+	}
+
+	private static String address(RespServer node) {
+		return node.getHost() + ":" + node.getPort();
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+/**
+ * Exception signaling a command failure to be reported to the client as RESP error.
+ */
+class CommandException extends RuntimeException {
+
+	static final String WRONGTYPE = "WRONGTYPE Operation against a key holding the wrong kind of value";
+
+	CommandException(String message) {
+		super(message, null, false, false);
+	}
+
+	static CommandException syntax() {
+		return new CommandException("ERR syntax error");
+	}
+
+	static CommandException notInteger() {
+		return new CommandException("ERR value is not an integer or out of range");
+	}
+
+	static CommandException wrongArity(String command) {
+		return new CommandException("ERR wrong number of arguments for '%s' command".formatted(command.toLowerCase()));
+	}
+}
@@ -0,0 +1,1403 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+/**
+ * Command table and command implementations of {@link RespServer}. Commands are executed while holding the monitor of
+ * the server's {@link Keyspace}.
+ */
+class Commands {
+
+	private static final Set<String> SUBSCRIBED_CONTEXT = Set.of("SUBSCRIBE", "UNSUBSCRIBE", "PSUBSCRIBE",
+			"PUNSUBSCRIBE", "PING", "QUIT", "RESET");
+
+	private static final Set<String> TRANSACTION_CONTROL = Set.of("MULTI", "EXEC", "DISCARD", "WATCH", "QUIT", "RESET");
+
+	private static final KeySpec NO_KEYS = new KeySpec(0, 0, 1);
+	private static final KeySpec KEY = new KeySpec(1, 1, 1);
+	private static final KeySpec TWO_KEYS = new KeySpec(1, 2, 1);
+	private static final KeySpec ALL_KEYS = new KeySpec(1, -1, 1);
+	private static final KeySpec KEY_VALUE_PAIRS = new KeySpec(1, -1, 2);
+
+	private final RespServer server;
+	private final Keyspace keyspace;
+	private final Map<String, Command> commands = new HashMap<>();
+
+	Commands(RespServer server) {
+
+		this.server = server;
+		this.keyspace = server.getKeyspace();
+
+		registerConnectionCommands();
+		registerKeyCommands();
+		registerStringCommands();
+		registerHashCommands();
+		registerListCommands();
+		registerSetCommands();
+		registerSortedSetCommands();
+		registerPubSubCommands();
+		registerTransactionCommands();
+		register("CLUSTER", -2, NO_KEYS, this::cluster);
+	}
+
+	/**
+	 * Execute or queue a command.
+	 *
+	 * @return the reply or {@literal null} if the command wrote its replies already.
+	 */
+	@Nullable
+	Reply dispatch(Session session, List<byte[]> arguments) throws IOException {
+
+		Invocation invocation = new Invocation(session, arguments);
+		String name = invocation.name();
+		Command command = commands.get(name);
+
+		if (command == null) {
+			return Reply.error("ERR unknown command '%s', with args beginning with: ".formatted(invocation.string(0)));
+		}
+
+		if (!command.accepts(arguments.size())) {
+
+			session.transactionFailed = session.transaction != null;
+			return Reply.error(CommandException.wrongArity(name).getMessage());
+		}
+
+		if (session.isSubscribed() && session.protocol < 3 && !SUBSCRIBED_CONTEXT.contains(name)) {
+			return Reply.error(("ERR Can't execute '%s': only (P|S)SUBSCRIBE / (P|S)UNSUBSCRIBE / PING / QUIT / RESET are "
+					+ "allowed in this context").formatted(name.toLowerCase()));
+		}
+
+		synchronized (keyspace) {
+
+			try {
+
+				Reply.Error redirect = redirect(session, command, arguments);
+
+				if (redirect != null) {
+					session.transactionFailed = session.transaction != null;
+					return redirect;
+				}
+
+				if (session.transaction != null && !TRANSACTION_CONTROL.contains(name)) {
+					session.transaction.add(arguments);
+					return Reply.QUEUED;
+				}
+
+				return command.handler().handle(invocation);
+			} catch (CommandException ex) {
+				return Reply.error(ex.getMessage());
+			} finally {
+				if (!name.equals("ASKING")) {
+					session.asking = false;
+				}
+			}
+		}
+	}
+
+	private Reply.@Nullable Error redirect(Session session, Command command, List<byte[]> arguments) {
+
+		ClusterState cluster = server.getCluster();
+		List<byte[]> keys = command.keys().extract(arguments);
+
+		if (cluster == null || keys.isEmpty()) {
+			return null;
+		}
+
+		int slot = ClusterSlotHashUtil.calculateSlot(keys.get(0));
+		boolean keysExist = true;
+
+		for (byte[] key : keys) {
+
+			if (ClusterSlotHashUtil.calculateSlot(key) != slot) {
+				return new Reply.Error("CROSSSLOT Keys in request don't hash to the same slot");
+			}
+
+			keysExist &= keyspace.exists(0, Keyspace.key(key));
+		}
+
+		return cluster.redirect(server, slot, session.asking, keysExist);
+	}
+
+	private void register(String name, int arity, KeySpec keys, Handler handler) {
+		commands.put(name, new Command(arity, keys, handler));
+	}
+
+	// -------------------------------------------------------------------------
+	// Connection and server commands
+	// -------------------------------------------------------------------------
+
+	private void registerConnectionCommands() {
+
+		register("PING", -1, NO_KEYS, invocation -> {
+
+			if (invocation.session().isSubscribed() && invocation.session().protocol < 3) {
+				return Reply.array(Reply.bulk("pong"),
+						invocation.size() > 1 ? Reply.bulk(invocation.bytes(1)) : Reply.bulk(new byte[0]));
+			}
+
+			return invocation.size() > 1 ? Reply.bulk(invocation.bytes(1)) : Reply.PONG;
+		});
+		register("ECHO", 2, NO_KEYS, invocation -> Reply.bulk(invocation.bytes(1)));
+		register("SELECT", 2, NO_KEYS, invocation -> {
+
+			long db = invocation.longValue(1);
+
+			if (server.getCluster() != null && db != 0) {
+				return Reply.error("ERR SELECT is not allowed in cluster mode");
+			}
+
+			if (db < 0 || db >= Keyspace.DATABASES) {
+				return Reply.error("ERR DB index is out of range");
+			}
+
+			invocation.session().db = (int) db;
+			return Reply.OK;
+		});
+		register("QUIT", -1, NO_KEYS, invocation -> {
+
+			invocation.session().closeAfterReply();
+			return Reply.OK;
+		});
+		register("RESET", 1, NO_KEYS, invocation -> {
+
+			Session session = invocation.session();
+
+			unsubscribeAll(session);
+			session.db = 0;
+			session.name = null;
+			session.transaction = null;
+			session.transactionFailed = false;
+			session.protocol = 2;
+
+			return Reply.simple("RESET");
+		});
+		register("HELLO", -1, NO_KEYS, this::hello);
+		register("AUTH", -2, NO_KEYS, invocation -> Reply.OK);
+		register("CLIENT", -2, NO_KEYS, this::client);
+		register("COMMAND", -1, NO_KEYS, invocation -> invocation.size() > 1 && invocation.upper(1).equals("COUNT")
+				? Reply.integer(commands.size())
+				: Reply.array(List.of()));
+		register("READONLY", 1, NO_KEYS, invocation -> Reply.OK);
+		register("READWRITE", 1, NO_KEYS, invocation -> Reply.OK);
+		register("ASKING", 1, NO_KEYS, invocation -> {
+
+			invocation.session().asking = true;
+			return Reply.OK;
+		});
+		register("INFO", -1, NO_KEYS, invocation -> Reply.bulk(info()));
+		register("DBSIZE", 1, NO_KEYS, invocation -> Reply.integer(keyspace.size(invocation.db())));
+		register("FLUSHDB", -1, NO_KEYS, invocation -> {
+
+			keyspace.clear(invocation.db());
+			return Reply.OK;
+		});
+		register("FLUSHALL", -1, NO_KEYS, invocation -> {
+
+			keyspace.clear();
+			return Reply.OK;
+		});
+		register("TIME", 1, NO_KEYS, invocation -> {
+
+			long micros = System.currentTimeMillis() * 1000;
+			return Reply.array(Reply.bulk(Long.toString(micros / 1_000_000)), Reply.bulk(Long.toString(micros % 1_000_000)));
+		});
+		register("CONFIG", -2, NO_KEYS, invocation -> invocation.upper(1).equals("GET") ? Reply.map(List.of()) : Reply.OK);
+	}
+
+	private Reply hello(Invocation invocation) {
+
+		Session session = invocation.session();
+		int protocol = session.protocol;
+
+		if (invocation.size() > 1) {
+
+			long version;
+
+			try {
+				version = invocation.longValue(1);
+			} catch (CommandException ex) {
+				return Reply.error("ERR Protocol version is not an integer or out of range");
+			}
+
+			if (version != 2 && version != 3) {
+				return Reply.error("NOPROTO unsupported protocol version");
+			}
+
+			protocol = (int) version;
+
+			for (int i = 2; i < invocation.size(); i++) {
+
+				String option = invocation.upper(i);
+
+				if (option.equals("AUTH") && i + 2 < invocation.size()) {
+					i += 2;
+				} else if (option.equals("SETNAME") && i + 1 < invocation.size()) {
+					session.name = invocation.string(++i);
+				} else {
+					throw CommandException.syntax();
+				}
+			}
+		}
+
+		session.protocol = protocol;
+
+		return Reply.map(List.of(Reply.bulk("server"), Reply.bulk("redis"), //
+				Reply.bulk("version"), Reply.bulk("7.4.0"), //
+				Reply.bulk("proto"), Reply.integer(protocol), //
+				Reply.bulk("id"), Reply.integer(session.getId()), //
+				Reply.bulk("mode"), Reply.bulk(server.getCluster() != null ? "cluster" : "standalone"), //
+				Reply.bulk("role"), Reply.bulk("master"), //
+				Reply.bulk("modules"), Reply.array(List.of())));
+	}
+
+	private Reply client(Invocation invocation) {
+
+		Session session = invocation.session();
+
+		return switch (invocation.upper(1)) {
+			case "SETNAME" -> {
+				session.name = invocation.size() > 2 ? invocation.string(2) : null;
+				yield Reply.OK;
+			}
+			case "GETNAME" -> Reply.bulk(session.name);
+			case "ID" -> Reply.integer(session.getId());
+			case "LIST" -> {
+
+				StringBuilder builder = new StringBuilder();
+				for (Session client : server.getSessions()) {
+					builder.append(clientInfo(client)).append('\n');
+				}
+				yield Reply.bulk(builder.toString());
+			}
+			case "INFO" -> Reply.bulk(clientInfo(session) + "\n");
+			case "SETINFO", "TRACKING", "NO-EVICT", "NO-TOUCH", "REPLY" -> Reply.OK;
+			default -> Reply.error("ERR unknown subcommand '%s'".formatted(invocation.string(1)));
+		};
+	}
+
+	private static String clientInfo(Session session) {
+
+		return "id=%d addr=%s name=%s db=%d sub=%d psub=%d multi=%d resp=%d cmd=client".formatted(session.getId(),
+				session.getAddress(), session.name != null ? session.name : "", session.db, session.channels.size(),
+				session.patterns.size(), session.transaction != null ? session.transaction.size() : -1, session.protocol);
+	}
+
+	private String info() {
+
+		boolean cluster = server.getCluster() != null;
+		StringBuilder builder = new StringBuilder();
+
+		builder.append("# Server\r\n").append("redis_version:7.4.0\r\n")
+				.append("redis_mode:").append(cluster ? "cluster" : "standalone").append("\r\n")
+				.append("tcp_port:").append(server.getPort()).append("\r\n\r\n");
+		builder.append("# Clients\r\n").append("connected_clients:").append(server.getConnectedClients())
+				.append("\r\n\r\n");
+		builder.append("# Replication\r\n").append("role:master\r\n").append("connected_slaves:0\r\n\r\n");
+		builder.append("# Cluster\r\n").append("cluster_enabled:").append(cluster ? 1 : 0).append("\r\n\r\n");
+		builder.append("# Keyspace\r\n");
+
+		for (int db = 0; db < Keyspace.DATABASES; db++) {
+
+			int size = keyspace.size(db);
+
+			if (size > 0) {
+				builder.append("db").append(db).append(":keys=").append(size).append(",expires=0,avg_ttl=0\r\n");
+			}
+		}
+
+		return builder.toString();
+	}
+
+	// -------------------------------------------------------------------------
+	// Key commands
+	// -------------------------------------------------------------------------
+
+	private void registerKeyCommands() {
+
+		Handler delete = invocation -> {
+
+			long removed = 0;
+			for (int i = 1; i < invocation.size(); i++) {
+				removed += keyspace.remove(invocation.db(), invocation.key(i)) ? 1 : 0;
+			}
+			return Reply.integer(removed);
+		};
+
+		register("DEL", -2, ALL_KEYS, delete);
+		register("UNLINK", -2, ALL_KEYS, delete);
+		register("EXISTS", -2, ALL_KEYS, invocation -> {
+
+			long exists = 0;
+			for (int i = 1; i < invocation.size(); i++) {
+				exists += keyspace.exists(invocation.db(), invocation.key(i)) ? 1 : 0;
+			}
+			return Reply.integer(exists);
+		});
+		register("EXPIRE", -3, KEY, invocation -> expireAt(invocation,
+				System.currentTimeMillis() + invocation.longValue(2) * 1000));
+		register("PEXPIRE", -3, KEY, invocation -> expireAt(invocation,
+				System.currentTimeMillis() + invocation.longValue(2)));
+		register("EXPIREAT", -3, KEY, invocation -> expireAt(invocation, invocation.longValue(2) * 1000));
+		register("PEXPIREAT", -3, KEY, invocation -> expireAt(invocation, invocation.longValue(2)));
+		register("TTL", 2, KEY, invocation -> {
+
+			long ttl = keyspace.ttl(invocation.db(), invocation.key(1));
+			return Reply.integer(ttl < 0 ? ttl : (ttl + 500) / 1000);
+		});
+		register("PTTL", 2, KEY, invocation -> Reply.integer(keyspace.ttl(invocation.db(), invocation.key(1))));
+		register("PERSIST", 2, KEY,
+				invocation -> Reply.bool(keyspace.persist(invocation.db(), invocation.key(1))));
+		register("TYPE", 2, KEY, invocation -> Reply.simple(type(keyspace.get(invocation.db(), invocation.key(1)))));
+		register("KEYS", 2, NO_KEYS, invocation -> {
+
+			String pattern = invocation.key(1);
+			List<byte[]> keys = new ArrayList<>();
+
+			for (String key : keyspace.keys(invocation.db())) {
+				if (GlobPattern.matches(pattern, key)) {
+					keys.add(Keyspace.bytes(key));
+				}
+			}
+
+			return Reply.bulkArray(keys);
+		});
+		register("SCAN", -2, NO_KEYS, this::scan);
+		register("RENAME", 3, TWO_KEYS, invocation -> {
+
+			int db = invocation.db();
+			String source = invocation.key(1);
+			Object value = keyspace.get(db, source);
+
+			if (value == null) {
+				return Reply.error("ERR no such key");
+			}
+
+			long ttl = keyspace.ttl(db, source);
+			keyspace.remove(db, source);
+			keyspace.set(db, invocation.key(2), value);
+
+			if (ttl >= 0) {
+				keyspace.expireAt(db, invocation.key(2), System.currentTimeMillis() + ttl);
+			}
+
+			return Reply.OK;
+		});
+	}
+
+	private Reply expireAt(Invocation invocation, long epochMillis) {
+		return Reply.bool(keyspace.expireAt(invocation.db(), invocation.key(1), epochMillis));
+	}
+
+	private Reply scan(Invocation invocation) {
+
+		String pattern = "*";
+		String type = null;
+
+		for (int i = 2; i + 1 < invocation.size(); i += 2) {
+
+			switch (invocation.upper(i)) {
+				case "MATCH" -> pattern = invocation.key(i + 1);
+				case "COUNT" -> invocation.longValue(i + 1);
+				case "TYPE" -> type = invocation.string(i + 1).toLowerCase();
+				default -> throw CommandException.syntax();
+			}
+		}
+
+		List<byte[]> keys = new ArrayList<>();
+
+		for (String key : keyspace.keys(invocation.db())) {
+			if (GlobPattern.matches(pattern, key) && (type == null || type.equals(type(keyspace.get(invocation.db(), key))))) {
+				keys.add(Keyspace.bytes(key));
+			}
+		}
+
+		// return all matching keys at once and signal completion through cursor 0
+		return Reply.array(Reply.bulk("0"), Reply.bulkArray(keys));
+	}
+
+	private static String type(@Nullable Object value) {
+
+		if (value == null) {
+			return "none";
+		}
+
+		if (value instanceof byte[]) {
+			return "string";
+		}
+
+		if (value instanceof Map) {
+			return "hash";
+		}
+
+		if (value instanceof List) {
+			return "list";
+		}
+
+		return value instanceof Set ? "set" : "zset";
+	}
+
+	// -------------------------------------------------------------------------
+	// String commands
+	// -------------------------------------------------------------------------
+
+	private void registerStringCommands() {
+
+		register("SET", -3, KEY, this::setString);
+		register("GET", 2, KEY, invocation -> Reply.bulk(string(invocation, 1)));
+		register("GETDEL", 2, KEY, invocation -> {
+
+			byte[] value = string(invocation, 1);
+			keyspace.remove(invocation.db(), invocation.key(1));
+			return Reply.bulk(value);
+		});
+		register("GETSET", 3, KEY, invocation -> {
+
+			byte[] value = string(invocation, 1);
+			keyspace.set(invocation.db(), invocation.key(1), invocation.bytes(2));
+			return Reply.bulk(value);
+		});
+		register("SETNX", 3, KEY, invocation -> {
+
+			if (keyspace.exists(invocation.db(), invocation.key(1))) {
+				return Reply.bool(false);
+			}
+
+			keyspace.set(invocation.db(), invocation.key(1), invocation.bytes(2));
+			return Reply.bool(true);
+		});
+		register("SETEX", 4, KEY, invocation -> setWithExpiration(invocation, invocation.longValue(2) * 1000));
+		register("PSETEX", 4, KEY, invocation -> setWithExpiration(invocation, invocation.longValue(2)));
+		register("MGET", -2, ALL_KEYS, invocation -> {
+
+			List<Reply> values = new ArrayList<>(invocation.size() - 1);
+
+			for (int i = 1; i < invocation.size(); i++) {
+				Object value = keyspace.get(invocation.db(), invocation.key(i));
+				values.add(value instanceof byte[] bytes ? Reply.bulk(bytes) : Reply.NIL);
+			}
+
+			return Reply.array(values);
+		});
+		register("MSET", -3, KEY_VALUE_PAIRS, invocation -> {
+
+			requirePairs(invocation, 1);
+
+			for (int i = 1; i < invocation.size(); i += 2) {
+				keyspace.set(invocation.db(), invocation.key(i), invocation.bytes(i + 1));
+			}
+
+			return Reply.OK;
+		});
+		register("MSETNX", -3, KEY_VALUE_PAIRS, invocation -> {
+
+			requirePairs(invocation, 1);
+
+			for (int i = 1; i < invocation.size(); i += 2) {
+				if (keyspace.exists(invocation.db(), invocation.key(i))) {
+					return Reply.bool(false);
+				}
+			}
+
+			for (int i = 1; i < invocation.size(); i += 2) {
+				keyspace.set(invocation.db(), invocation.key(i), invocation.bytes(i + 1));
+			}
+
+			return Reply.bool(true);
+		});
+		register("INCR", 2, KEY, invocation -> incrementBy(invocation, 1));
+		register("DECR", 2, KEY, invocation -> incrementBy(invocation, -1));
+		register("INCRBY", 3, KEY, invocation -> incrementBy(invocation, invocation.longValue(2)));
+		register("DECRBY", 3, KEY, invocation -> incrementBy(invocation, -invocation.longValue(2)));
+		register("INCRBYFLOAT", 3, KEY, invocation -> {
+
+			byte[] current = string(invocation, 1);
+			double value = (current != null ? Invocation.parseDouble(new String(current, StandardCharsets.US_ASCII)) : 0)
+					+ invocation.doubleValue(2);
+			byte[] result = RespWriter.formatDouble(value).getBytes(StandardCharsets.US_ASCII);
+
+			keyspace.replace(invocation.db(), invocation.key(1), result);
+			return Reply.bulk(result);
+		});
+		register("APPEND", 3, KEY, invocation -> {
+
+			byte[] current = string(invocation, 1);
+			byte[] suffix = invocation.bytes(2);
+			byte[] value = current != null ? Arrays.copyOf(current, current.length + suffix.length) : suffix;
+
+			if (current != null) {
+				System.arraycopy(suffix, 0, value, current.length, suffix.length);
+			}
+
+			keyspace.replace(invocation.db(), invocation.key(1), value);
+			return Reply.integer(value.length);
+		});
+		register("STRLEN", 2, KEY, invocation -> {
+
+			byte[] value = string(invocation, 1);
+			return Reply.integer(value != null ? value.length : 0);
+		});
+	}
+
+	private Reply setString(Invocation invocation) {
+
+		int db = invocation.db();
+		String key = invocation.key(1);
+		boolean nx = false, xx = false, get = false, keepTtl = false;
+		long expireAt = -1;
+		long now = System.currentTimeMillis();
+
+		for (int i = 3; i < invocation.size(); i++) {
+
+			switch (invocation.upper(i)) {
+				case "NX" -> nx = true;
+				case "XX" -> xx = true;
+				case "GET" -> get = true;
+				case "KEEPTTL" -> keepTtl = true;
+				case "EX" -> expireAt = now + positive(invocation, ++i) * 1000;
+				case "PX" -> expireAt = now + positive(invocation, ++i);
+				case "EXAT" -> expireAt = positive(invocation, ++i) * 1000;
+				case "PXAT" -> expireAt = positive(invocation, ++i);
+				default -> throw CommandException.syntax();
+			}
+		}
+
+		if (nx && xx) {
+			throw CommandException.syntax();
+		}
+
+		byte[] previous = get ? string(invocation, 1) : null;
+		boolean exists = keyspace.exists(db, key);
+
+		if ((nx && exists) || (xx && !exists)) {
+			return get ? Reply.bulk(previous) : Reply.NIL;
+		}
+
+		if (keepTtl) {
+			keyspace.replace(db, key, invocation.bytes(2));
+		} else {
+			keyspace.set(db, key, invocation.bytes(2));
+		}
+
+		if (expireAt >= 0) {
+			keyspace.expireAt(db, key, expireAt);
+		}
+
+		return get ? Reply.bulk(previous) : Reply.OK;
+	}
+
+	private static long positive(Invocation invocation, int index) {
+
+		if (index >= invocation.size()) {
+			throw CommandException.syntax();
+		}
+
+		long value = invocation.longValue(index);
+
+		if (value <= 0) {
+			throw new CommandException("ERR invalid expire time in '%s' command".formatted(invocation.name().toLowerCase()));
+		}
+
+		return value;
+	}
+
+	private Reply setWithExpiration(Invocation invocation, long millis) {
+
+		if (millis <= 0) {
+			throw new CommandException("ERR invalid expire time in '%s' command".formatted(invocation.name().toLowerCase()));
+		}
+
+		keyspace.set(invocation.db(), invocation.key(1), invocation.bytes(3));
+		keyspace.expireAt(invocation.db(), invocation.key(1), System.currentTimeMillis() + millis);
+		return Reply.OK;
+	}
+
+	private Reply incrementBy(Invocation invocation, long delta) {
+
+		byte[] current = string(invocation, 1);
+		long value;
+
+		try {
+			value = Math.addExact(current != null ? Long.parseLong(new String(current, StandardCharsets.US_ASCII)) : 0,
+					delta);
+		} catch (NumberFormatException | ArithmeticException ex) {
+			throw CommandException.notInteger();
+		}
+
+		keyspace.replace(invocation.db(), invocation.key(1), Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+		return Reply.integer(value);
+	}
+
+	private byte @Nullable [] string(Invocation invocation, int index) {
+		return keyspace.get(invocation.db(), invocation.key(index), byte[].class);
+	}
+
+	private static void requirePairs(Invocation invocation, int offset) {
+
+		if ((invocation.size() - offset) % 2 != 0) {
+			throw CommandException.wrongArity(invocation.name());
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Hash commands
+	// -------------------------------------------------------------------------
+
+	private void registerHashCommands() {
+
+		Handler hset = invocation -> {
+
+			requirePairs(invocation, 2);
+
+			Map<String, byte[]> hash = createHash(invocation);
+			long added = 0;
+
+			for (int i = 2; i < invocation.size(); i += 2) {
+				added += hash.put(invocation.key(i), invocation.bytes(i + 1)) == null ? 1 : 0;
+			}
+
+			return invocation.name().equals("HMSET") ? Reply.OK : Reply.integer(added);
+		};
+
+		register("HSET", -4, KEY, hset);
+		register("HMSET", -4, KEY, hset);
+		register("HSETNX", 4, KEY, invocation -> Reply
+				.bool(createHash(invocation).putIfAbsent(invocation.key(2), invocation.bytes(3)) == null));
+		register("HGET", 3, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			return Reply.bulk(hash != null ? hash.get(invocation.key(2)) : null);
+		});
+		register("HMGET", -3, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			List<Reply> values = new ArrayList<>(invocation.size() - 2);
+
+			for (int i = 2; i < invocation.size(); i++) {
+				values.add(Reply.bulk(hash != null ? hash.get(invocation.key(i)) : null));
+			}
+
+			return Reply.array(values);
+		});
+		register("HGETALL", 2, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			List<Reply> entries = new ArrayList<>();
+
+			if (hash != null) {
+				hash.forEach((field, value) -> {
+					entries.add(Reply.bulk(Keyspace.bytes(field)));
+					entries.add(Reply.bulk(value));
+				});
+			}
+
+			return Reply.map(entries);
+		});
+		register("HDEL", -3, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			long removed = 0;
+
+			if (hash != null) {
+
+				for (int i = 2; i < invocation.size(); i++) {
+					removed += hash.remove(invocation.key(i)) != null ? 1 : 0;
+				}
+
+				keyspace.removeIfEmpty(invocation.db(), invocation.key(1));
+			}
+
+			return Reply.integer(removed);
+		});
+		register("HLEN", 2, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			return Reply.integer(hash != null ? hash.size() : 0);
+		});
+		register("HEXISTS", 3, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			return Reply.bool(hash != null && hash.containsKey(invocation.key(2)));
+		});
+		register("HKEYS", 2, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			return Reply.bulkArray(hash != null ? hash.keySet().stream().map(Keyspace::bytes).toList() : List.of());
+		});
+		register("HVALS", 2, KEY, invocation -> {
+
+			Map<String, byte[]> hash = hash(invocation);
+			return Reply.bulkArray(hash != null ? hash.values() : List.of());
+		});
+		register("HINCRBY", 4, KEY, invocation -> {
+
+			Map<String, byte[]> hash = createHash(invocation);
+			byte[] current = hash.get(invocation.key(2));
+			long value;
+
+			try {
+				value = Math.addExact(current != null ? Long.parseLong(new String(current, StandardCharsets.US_ASCII)) : 0,
+						invocation.longValue(3));
+			} catch (NumberFormatException | ArithmeticException ex) {
+				throw new CommandException("ERR hash value is not an integer");
+			}
+
+			hash.put(invocation.key(2), Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+			return Reply.integer(value);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Map<String, byte[]> hash(Invocation invocation) {
+		return keyspace.get(invocation.db(), invocation.key(1), Map.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, byte[]> createHash(Invocation invocation) {
+		return keyspace.getOrCreate(invocation.db(), invocation.key(1), Map.class, LinkedHashMap::new);
+	}
+
+	// -------------------------------------------------------------------------
+	// List commands
+	// -------------------------------------------------------------------------
+
+	private void registerListCommands() {
+
+		register("LPUSH", -3, KEY, invocation -> push(invocation, LinkedList::addFirst));
+		register("RPUSH", -3, KEY, invocation -> push(invocation, LinkedList::addLast));
+		register("LPOP", -2, KEY, invocation -> pop(invocation, true));
+		register("RPOP", -2, KEY, invocation -> pop(invocation, false));
+		register("LLEN", 2, KEY, invocation -> {
+
+			List<byte[]> list = list(invocation);
+			return Reply.integer(list != null ? list.size() : 0);
+		});
+		register("LINDEX", 3, KEY, invocation -> {
+
+			List<byte[]> list = list(invocation);
+			long index = invocation.longValue(2);
+
+			if (list == null) {
+				return Reply.NIL;
+			}
+
+			index = index < 0 ? list.size() + index : index;
+			return index >= 0 && index < list.size() ? Reply.bulk(list.get((int) index)) : Reply.NIL;
+		});
+		register("LRANGE", 4, KEY, invocation -> {
+
+			List<byte[]> list = list(invocation);
+
+			if (list == null) {
+				return Reply.array(List.of());
+			}
+
+			int size = list.size();
+			long start = invocation.longValue(2);
+			long stop = invocation.longValue(3);
+			int from = (int) Math.max(start < 0 ? size + start : start, 0);
+			int to = (int) Math.min(stop < 0 ? size + stop : stop, size - 1);
+
+			return Reply.bulkArray(from <= to ? list.subList(from, to + 1) : List.of());
+		});
+	}
+
+	private Reply push(Invocation invocation, BiConsumer<LinkedList<byte[]>, byte[]> operation) {
+
+		@SuppressWarnings("unchecked")
+		LinkedList<byte[]> list = keyspace.getOrCreate(invocation.db(), invocation.key(1), LinkedList.class,
+				LinkedList::new);
+
+		for (int i = 2; i < invocation.size(); i++) {
+			operation.accept(list, invocation.bytes(i));
+		}
+
+		return Reply.integer(list.size());
+	}
+
+	private Reply pop(Invocation invocation, boolean first) {
+
+		LinkedList<byte[]> list = list(invocation);
+		boolean withCount = invocation.size() > 2;
+		long count = withCount ? invocation.longValue(2) : 1;
+
+		if (list == null) {
+			return Reply.NIL;
+		}
+
+		List<byte[]> popped = new ArrayList<>();
+
+		for (long i = 0; i < count && !list.isEmpty(); i++) {
+			popped.add(first ? list.removeFirst() : list.removeLast());
+		}
+
+		keyspace.removeIfEmpty(invocation.db(), invocation.key(1));
+
+		if (!withCount) {
+			return popped.isEmpty() ? Reply.NIL : Reply.bulk(popped.get(0));
+		}
+
+		return Reply.bulkArray(popped);
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable LinkedList<byte[]> list(Invocation invocation) {
+		return keyspace.get(invocation.db(), invocation.key(1), LinkedList.class);
+	}
+
+	// -------------------------------------------------------------------------
+	// Set commands
+	// -------------------------------------------------------------------------
+
+	private void registerSetCommands() {
+
+		register("SADD", -3, KEY, invocation -> {
+
+			@SuppressWarnings("unchecked")
+			Set<String> set = keyspace.getOrCreate(invocation.db(), invocation.key(1), LinkedHashSet.class,
+					LinkedHashSet::new);
+			long added = 0;
+
+			for (int i = 2; i < invocation.size(); i++) {
+				added += set.add(invocation.key(i)) ? 1 : 0;
+			}
+
+			return Reply.integer(added);
+		});
+		register("SREM", -3, KEY, invocation -> {
+
+			Set<String> set = set(invocation);
+			long removed = 0;
+
+			if (set != null) {
+
+				for (int i = 2; i < invocation.size(); i++) {
+					removed += set.remove(invocation.key(i)) ? 1 : 0;
+				}
+
+				keyspace.removeIfEmpty(invocation.db(), invocation.key(1));
+			}
+
+			return Reply.integer(removed);
+		});
+		register("SMEMBERS", 2, KEY, invocation -> {
+
+			Set<String> set = set(invocation);
+			List<Reply> members = new ArrayList<>();
+
+			if (set != null) {
+				set.forEach(member -> members.add(Reply.bulk(Keyspace.bytes(member))));
+			}
+
+			return Reply.set(members);
+		});
+		register("SISMEMBER", 3, KEY, invocation -> {
+
+			Set<String> set = set(invocation);
+			return Reply.bool(set != null && set.contains(invocation.key(2)));
+		});
+		register("SCARD", 2, KEY, invocation -> {
+
+			Set<String> set = set(invocation);
+			return Reply.integer(set != null ? set.size() : 0);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Set<String> set(Invocation invocation) {
+		return keyspace.get(invocation.db(), invocation.key(1), LinkedHashSet.class);
+	}
+
+	// -------------------------------------------------------------------------
+	// Sorted set commands
+	// -------------------------------------------------------------------------
+
+	private void registerSortedSetCommands() {
+
+		register("ZADD", -4, KEY, this::zadd);
+		register("ZINCRBY", 4, KEY, invocation -> {
+
+			SortedSet set = keyspace.getOrCreate(invocation.db(), invocation.key(1), SortedSet.class, SortedSet::new);
+			Double current = set.score(invocation.key(3));
+			double score = (current != null ? current : 0) + invocation.doubleValue(2);
+
+			set.add(invocation.key(3), score);
+			return Reply.number(score);
+		});
+		register("ZSCORE", 3, KEY, invocation -> {
+
+			SortedSet set = sortedSet(invocation);
+			Double score = set != null ? set.score(invocation.key(2)) : null;
+			return score != null ? Reply.number(score) : Reply.NIL;
+		});
+		register("ZRANK", 3, KEY, invocation -> {
+
+			SortedSet set = sortedSet(invocation);
+			Long rank = set != null ? set.rank(invocation.key(2)) : null;
+			return rank != null ? Reply.integer(rank) : Reply.NIL;
+		});
+		register("ZCARD", 2, KEY, invocation -> {
+
+			SortedSet set = sortedSet(invocation);
+			return Reply.integer(set != null ? set.size() : 0);
+		});
+		register("ZREM", -3, KEY, invocation -> {
+
+			SortedSet set = sortedSet(invocation);
+			long removed = 0;
+
+			if (set != null) {
+
+				for (int i = 2; i < invocation.size(); i++) {
+					removed += set.remove(invocation.key(i)) ? 1 : 0;
+				}
+
+				keyspace.removeIfEmpty(invocation.db(), invocation.key(1));
+			}
+
+			return Reply.integer(removed);
+		});
+		register("ZRANGE", -4, KEY, invocation -> zrange(invocation, false, false));
+		register("ZREVRANGE", -4, KEY, invocation -> zrange(invocation, false, true));
+		register("ZRANGEBYSCORE", -4, KEY, invocation -> zrange(invocation, true, false));
+	}
+
+	private Reply zadd(Invocation invocation) {
+
+		boolean nx = false, xx = false, changed = false;
+		int index = 2;
+
+		for (; index < invocation.size(); index++) {
+
+			String option = invocation.upper(index);
+
+			if (option.equals("NX")) {
+				nx = true;
+			} else if (option.equals("XX")) {
+				xx = true;
+			} else if (option.equals("CH")) {
+				changed = true;
+			} else {
+				break;
+			}
+		}
+
+		if ((invocation.size() - index) % 2 != 0 || index == invocation.size() || (nx && xx)) {
+			throw CommandException.syntax();
+		}
+
+		SortedSet set = keyspace.getOrCreate(invocation.db(), invocation.key(1), SortedSet.class, SortedSet::new);
+		long added = 0, updated = 0;
+
+		for (int i = index; i < invocation.size(); i += 2) {
+
+			double score = invocation.doubleValue(i);
+			String member = invocation.key(i + 1);
+			Double current = set.score(member);
+
+			if ((nx && current != null) || (xx && current == null)) {
+				continue;
+			}
+
+			if (set.add(member, score)) {
+				added++;
+			} else if (current != score) {
+				updated++;
+			}
+		}
+
+		keyspace.removeIfEmpty(invocation.db(), invocation.key(1));
+		return Reply.integer(changed ? added + updated : added);
+	}
+
+	private Reply zrange(Invocation invocation, boolean byScore, boolean reverse) {
+
+		boolean withScores = false;
+		long offset = 0, count = -1;
+
+		for (int i = 4; i < invocation.size(); i++) {
+
+			switch (invocation.upper(i)) {
+				case "WITHSCORES" -> withScores = true;
+				case "BYSCORE" -> byScore = true;
+				case "REV" -> reverse = true;
+				case "LIMIT" -> {
+
+					if (i + 2 >= invocation.size()) {
+						throw CommandException.syntax();
+					}
+
+					offset = invocation.longValue(++i);
+					count = invocation.longValue(++i);
+				}
+				default -> throw CommandException.syntax();
+			}
+		}
+
+		SortedSet set = sortedSet(invocation);
+
+		if (set == null) {
+			return Reply.array(List.of());
+		}
+
+		List<SortedSet.Member> members;
+
+		if (byScore) {
+
+			// ZRANGE ... BYSCORE REV expects max before min
+			String min = invocation.string(reverse ? 3 : 2);
+			String max = invocation.string(reverse ? 2 : 3);
+
+			members = new ArrayList<>(set.rangeByScore(bound(min), min.startsWith("("), bound(max), max.startsWith("(")));
+
+			if (reverse) {
+				Collections.reverse(members);
+			}
+
+			int from = (int) Math.min(offset, members.size());
+			int to = count < 0 ? members.size() : (int) Math.min(from + count, members.size());
+			members = members.subList(from, to);
+		} else if (reverse) {
+
+			int size = set.size();
+			long start = invocation.longValue(2);
+			long stop = invocation.longValue(3);
+
+			// translate reverse ranks into forward ranks
+			long from = size - 1 - (stop < 0 ? size + stop : stop);
+			long to = size - 1 - (start < 0 ? size + start : start);
+
+			members = new ArrayList<>(set.range(Math.max(from, 0), to));
+			Collections.reverse(members);
+		} else {
+			members = set.range(invocation.longValue(2), invocation.longValue(3));
+		}
+
+		List<Reply> replies = new ArrayList<>(members.size() * (withScores ? 2 : 1));
+		boolean resp3 = invocation.session().protocol >= 3;
+
+		for (SortedSet.Member member : members) {
+
+			Reply value = Reply.bulk(Keyspace.bytes(member.member()));
+
+			if (!withScores) {
+				replies.add(value);
+			} else if (resp3) {
+				replies.add(Reply.array(value, Reply.number(member.score())));
+			} else {
+				replies.add(value);
+				replies.add(Reply.number(member.score()));
+			}
+		}
+
+		return Reply.array(replies);
+	}
+
+	private static double bound(String value) {
+		return Invocation.parseDouble(value.startsWith("(") ? value.substring(1) : value);
+	}
+
+	private @Nullable SortedSet sortedSet(Invocation invocation) {
+		return keyspace.get(invocation.db(), invocation.key(1), SortedSet.class);
+	}
+
+	// -------------------------------------------------------------------------
+	// Pub/Sub commands
+	// -------------------------------------------------------------------------
+
+	private void registerPubSubCommands() {
+
+		register("SUBSCRIBE", -2, NO_KEYS, invocation -> {
+
+			Session session = invocation.session();
+
+			for (int i = 1; i < invocation.size(); i++) {
+
+				String channel = invocation.key(i);
+
+				if (session.channels.add(channel)) {
+					server.getPubSub().subscribe(session, channel);
+				}
+
+				session.write(subscription("subscribe", channel, session));
+			}
+
+			return null;
+		});
+		register("PSUBSCRIBE", -2, NO_KEYS, invocation -> {
+
+			Session session = invocation.session();
+
+			for (int i = 1; i < invocation.size(); i++) {
+
+				String pattern = invocation.key(i);
+
+				if (session.patterns.add(pattern)) {
+					server.getPubSub().psubscribe(session, pattern);
+				}
+
+				session.write(subscription("psubscribe", pattern, session));
+			}
+
+			return null;
+		});
+		register("UNSUBSCRIBE", -1, NO_KEYS, invocation -> {
+
+			unsubscribe(invocation, invocation.session().channels, "unsubscribe");
+			return null;
+		});
+		register("PUNSUBSCRIBE", -1, NO_KEYS, invocation -> {
+
+			unsubscribe(invocation, invocation.session().patterns, "punsubscribe");
+			return null;
+		});
+		register("PUBLISH", 3, NO_KEYS,
+				invocation -> Reply.integer(server.getPubSub().publish(invocation.key(1), invocation.bytes(2))));
+		register("PUBSUB", -2, NO_KEYS, invocation -> {
+
+			PubSub pubSub = server.getPubSub();
+
+			return switch (invocation.upper(1)) {
+				case "CHANNELS" -> Reply.bulkArray(pubSub.channels(invocation.size() > 2 ? invocation.key(2) : "*").stream()
+						.map(Keyspace::bytes).toList());
+				case "NUMSUB" -> {
+
+					List<Reply> counts = new ArrayList<>();
+					for (int i = 2; i < invocation.size(); i++) {
+						counts.add(Reply.bulk(invocation.bytes(i)));
+						counts.add(Reply.integer(pubSub.subscribers(invocation.key(i))));
+					}
+					yield Reply.map(counts);
+				}
+				case "NUMPAT" -> Reply.integer(pubSub.patterns());
+				default -> Reply.error("ERR unknown subcommand '%s'".formatted(invocation.string(1)));
+			};
+		});
+	}
+
+	private void unsubscribe(Invocation invocation, Set<String> subscriptions, String kind) throws IOException {
+
+		Session session = invocation.session();
+		List<String> names = new ArrayList<>();
+
+		for (int i = 1; i < invocation.size(); i++) {
+			names.add(invocation.key(i));
+		}
+
+		if (names.isEmpty()) {
+			names.addAll(subscriptions);
+		}
+
+		if (names.isEmpty()) {
+			session.write(Reply.push(Reply.bulk(kind), Reply.NIL, Reply.integer(session.subscriptionCount())));
+			return;
+		}
+
+		for (String name : names) {
+
+			if (subscriptions.remove(name)) {
+				if (kind.equals("unsubscribe")) {
+					server.getPubSub().unsubscribe(session, name);
+				} else {
+					server.getPubSub().punsubscribe(session, name);
+				}
+			}
+
+			session.write(subscription(kind, name, session));
+		}
+	}
+
+	private void unsubscribeAll(Session session) {
+
+		session.channels.forEach(channel -> server.getPubSub().unsubscribe(session, channel));
+		session.patterns.forEach(pattern -> server.getPubSub().punsubscribe(session, pattern));
+		session.channels.clear();
+		session.patterns.clear();
+	}
+
+	private static Reply subscription(String kind, String name, Session session) {
+		return Reply.push(Reply.bulk(kind), Reply.bulk(Keyspace.bytes(name)), Reply.integer(session.subscriptionCount()));
+	}
+
+	// -------------------------------------------------------------------------
+	// Transaction commands
+	// -------------------------------------------------------------------------
+
+	private void registerTransactionCommands() {
+
+		register("MULTI", 1, NO_KEYS, invocation -> {
+
+			Session session = invocation.session();
+
+			if (session.transaction != null) {
+				return Reply.error("ERR MULTI calls can not be nested");
+			}
+
+			session.transaction = new ArrayList<>();
+			session.transactionFailed = false;
+			return Reply.OK;
+		});
+		register("EXEC", 1, NO_KEYS, invocation -> {
+
+			Session session = invocation.session();
+			List<List<byte[]>> transaction = session.transaction;
+
+			if (transaction == null) {
+				return Reply.error("ERR EXEC without MULTI");
+			}
+
+			session.transaction = null;
+
+			if (session.transactionFailed) {
+				session.transactionFailed = false;
+				return Reply.error("EXECABORT Transaction discarded because of previous errors.");
+			}
+
+			List<Reply> replies = new ArrayList<>(transaction.size());
+
+			for (List<byte[]> arguments : transaction) {
+
+				Invocation queued = new Invocation(session, arguments);
+
+				try {
+					Reply reply = commands.get(queued.name()).handler().handle(queued);
+					replies.add(reply != null ? reply : Reply.NIL);
+				} catch (CommandException ex) {
+					replies.add(Reply.error(ex.getMessage()));
+				}
+			}
+
+			return Reply.array(replies);
+		});
+		register("DISCARD", 1, NO_KEYS, invocation -> {
+
+			Session session = invocation.session();
+
+			if (session.transaction == null) {
+				return Reply.error("ERR DISCARD without MULTI");
+			}
+
+			session.transaction = null;
+			session.transactionFailed = false;
+			return Reply.OK;
+		});
+		register("WATCH", -2, ALL_KEYS, invocation -> invocation.session().transaction != null
+				? Reply.error("ERR WATCH inside MULTI is not allowed")
+				: Reply.OK);
+		register("UNWATCH", 1, NO_KEYS, invocation -> Reply.OK);
+	}
+
+	// -------------------------------------------------------------------------
+	// Cluster commands
+	// -------------------------------------------------------------------------
+
+	private Reply cluster(Invocation invocation) {
+
+		ClusterState cluster = server.getCluster();
+
+		if (cluster == null) {
+			return Reply.error("ERR This instance has cluster support disabled");
+		}
+
+		return switch (invocation.upper(1)) {
+			case "NODES" -> Reply.bulk(cluster.nodes(server));
+			case "SLOTS" -> cluster.slots();
+			case "SHARDS" -> cluster.shards();
+			case "MYID" -> Reply.bulk(server.getNodeId());
+			case "INFO" -> Reply.bulk(cluster.info());
+			case "KEYSLOT" -> Reply.integer(ClusterSlotHashUtil.calculateSlot(invocation.bytes(2)));
+			case "COUNTKEYSINSLOT" -> Reply.integer(keysInSlot(invocation.longValue(2), Long.MAX_VALUE).size());
+			case "GETKEYSINSLOT" -> Reply.bulkArray(keysInSlot(invocation.longValue(2), invocation.longValue(3)));
+			default -> Reply.error("ERR unknown subcommand '%s'".formatted(invocation.string(1)));
+		};
+	}
+
+	private List<byte[]> keysInSlot(long slot, long limit) {
+
+		List<byte[]> keys = new ArrayList<>();
+
+		for (Iterator<String> iterator = keyspace.keys(0).iterator(); iterator.hasNext() && keys.size() < limit;) {
+
+			byte[] key = Keyspace.bytes(iterator.next());
+
+			if (ClusterSlotHashUtil.calculateSlot(key) == slot) {
+				keys.add(key);
+			}
+		}
+
+		return keys;
+	}
+
+	@FunctionalInterface
+	interface Handler {
+
+		@Nullable
+		Reply handle(Invocation invocation) throws IOException;
+	}
+
+	/**
+	 * @param arity number of arguments including the command name, negative values denote a minimum.
+	 */
+	record Command(int arity, KeySpec keys, Handler handler) {
+
+		boolean accepts(int arguments) {
+			return arity >= 0 ? arguments == arity : arguments >= -arity;
+		}
+	}
+
+	/**
+	 * Position of keys within the arguments.
+	 *
+	 * @param first index of the first key, {@code 0} if the command has no keys.
+	 * @param last index of the last key, {@code -1} for the last argument.
+	 * @param step distance between keys.
+	 */
+	record KeySpec(int first, int last, int step) {
+
+		List<byte[]> extract(List<byte[]> arguments) {
+
+			if (first == 0 || first >= arguments.size()) {
+				return List.of();
+			}
+
+			int end = last < 0 ? arguments.size() - 1 : Math.min(last, arguments.size() - 1);
+			List<byte[]> keys = new ArrayList<>();
+
+			for (int i = first; i <= end; i += step) {
+				keys.add(arguments.get(i));
+			}
+
+			return keys;
+		}
+	}
+}
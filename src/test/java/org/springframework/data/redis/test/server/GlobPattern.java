@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+/**
+ * Glob-style pattern matching as used by {@code KEYS}, {@code SCAN} and {@code PSUBSCRIBE}: {@code *}, {@code ?},
+ * character classes ({@code [abc]}, {@code [^a]}, {@code [a-z]}) and {@code \} escapes.
+ */
+abstract class GlobPattern {
+
+	private GlobPattern() {}
+
+	static boolean matches(String pattern, String value) {
+		return matches(pattern, 0, value, 0);
+	}
+
+	private static boolean matches(String pattern, int p, String value, int v) {
+
+		while (p < pattern.length()) {
+
+			char c = pattern.charAt(p);
+
+			switch (c) {
+				case '*' -> {
+
+					while (p + 1 < pattern.length() && pattern.charAt(p + 1) == '*') {
+						p++;
+					}
+
+					if (p + 1 == pattern.length()) {
+						return true;
+					}
+
+					for (int i = v; i <= value.length(); i++) {
+						if (matches(pattern, p + 1, value, i)) {
+							return true;
+						}
+					}
+
+					return false;
+				}
+				case '?' -> {
+
+					if (v >= value.length()) {
+						return false;
+					}
+
+					v++;
+				}
+				case '[' -> {
+
+					if (v >= value.length()) {
+						return false;
+					}
+
+					int end = pattern.indexOf(']', p + 2);
+
+					if (end < 0) {
+						end = pattern.length();
+					}
+
+					if (!matchesClass(pattern.substring(p + 1, end), value.charAt(v))) {
+						return false;
+					}
+
+					p = end;
+					v++;
+				}
+				default -> {
+
+					if (c == '\\' && p + 1 < pattern.length()) {
+						c = pattern.charAt(++p);
+					}
+
+					if (v >= value.length() || value.charAt(v) != c) {
+						return false;
+					}
+
+					v++;
+				}
+			}
+
+			p++;
+		}
+
+		return v == value.length();
+	}
+
+	private static boolean matchesClass(String characterClass, char c) {
+
+		boolean negate = characterClass.startsWith("^");
+		boolean match = false;
+
+		for (int i = negate ? 1 : 0; i < characterClass.length(); i++) {
+
+			char candidate = characterClass.charAt(i);
+
+			if (candidate == '\\' && i + 1 < characterClass.length()) {
+				match |= characterClass.charAt(++i) == c;
+			} else if (i + 2 < characterClass.length() && characterClass.charAt(i + 1) == '-') {
+
+				char to = characterClass.charAt(i + 2);
+				match |= c >= Math.min(candidate, to) && c <= Math.max(candidate, to);
+				i += 2;
+			} else {
+				match |= candidate == c;
+			}
+		}
+
+		return negate != match;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Arguments of a command invocation along with the invoking {@link Session}.
+ */
+record Invocation(Session session, List<byte[]> arguments) {
+
+	String name() {
+		return upper(0);
+	}
+
+	int size() {
+		return arguments.size();
+	}
+
+	int db() {
+		return session.db;
+	}
+
+	byte[] bytes(int index) {
+		return arguments.get(index);
+	}
+
+	/**
+	 * @return the binary-safe key representation of the argument at {@code index}.
+	 */
+	String key(int index) {
+		return Keyspace.key(arguments.get(index));
+	}
+
+	String string(int index) {
+		return new String(arguments.get(index), StandardCharsets.UTF_8);
+	}
+
+	String upper(int index) {
+		return string(index).toUpperCase(Locale.ROOT);
+	}
+
+	long longValue(int index) {
+
+		try {
+			return Long.parseLong(string(index));
+		} catch (NumberFormatException ex) {
+			throw CommandException.notInteger();
+		}
+	}
+
+	double doubleValue(int index) {
+		return parseDouble(string(index));
+	}
+
+	static double parseDouble(String value) {
+
+		return switch (value.toLowerCase(Locale.ROOT)) {
+			case "inf", "+inf" -> Double.POSITIVE_INFINITY;
+			case "-inf" -> Double.NEGATIVE_INFINITY;
+			default -> {
+				try {
+					yield Double.parseDouble(value);
+				} catch (NumberFormatException ex) {
+					throw new CommandException("ERR value is not a valid float");
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * In-memory databases holding values keyed by their binary key. Keys are represented as ISO-8859-1 strings which maps
+ * each byte to exactly one {@code char} and therefore retains binary keys. Expired keys are evicted lazily on access.
+ * <p>
+ * Values are {@code byte[]} for strings, {@link LinkedHashMap} for hashes, {@link java.util.LinkedList} for lists,
+ * {@link java.util.LinkedHashSet} for sets and {@link SortedSet} for sorted sets. Access must be synchronized on the
+ * {@link Keyspace} instance.
+ */
+class Keyspace {
+
+	static final int DATABASES = 16;
+
+	private final List<Map<String, Entry>> databases = new ArrayList<>(DATABASES);
+
+	Keyspace() {
+		for (int i = 0; i < DATABASES; i++) {
+			databases.add(new LinkedHashMap<>());
+		}
+	}
+
+	static String key(byte[] key) {
+		return new String(key, StandardCharsets.ISO_8859_1);
+	}
+
+	static byte[] bytes(String key) {
+		return key.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	@Nullable
+	Object get(int db, String key) {
+
+		Entry entry = entry(db, key);
+		return entry != null ? entry.value : null;
+	}
+
+	/**
+	 * Obtain the value stored at {@code key} verifying its type.
+	 *
+	 * @return the value or {@literal null} if the key does not exist.
+	 * @throws CommandException if the key holds a value of a different type.
+	 */
+	<T> @Nullable T get(int db, String key, Class<T> type) {
+
+		Object value = get(db, key);
+
+		if (value != null && !type.isInstance(value)) {
+			throw new CommandException(CommandException.WRONGTYPE);
+		}
+
+		return type.cast(value);
+	}
+
+	/**
+	 * Obtain the value stored at {@code key} or create and store a new value if the key does not exist.
+	 */
+	<T> T getOrCreate(int db, String key, Class<T> type, Supplier<T> factory) {
+
+		T value = get(db, key, type);
+
+		if (value == null) {
+			value = factory.get();
+			databases.get(db).put(key, new Entry(value));
+		}
+
+		return value;
+	}
+
+	/**
+	 * Store {@code value} removing any previously set expiration.
+	 */
+	void set(int db, String key, Object value) {
+		databases.get(db).put(key, new Entry(value));
+	}
+
+	/**
+	 * Store {@code value} retaining the expiration of an existing key.
+	 */
+	void replace(int db, String key, Object value) {
+
+		Entry entry = entry(db, key);
+
+		if (entry != null) {
+			entry.value = value;
+		} else {
+			set(db, key, value);
+		}
+	}
+
+	boolean remove(int db, String key) {
+		return entry(db, key) != null && databases.get(db).remove(key) != null;
+	}
+
+	/**
+	 * Remove the key if its value is an empty collection, mirroring Redis removing empty aggregates.
+	 */
+	void removeIfEmpty(int db, String key) {
+
+		Object value = get(db, key);
+
+		if (value instanceof Map<?, ?> map && map.isEmpty()
+				|| value instanceof java.util.Collection<?> collection && collection.isEmpty()
+				|| value instanceof SortedSet sortedSet && sortedSet.isEmpty()) {
+			databases.get(db).remove(key);
+		}
+	}
+
+	boolean exists(int db, String key) {
+		return entry(db, key) != null;
+	}
+
+	/**
+	 * @return {@literal true} if the expiration was set.
+	 */
+	boolean expireAt(int db, String key, long epochMillis) {
+
+		Entry entry = entry(db, key);
+
+		if (entry == null) {
+			return false;
+		}
+
+		if (epochMillis <= System.currentTimeMillis()) {
+			databases.get(db).remove(key);
+		} else {
+			entry.expiresAt = epochMillis;
+		}
+
+		return true;
+	}
+
+	boolean persist(int db, String key) {
+
+		Entry entry = entry(db, key);
+
+		if (entry == null || entry.expiresAt < 0) {
+			return false;
+		}
+
+		entry.expiresAt = -1;
+		return true;
+	}
+
+	/**
+	 * @return remaining time to live in milliseconds, {@code -1} if the key does not expire or {@code -2} if it does not
+	 *         exist.
+	 */
+	long ttl(int db, String key) {
+
+		Entry entry = entry(db, key);
+
+		if (entry == null) {
+			return -2;
+		}
+
+		return entry.expiresAt < 0 ? -1 : Math.max(entry.expiresAt - System.currentTimeMillis(), 0);
+	}
+
+	/**
+	 * Move {@code key} including its expiration to {@code target}.
+	 */
+	void transfer(int db, String key, Keyspace target) {
+
+		Entry entry = entry(db, key);
+
+		if (entry != null) {
+			databases.get(db).remove(key);
+			target.databases.get(db).put(key, entry);
+		}
+	}
+
+	List<String> keys(int db) {
+
+		evictExpired(db);
+		return new ArrayList<>(databases.get(db).keySet());
+	}
+
+	int size(int db) {
+
+		evictExpired(db);
+		return databases.get(db).size();
+	}
+
+	void clear(int db) {
+		databases.get(db).clear();
+	}
+
+	void clear() {
+		databases.forEach(Map::clear);
+	}
+
+	private @Nullable Entry entry(int db, String key) {
+
+		Map<String, Entry> database = databases.get(db);
+		Entry entry = database.get(key);
+
+		if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+			database.remove(key);
+			return null;
+		}
+
+		return entry;
+	}
+
+	private void evictExpired(int db) {
+
+		long now = System.currentTimeMillis();
+
+		for (Iterator<Entry> iterator = databases.get(db).values().iterator(); iterator.hasNext();) {
+			if (iterator.next().isExpired(now)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static class Entry {
+
+		Object value;
+		long expiresAt = -1;
+
+		Entry(Object value) {
+			this.value = value;
+		}
+
+		boolean isExpired(long now) {
+			return expiresAt >= 0 && expiresAt <= now;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pub/Sub broker tracking channel and pattern subscriptions. Shared across all nodes of a {@link RespCluster} as
+ * messages published to any node are propagated to the entire cluster.
+ */
+class PubSub {
+
+	private final Map<String, Set<Session>> channels = new LinkedHashMap<>();
+	private final Map<String, Set<Session>> patterns = new LinkedHashMap<>();
+
+	synchronized void subscribe(Session session, String channel) {
+		channels.computeIfAbsent(channel, key -> new LinkedHashSet<>()).add(session);
+	}
+
+	synchronized void unsubscribe(Session session, String channel) {
+		remove(channels, channel, session);
+	}
+
+	synchronized void psubscribe(Session session, String pattern) {
+		patterns.computeIfAbsent(pattern, key -> new LinkedHashSet<>()).add(session);
+	}
+
+	synchronized void punsubscribe(Session session, String pattern) {
+		remove(patterns, pattern, session);
+	}
+
+	/**
+	 * Deliver {@code message} to all channel and pattern subscribers.
+	 *
+	 * @return the number of subscriptions that received the message.
+	 */
+	int publish(String channel, byte[] message) {
+
+		List<Session> subscribers;
+		List<Map.Entry<String, Session>> patternSubscribers = new ArrayList<>();
+
+		synchronized (this) {
+
+			subscribers = new ArrayList<>(channels.getOrDefault(channel, Set.of()));
+
+			for (Map.Entry<String, Set<Session>> entry : patterns.entrySet()) {
+				if (GlobPattern.matches(entry.getKey(), channel)) {
+					for (Session session : entry.getValue()) {
+						patternSubscribers.add(Map.entry(entry.getKey(), session));
+					}
+				}
+			}
+		}
+
+		Reply channelName = Reply.bulk(Keyspace.bytes(channel));
+
+		for (Session subscriber : subscribers) {
+			subscriber.deliver(Reply.push(Reply.bulk("message"), channelName, Reply.bulk(message)));
+		}
+
+		for (Map.Entry<String, Session> subscriber : patternSubscribers) {
+			subscriber.getValue().deliver(Reply.push(Reply.bulk("pmessage"),
+					Reply.bulk(Keyspace.bytes(subscriber.getKey())), channelName, Reply.bulk(message)));
+		}
+
+		return subscribers.size() + patternSubscribers.size();
+	}
+
+	synchronized List<String> channels(String pattern) {
+		return channels.keySet().stream().filter(channel -> GlobPattern.matches(pattern, channel)).toList();
+	}
+
+	synchronized int subscribers(String channel) {
+		return channels.getOrDefault(channel, Set.of()).size();
+	}
+
+	synchronized int patterns() {
+		return patterns.size();
+	}
+
+	private static void remove(Map<String, Set<Session>> subscriptions, String name, Session session) {
+
+		Set<Session> sessions = subscriptions.get(name);
+
+		if (sessions != null && sessions.remove(session) && sessions.isEmpty()) {
+			subscriptions.remove(name);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Protocol-independent reply. {@link RespWriter} encodes replies as RESP2 or RESP3 depending on the protocol
+ * negotiated by the client.
+ */
+sealed interface Reply {
+
+	Reply OK = new Simple("OK");
+	Reply QUEUED = new Simple("QUEUED");
+	Reply PONG = new Simple("PONG");
+	Reply NIL = new Nil();
+
+	static Reply simple(String value) {
+		return new Simple(value);
+	}
+
+	static Reply error(String message) {
+		return new Error(message);
+	}
+
+	static Reply integer(long value) {
+		return new Int(value);
+	}
+
+	static Reply bool(boolean value) {
+		return new Int(value ? 1 : 0);
+	}
+
+	static Reply bulk(byte @Nullable [] value) {
+		return value != null ? new Bulk(value) : NIL;
+	}
+
+	static Reply bulk(@Nullable String value) {
+		return value != null ? new Bulk(value.getBytes(StandardCharsets.UTF_8)) : NIL;
+	}
+
+	static Reply number(double value) {
+		return new Dbl(value);
+	}
+
+	static Reply array(Reply... elements) {
+		return new Array(List.of(elements));
+	}
+
+	static Reply array(List<Reply> elements) {
+		return new Array(elements);
+	}
+
+	static Reply bulkArray(Collection<byte[]> elements) {
+
+		List<Reply> replies = new ArrayList<>(elements.size());
+		for (byte[] element : elements) {
+			replies.add(bulk(element));
+		}
+		return new Array(replies);
+	}
+
+	/**
+	 * @param entries alternating keys and values.
+	 */
+	static Reply map(List<Reply> entries) {
+		return new MapReply(entries);
+	}
+
+	static Reply set(List<Reply> elements) {
+		return new SetReply(elements);
+	}
+
+	static Reply push(Reply... elements) {
+		return new Push(List.of(elements));
+	}
+
+	record Simple(String value) implements Reply {
+	}
+
+	record Error(String message) implements Reply {
+	}
+
+	record Int(long value) implements Reply {
+	}
+
+	record Bulk(byte[] value) implements Reply {
+	}
+
+	record Dbl(double value) implements Reply {
+	}
+
+	record Nil() implements Reply {
+	}
+
+	record Array(List<Reply> elements) implements Reply {
+	}
+
+	record MapReply(List<Reply> entries) implements Reply {
+	}
+
+	record SetReply(List<Reply> elements) implements Reply {
+	}
+
+	record Push(List<Reply> elements) implements Reply {
+	}
+}
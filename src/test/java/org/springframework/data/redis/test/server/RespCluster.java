@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.io.Closeable;
+import java.util.List;
+
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.util.Assert;
+
+/**
+ * Cluster of in-process {@link RespServer} primary nodes sharing a slot assignment. Nodes answer commands for slots
+ * they do not own with {@code MOVED} redirections. {@link #beginSlotMigration(int, RespServer) Migrating} a slot makes
+ * the owning node answer commands for missing keys with {@code ASK} redirections to the migration target until the
+ * migration is {@link #completeSlotMigration(int) completed}.
+ *
+ * @see RespServer.Builder#startCluster(int)
+ */
+public class RespCluster implements Closeable {
+
+	private final ClusterState state;
+
+	RespCluster(ClusterState state) {
+		this.state = state;
+	}
+
+	public List<RespServer> getNodes() {
+		return state.getNodes();
+	}
+
+	public RespServer getNode(int index) {
+		return state.getNodes().get(index);
+	}
+
+	/**
+	 * @return the node currently owning {@code slot}.
+	 */
+	public RespServer getNodeForSlot(int slot) {
+		return state.getOwner(slot);
+	}
+
+	/**
+	 * @return the node currently owning the slot of {@code key}.
+	 */
+	public RespServer getNodeForKey(String key) {
+		return getNodeForSlot(ClusterSlotHashUtil.calculateSlot(key));
+	}
+
+	/**
+	 * @return a {@link RedisClusterConfiguration} pointing to all cluster nodes.
+	 */
+	public RedisClusterConfiguration getClusterConfiguration() {
+		return new RedisClusterConfiguration(
+				getNodes().stream().map(node -> node.getHost() + ":" + node.getPort()).toList());
+	}
+
+	/**
+	 * Start migrating {@code slot} to {@code target}. Commands for keys that do not exist on the current owner are
+	 * redirected with {@code ASK} to the target node.
+	 *
+	 * @param slot the slot to migrate.
+	 * @param target the node to migrate the slot to, must be a node of this cluster.
+	 */
+	public void beginSlotMigration(int slot, RespServer target) {
+
+		Assert.isTrue(getNodes().contains(target), "Target must be a node of this cluster");
+
+		state.beginMigration(slot, target);
+	}
+
+	/**
+	 * Complete the migration of {@code slot} moving all remaining keys to the target node and reassigning the slot so
+	 * that the previous owner redirects commands with {@code MOVED}.
+	 *
+	 * @param slot the migrating slot.
+	 */
+	public void completeSlotMigration(int slot) {
+
+		RespServer target = state.getMigrationTarget(slot);
+		Assert.state(target != null, () -> "Slot %d is not migrating".formatted(slot));
+
+		RespServer source = state.getOwner(slot);
+
+		synchronized (source.getKeyspace()) {
+			synchronized (target.getKeyspace()) {
+
+				for (String key : source.getKeyspace().keys(0)) {
+					if (ClusterSlotHashUtil.calculateSlot(Keyspace.bytes(key)) == slot) {
+						source.getKeyspace().transfer(0, key, target.getKeyspace());
+					}
+				}
+
+				state.completeMigration(slot);
+			}
+		}
+	}
+
+	/**
+	 * Move {@code slot} including its keys to {@code target}.
+	 *
+	 * @param slot the slot to move.
+	 * @param target the new owner, must be a node of this cluster.
+	 */
+	public void moveSlot(int slot, RespServer target) {
+
+		beginSlotMigration(slot, target);
+		completeSlotMigration(slot);
+	}
+
+	public void flushAll() {
+		getNodes().forEach(RespServer::flushAll);
+	}
+
+	@Override
+	public void close() {
+		getNodes().forEach(RespServer::close);
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.test.extension.LettuceTestClientResources;
+
+/**
+ * Tests for {@link RespCluster} using the Lettuce and Jedis cluster drivers.
+ */
+class RespClusterIntegrationTests {
+
+	private RespCluster cluster;
+	private RedisConnectionFactory connectionFactory;
+	private StringRedisTemplate template;
+
+	@AfterEach
+	void tearDown() {
+
+		if (connectionFactory instanceof LettuceConnectionFactory lettuce) {
+			lettuce.destroy();
+		}
+
+		if (connectionFactory instanceof JedisConnectionFactory jedis) {
+			jedis.destroy();
+		}
+
+		cluster.close();
+	}
+
+	static Stream<Arguments> drivers() {
+
+		Function<RedisClusterConfiguration, RedisConnectionFactory> lettuce = configuration -> new LettuceConnectionFactory(
+				configuration, LettuceClientConfiguration.builder()
+						.clientResources(LettuceTestClientResources.getSharedClientResources()).build());
+		Function<RedisClusterConfiguration, RedisConnectionFactory> jedis = JedisConnectionFactory::new;
+
+		return Stream.of(Arguments.of("Lettuce", lettuce), Arguments.of("Jedis", jedis));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldRouteCommandsToSlotOwners(String driver,
+			Function<RedisClusterConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(factory);
+
+		List<String> keys = new ArrayList<>();
+		Set<RespServer> owners = new HashSet<>();
+
+		for (int i = 0; i < 20; i++) {
+
+			String key = "key:" + i;
+			keys.add(key);
+			owners.add(cluster.getNodeForKey(key));
+			template.opsForValue().set(key, "value:" + i);
+		}
+
+		assertThat(owners).hasSize(3);
+		assertThat(template.opsForValue().multiGet(keys)).hasSize(20).allMatch(value -> value.startsWith("value:"));
+		assertThat(cluster.getNodes()).allMatch(node -> node.getCommandCount() > 0);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldFollowAskRedirection(String driver,
+			Function<RedisClusterConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(factory);
+
+		int slot = ClusterSlotHashUtil.calculateSlot("key");
+		RespServer target = cluster.getNodes().stream().filter(node -> node != cluster.getNodeForSlot(slot)).findFirst()
+				.orElseThrow();
+
+		template.opsForValue().set("key", "value");
+		cluster.beginSlotMigration(slot, target);
+
+		assertThat(template.opsForValue().get("key")).isEqualTo("value");
+
+		template.opsForValue().set("{key}:new", "value");
+
+		assertThat(target.getKeyspace().exists(0, "{key}:new")).isTrue();
+		assertThat(template.opsForValue().get("{key}:new")).isEqualTo("value");
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldFollowMovedRedirection(String driver,
+			Function<RedisClusterConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(factory);
+
+		int slot = ClusterSlotHashUtil.calculateSlot("key");
+		RespServer target = cluster.getNodes().stream().filter(node -> node != cluster.getNodeForSlot(slot)).findFirst()
+				.orElseThrow();
+
+		template.opsForValue().set("key", "value");
+		cluster.moveSlot(slot, target);
+
+		assertThat(cluster.getNodeForKey("key")).isSameAs(target);
+		assertThat(template.opsForValue().get("key")).isEqualTo("value");
+	}
+
+	private void start(Function<RedisClusterConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		this.cluster = RespServer.builder().startCluster(3);
+		this.connectionFactory = factory.apply(cluster.getClusterConfiguration());
+
+		if (connectionFactory instanceof LettuceConnectionFactory lettuce) {
+			lettuce.afterPropertiesSet();
+			lettuce.start();
+		}
+
+		if (connectionFactory instanceof JedisConnectionFactory jedis) {
+			jedis.afterPropertiesSet();
+			jedis.start();
+		}
+
+		this.template = new StringRedisTemplate(connectionFactory);
+	}
+}
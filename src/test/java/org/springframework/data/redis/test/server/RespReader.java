@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads commands sent as RESP arrays of bulk strings or as inline commands.
+ */
+class RespReader {
+
+	private final InputStream in;
+
+	RespReader(InputStream in) {
+		this.in = in;
+	}
+
+	/**
+	 * @return {@literal true} if more data is buffered and can be read without blocking.
+	 */
+	boolean hasBufferedInput() throws IOException {
+		return in.available() > 0;
+	}
+
+	/**
+	 * Read the next command.
+	 *
+	 * @return command name and arguments.
+	 * @throws EOFException if the client closed the connection.
+	 */
+	List<byte[]> readCommand() throws IOException {
+
+		int type = read();
+
+		if (type != '*') {
+			return readInline(type);
+		}
+
+		int count = (int) readLong();
+		List<byte[]> arguments = new ArrayList<>(Math.max(count, 0));
+
+		for (int i = 0; i < count; i++) {
+
+			if (read() != '$') {
+				throw new IOException("Protocol error: expected '$'");
+			}
+
+			byte[] argument = in.readNBytes((int) readLong());
+			in.skipNBytes(2);
+			arguments.add(argument);
+		}
+
+		return arguments.isEmpty() ? readCommand() : arguments;
+	}
+
+	private List<byte[]> readInline(int first) throws IOException {
+
+		StringBuilder line = new StringBuilder();
+
+		for (int b = first; b != '\n'; b = read()) {
+			if (b != '\r') {
+				line.append((char) b);
+			}
+		}
+
+		List<byte[]> arguments = new ArrayList<>();
+
+		for (String token : line.toString().trim().split("\\s+")) {
+			if (!token.isEmpty()) {
+				arguments.add(token.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		return arguments.isEmpty() ? readCommand() : arguments;
+	}
+
+	private long readLong() throws IOException {
+
+		long value = 0;
+		boolean negative = false;
+
+		for (int b = read(); b != '\r'; b = read()) {
+
+			if (b == '-') {
+				negative = true;
+			} else {
+				value = value * 10 + (b - '0');
+			}
+		}
+
+		read(); // \n
+		return negative ? -value : value;
+	}
+
+	private int read() throws IOException {
+
+		int b = in.read();
+
+		if (b == -1) {
+			throw new EOFException();
+		}
+
+		return b;
+	}
+}
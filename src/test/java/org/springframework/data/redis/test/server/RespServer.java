@@ -0,0 +1,410 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Lightweight in-process Redis server speaking RESP2 and RESP3 for hermetic tests and benchmarks of the connection
+ * layer. Supports the core string, key, hash, list, set and sorted set commands, transactions, Pub/Sub and cluster
+ * slot emulation including {@code MOVED} and {@code ASK} redirections through {@link RespCluster}.
+ * <p>
+ * Latency is simulated per round trip: replies are held back for the configured latency before they are flushed so
+ * that pipelined commands share a single delay, just like on a real network.
+ * <p>
+ * Failures can be injected by {@link #disconnectClients() disconnecting clients} or {@link #stop() stopping} and
+ * {@link #restart() restarting} the server on the same port.
+ *
+ * <pre class="code">
+ * try (RespServer server = RespServer.builder().latency(Duration.ofMillis(1)).start()) {
+ * 	LettuceConnectionFactory factory = new LettuceConnectionFactory(server.getHost(), server.getPort());
+ * 	// …
+ * }
+ * </pre>
+ */
+public class RespServer implements Closeable {
+
+	private static final AtomicLong CLIENT_IDS = new AtomicLong();
+
+	private final String nodeId;
+	private final Keyspace keyspace = new Keyspace();
+	private final PubSub pubSub;
+	private final @Nullable ClusterState cluster;
+	private final Commands commands;
+	private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+	private final AtomicLong commandCount = new AtomicLong();
+	private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+
+		Thread thread = new Thread(runnable, "resp-server");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile Duration latency;
+	private volatile Duration jitter;
+	private volatile @Nullable ServerSocket serverSocket;
+	private volatile int port;
+
+	RespServer(int port, Duration latency, Duration jitter, PubSub pubSub, @Nullable ClusterState cluster) {
+
+		byte[] id = new byte[20];
+		ThreadLocalRandom.current().nextBytes(id);
+
+		this.nodeId = HexFormat.of().formatHex(id);
+		this.port = port;
+		this.latency = latency;
+		this.jitter = jitter;
+		this.pubSub = pubSub;
+		this.cluster = cluster;
+		this.commands = new Commands(this);
+	}
+
+	/**
+	 * Start a standalone server on an ephemeral port without latency.
+	 *
+	 * @return the started server.
+	 * @throws IOException if the server socket cannot be bound.
+	 */
+	public static RespServer start() throws IOException {
+		return builder().start();
+	}
+
+	/**
+	 * @return a new {@link Builder} to configure standalone servers or clusters.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public String getHost() {
+		return InetAddress.getLoopbackAddress().getHostAddress();
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * @return the 40 character node identifier reported by {@code CLUSTER NODES}.
+	 */
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * @return number of currently connected clients.
+	 */
+	public int getConnectedClients() {
+		return sessions.size();
+	}
+
+	/**
+	 * @return number of commands received since the server was created, including rejected and redirected commands.
+	 */
+	public long getCommandCount() {
+		return commandCount.get();
+	}
+
+	/**
+	 * Change the simulated round-trip latency.
+	 *
+	 * @param latency must not be {@literal null} or negative.
+	 */
+	public void setLatency(Duration latency) {
+
+		Assert.isTrue(latency != null && !latency.isNegative(), "Latency must not be null or negative");
+
+		this.latency = latency;
+	}
+
+	/**
+	 * Remove all keys from all databases.
+	 */
+	public void flushAll() {
+
+		synchronized (keyspace) {
+			keyspace.clear();
+		}
+	}
+
+	/**
+	 * Close all client connections while continuing to accept new connections.
+	 */
+	public void disconnectClients() {
+		List.copyOf(sessions).forEach(Session::close);
+	}
+
+	/**
+	 * Stop accepting connections and close all client connections. Data is retained.
+	 */
+	public void stop() {
+
+		ServerSocket socket = this.serverSocket;
+		this.serverSocket = null;
+
+		if (socket != null) {
+			try {
+				socket.close();
+			} catch (IOException ex) {
+				// ignore
+			}
+		}
+
+		disconnectClients();
+	}
+
+	/**
+	 * Restart the server on the same port, closing all client connections. Data is retained.
+	 *
+	 * @throws IOException if the server socket cannot be bound.
+	 */
+	public void restart() throws IOException {
+
+		stop();
+
+		// closing a server socket with a thread blocked in accept() releases the port asynchronously
+		for (int attempt = 1;; attempt++) {
+			try {
+				bind();
+				return;
+			} catch (BindException ex) {
+
+				if (attempt == 50) {
+					throw ex;
+				}
+
+				try {
+					TimeUnit.MILLISECONDS.sleep(10);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw ex;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+
+		stop();
+		executor.shutdownNow();
+	}
+
+	RespServer bind() throws IOException {
+
+		ServerSocket socket = new ServerSocket();
+		socket.setReuseAddress(true);
+		socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 128);
+
+		this.port = socket.getLocalPort();
+		this.serverSocket = socket;
+
+		executor.execute(() -> accept(socket));
+		return this;
+	}
+
+	Keyspace getKeyspace() {
+		return keyspace;
+	}
+
+	PubSub getPubSub() {
+		return pubSub;
+	}
+
+	@Nullable
+	ClusterState getCluster() {
+		return cluster;
+	}
+
+	Set<Session> getSessions() {
+		return sessions;
+	}
+
+	@Nullable
+	Reply dispatch(Session session, List<byte[]> command) throws IOException {
+
+		commandCount.incrementAndGet();
+		return commands.dispatch(session, command);
+	}
+
+	void simulateLatency() {
+
+		long nanos = latency.toNanos();
+		long jitterNanos = jitter.toNanos();
+
+		if (jitterNanos > 0) {
+			nanos += ThreadLocalRandom.current().nextLong(jitterNanos);
+		}
+
+		if (nanos <= 0) {
+			return;
+		}
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	void disconnected(Session session) {
+
+		if (sessions.remove(session)) {
+
+			session.channels.forEach(channel -> pubSub.unsubscribe(session, channel));
+			session.patterns.forEach(pattern -> pubSub.punsubscribe(session, pattern));
+		}
+	}
+
+	private void accept(ServerSocket socket) {
+
+		while (!socket.isClosed()) {
+
+			try {
+
+				Socket client = socket.accept();
+				client.setTcpNoDelay(true);
+
+				Session session = new Session(CLIENT_IDS.incrementAndGet(), client, this);
+				sessions.add(session);
+
+				if (socket.isClosed()) {
+					session.close();
+				} else {
+					executor.execute(session);
+				}
+			} catch (IOException ex) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Builder for {@link RespServer} and {@link RespCluster}.
+	 */
+	public static class Builder {
+
+		private int port;
+		private Duration latency = Duration.ZERO;
+		private Duration jitter = Duration.ZERO;
+
+		private Builder() {}
+
+		/**
+		 * Configure the port to bind to. Defaults to an ephemeral port. Ignored for clusters.
+		 *
+		 * @param port the port, {@code 0} to use an ephemeral port.
+		 * @return {@code this} builder.
+		 */
+		public Builder port(int port) {
+
+			Assert.isTrue(port >= 0, "Port must not be negative");
+
+			this.port = port;
+			return this;
+		}
+
+		/**
+		 * Configure the simulated round-trip latency.
+		 *
+		 * @param latency must not be {@literal null} or negative.
+		 * @return {@code this} builder.
+		 */
+		public Builder latency(Duration latency) {
+			return latency(latency, Duration.ZERO);
+		}
+
+		/**
+		 * Configure the simulated round-trip latency with a random jitter added to each round trip.
+		 *
+		 * @param latency must not be {@literal null} or negative.
+		 * @param jitter upper bound of the random jitter, must not be {@literal null} or negative.
+		 * @return {@code this} builder.
+		 */
+		public Builder latency(Duration latency, Duration jitter) {
+
+			Assert.isTrue(latency != null && !latency.isNegative(), "Latency must not be null or negative");
+			Assert.isTrue(jitter != null && !jitter.isNegative(), "Jitter must not be null or negative");
+
+			this.latency = latency;
+			this.jitter = jitter;
+			return this;
+		}
+
+		/**
+		 * Start a standalone server.
+		 *
+		 * @return the started server.
+		 * @throws IOException if the server socket cannot be bound.
+		 */
+		public RespServer start() throws IOException {
+			return new RespServer(port, latency, jitter, new PubSub(), null).bind();
+		}
+
+		/**
+		 * Start a cluster with slots distributed evenly across {@code nodes} primary nodes.
+		 *
+		 * @param nodes number of nodes, must be greater than zero.
+		 * @return the started cluster.
+		 * @throws IOException if a server socket cannot be bound.
+		 */
+		public RespCluster startCluster(int nodes) throws IOException {
+
+			Assert.isTrue(nodes > 0, "Number of nodes must be greater than zero");
+
+			ClusterState cluster = new ClusterState();
+			PubSub pubSub = new PubSub();
+
+			for (int i = 0; i < nodes; i++) {
+				cluster.addNode(new RespServer(0, latency, jitter, pubSub, cluster));
+			}
+
+			cluster.assignSlots();
+
+			RespCluster respCluster = new RespCluster(cluster);
+
+			try {
+				for (RespServer node : cluster.getNodes()) {
+					node.bind();
+				}
+			} catch (IOException ex) {
+				respCluster.close();
+				throw ex;
+			}
+
+			return respCluster;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.test.extension.LettuceTestClientResources;
+
+/**
+ * Tests for {@link RespServer} using the Lettuce and Jedis drivers.
+ */
+class RespServerIntegrationTests {
+
+	private RespServer server;
+	private RedisConnectionFactory connectionFactory;
+	private StringRedisTemplate template;
+
+	@AfterEach
+	void tearDown() throws Exception {
+
+		if (connectionFactory instanceof LettuceConnectionFactory lettuce) {
+			lettuce.destroy();
+		}
+
+		if (connectionFactory instanceof JedisConnectionFactory jedis) {
+			jedis.destroy();
+		}
+
+		server.close();
+	}
+
+	static Stream<Arguments> drivers() {
+
+		Function<RedisStandaloneConfiguration, RedisConnectionFactory> lettuce = configuration -> new LettuceConnectionFactory(
+				configuration, LettuceClientConfiguration.builder()
+						.clientResources(LettuceTestClientResources.getSharedClientResources()).build());
+		Function<RedisStandaloneConfiguration, RedisConnectionFactory> jedis = JedisConnectionFactory::new;
+
+		return Stream.of(Arguments.of("Lettuce", lettuce), Arguments.of("Jedis", jedis));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldExecuteCoreCommands(String driver,
+			Function<RedisStandaloneConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(RespServer.start(), factory);
+
+		template.opsForValue().set("key", "value", Duration.ofMinutes(1));
+		template.opsForValue().increment("counter", 2);
+		template.opsForHash().putAll("hash", Map.of("field", "value"));
+		template.opsForList().rightPushAll("list", "a", "b");
+		template.opsForSet().add("set", "member");
+		template.opsForZSet().add("zset", "member", 1.5);
+
+		assertThat(template.opsForValue().get("key")).isEqualTo("value");
+		assertThat(template.getExpire("key")).isBetween(1L, 60L);
+		assertThat(template.opsForValue().get("counter")).isEqualTo("2");
+		assertThat(template.opsForHash().entries("hash")).containsEntry("field", "value");
+		assertThat(template.opsForList().range("list", 0, -1)).containsExactly("a", "b");
+		assertThat(template.opsForSet().members("set")).containsExactly("member");
+		assertThat(template.opsForZSet().score("zset", "member")).isEqualTo(1.5);
+		assertThat(template.delete(List.of("key", "counter"))).isEqualTo(2);
+		assertThat(template.hasKey("key")).isFalse();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldExecutePipelineWithinSingleRoundTrip(String driver,
+			Function<RedisStandaloneConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(RespServer.builder().latency(Duration.ofMillis(200)).start(), factory);
+		template.opsForValue().get("warm-up");
+
+		long start = System.nanoTime();
+		List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+
+			for (int i = 0; i < 10; i++) {
+				connection.stringCommands().set(("key:" + i).getBytes(), "value".getBytes());
+			}
+
+			return null;
+		});
+
+		assertThat(results).hasSize(10);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1000));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldExecuteTransaction(String driver,
+			Function<RedisStandaloneConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(RespServer.start(), factory);
+		template.setEnableTransactionSupport(false);
+
+		List<Object> results = template.execute(new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public List<Object> execute(RedisOperations operations) {
+
+				operations.multi();
+				operations.opsForValue().set("key", "1");
+				operations.opsForValue().increment("key");
+				return operations.exec();
+			}
+		});
+
+		assertThat(results).containsExactly(true, 2L);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldDeliverPubSubMessages(String driver,
+			Function<RedisStandaloneConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(RespServer.start(), factory);
+
+		BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener((message, pattern) -> messages.add(new String(message.getBody())),
+				new ChannelTopic("channel"));
+		container.afterPropertiesSet();
+		container.start();
+
+		try {
+
+			for (int i = 0; i < 50 && messages.isEmpty(); i++) {
+				template.convertAndSend("channel", "hello");
+				TimeUnit.MILLISECONDS.sleep(10);
+			}
+
+			assertThat(messages.poll(5, TimeUnit.SECONDS)).isEqualTo("hello");
+		} finally {
+			container.destroy();
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("drivers")
+	void shouldReconnectAfterRestart(String driver,
+			Function<RedisStandaloneConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		start(RespServer.start(), factory);
+		template.opsForValue().set("key", "value");
+
+		server.restart();
+
+		String value = null;
+
+		for (int attempt = 0; attempt < 3 && value == null; attempt++) {
+			try {
+				value = template.opsForValue().get("key");
+			} catch (DataAccessException ex) {
+				// pooled connection closed by the restart
+			}
+		}
+
+		assertThat(value).isEqualTo("value");
+	}
+
+	private void start(RespServer respServer,
+			Function<RedisStandaloneConfiguration, RedisConnectionFactory> factory) throws Exception {
+
+		this.server = respServer;
+		this.connectionFactory = factory.apply(new RedisStandaloneConfiguration(server.getHost(), server.getPort()));
+
+		if (connectionFactory instanceof LettuceConnectionFactory lettuce) {
+			lettuce.afterPropertiesSet();
+			lettuce.start();
+		}
+
+		if (connectionFactory instanceof JedisConnectionFactory jedis) {
+			jedis.afterPropertiesSet();
+			jedis.start();
+		}
+
+		this.template = new StringRedisTemplate(connectionFactory);
+	}
+}
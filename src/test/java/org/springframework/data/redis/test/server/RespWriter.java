@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes {@link Reply replies} using RESP2 or RESP3. RESP3-only types degrade to their RESP2 equivalents: maps and
+ * sets become arrays, doubles become bulk strings and pushes become arrays.
+ */
+class RespWriter {
+
+	private static final byte[] CRLF = { '\r', '\n' };
+
+	private final OutputStream out;
+
+	RespWriter(OutputStream out) {
+		this.out = out;
+	}
+
+	void write(Reply reply, int protocol) throws IOException {
+
+		boolean resp3 = protocol >= 3;
+
+		if (reply instanceof Reply.Simple simple) {
+			line('+', simple.value());
+		} else if (reply instanceof Reply.Error error) {
+			line('-', error.message());
+		} else if (reply instanceof Reply.Int integer) {
+			line(':', Long.toString(integer.value()));
+		} else if (reply instanceof Reply.Bulk bulk) {
+			line('$', Integer.toString(bulk.value().length));
+			out.write(bulk.value());
+			out.write(CRLF);
+		} else if (reply instanceof Reply.Nil) {
+			if (resp3) {
+				line('_', "");
+			} else {
+				line('$', "-1");
+			}
+		} else if (reply instanceof Reply.Dbl number) {
+			String value = formatDouble(number.value());
+			if (resp3) {
+				line(',', value);
+			} else {
+				write(Reply.bulk(value), protocol);
+			}
+		} else if (reply instanceof Reply.Array array) {
+			aggregate('*', array.elements(), protocol);
+		} else if (reply instanceof Reply.MapReply map) {
+			if (resp3) {
+				line('%', Integer.toString(map.entries().size() / 2));
+				for (Reply entry : map.entries()) {
+					write(entry, protocol);
+				}
+			} else {
+				aggregate('*', map.entries(), protocol);
+			}
+		} else if (reply instanceof Reply.SetReply set) {
+			aggregate(resp3 ? '~' : '*', set.elements(), protocol);
+		} else if (reply instanceof Reply.Push push) {
+			aggregate(resp3 ? '>' : '*', push.elements(), protocol);
+		}
+	}
+
+	void flush() throws IOException {
+		out.flush();
+	}
+
+	private void aggregate(char type, List<Reply> elements, int protocol) throws IOException {
+
+		line(type, Integer.toString(elements.size()));
+
+		for (Reply element : elements) {
+			write(element, protocol);
+		}
+	}
+
+	private void line(char type, String value) throws IOException {
+
+		out.write(type);
+		out.write(value.getBytes(StandardCharsets.UTF_8));
+		out.write(CRLF);
+	}
+
+	static String formatDouble(double value) {
+
+		if (Double.isInfinite(value)) {
+			return value > 0 ? "inf" : "-inf";
+		}
+
+		return value == Math.rint(value) && Math.abs(value) < 1e17 ? Long.toString((long) value) : Double.toString(value);
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Connection state of a single client: selected database, negotiated protocol, subscriptions and queued transaction
+ * commands. Replies are written by the session thread while Pub/Sub messages are {@link #deliver(Reply) delivered}
+ * from publishing threads.
+ */
+class Session implements Runnable {
+
+	private final long id;
+	private final Socket socket;
+	private final RespServer server;
+	private final RespReader reader;
+	private final RespWriter writer;
+
+	final Set<String> channels = new LinkedHashSet<>();
+	final Set<String> patterns = new LinkedHashSet<>();
+
+	volatile int protocol = 2;
+	int db;
+	@Nullable String name;
+	@Nullable List<List<byte[]>> transaction;
+	boolean transactionFailed;
+	boolean asking;
+	private boolean closeRequested;
+
+	Session(long id, Socket socket, RespServer server) throws IOException {
+
+		this.id = id;
+		this.socket = socket;
+		this.server = server;
+		this.reader = new RespReader(new BufferedInputStream(socket.getInputStream()));
+		this.writer = new RespWriter(new BufferedOutputStream(socket.getOutputStream()));
+	}
+
+	long getId() {
+		return id;
+	}
+
+	String getAddress() {
+		return socket.getInetAddress().getHostAddress() + ":" + socket.getPort();
+	}
+
+	boolean isSubscribed() {
+		return !channels.isEmpty() || !patterns.isEmpty();
+	}
+
+	int subscriptionCount() {
+		return channels.size() + patterns.size();
+	}
+
+	/**
+	 * Close the connection once the reply to the current command has been written.
+	 */
+	void closeAfterReply() {
+		this.closeRequested = true;
+	}
+
+	@Override
+	public void run() {
+
+		try {
+
+			while (!socket.isClosed()) {
+
+				List<byte[]> command = reader.readCommand();
+				Reply reply = server.dispatch(this, command);
+
+				if (reply != null) {
+					write(reply);
+				}
+
+				if (closeRequested || !reader.hasBufferedInput()) {
+					server.simulateLatency();
+					flush();
+				}
+
+				if (closeRequested) {
+					break;
+				}
+			}
+		} catch (IOException ex) {
+			// connection closed
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Write a reply as part of the current command's response.
+	 */
+	void write(Reply reply) throws IOException {
+
+		synchronized (writer) {
+			writer.write(reply, protocol);
+		}
+	}
+
+	/**
+	 * Deliver an out-of-band Pub/Sub message and flush it immediately.
+	 */
+	void deliver(Reply reply) {
+
+		try {
+			synchronized (writer) {
+				writer.write(reply, protocol);
+				writer.flush();
+			}
+		} catch (IOException ex) {
+			close();
+		}
+	}
+
+	private void flush() throws IOException {
+
+		synchronized (writer) {
+			writer.flush();
+		}
+	}
+
+	void close() {
+
+		try {
+			socket.close();
+		} catch (IOException ex) {
+			// ignore
+		}
+
+		server.disconnected(this);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.server;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sorted set ordering members by score and then lexicographically by member.
+ */
+class SortedSet {
+
+	private static final Comparator<Member> ORDER = Comparator.comparingDouble(Member::score)
+			.thenComparing(Member::member);
+
+	private final Map<String, Double> scores = new HashMap<>();
+	private final TreeSet<Member> members = new TreeSet<>(ORDER);
+
+	/**
+	 * @return {@literal true} if the member was added, {@literal false} if its score was updated.
+	 */
+	boolean add(String member, double score) {
+
+		Double previous = scores.put(member, score);
+
+		if (previous != null) {
+			members.remove(new Member(member, previous));
+		}
+
+		members.add(new Member(member, score));
+		return previous == null;
+	}
+
+	boolean remove(String member) {
+
+		Double previous = scores.remove(member);
+
+		if (previous == null) {
+			return false;
+		}
+
+		members.remove(new Member(member, previous));
+		return true;
+	}
+
+	@Nullable
+	Double score(String member) {
+		return scores.get(member);
+	}
+
+	@Nullable
+	Long rank(String member) {
+
+		Double score = scores.get(member);
+		return score != null ? (long) members.headSet(new Member(member, score)).size() : null;
+	}
+
+	int size() {
+		return scores.size();
+	}
+
+	boolean isEmpty() {
+		return scores.isEmpty();
+	}
+
+	/**
+	 * Return members by rank, both indexes inclusive. Negative indexes count from the end.
+	 */
+	List<Member> range(long start, long stop) {
+
+		int size = members.size();
+		long from = start < 0 ? Math.max(size + start, 0) : start;
+		long to = stop < 0 ? size + stop : Math.min(stop, size - 1);
+
+		List<Member> result = new ArrayList<>();
+
+		if (from > to || from >= size) {
+			return result;
+		}
+
+		int index = 0;
+		for (Member member : members) {
+
+			if (index > to) {
+				break;
+			}
+
+			if (index >= from) {
+				result.add(member);
+			}
+
+			index++;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return members with a score within the given bounds.
+	 */
+	List<Member> rangeByScore(double min, boolean minExclusive, double max, boolean maxExclusive) {
+
+		List<Member> result = new ArrayList<>();
+
+		for (Member member : members) {
+
+			double score = member.score();
+
+			if (score > max || (maxExclusive && score == max)) {
+				break;
+			}
+
+			if (score > min || (!minExclusive && score == min)) {
+				result.add(member);
+			}
+		}
+
+		return result;
+	}
+
+	record Member(String member, double score) {
+	}
+}